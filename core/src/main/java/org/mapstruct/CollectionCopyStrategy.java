@@ -0,0 +1,42 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for propagating collections, maps and arrays which can be assigned to the target property without any
+ * conversion of their elements.
+ * <p>
+ * <b>Note:</b> This strategy only applies when the target property is set via its setter (or field). When a target
+ * collection or map of an update method is populated via its getter or an adder, the elements are always added to
+ * the existing target collection or map.
+ *
+ * @since 1.4
+ */
+public enum CollectionCopyStrategy {
+
+    /**
+     * The target property is set to a copy of the source collection, map or array. This is the default.
+     */
+    COPY,
+
+    /**
+     * The target property is set to the very source collection, map or array, without copying it. Only use this when
+     * the ownership of the source value is transferred to the target, i.e. neither of the two is modified afterwards
+     * in a way the other must not see.
+     */
+    SHARE,
+
+    /**
+     * The target property is set to an unmodifiable view of the source collection or map, e.g. via
+     * {@link java.util.Collections#unmodifiableList(java.util.List)}, without copying it. Only use this when the source
+     * value is effectively immutable.
+     * <p>
+     * The view can only be applied when the target property is declared by one of the interfaces {@code Collection},
+     * {@code List}, {@code Set}, {@code SortedSet}, {@code NavigableSet}, {@code Map}, {@code SortedMap} or
+     * {@code NavigableMap}. Otherwise, as well as for arrays, the value is copied.
+     */
+    UNMODIFIABLE_VIEW;
+}
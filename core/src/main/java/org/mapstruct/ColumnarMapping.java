@@ -0,0 +1,52 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a mapping method which transposes a collection (or an array) of beans into a columnar type, or vice versa. The
+ * columns are the properties of the columnar type which are arrays or lists, e.g. {@code int[] id} or
+ * {@code List<String> name}. Each column holds the values of the property with the same name of all elements, in the
+ * order of the elements.
+ * <p>
+ * Example:
+ * <pre><code class='java'>
+ * &#64;Mapper
+ * public interface PriceMapper {
+ *
+ *     &#64;ColumnarMapping
+ *     PriceColumns toColumns(List&lt;PriceDto&gt; prices);
+ *
+ *     &#64;ColumnarMapping
+ *     List&lt;PriceDto&gt; fromColumns(PriceColumns columns);
+ * }
+ *
+ * public class PriceColumns {
+ *     private int[] id;
+ *     private double[] amount;
+ *     private List&lt;String&gt; currency;
+ *     // getters and setters
+ * }
+ * </code></pre>
+ * <p>
+ * Values are converted between the element properties and the columns like other properties, e.g. an {@code Integer}
+ * property can be written to a {@code String[]} column. Values of a primitive type are written to and read from
+ * primitive columns directly, without boxing.
+ * <p>
+ * When mapping to a columnar type, {@code null} elements are written as the default value of each column, e.g.
+ * {@code 0} or {@code null}. When mapping from a columnar type, the number of elements is determined by the first
+ * column. An {@link IllegalArgumentException} is thrown if a column is {@code null} or has a different length.
+ *
+ * @since 1.4
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface ColumnarMapping {
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor via which instances of a type are created when it is the target of a mapping method. The
+ * properties of the target are then passed as constructor arguments. All property mappings are evaluated into local
+ * variables first, and the target is created with them afterwards.
+ * <p>
+ * A type without an accessible parameterless constructor, without setters and with a single accessible constructor,
+ * e.g. a value object with final fields, is created via that constructor even without this annotation. An annotated
+ * constructor takes precedence over the parameterless constructor and over a builder of the type.
+ * <p>
+ * Any annotation with the simple name {@code Default} can be used, so the target type doesn't need to depend on
+ * MapStruct.
+ * <p>
+ * Example:
+ * <pre><code class='java'>
+ * public class Car {
+ *
+ *     private final String make;
+ *     private final int seats;
+ *
+ *     public Car(String make) {
+ *         this( make, 4 );
+ *     }
+ *
+ *     &#64;Default
+ *     public Car(String make, int seats) {
+ *         this.make = make;
+ *         this.seats = seats;
+ *     }
+ *
+ *     // getters
+ * }
+ * </code></pre>
+ * <p>
+ * The constructor parameters are matched to the source properties by their names. If the parameter names are not
+ * available, e.g. because the target type is compiled without {@code -parameters}, they can be given via
+ * {@code java.beans.ConstructorProperties}.
+ *
+ * @since 1.4
+ */
+@Target(ElementType.CONSTRUCTOR)
+@Retention(RetentionPolicy.CLASS)
+public @interface Default {
+}
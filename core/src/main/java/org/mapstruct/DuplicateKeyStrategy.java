@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+/**
+ * Strategy for handling several elements with the same key in a mapping method annotated with {@link IndexMapping}.
+ *
+ * @since 1.4
+ */
+public enum DuplicateKeyStrategy {
+
+    /**
+     * An {@link IllegalStateException} is thrown when an element has the same key as a previous element, which is
+     * kept in the map. This is the default.
+     */
+    THROW_EXCEPTION,
+
+    /**
+     * The previous element is replaced by the element with the same key, i.e. the last element with a given key is
+     * kept.
+     */
+    REPLACE,
+
+    /**
+     * Elements with the same key as a previous element are ignored, i.e. the first element with a given key is kept.
+     */
+    KEEP_FIRST;
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures a mapping method which maps an iterable type or an array to a map type, indexing the mapped elements by
+ * one of their properties, e.g. {@code List<CarDto>} to {@code Map<String, Car>} keyed by the {@code id} of each car.
+ * The map is populated in the same loop which maps the elements.
+ * <p>
+ * If the value type of the result map is a collection type, e.g. {@code Map<String, List<Car>>}, the mapped elements
+ * are grouped by their key instead, i.e. each value holds all elements with the same key, in the order of the source.
+ * <p>
+ * The mapping of the elements can be configured via {@link IterableMapping}. Source elements which are {@code null},
+ * as well as elements which are mapped to {@code null}, are skipped.
+ * <p>
+ * Example:
+ * <pre><code class='java'>
+ * &#64;Mapper
+ * public interface CarMapper {
+ *
+ *     &#64;IndexMapping(key = "id")
+ *     Map&lt;String, Car&gt; carsById(List&lt;CarDto&gt; cars);
+ *
+ *     &#64;IndexMapping(sourceKey = "make")
+ *     Map&lt;String, List&lt;Car&gt;&gt; carsByMake(List&lt;CarDto&gt; cars);
+ * }
+ * </code></pre>
+ * <p>
+ * Exactly one of {@link #key()} and {@link #sourceKey()} must be given.
+ *
+ * @since 1.4
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.CLASS)
+public @interface IndexMapping {
+
+    /**
+     * The name of the property of the mapped (target) elements which is used as key. Its type must be assignable to
+     * the key type of the result map.
+     *
+     * @return the name of the key property of the target elements
+     */
+    String key() default "";
+
+    /**
+     * The name of the property of the source elements which is used as key. Its type must be assignable to the key
+     * type of the result map.
+     *
+     * @return the name of the key property of the source elements
+     */
+    String sourceKey() default "";
+
+    /**
+     * How several elements with the same key are handled. Not applicable if the elements are grouped by their key.
+     *
+     * @return the strategy for elements with the same key
+     */
+    DuplicateKeyStrategy duplicateKeyStrategy() default DuplicateKeyStrategy.THROW_EXCEPTION;
+}
@@ -229,4 +229,17 @@ NullValuePropertyMappingStrategy nullValuePropertyMappingStrategy() default
      * @since 1.3
      */
     Builder builder() default @Builder;
+
+    /**
+     * The strategy to be applied when propagating collections, maps and arrays which can be assigned to the target
+     * property without any conversion of their elements.
+     * <p>
+     * Any setting given for this attribute will take precedence over {@link MapperConfig#collectionCopyStrategy()},
+     * if present. Can be overridden by the one on {@link Mapping}.
+     *
+     * @return The strategy applied when propagating collections, maps and arrays.
+     *
+     * @since 1.4
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
 }
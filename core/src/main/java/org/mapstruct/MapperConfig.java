@@ -225,4 +225,16 @@ MappingInheritanceStrategy mappingInheritanceStrategy()
      * @since 1.3
      */
     Builder builder() default @Builder;
+
+    /**
+     * The strategy to be applied when propagating collections, maps and arrays which can be assigned to the target
+     * property without any conversion of their elements.
+     * <p>
+     * Can be overridden by the one on {@link Mapper} or {@link Mapping}.
+     *
+     * @return The strategy applied when propagating collections, maps and arrays.
+     *
+     * @since 1.4
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
 }
@@ -286,4 +286,17 @@
     NullValuePropertyMappingStrategy nullValuePropertyMappingStrategy()
         default NullValuePropertyMappingStrategy.SET_TO_NULL;
 
+    /**
+     * The strategy to be applied when the source collection, map or array can be assigned to the target property
+     * without any conversion of its elements. If no strategy is configured, the strategy given via
+     * {@link Mapper#collectionCopyStrategy()} or {@link MapperConfig#collectionCopyStrategy()} will be applied.
+     *
+     * {@link CollectionCopyStrategy#COPY} will be used by default.
+     *
+     * @since 1.4
+     *
+     * @return The strategy applied when propagating the source collection, map or array.
+     */
+    CollectionCopyStrategy collectionCopyStrategy() default CollectionCopyStrategy.COPY;
+
 }
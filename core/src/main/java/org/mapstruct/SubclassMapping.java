@@ -0,0 +1,63 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the mapping of one subclass of the source parameter of a mapping method with a polymorphic source. The
+ * generated method dispatches each source object to the mapping of the subclass it is an instance of. The subclass
+ * of a source object is looked up in a table, which is populated once per concrete class, so the dispatch doesn't get
+ * slower with the number of subclasses, unlike a chain of {@code instanceof} checks.
+ * <p>
+ * Example:
+ * <pre><code class='java'>
+ * &#64;Mapper
+ * public interface EventMapper {
+ *
+ *     &#64;SubclassMapping(source = LoginEvent.class, target = LoginEventDto.class)
+ *     &#64;SubclassMapping(source = LogoutEvent.class, target = LogoutEventDto.class)
+ *     EventDto toDto(Event event);
+ *
+ *     LoginEventDto toDto(LoginEvent event);
+ * }
+ * </code></pre>
+ * <p>
+ * Each subclass is mapped with a mapping method from the subclass to the target type, which is generated if there is
+ * none, like for nested bean properties. If a source object is an instance of several mapped subclasses, the most
+ * specific one is used.
+ * <p>
+ * The source type must be an abstract class or an interface. It is an error if a concrete subclass of it declared in
+ * the same package isn't covered by a subclass mapping, provided the compiler lists the types of that package, which
+ * the Eclipse compiler doesn't do for packages compiled from sources. An {@code IllegalArgumentException} is thrown for
+ * instances of subclasses which aren't covered.
+ *
+ * @since 1.4
+ */
+@Repeatable(SubclassMappings.class)
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface SubclassMapping {
+
+    /**
+     * The subclass of the source type to map.
+     *
+     * @return the source subclass
+     */
+    Class<?> source();
+
+    /**
+     * The type to map instances of the source subclass to. Must be assignable to the result type of the mapping
+     * method.
+     *
+     * @return the target type
+     */
+    Class<?> target();
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the mappings of several subclasses of a polymorphic source.
+ *
+ * @see SubclassMapping
+ * @since 1.4
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface SubclassMappings {
+
+    /**
+     * The subclass mappings.
+     *
+     * @return the subclass mappings
+     */
+    SubclassMapping[] value();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.factory;
+
+/**
+ * A registry of mapper implementation types, generated by the MapStruct processor if the processor option
+ * {@code mapstruct.generateMapperRegistry} is enabled.
+ * <p>
+ * Generated registries are announced via the Java service loader mechanism and are consulted by {@link Mappers} before
+ * trying to load the implementation type of a mapper by its name. That way mapper implementations can be obtained
+ * without any reflection, which e.g. is beneficial for the startup time of an application.
+ * <p>
+ * <strong>Note:</strong> This type is not meant to be implemented by users.
+ *
+ * @since 1.4
+ */
+public interface MapperRegistry {
+
+    /**
+     * Returns the implementation class of the given mapper type.
+     *
+     * @param mapperType The mapper type.
+     * @param <T> The mapper type.
+     *
+     * @return The implementation class of the given mapper type or {@code null} if the given type is not known to this
+     * registry.
+     */
+    <T> Class<? extends T> getMapperClass(Class<T> mapperType);
+
+    /**
+     * Returns a new instance of the given mapper type.
+     *
+     * @param mapperType The mapper type.
+     * @param <T> The mapper type.
+     *
+     * @return A new instance of the given mapper type or {@code null} if the given type is not known to this registry.
+     */
+    <T> T getMapper(Class<T> mapperType);
+}
@@ -7,9 +7,15 @@
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 
 import org.mapstruct.Mapper;
 
@@ -21,6 +27,9 @@
  * suffix {@code Impl} appended. When using this factory, mapper types - and any mappers they use - are instantiated by
  * invoking their public no-args constructor.
  * <p>
+ * If a {@link MapperRegistry} generated by the MapStruct processor knows the requested mapper type, the mapper is
+ * instantiated through that registry instead, without loading its implementation type reflectively.
+ * <p>
  * By convention, a single instance of each mapper is retrieved from the factory and exposed on the mapper interface
  * type by declaring a member named {@code INSTANCE} like this:
  *
@@ -33,6 +42,10 @@
  *     // mapping methods...
  * }
  * </pre>
+ * <p>
+ * Alternatively, {@link #getSharedMapper(Class)} can be used to obtain a single instance of a mapper type that is
+ * shared by all its callers within one class loader. Generated mappers retrieve their used mappers that way if the
+ * processor option {@code mapstruct.sharedMapperInstances} is enabled.
  *
  * @author Gunnar Morling
  */
@@ -40,6 +53,28 @@ public class Mappers {
 
     private static final String IMPLEMENTATION_SUFFIX = "Impl";
 
+    /**
+     * The registries announced via the service loader mechanism, by the class loader they have been loaded with. They
+     * are loaded once per class loader, as this requires scanning all services files of the class path.
+     */
+    private static final Map<ClassLoader, List<MapperRegistry>> LOADED_MAPPER_REGISTRIES = new WeakHashMap<>();
+
+    private static final ClassValue<MapperRegistry> MAPPER_REGISTRIES = new ClassValue<MapperRegistry>() {
+
+        @Override
+        protected MapperRegistry computeValue(Class<?> type) {
+            return findMapperRegistry( type );
+        }
+    };
+
+    private static final ClassValue<Object> SHARED_MAPPERS = new ClassValue<Object>() {
+
+        @Override
+        protected Object computeValue(Class<?> type) {
+            return createSharedMapper( type );
+        }
+    };
+
     private Mappers() {
     }
 
@@ -52,6 +87,11 @@ private Mappers() {
      * @return An instance of the given mapper type.
      */
     public static <T> T getMapper(Class<T> clazz) {
+        MapperRegistry registry = MAPPER_REGISTRIES.get( clazz );
+        if ( registry != null ) {
+            return registry.getMapper( clazz );
+        }
+
         try {
             List<ClassLoader> classLoaders = collectClassLoaders( clazz.getClassLoader() );
 
@@ -62,6 +102,42 @@ public static <T> T getMapper(Class<T> clazz) {
         }
     }
 
+    /**
+     * Returns the shared instance of the given mapper type. The instance is created lazily upon the first request and
+     * the very same instance is returned for all subsequent requests of the given type.
+     * <p>
+     * For interfaces and abstract classes the instance is obtained as described for {@link #getMapper(Class)}. Any
+     * other types, e.g. hand-written mappers referenced via {@link Mapper#uses()}, are instantiated by invoking their
+     * no-args constructor.
+     *
+     * @param clazz The type of the mapper to return.
+     * @param <T> The type of the mapper to return.
+     *
+     * @return The shared instance of the given mapper type.
+     *
+     * @since 1.4
+     */
+    public static <T> T getSharedMapper(Class<T> clazz) {
+        return clazz.cast( SHARED_MAPPERS.get( clazz ) );
+    }
+
+    private static Object createSharedMapper(Class<?> clazz) {
+        if ( clazz.isInterface() || Modifier.isAbstract( clazz.getModifiers() ) ) {
+            return getMapper( clazz );
+        }
+
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible( true );
+
+            return constructor.newInstance();
+        }
+        catch ( NoSuchMethodException | InstantiationException | InvocationTargetException |
+            IllegalAccessException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
     private static <T> T getMapper(Class<T> mapperType, Iterable<ClassLoader> classLoaders)
             throws ClassNotFoundException, NoSuchMethodException {
 
@@ -103,6 +179,11 @@ private static <T> T doGetMapper(Class<T> clazz, ClassLoader classLoader) throws
      * @since 1.3
      */
     public static <T> Class<? extends T> getMapperClass(Class<T> clazz) {
+        MapperRegistry registry = MAPPER_REGISTRIES.get( clazz );
+        if ( registry != null ) {
+            return registry.getMapperClass( clazz );
+        }
+
         try {
             List<ClassLoader> classLoaders = collectClassLoaders( clazz.getClassLoader() );
 
@@ -153,6 +234,56 @@ private static <T> T getMapperFromServiceLoader(Class<T> clazz, ClassLoader clas
         return null;
     }
 
+    private static MapperRegistry findMapperRegistry(Class<?> clazz) {
+        for ( ClassLoader classLoader : collectClassLoaders( clazz.getClassLoader() ) ) {
+            for ( MapperRegistry registry : getMapperRegistries( classLoader ) ) {
+                if ( registry.getMapperClass( clazz ) != null ) {
+                    return registry;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private static List<MapperRegistry> getMapperRegistries(ClassLoader classLoader) {
+        synchronized ( LOADED_MAPPER_REGISTRIES ) {
+            List<MapperRegistry> registries = LOADED_MAPPER_REGISTRIES.get( classLoader );
+            if ( registries == null ) {
+                registries = loadMapperRegistries( classLoader );
+                LOADED_MAPPER_REGISTRIES.put( classLoader, registries );
+            }
+            return registries;
+        }
+    }
+
+    private static List<MapperRegistry> loadMapperRegistries(ClassLoader classLoader) {
+        List<MapperRegistry> registries = new ArrayList<>();
+        Iterator<MapperRegistry> iterator = ServiceLoader.load( MapperRegistry.class, classLoader ).iterator();
+
+        // a broken registry must not break the lookup of any mapper, so it is skipped; if the services files
+        // can't be read at all, the mapper is looked up by name
+        while ( hasNextRegistry( iterator ) ) {
+            try {
+                registries.add( iterator.next() );
+            }
+            catch ( ServiceConfigurationError e ) {
+                // skip the registry
+            }
+        }
+
+        return registries.isEmpty() ? Collections.emptyList() : registries;
+    }
+
+    private static boolean hasNextRegistry(Iterator<MapperRegistry> registries) {
+        try {
+            return registries.hasNext();
+        }
+        catch ( ServiceConfigurationError e ) {
+            return false;
+        }
+    }
+
     private static List<ClassLoader> collectClassLoaders(ClassLoader classLoader) {
         List<ClassLoader> classLoaders = new ArrayList<>( 3 );
         classLoaders.add( classLoader );
@@ -9,7 +9,11 @@
 
 import org.junit.Test;
 import org.mapstruct.test.model.Foo;
+import org.mapstruct.test.model.FooImpl;
+import org.mapstruct.test.model.RegisteredFoo;
+import org.mapstruct.test.model.RegisteredFooCustomImpl;
 import org.mapstruct.test.model.SomeClass;
+import org.mapstruct.test.model.TestMapperRegistry;
 
 /**
  * Unit test for {@link Mappers}.
@@ -58,4 +62,50 @@ public void shouldReturnPackagePrivateImplementationInstance() {
     public void shouldReturnPackagePrivateImplementationClass() {
         assertThat( Mappers.getMapperClass( PackagePrivateMapper.class ) ).isNotNull();
     }
+
+    @Test
+    public void shouldReturnImplementationInstanceFromRegistry() {
+        assertThat( Mappers.getMapper( RegisteredFoo.class ) ).isExactlyInstanceOf( RegisteredFooCustomImpl.class );
+    }
+
+    @Test
+    public void shouldSkipRegistriesWhichCannotBeLoaded() {
+        // the services file names a missing registry before the one knowing RegisteredFoo
+        assertThat( Mappers.getMapper( RegisteredFoo.class ) ).isExactlyInstanceOf( RegisteredFooCustomImpl.class );
+        assertThat( Mappers.getMapper( Foo.class ) ).isExactlyInstanceOf( FooImpl.class );
+    }
+
+    @Test
+    public void shouldLoadRegistriesOncePerClassLoader() {
+        Mappers.getMapper( RegisteredFoo.class );
+        Mappers.getMapperClass( SomeClass.Foo.class );
+        Mappers.getMapper( SomeClass.NestedClass.Foo.class );
+        Mappers.getMapper( PackagePrivateMapper.class );
+
+        // the mapper types, the context class loader and the factory share one class loader
+        assertThat( TestMapperRegistry.getInstances() ).isEqualTo( 1 );
+    }
+
+    @Test
+    public void shouldReturnImplementationClassFromRegistry() {
+        assertThat( Mappers.getMapperClass( RegisteredFoo.class ) ).isEqualTo( RegisteredFooCustomImpl.class );
+    }
+
+    @Test
+    public void shouldReturnSameSharedImplementationInstance() {
+        Foo mapper = Mappers.getSharedMapper( Foo.class );
+
+        assertThat( mapper ).isNotNull();
+        assertThat( mapper ).isNotExactlyInstanceOf( Foo.class );
+        assertThat( Mappers.getSharedMapper( Foo.class ) ).isSameAs( mapper );
+        assertThat( Mappers.getMapper( Foo.class ) ).isNotSameAs( mapper );
+    }
+
+    @Test
+    public void shouldInstantiateConcreteTypeForSharedInstance() {
+        FooImpl mapper = Mappers.getSharedMapper( FooImpl.class );
+
+        assertThat( mapper ).isExactlyInstanceOf( FooImpl.class );
+        assertThat( Mappers.getSharedMapper( FooImpl.class ) ).isSameAs( mapper );
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.test.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.mapstruct.factory.MapperRegistry;
+
+public class TestMapperRegistry implements MapperRegistry {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public TestMapperRegistry() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public static int getInstances() {
+        return INSTANCES.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Class<? extends T> getMapperClass(Class<T> mapperType) {
+        return mapperType == RegisteredFoo.class ? (Class<? extends T>) RegisteredFooCustomImpl.class : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getMapper(Class<T> mapperType) {
+        return mapperType == RegisteredFoo.class ? (T) new RegisteredFooCustomImpl() : null;
+    }
+}
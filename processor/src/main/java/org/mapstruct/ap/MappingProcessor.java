@@ -7,6 +7,7 @@
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -36,11 +37,16 @@
 import org.mapstruct.ap.internal.prism.MapperPrism;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
 import org.mapstruct.ap.internal.processor.DefaultModelElementProcessorContext;
+import org.mapstruct.ap.internal.processor.GenerationCache;
+import org.mapstruct.ap.internal.processor.MapperRegistryGenerator;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor;
+import org.mapstruct.ap.internal.processor.NativeImageConfigGenerator;
+import org.mapstruct.ap.internal.processor.ProcessingProfiler;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
 import org.mapstruct.ap.internal.util.AnnotationProcessingException;
 import org.mapstruct.ap.internal.util.AnnotationProcessorContext;
 import org.mapstruct.ap.internal.util.RoundContext;
+import org.mapstruct.ap.internal.writer.ConcurrentModelWriter;
 import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
 
 import static javax.lang.model.element.ElementKind.CLASS;
@@ -83,7 +89,14 @@
     MappingProcessor.SUPPRESS_GENERATOR_VERSION_INFO_COMMENT,
     MappingProcessor.UNMAPPED_TARGET_POLICY,
     MappingProcessor.DEFAULT_COMPONENT_MODEL,
-    MappingProcessor.VERBOSE
+    MappingProcessor.VERBOSE,
+    MappingProcessor.SHARED_MAPPER_INSTANCES,
+    MappingProcessor.GENERATE_MAPPER_REGISTRY,
+    MappingProcessor.GENERATE_NATIVE_IMAGE_CONFIG,
+    MappingProcessor.RENDERING_THREADS,
+    MappingProcessor.PROFILE,
+    MappingProcessor.GENERATION_CACHE_DIR,
+    MappingProcessor.DISABLE_ENUM_MAPS
 })
 public class MappingProcessor extends AbstractProcessor {
 
@@ -99,11 +112,43 @@ public class MappingProcessor extends AbstractProcessor {
     protected static final String DEFAULT_COMPONENT_MODEL = "mapstruct.defaultComponentModel";
     protected static final String ALWAYS_GENERATE_SERVICE_FILE = "mapstruct.alwaysGenerateServicesFile";
     protected static final String VERBOSE = "mapstruct.verbose";
+    protected static final String SHARED_MAPPER_INSTANCES = "mapstruct.sharedMapperInstances";
+    protected static final String GENERATE_MAPPER_REGISTRY = "mapstruct.generateMapperRegistry";
+    protected static final String GENERATE_NATIVE_IMAGE_CONFIG = "mapstruct.generateNativeImageConfig";
+    protected static final String RENDERING_THREADS = "mapstruct.renderingThreads";
+    protected static final String PROFILE = "mapstruct.profile";
+    protected static final String GENERATION_CACHE_DIR = "mapstruct.generationCacheDir";
+    protected static final String DISABLE_ENUM_MAPS = "mapstruct.disableEnumMaps";
+
+    /**
+     * Declares this processor as isolating in regards to Gradle's incremental annotation processing: each generated
+     * file is derived from exactly one mapper type.
+     */
+    private static final String GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+
+    /**
+     * Declares this processor as aggregating in regards to Gradle's incremental annotation processing, as required when
+     * generating files derived from several mapper types.
+     */
+    private static final String GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
 
     private Options options;
 
     private AnnotationProcessorContext annotationProcessorContext;
 
+    private MapperRegistryGenerator mapperRegistryGenerator;
+
+    private NativeImageConfigGenerator nativeImageConfigGenerator;
+
+    private ProcessingProfiler profiler;
+
+    private GenerationCache generationCache;
+
+    /**
+     * The model element processors, ordered by their priority; loaded once and applied to all mappers.
+     */
+    private List<ModelElementProcessor<?, ?>> processors;
+
     /**
      * Any mappers for which an implementation cannot be generated in the current round because they have source/target
      * types with incomplete hierarchies (as super-types are to be generated by other processors). They will be
@@ -112,8 +157,10 @@ public class MappingProcessor extends AbstractProcessor {
      * If the hierarchy of a mapper's source/target types is never completed (i.e. the missing super-types are not
      * generated by other processors), this mapper will not be generated; That's fine, the compiler will raise an error
      * due to the inconsistent Java types used as source or target anyways.
+     * <p>
+     * Only the names of the mappers are kept, so the compiler's model of the previous round can be garbage collected.
      */
-    private Set<TypeElement> deferredMappers = new HashSet<>();
+    private Set<String> deferredMappers = new HashSet<>();
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
@@ -124,8 +171,19 @@ public synchronized void init(ProcessingEnvironment processingEnv) {
             processingEnv.getElementUtils(),
             processingEnv.getTypeUtils(),
             processingEnv.getMessager(),
-            options.isVerbose()
+            options.isVerbose(),
+            options.isDisableEnumMaps()
         );
+        mapperRegistryGenerator = new MapperRegistryGenerator( processingEnv, options );
+        nativeImageConfigGenerator = new NativeImageConfigGenerator( processingEnv );
+        profiler = options.isProfile() ? new ProcessingProfiler( processingEnv ) : null;
+        generationCache = options.getGenerationCacheDir() != null ?
+            new GenerationCache(
+                processingEnv,
+                annotationProcessorContext,
+                Paths.get( options.getGenerationCacheDir() )
+            ) :
+            null;
     }
 
     private Options createOptions() {
@@ -137,8 +195,59 @@ private Options createOptions() {
             unmappedTargetPolicy != null ? ReportingPolicyPrism.valueOf( unmappedTargetPolicy.toUpperCase() ) : null,
             processingEnv.getOptions().get( DEFAULT_COMPONENT_MODEL ),
             Boolean.valueOf( processingEnv.getOptions().get( ALWAYS_GENERATE_SERVICE_FILE ) ),
-            Boolean.valueOf( processingEnv.getOptions().get( VERBOSE ) )
+            Boolean.valueOf( processingEnv.getOptions().get( VERBOSE ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( SHARED_MAPPER_INSTANCES ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( GENERATE_MAPPER_REGISTRY ) ),
+            Boolean.valueOf( processingEnv.getOptions().get( GENERATE_NATIVE_IMAGE_CONFIG ) ),
+            getRenderingThreads(),
+            Boolean.valueOf( processingEnv.getOptions().get( PROFILE ) ),
+            processingEnv.getOptions().get( GENERATION_CACHE_DIR ),
+            Boolean.valueOf( processingEnv.getOptions().get( DISABLE_ENUM_MAPS ) )
+        );
+    }
+
+    private int getRenderingThreads() {
+        String renderingThreads = processingEnv.getOptions().get( RENDERING_THREADS );
+        if ( renderingThreads == null ) {
+            return 1;
+        }
+
+        try {
+            int threads = Integer.parseInt( renderingThreads.trim() );
+            if ( threads >= 1 ) {
+                return threads;
+            }
+        }
+        catch ( NumberFormatException e ) {
+            // reported below
+        }
+
+        processingEnv.getMessager().printMessage(
+            Kind.WARNING,
+            "MapStruct: the value \"" + renderingThreads + "\" of the option " + RENDERING_THREADS
+                + " isn't a positive number, the mappers are rendered by a single thread."
         );
+        return 1;
+    }
+
+    /**
+     * In addition to the MapStruct options, announces the kind of incremental processing supported by this processor
+     * to Gradle (which registers this processor as "dynamic", see {@code META-INF/gradle}). The mapper registry and the
+     * native image configuration aggregate all mappers, so this processor is only isolating if these are not generated.
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> supportedOptions = new HashSet<>( super.getSupportedOptions() );
+
+        if ( options != null && ( options.isGenerateMapperRegistry() || options.isGenerateNativeImageConfig()
+            || options.isProfile() ) ) {
+            supportedOptions.add( GRADLE_AGGREGATING );
+        }
+        else {
+            supportedOptions.add( GRADLE_ISOLATING );
+        }
+
+        return supportedOptions;
     }
 
     @Override
@@ -148,17 +257,72 @@ public SourceVersion getSupportedSourceVersion() {
 
     @Override
     public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
-        // nothing to do in the last round
+        // nothing to do in the last round, apart from writing the files aggregating all rounds
         if ( !roundEnvironment.processingOver() ) {
-            RoundContext roundContext = new RoundContext( annotationProcessorContext );
+            annotationProcessorContext.clearCaches();
+            if ( profiler != null ) {
+                profiler.nextRound();
+            }
+            if ( generationCache != null ) {
+                generationCache.nextRound();
+            }
+            ConcurrentModelWriter concurrentModelWriter = options.getRenderingThreads() > 1 ?
+                new ConcurrentModelWriter( options.getRenderingThreads(), this::handleUncaughtError ) :
+                null;
+            RoundContext roundContext = new RoundContext( annotationProcessorContext, concurrentModelWriter );
+            boolean hasMappers;
+
+            try {
+                // process any mappers left over from previous rounds
+                Set<TypeElement> deferredMappers = getAndResetDeferredMappers();
+                processMapperElements( deferredMappers, roundContext );
+
+                // get and process any mappers from this round
+                Set<TypeElement> mappers = getMappers( annotations, roundEnvironment );
+                processMapperElements( mappers, roundContext );
+
+                hasMappers = !deferredMappers.isEmpty() || !mappers.isEmpty() || !this.deferredMappers.isEmpty();
+            }
+            finally {
+                // the mappers rendered concurrently are written to their source files by this thread
+                if ( concurrentModelWriter != null ) {
+                    concurrentModelWriter.close();
+                }
+            }
+
+            // only now all files generated in this round have been written
+            if ( generationCache != null ) {
+                generationCache.storePendingRecordings( roundContext );
+            }
+
+            if ( options.isGenerateMapperRegistry() ) {
+                mapperRegistryGenerator.addGeneratedMappers( roundContext );
+
+                // a source file created in the last round isn't subject to annotation processing, which javac warns
+                // about, so the registry is generated in the first round without any mappers instead
+                if ( !hasMappers ) {
+                    mapperRegistryGenerator.generateRegistry();
+                }
+            }
 
-            // process any mappers left over from previous rounds
-            Set<TypeElement> deferredMappers = getAndResetDeferredMappers();
-            processMapperElements( deferredMappers, roundContext );
+            if ( options.isGenerateNativeImageConfig() ) {
+                nativeImageConfigGenerator.addGeneratedMappers( roundContext );
+            }
+        }
+        else {
+            if ( options.isGenerateMapperRegistry() ) {
+                mapperRegistryGenerator.generateRegistry();
+                mapperRegistryGenerator.generateServicesFile();
+            }
+
+            if ( options.isGenerateNativeImageConfig() ) {
+                nativeImageConfigGenerator.addMapperRegistries( mapperRegistryGenerator.getGeneratedRegistries() );
+                nativeImageConfigGenerator.generateConfigFiles();
+            }
 
-            // get and process any mappers from this round
-            Set<TypeElement> mappers = getMappers( annotations, roundEnvironment );
-            processMapperElements( mappers, roundContext );
+            if ( profiler != null ) {
+                profiler.generateProfile();
+            }
         }
 
         return ANNOTATIONS_CLAIMED_EXCLUSIVELY;
@@ -171,8 +335,8 @@ public boolean process(final Set<? extends TypeElement> annotations, final Round
     private Set<TypeElement> getAndResetDeferredMappers() {
         Set<TypeElement> deferred = new HashSet<>( deferredMappers.size() );
 
-        for (TypeElement element : deferredMappers ) {
-            deferred.add( processingEnv.getElementUtils().getTypeElement( element.getQualifiedName() ) );
+        for ( String mapperName : deferredMappers ) {
+            deferred.add( processingEnv.getElementUtils().getTypeElement( mapperName ) );
         }
 
         deferredMappers.clear();
@@ -219,11 +383,34 @@ private void processMapperElements(Set<TypeElement> mapperElements, RoundContext
                 // necessarily be the case, e.g. in case of several mapper interfaces declared as inner types
                 // of one outer interface
                 List<? extends Element> tst = mapperElement.getEnclosedElements();
-                ProcessorContext context = new DefaultModelElementProcessorContext(
-                        processingEnv, options, roundContext, getDeclaredTypesNotToBeImported( mapperElement )
+                GenerationCache.Recording recording = null;
+                if ( generationCache != null ) {
+                    String fingerprint = generationCache.getFingerprint( mapperElement );
+                    if ( fingerprint != null ) {
+                        if ( generationCache.restore( mapperElement, fingerprint, roundContext ) ) {
+                            if ( options.isVerbose() ) {
+                                processingEnv.getMessager().printMessage(
+                                    Kind.NOTE, "MapStruct: restored mapper from generation cache: " + mapperElement );
+                            }
+                            continue;
+                        }
+                        recording = generationCache.record( mapperElement, fingerprint );
+                    }
+                }
+
+                DefaultModelElementProcessorContext context = new DefaultModelElementProcessorContext(
+                        processingEnv,
+                        options,
+                        roundContext,
+                        getDeclaredTypesNotToBeImported( mapperElement ),
+                        recording != null ? recording.getFiler() : processingEnv.getFiler()
                 );
 
                 processMapperTypeElement( context, mapperElement );
+
+                if ( recording != null && !context.hasReportedDiagnostics() ) {
+                    generationCache.store( recording, roundContext );
+                }
             }
             catch ( TypeHierarchyErroneousException thie ) {
                 if ( options.isVerbose() ) {
@@ -231,7 +418,7 @@ processingEnv, options, roundContext, getDeclaredTypesNotToBeImported( mapperEle
                         Kind.NOTE, "MapStruct: referred types not available (yet), deferring mapper: "
                             + mapperElement );
                 }
-                deferredMappers.add( mapperElement );
+                deferredMappers.add( mapperElement.getQualifiedName().toString() );
             }
             catch ( Throwable t ) {
                 handleUncaughtError( mapperElement, t );
@@ -270,7 +457,17 @@ private void processMapperTypeElement(ProcessorContext context, TypeElement mapp
 
         for ( ModelElementProcessor<?, ?> processor : getProcessors() ) {
             try {
-                model = process( context, processor, mapperTypeElement, model );
+                if ( profiler != null ) {
+                    Object sourceModel = model;
+                    model = profiler.profile(
+                        mapperTypeElement,
+                        processor,
+                        () -> process( context, processor, mapperTypeElement, sourceModel )
+                    );
+                }
+                else {
+                    model = process( context, processor, mapperTypeElement, model );
+                }
             }
             catch ( AnnotationProcessingException e ) {
                 processingEnv.getMessager()
@@ -301,6 +498,10 @@ private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> p
      * @return A list with all model element processors.
      */
     private Iterable<ModelElementProcessor<?, ?>> getProcessors() {
+        if ( processors != null ) {
+            return processors;
+        }
+
         // TODO Re-consider which class loader to use in case processors are
         // loaded from other modules, too
         @SuppressWarnings("rawtypes")
@@ -309,7 +510,7 @@ private <P, R> R process(ProcessorContext context, ModelElementProcessor<P, R> p
             MappingProcessor.class.getClassLoader()
         )
             .iterator();
-        List<ModelElementProcessor<?, ?>> processors = new ArrayList<>();
+        processors = new ArrayList<>();
 
         while ( processorIterator.hasNext() ) {
             processors.add( processorIterator.next() );
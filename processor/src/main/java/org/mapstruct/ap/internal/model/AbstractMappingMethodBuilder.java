@@ -6,6 +6,7 @@
 package org.mapstruct.ap.internal.model;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.BeanMapping;
@@ -72,6 +73,31 @@ Assignment forgeMapping(SourceRHS sourceRHS, Type sourceType, Type targetType) {
         );
     }
 
+    /**
+     * Determines the builder into which the mapped elements are collected, if the result type is a collection or map
+     * type which cannot be instantiated but offers a builder, e.g. {@code ImmutableList.builder()}. Collecting the
+     * elements in the builder directly avoids populating an intermediate collection which would be copied by the
+     * builder anyway.
+     *
+     * @param elementMethodName the name of the builder method accepting the elements
+     * @param elementMethodParameters the number of parameters of the builder method accepting the elements
+     *
+     * @return the builder of the result type, or {@code null} if the result type is to be instantiated
+     */
+    BuilderType getResultCollectionBuilderType(String elementMethodName, int elementMethodParameters) {
+        Type resultType = method.getResultType();
+        if ( method.isUpdateMethod() || resultType.getImplementationType() != null || !resultType.isAbstract() ) {
+            return null;
+        }
+
+        return ctx.getTypeFactory().collectionBuilderTypeFor(
+            resultType,
+            BeanMapping.builderPrismFor( method ).orElse( null ),
+            elementMethodName,
+            elementMethodParameters
+        );
+    }
+
     private String getName(Type sourceType, Type targetType) {
         String fromName = getName( sourceType );
         String toName = getName( targetType );
@@ -5,12 +5,14 @@
  */
 package org.mapstruct.ap.internal.model;
 
+import java.io.Writer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.ModelElement;
 import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.writer.DirectWriterSupport;
 
 /**
  * Represents a Java 5 annotation.
@@ -47,4 +49,19 @@ public Set<Type> getImportTypes() {
     public List<String> getProperties() {
         return properties;
     }
+
+    /**
+     * Writes this annotation directly, without evaluating a template.
+     */
+    @Override
+    public void write(Context context, Writer writer) throws Exception {
+        writer.write( '@' );
+        DirectWriterSupport.include( type, context, writer );
+
+        if ( !properties.isEmpty() ) {
+            writer.write( '(' );
+            writer.write( String.join( ", ", properties ) );
+            writer.write( ')' );
+        }
+    }
 }
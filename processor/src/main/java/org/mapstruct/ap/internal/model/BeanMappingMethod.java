@@ -20,7 +20,10 @@
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 
 import org.mapstruct.ap.internal.model.PropertyMapping.ConstantMappingBuilder;
@@ -37,6 +40,7 @@
 import org.mapstruct.ap.internal.model.source.Mapping;
 import org.mapstruct.ap.internal.model.source.MappingOptions;
 import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.ParameterProvidedMethods;
 import org.mapstruct.ap.internal.model.source.PropertyEntry;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
 import org.mapstruct.ap.internal.model.source.SourceMethod;
@@ -46,13 +50,16 @@
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
+import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.MapperConfiguration;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
+import org.mapstruct.ap.internal.util.accessor.ParameterElementAccessor;
 
 import static org.mapstruct.ap.internal.model.source.Mapping.getMappingByTargetName;
 import static org.mapstruct.ap.internal.util.Collections.first;
+import static org.mapstruct.ap.internal.util.Collections.last;
 import static org.mapstruct.ap.internal.util.Message.BEANMAPPING_ABSTRACT;
 import static org.mapstruct.ap.internal.util.Message.BEANMAPPING_NOT_ASSIGNABLE;
 import static org.mapstruct.ap.internal.util.Message.GENERAL_ABSTRACT_RETURN_TYPE;
@@ -71,6 +78,10 @@ public class BeanMappingMethod extends NormalTypeMappingMethod {
     private final Type returnTypeToConstruct;
     private final BuilderType returnTypeBuilder;
     private final MethodReference finalizerMethod;
+    private final List<NestedSourcePrefix> nestedSourcePrefixes;
+    private final List<Parameter> constructorParameters;
+    private final Map<String, List<PropertyMapping>> constructorMappingsByParameter;
+    private final List<PropertyMapping> constructorConstantMappings;
 
     public static class Builder {
 
@@ -83,12 +94,16 @@ public static class Builder {
         private Map<String, Accessor> unprocessedTargetProperties;
         private Map<String, Accessor> unprocessedSourceProperties;
         private Set<String> targetProperties;
+        private Type resultTypeToMap;
         private final List<PropertyMapping> propertyMappings = new ArrayList<>();
         private final Set<Parameter> unprocessedSourceParameters = new HashSet<>();
         private final Set<String> existingVariableNames = new HashSet<>();
         private Function<String, Mapping> singleMapping;
         private Consumer<Set<Mapping>> mappingsInitializer;
         private final Map<String, Set<Mapping>> unprocessedDefinedTargets = new LinkedHashMap<>();
+        private final Map<String, NestedSourcePrefix> nestedSourcePrefixes = new LinkedHashMap<>();
+        private final Map<String, Accessor> constructorAccessors = new LinkedHashMap<>();
+        private final List<Parameter> constructorParameters = new ArrayList<>();
 
         public Builder mappingContext(MappingBuilderContext mappingContext) {
             this.ctx = mappingContext;
@@ -156,18 +171,24 @@ public BeanMappingMethod build() {
             }
 
             /* the type that needs to be used in the mapping process as target */
-            Type resultTypeToMap = returnTypeToConstruct == null ? method.getResultType() : returnTypeToConstruct;
-
-            /* initialize mappings for this method && filter invalid inverse methods */
-            mappingsInitializer.accept( method.getMappingOptions().getMappings() );
-            method.getMappingOptions().getMappings().removeIf( mapping -> !isValidWhenReversed( mapping ) );
+            resultTypeToMap = returnTypeToConstruct == null ? method.getResultType() : returnTypeToConstruct;
 
             CollectionMappingStrategyPrism cms = this.method.getMapperConfiguration().getCollectionMappingStrategy();
+            existingVariableNames.addAll( method.getParameterNames() );
 
-            // determine accessors
-            Map<String, Accessor> accessors = resultTypeToMap.getPropertyWriteAccessors( cms );
+            // determine accessors, the parameters of the constructor creating the result take precedence
+            if ( factoryMethod == null && returnTypeToConstruct != null && !method.isUpdateMethod()
+                && !initConstructorAccessors( returnTypeToConstruct, cms ) ) {
+                return null;
+            }
+            Map<String, Accessor> accessors = new LinkedHashMap<>( constructorAccessors );
+            resultTypeToMap.getPropertyWriteAccessors( cms ).forEach( accessors::putIfAbsent );
             this.targetProperties = accessors.keySet();
 
+            /* initialize mappings for this method && filter invalid inverse methods */
+            mappingsInitializer.accept( method.getMappingOptions().getMappings() );
+            method.getMappingOptions().getMappings().removeIf( mapping -> !isValidWhenReversed( mapping ) );
+
             this.unprocessedTargetProperties = new LinkedHashMap<>( accessors );
             this.unprocessedSourceProperties = new LinkedHashMap<>();
             for ( Parameter sourceParameter : method.getSourceParameters() ) {
@@ -181,7 +202,6 @@ public BeanMappingMethod build() {
                     unprocessedSourceProperties.put( key, readAccessors.get( key ) );
                 }
             }
-            existingVariableNames.addAll( method.getParameterNames() );
 
             // get bean mapping (when specified as annotation )
             if ( beanMapping != null ) {
@@ -256,10 +276,60 @@ public BeanMappingMethod build() {
                 returnTypeBuilder,
                 beforeMappingMethods,
                 afterMappingMethods,
-                finalizeMethod
+                finalizeMethod,
+                new ArrayList<>( nestedSourcePrefixes.values() ),
+                constructorParameters,
+                constructorAccessors.keySet()
             );
         }
 
+        /**
+         * Determines the constructor creating the given type, if it's not created via its parameterless constructor,
+         * and initializes an accessor for each of its parameters. The parameters are assigned to local variables, so
+         * each of them gets a unique variable name.
+         *
+         * @param type the type to construct
+         * @param cms the collection mapping strategy
+         *
+         * @return {@code false} if the constructor can't be used, as the names of its parameters are not available
+         */
+        private boolean initConstructorAccessors(Type type, CollectionMappingStrategyPrism cms) {
+            ExecutableElement constructor = type.getMappingConstructor( cms );
+            if ( constructor == null ) {
+                return true;
+            }
+            if ( !Executables.isDefaultAnnotated( constructor )
+                && Executables.hasSyntheticParameterNames( constructor ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.BEANMAPPING_CONSTRUCTOR_PARAMETER_NAMES_UNAVAILABLE,
+                    type
+                );
+                return false;
+            }
+
+            List<String> propertyNames = Executables.getConstructorPropertyNames( constructor );
+            List<? extends TypeMirror> parameterTypes = ( (ExecutableType) ctx.getTypeUtils().asMemberOf(
+                (DeclaredType) type.getTypeMirror(),
+                constructor
+            ) ).getParameterTypes();
+
+            for ( int i = 0; i < propertyNames.size(); i++ ) {
+                String variableName = Strings.getSafeVariableName( propertyNames.get( i ), existingVariableNames );
+                existingVariableNames.add( variableName );
+
+                constructorAccessors.put( propertyNames.get( i ), new ParameterElementAccessor(
+                    constructor.getParameters().get( i ),
+                    parameterTypes.get( i ),
+                    ctx.getElementUtils().getName( variableName )
+                ) );
+                constructorParameters.add(
+                    new Parameter( variableName, ctx.getTypeFactory().getType( parameterTypes.get( i ) ) )
+                );
+            }
+            return true;
+        }
+
         /**
          * @return builder is required when there is a returnTypeBuilder and the mapping method is not update method.
          * However, builder is also required when there is a returnTypeBuilder, the mapping target is the builder and
@@ -318,6 +388,7 @@ private void handleUnprocessedDefinedTargets() {
                         .mappingContext( ctx )
                         .sourceMethod( method )
                         .targetWriteAccessor( unprocessedTargetProperties.get( propertyName ) )
+                        .targetBeanType( resultTypeToMap )
                         .targetReadAccessor( getTargetPropertyReadAccessor( propertyName ) )
                         .targetPropertyName( propertyName )
                         .sourceReference( reference )
@@ -387,7 +458,13 @@ private Type getReturnTypeToConstructFromSelectionParameters(SelectionParameters
         private boolean canBeConstructed(Type typeToBeConstructed) {
             return !typeToBeConstructed.isAbstract()
                     && typeToBeConstructed.isAssignableTo( this.method.getResultType() )
-                    && typeToBeConstructed.hasEmptyAccessibleContructor();
+                    && ( typeToBeConstructed.hasEmptyAccessibleContructor() || hasMappingConstructor(
+                        typeToBeConstructed ) );
+        }
+
+        private boolean hasMappingConstructor(Type typeToBeConstructed) {
+            return !method.isUpdateMethod() && typeToBeConstructed.getMappingConstructor(
+                method.getMapperConfiguration().getCollectionMappingStrategy() ) != null;
         }
 
         private void reportResultTypeFromBeanMappingNotConstructableError(Type resultType) {
@@ -478,6 +555,7 @@ private void initReferencesForSourceMethodMapping(Mapping mapping ) {
                 .method( method )
                 .messager( ctx.getMessager() )
                 .typeFactory( ctx.getTypeFactory() )
+                .constructorAccessors( constructorAccessors )
                 .build();
             mapping.setTargetReference( targetReference );
 
@@ -503,6 +581,12 @@ private void initReferencesForForgedMethodMapping(Mapping mapping ) {
             }
             mapping.setSourceReference( sourceReference );
 
+            // the constructor parameters of a nested target type are only known by name in the original method
+            if ( mapping.getTargetReference() != null ) {
+                mapping.setTargetReference(
+                    mapping.getTargetReference().withConstructorAccessors( constructorAccessors )
+                );
+            }
         }
 
         /**
@@ -539,6 +623,8 @@ private boolean handleDefinedMappings() {
                 errorOccurred = handleDefinedNestedTargetMapping( handledTargets );
             }
 
+            determineNestedSourcePrefixes( handledTargets );
+
             for ( Mapping mapping : method.getMappingOptions().getMappings() ) {
                 TargetReference targetReference = mapping.getTargetReference();
                 if ( targetReference.isValid() ) {
@@ -570,6 +656,146 @@ private boolean handleDefinedMappings() {
             return errorOccurred;
         }
 
+        /**
+         * Determines the nested source paths which are shared by several of the defined mappings, e.g.
+         * {@code customer} and {@code customer.address} for the sources {@code customer.name},
+         * {@code customer.address.city} and {@code customer.address.zip}. Each of those paths is evaluated only once
+         * into a local variable, starting from the variable of the longest shared path it extends (or from the source
+         * parameter), instead of traversing it from the source parameter again for each mapping. A path is not shared
+         * if all mappings reading it read a longer shared path as well. Paths with presence checkers or with getters
+         * throwing checked exceptions are not shared.
+         */
+        private void determineNestedSourcePrefixes(Set<String> handledTargets) {
+
+            Map<String, List<SourceReference>> sourceReferencesByPrefix = new LinkedHashMap<>();
+            for ( Mapping mapping : method.getMappingOptions().getMappings() ) {
+                SourceReference sourceRef = mapping.getSourceReference();
+                TargetReference targetRef = mapping.getTargetReference();
+                if ( mapping.isIgnored() || !targetRef.isValid() || sourceRef == null || !sourceRef.isValid()
+                    || sourceRef.getPropertyEntries().size() < 2
+                    || handledTargets.contains( first( targetRef.getPropertyEntries() ).getName() ) ) {
+                    continue;
+                }
+                // shorter paths come first, so a path is always handled after the paths it extends
+                for ( int length = 1; length < sourceRef.getPropertyEntries().size(); length++ ) {
+                    sourceReferencesByPrefix
+                        .computeIfAbsent( getNestedSourcePrefixKey( sourceRef, length ), k -> new ArrayList<>() )
+                        .add( sourceRef );
+                }
+            }
+
+            for ( Entry<String, List<SourceReference>> entry : sourceReferencesByPrefix.entrySet() ) {
+                if ( entry.getValue().size() < 2 ) {
+                    continue;
+                }
+
+                SourceReference sourceRef = first( entry.getValue() );
+                int length = entry.getKey().split( "\\." ).length - 1;
+                List<PropertyEntry> prefixEntries = sourceRef.getPropertyEntries().subList( 0, length );
+                if ( isReadByLongerPrefixOnly( sourceReferencesByPrefix, entry.getValue(), length )
+                    || !isShareable( prefixEntries ) ) {
+                    continue;
+                }
+
+                NestedSourcePrefix parent = getNestedSourcePrefix( sourceRef, length - 1 );
+                int parentLength = parent != null ? parent.getPropertyEntries().size() : 0;
+
+                // forge a method from the parameter type (or the type of the extended path) to the last entry type of
+                // the path
+                String forgedName = Strings.joinAndCamelize(
+                    sourceRef.getElementNames().subList( parentLength, length + 1 )
+                );
+                forgedName = Strings.getSafeVariableName( forgedName, ctx.getReservedNames() );
+                ForgedMethod methodRef = new ForgedMethod(
+                    forgedName,
+                    parent != null ? parent.getType() : sourceRef.getParameter().getType(),
+                    last( prefixEntries ).getType(),
+                    method.getMapperConfiguration(),
+                    method.getExecutable(),
+                    Collections.<Parameter> emptyList(),
+                    ParameterProvidedMethods.empty() );
+
+                NestedPropertyMappingMethod nestedPropertyMapping = new NestedPropertyMappingMethod.Builder()
+                    .method( methodRef )
+                    .propertyEntries( prefixEntries.subList( parentLength, length ) )
+                    .mappingContext( ctx )
+                    .build();
+
+                // add if not yet existing
+                if ( !ctx.getMappingsToGenerate().contains( nestedPropertyMapping ) ) {
+                    ctx.getMappingsToGenerate().add( nestedPropertyMapping );
+                }
+                else {
+                    forgedName = ctx.getExistingMappingMethod( nestedPropertyMapping ).getName();
+                }
+
+                List<String> prefixNames = new ArrayList<>();
+                for ( PropertyEntry prefixEntry : prefixEntries ) {
+                    prefixNames.add( prefixEntry.getName() );
+                }
+                String name = Strings.getSafeVariableName(
+                    Strings.joinAndCamelize( prefixNames ),
+                    existingVariableNames
+                );
+                existingVariableNames.add( name );
+
+                nestedSourcePrefixes.put(
+                    entry.getKey(),
+                    new NestedSourcePrefix( sourceRef.getParameter(), parent, prefixEntries, name, forgedName )
+                );
+            }
+        }
+
+        /**
+         * @return {@code true} if the given source references, all reading the path of the given length, read the
+         * same longer path as well, i.e. the path doesn't need to be held in a variable on its own
+         */
+        private boolean isReadByLongerPrefixOnly(Map<String, List<SourceReference>> sourceReferencesByPrefix,
+                                                 List<SourceReference> sourceRefs, int length) {
+            SourceReference sourceRef = first( sourceRefs );
+            if ( sourceRef.getPropertyEntries().size() <= length + 1 ) {
+                return false;
+            }
+            List<SourceReference> longerPrefixSourceRefs =
+                sourceReferencesByPrefix.get( getNestedSourcePrefixKey( sourceRef, length + 1 ) );
+            return longerPrefixSourceRefs.size() == sourceRefs.size();
+        }
+
+        private boolean isShareable(List<PropertyEntry> prefixEntries) {
+            for ( PropertyEntry prefixEntry : prefixEntries ) {
+                if ( prefixEntry.getPresenceChecker() != null
+                    || !ctx.getTypeFactory().getThrownTypes( prefixEntry.getReadAccessor() ).isEmpty() ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private NestedSourcePrefix getNestedSourcePrefix(SourceReference sourceRef) {
+            return getNestedSourcePrefix( sourceRef, sourceRef.getPropertyEntries().size() - 1 );
+        }
+
+        /**
+         * @return the longest shared path of the given source reference which is not longer than the given length
+         */
+        private NestedSourcePrefix getNestedSourcePrefix(SourceReference sourceRef, int maxLength) {
+            for ( int length = maxLength; length > 0; length-- ) {
+                NestedSourcePrefix nestedSourcePrefix =
+                    nestedSourcePrefixes.get( getNestedSourcePrefixKey( sourceRef, length ) );
+                if ( nestedSourcePrefix != null ) {
+                    return nestedSourcePrefix;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return the key of the path consisting of the source parameter and the given number of property entries
+         */
+        private static String getNestedSourcePrefixKey(SourceReference sourceRef, int length) {
+            return Strings.join( sourceRef.getElementNames().subList( 0, length + 1 ), "." );
+        }
+
         private boolean handleDefinedNestedTargetMapping(Set<String> handledTargets) {
 
             NestedTargetPropertyMappingHolder holder = new NestedTargetPropertyMappingHolder.Builder()
@@ -635,9 +861,11 @@ else if ( mapping.getSourceName() != null ) {
                         .mappingContext( ctx )
                         .sourceMethod( method )
                         .targetProperty( targetProperty )
+                        .targetBeanType( resultTypeToMap )
                         .targetPropertyName( mapping.getTargetName() )
                         .sourcePropertyName( mapping.getSourceName() )
                         .sourceReference( sourceRef )
+                        .nestedSourcePrefix( getNestedSourcePrefix( sourceRef ) )
                         .selectionParameters( mapping.getSelectionParameters() )
                         .formattingParameters( mapping.getFormattingParameters() )
                         .existingVariableNames( existingVariableNames )
@@ -647,6 +875,7 @@ else if ( mapping.getSourceName() != null ) {
                         .mirror( mapping.getMirror() )
                         .nullValueCheckStrategy( mapping.getNullValueCheckStrategy() )
                         .nullValuePropertyMappingStrategy( mapping.getNullValuePropertyMappingStrategy() )
+                        .collectionCopyStrategy( mapping.getCollectionCopyStrategy() )
                         .build();
                     handledTargets.add( propertyName );
                     unprocessedSourceParameters.remove( sourceRef.getParameter() );
@@ -754,6 +983,7 @@ private void applyPropertyNameBasedMapping() {
                                 .mappingContext( ctx )
                                 .sourceMethod( method )
                                 .targetWriteAccessor( targetProperty.getValue() )
+                                .targetBeanType( resultTypeToMap )
                                 .targetReadAccessor( getTargetPropertyReadAccessor( targetPropertyName ) )
                                 .targetPropertyName( targetPropertyName )
                                 .sourceReference( sourceRef )
@@ -766,6 +996,7 @@ private void applyPropertyNameBasedMapping() {
                                 .nullValueCheckStrategy( mapping != null ? mapping.getNullValueCheckStrategy() : null )
                                 .nullValuePropertyMappingStrategy( mapping != null ?
                                     mapping.getNullValuePropertyMappingStrategy() : null )
+                                .collectionCopyStrategy( mapping != null ? mapping.getCollectionCopyStrategy() : null )
                                 .mirror( mapping != null ? mapping.getMirror() : null )
                                 .build();
 
@@ -822,6 +1053,7 @@ private void applyParameterNameBasedMapping() {
                             .mappingContext( ctx )
                             .sourceMethod( method )
                             .targetWriteAccessor( targetProperty.getValue() )
+                            .targetBeanType( resultTypeToMap )
                             .targetReadAccessor( getTargetPropertyReadAccessor( targetProperty.getKey() ) )
                             .targetPropertyName( targetProperty.getKey() )
                             .sourceReference( sourceRef )
@@ -833,6 +1065,7 @@ private void applyParameterNameBasedMapping() {
                             .nullValueCheckStrategy( mapping != null ? mapping.getNullValueCheckStrategy() : null )
                             .nullValuePropertyMappingStrategy( mapping != null ?
                                 mapping.getNullValuePropertyMappingStrategy() : null )
+                            .collectionCopyStrategy( mapping != null ? mapping.getCollectionCopyStrategy() : null )
                             .mirror( mapping != null ? mapping.getMirror() : null )
                             .build();
 
@@ -856,6 +1089,10 @@ private MappingOptions extractAdditionalOptions(String targetProperty, boolean r
         }
 
         private Accessor getTargetPropertyReadAccessor(String propertyName) {
+            if ( constructorAccessors.containsKey( propertyName ) ) {
+                // constructor parameters are passed to the constructor, they are never read from the target
+                return null;
+            }
             return method.getResultType().getPropertyReadAccessors().get( propertyName );
         }
 
@@ -975,6 +1212,7 @@ private void reportErrorForUnmappedSourcePropertiesIfRequired() {
         }
     }
 
+    @SuppressWarnings( "checkstyle:parameternumber" )
     private BeanMappingMethod(Method method,
                               Collection<String> existingVariableNames,
                               List<PropertyMapping> propertyMappings,
@@ -984,7 +1222,10 @@ private BeanMappingMethod(Method method,
                               BuilderType returnTypeBuilder,
                               List<LifecycleCallbackMethodReference> beforeMappingReferences,
                               List<LifecycleCallbackMethodReference> afterMappingReferences,
-                              MethodReference finalizerMethod) {
+                              MethodReference finalizerMethod,
+                              List<NestedSourcePrefix> nestedSourcePrefixes,
+                              List<Parameter> constructorParameters,
+                              Set<String> constructorPropertyNames) {
         super(
             method,
             existingVariableNames,
@@ -997,22 +1238,52 @@ private BeanMappingMethod(Method method,
         this.propertyMappings = propertyMappings;
         this.returnTypeBuilder = returnTypeBuilder;
         this.finalizerMethod = finalizerMethod;
+        this.nestedSourcePrefixes = nestedSourcePrefixes;
+        this.constructorParameters = constructorParameters;
+
+        // the mappings of constructor parameters are rendered before the result is created, all others afterwards
+        List<PropertyMapping> constructorMappings = new ArrayList<>();
+        List<PropertyMapping> otherMappings = new ArrayList<>();
+        for ( PropertyMapping mapping : propertyMappings ) {
+            if ( constructorPropertyNames.contains( mapping.getName() ) ) {
+                constructorMappings.add( mapping );
+            }
+            else {
+                otherMappings.add( mapping );
+            }
+        }
 
+        this.mappingsByParameter = new HashMap<>();
+        this.constantMappings = groupByParameter( otherMappings, mappingsByParameter );
+        this.constructorMappingsByParameter = new HashMap<>();
+        this.constructorConstantMappings = groupByParameter( constructorMappings, constructorMappingsByParameter );
+        this.returnTypeToConstruct = returnTypeToConstruct;
+    }
+
+    /**
+     * Groups the given mappings by the source parameter they are contributed to.
+     *
+     * @param mappings the mappings to group
+     * @param mappingsByParameter the mappings per source parameter name, populated by this method
+     *
+     * @return the remaining (constant) mappings, which cannot be contributed to a parameter mapping
+     */
+    private List<PropertyMapping> groupByParameter(List<PropertyMapping> mappings,
+                                                   Map<String, List<PropertyMapping>> mappingsByParameter) {
         // intialize constant mappings as all mappings, but take out the ones that can be contributed to a
         // parameter mapping.
-        this.mappingsByParameter = new HashMap<>();
-        this.constantMappings = new ArrayList<>( propertyMappings );
+        List<PropertyMapping> constantMappings = new ArrayList<>( mappings );
         for ( Parameter sourceParameter : getSourceParameters() ) {
             ArrayList<PropertyMapping> mappingsOfParameter = new ArrayList<>();
             mappingsByParameter.put( sourceParameter.getName(), mappingsOfParameter );
-            for ( PropertyMapping mapping : propertyMappings ) {
+            for ( PropertyMapping mapping : mappings ) {
                 if ( sourceParameter.getName().equals( mapping.getSourceBeanName() ) ) {
                     mappingsOfParameter.add( mapping );
                     constantMappings.remove( mapping );
                 }
             }
         }
-        this.returnTypeToConstruct = returnTypeToConstruct;
+        return constantMappings;
     }
 
     public List<PropertyMapping> getConstantMappings() {
@@ -1024,6 +1295,28 @@ public List<PropertyMapping> propertyMappingsByParameter(Parameter parameter) {
         return mappingsByParameter.get( parameter.getName() );
     }
 
+    /**
+     * @return {@code true} if the result is created via a constructor taking (some of) the target properties
+     */
+    public boolean isConstructorMapping() {
+        return !constructorParameters.isEmpty();
+    }
+
+    /**
+     * @return the local variables passed as arguments to the constructor creating the result, in parameter order
+     */
+    public List<Parameter> getConstructorParameters() {
+        return constructorParameters;
+    }
+
+    public List<PropertyMapping> getConstructorConstantMappings() {
+        return constructorConstantMappings;
+    }
+
+    public List<PropertyMapping> constructorPropertyMappingsByParameter(Parameter parameter) {
+        return constructorMappingsByParameter.get( parameter.getName() );
+    }
+
     public Type getReturnTypeToConstruct() {
         return returnTypeToConstruct;
     }
@@ -1032,6 +1325,10 @@ public MethodReference getFinalizerMethod() {
         return finalizerMethod;
     }
 
+    public List<NestedSourcePrefix> getNestedSourcePrefixes() {
+        return nestedSourcePrefixes;
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = super.getImportTypes();
@@ -1040,6 +1337,14 @@ public Set<Type> getImportTypes() {
             types.addAll( propertyMapping.getImportTypes() );
         }
 
+        for ( NestedSourcePrefix nestedSourcePrefix : nestedSourcePrefixes ) {
+            types.addAll( nestedSourcePrefix.getImportTypes() );
+        }
+
+        for ( Parameter constructorParameter : constructorParameters ) {
+            types.addAll( constructorParameter.getType().getImportTypes() );
+        }
+
         if ( returnTypeToConstruct != null  ) {
             types.addAll( returnTypeToConstruct.getImportTypes() );
         }
@@ -15,6 +15,7 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValuePropertyMappingStrategyPrism;
@@ -63,6 +64,7 @@ public class CollectionAssignmentBuilder {
     private SourceRHS sourceRHS;
     private NullValueCheckStrategyPrism nvcs;
     private NullValuePropertyMappingStrategyPrism nvpms;
+    private CollectionCopyStrategyPrism ccs;
 
     public CollectionAssignmentBuilder mappingBuilderContext(MappingBuilderContext ctx) {
         this.ctx = ctx;
@@ -124,13 +126,19 @@ public CollectionAssignmentBuilder nullValuePropertyMappingStrategy( NullValuePr
         return this;
     }
 
+    public CollectionAssignmentBuilder collectionCopyStrategy( CollectionCopyStrategyPrism ccs ) {
+        this.ccs = ccs;
+        return this;
+    }
+
     public Assignment build() {
         Assignment result = assignment;
 
         CollectionMappingStrategyPrism cms = method.getMapperConfiguration().getCollectionMappingStrategy();
         boolean targetImmutable = cms == CollectionMappingStrategyPrism.TARGET_IMMUTABLE || targetReadAccessor == null;
 
-        if ( targetAccessorType == AccessorType.SETTER || targetAccessorType == AccessorType.FIELD ) {
+        if ( targetAccessorType == AccessorType.SETTER || targetAccessorType == AccessorType.FIELD
+            || targetAccessorType == AccessorType.PARAMETER ) {
 
             if ( result.isCallingUpdateMethod() && !targetImmutable ) {
 
@@ -149,7 +157,7 @@ public Assignment build() {
                     result,
                     method.getThrownTypes(),
                     factoryMethod,
-                    targetAccessorType == AccessorType.FIELD,
+                    isFieldAssignment(),
                     targetType,
                     true,
                     nvpms == SET_TO_NULL && !targetType.isPrimitive(),
@@ -165,7 +173,7 @@ else if ( method.isUpdateMethod() && !targetImmutable ) {
                     nvcs,
                     nvpms,
                     ctx.getTypeFactory(),
-      targetAccessorType == AccessorType.FIELD
+                    isFieldAssignment()
                 );
             }
             else if ( result.getType() == Assignment.AssignmentType.DIRECT ||
@@ -176,7 +184,8 @@ else if ( result.getType() == Assignment.AssignmentType.DIRECT ||
                     method.getThrownTypes(),
                     targetType,
                     ctx.getTypeFactory(),
-      targetAccessorType == AccessorType.FIELD
+                    isFieldAssignment(),
+                    getCopyStrategy()
                 );
             }
             else {
@@ -185,7 +194,7 @@ else if ( result.getType() == Assignment.AssignmentType.DIRECT ||
                     result,
                     method.getThrownTypes(),
                     targetType,
-      targetAccessorType == AccessorType.FIELD
+                    isFieldAssignment()
                 );
             }
         }
@@ -203,11 +212,27 @@ else if ( result.getType() == Assignment.AssignmentType.DIRECT ||
                 result,
                 method.getThrownTypes(),
                 targetType,
-  targetAccessorType == AccessorType.FIELD
+                isFieldAssignment()
             );
         }
 
         return result;
     }
 
+    private boolean isFieldAssignment() {
+        // constructor parameters are assigned to local variables, just like fields
+        return targetAccessorType == AccessorType.FIELD || targetAccessorType == AccessorType.PARAMETER;
+    }
+
+    /**
+     * @return the strategy for propagating a directly assigned source collection or map, falling back to copying when
+     * no unmodifiable view of the target type can be created
+     */
+    private CollectionCopyStrategyPrism getCopyStrategy() {
+        if ( ccs == CollectionCopyStrategyPrism.UNMODIFIABLE_VIEW
+            && SetterWrapperForCollectionsAndMapsWithNullCheck.getUnmodifiableViewMethodName( targetType ) == null ) {
+            return CollectionCopyStrategyPrism.COPY;
+        }
+        return ccs != null ? ccs : CollectionCopyStrategyPrism.COPY;
+    }
 }
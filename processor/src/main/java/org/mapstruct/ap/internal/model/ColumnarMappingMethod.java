@@ -0,0 +1,502 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
+import org.mapstruct.ap.internal.model.assignment.SetterWrapper;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.SourceRHS;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
+import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.util.ValueProvider;
+import org.mapstruct.ap.internal.util.accessor.Accessor;
+import org.mapstruct.ap.internal.util.accessor.AccessorType;
+
+/**
+ * A {@link MappingMethod} implemented by a {@link Mapper} class which transposes a collection or an array of beans
+ * into a columnar type, whose properties are arrays or lists holding the values of one property of all elements, or
+ * vice versa. The values are written to and read from array columns by index, so primitive columns are populated
+ * without boxing.
+ */
+public class ColumnarMappingMethod extends MappingMethod {
+
+    private final boolean toColumns;
+    private final Parameter sourceParameter;
+    private final Type elementType;
+    private final List<Column> columns;
+    private final String elementVariableName;
+    private final String indexVariableName;
+    private final String sizeVariableName;
+    private final boolean overridden;
+
+    public static class Builder extends AbstractMappingMethodBuilder<Builder, ColumnarMappingMethod> {
+
+        public Builder() {
+            super( Builder.class );
+        }
+
+        @Override
+        public ColumnarMappingMethod build() {
+            Parameter sourceParameter = first( method.getSourceParameters() );
+            boolean toColumns = sourceParameter.getType().isIterableType();
+            Type rowsType = toColumns ? sourceParameter.getType() : method.getResultType();
+            Type columnarType = toColumns ? method.getResultType() : sourceParameter.getType();
+            Type elementType = rowsType.isArrayType() ? rowsType.getComponentType() :
+                first( rowsType.determineTypeArguments( Iterable.class ) ).getTypeBound();
+
+            Type createdType = toColumns ? columnarType : elementType;
+            if ( createdType.isAbstract() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.COLUMNARMAPPING_ABSTRACT_TYPE,
+                    toColumns ? "columnar" : "element",
+                    createdType
+                );
+                return null;
+            }
+            if ( !toColumns && rowsType.getImplementationType() == null && rowsType.isAbstract() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.COLUMNARMAPPING_ABSTRACT_TYPE,
+                    "result",
+                    rowsType
+                );
+                return null;
+            }
+
+            Set<String> existingVariables = new HashSet<>( method.getParameterNames() );
+            String elementVariableName = Strings.getSafeVariableName( elementType.getName(), existingVariables );
+            existingVariables.add( elementVariableName );
+            String indexVariableName = Strings.getSafeVariableName( "i", existingVariables );
+            existingVariables.add( indexVariableName );
+            String sizeVariableName = Strings.getSafeVariableName( "size", existingVariables );
+            existingVariables.add( sizeVariableName );
+
+            Map<String, Accessor> columnAccessors = toColumns ?
+                columnarType.getPropertyWriteAccessors( CollectionMappingStrategyPrism.SETTER_PREFERRED ) :
+                columnarType.getPropertyReadAccessors();
+            Map<String, Accessor> elementAccessors = toColumns ?
+                elementType.getPropertyReadAccessors() :
+                elementType.getPropertyWriteAccessors( CollectionMappingStrategyPrism.SETTER_PREFERRED );
+
+            List<Column> columns = new ArrayList<>();
+            boolean hasErrors = false;
+            for ( Map.Entry<String, Accessor> entry : columnAccessors.entrySet() ) {
+                String columnName = entry.getKey();
+                Accessor columnAccessor = entry.getValue();
+                if ( toColumns && !isSetterOrField( columnAccessor ) ) {
+                    continue;
+                }
+
+                Type columnType = getPropertyType( columnarType, columnAccessor );
+                if ( !isColumnType( columnType ) ) {
+                    continue;
+                }
+                if ( toColumns && columnType.getImplementationType() == null && columnType.isAbstract() ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        Message.COLUMNARMAPPING_ABSTRACT_TYPE,
+                        "column",
+                        columnType
+                    );
+                    hasErrors = true;
+                    continue;
+                }
+
+                Accessor elementAccessor = elementAccessors.get( columnName );
+                if ( elementAccessor == null || ( !toColumns && !isSetterOrField( elementAccessor ) ) ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        Message.COLUMNARMAPPING_UNMAPPED_COLUMN,
+                        columnName,
+                        elementType
+                    );
+                    continue;
+                }
+
+                String columnVariableName = Strings.getSafeVariableName( columnName, existingVariables );
+                existingVariables.add( columnVariableName );
+
+                Column column = new Column(
+                    columnName,
+                    columnVariableName,
+                    columnType,
+                    toColumns ? columnAccessor.getSimpleName().toString() :
+                        ValueProvider.of( columnAccessor ).getValue(),
+                    columnAccessor.getAccessorType() == AccessorType.FIELD,
+                    getPropertyType( elementType, elementAccessor ),
+                    elementAccessor.getSimpleName().toString()
+                );
+                if ( !toColumns && !column.isArray() ) {
+                    column.iteratorVariableName =
+                        Strings.getSafeVariableName( columnVariableName + "Iterator", existingVariables );
+                    existingVariables.add( column.iteratorVariableName );
+                    column.iteratorType = getIteratorType( columnType );
+                }
+
+                Assignment assignment = toColumns ?
+                    createColumnAssignment( column, elementVariableName, elementAccessor, existingVariables ) :
+                    createElementAssignment( column, indexVariableName, elementAccessor, existingVariables );
+                if ( assignment == null ) {
+                    hasErrors = true;
+                    continue;
+                }
+                column.assignment = assignment;
+                columns.add( column );
+            }
+
+            if ( hasErrors ) {
+                return null;
+            }
+
+            if ( columns.isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.COLUMNARMAPPING_NO_COLUMNS,
+                    columnarType,
+                    elementType
+                );
+                return null;
+            }
+
+            return new ColumnarMappingMethod(
+                method,
+                existingVariables,
+                toColumns,
+                elementType,
+                columns,
+                elementVariableName,
+                indexVariableName,
+                sizeVariableName
+            );
+        }
+
+        /**
+         * Creates the assignment of the property of an element to the column, e.g. {@code ids[i] = car.getId()}.
+         */
+        private Assignment createColumnAssignment(Column column, String elementVariableName,
+                                                  Accessor elementAccessor, Set<String> existingVariables) {
+            SourceRHS sourceRHS = new SourceRHS(
+                elementVariableName + "." + ValueProvider.of( elementAccessor ).getValue(),
+                column.propertyType,
+                existingVariables,
+                "property"
+            );
+            Assignment assignment = getAssignment( column, sourceRHS, column.propertyType, column.elementType );
+            if ( assignment == null ) {
+                return null;
+            }
+
+            if ( column.isArray() ) {
+                return new LocalVarWrapper( assignment, method.getThrownTypes(), column.elementType, false );
+            }
+            return new SetterWrapper( assignment, method.getThrownTypes(), false );
+        }
+
+        /**
+         * Creates the assignment of the value of the column to the property of an element, e.g.
+         * {@code car.setId( ids[i] )} or {@code car.setName( namesIterator.next() )}. List columns are read via an
+         * iterator, as not all lists provide indexed access in constant time.
+         */
+        private Assignment createElementAssignment(Column column, String indexVariableName,
+                                                   Accessor elementAccessor, Set<String> existingVariables) {
+            String value = column.isArray() ?
+                column.variableName + "[" + indexVariableName + "]" :
+                column.iteratorVariableName + ".next()";
+            SourceRHS sourceRHS = new SourceRHS( value, column.elementType, existingVariables, "column element" );
+            Assignment assignment = getAssignment( column, sourceRHS, column.elementType, column.propertyType );
+            if ( assignment == null ) {
+                return null;
+            }
+
+            return new SetterWrapper(
+                assignment,
+                method.getThrownTypes(),
+                elementAccessor.getAccessorType() == AccessorType.FIELD
+            );
+        }
+
+        private Assignment getAssignment(Column column, SourceRHS sourceRHS, Type sourceType, Type targetType) {
+            Assignment assignment = ctx.getMappingResolver().getTargetAssignment(
+                method,
+                targetType,
+                null,
+                SelectionCriteria.forMappingMethods( null, column.name, false ),
+                sourceRHS,
+                null,
+                () -> forgeMapping( sourceRHS, sourceType, targetType )
+            );
+
+            if ( assignment == null ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.COLUMNARMAPPING_COLUMN_MAPPING_NOT_FOUND,
+                    column.name,
+                    column.propertyType,
+                    column.elementType
+                );
+            }
+            return assignment;
+        }
+
+        private Type getPropertyType(Type beanType, Accessor accessor) {
+            DeclaredType declaredType = (DeclaredType) beanType.getTypeMirror();
+            if ( accessor.getAccessorType() == AccessorType.SETTER ) {
+                return ctx.getTypeFactory().getSingleParameter( declaredType, accessor ).getType();
+            }
+            return ctx.getTypeFactory().getReturnType( declaredType, accessor );
+        }
+
+        private Type getIteratorType(Type listType) {
+            TypeElement iteratorElement = ctx.getElementUtils().getTypeElement( Iterator.class.getCanonicalName() );
+            TypeMirror elementType = first( listType.determineTypeArguments( Iterable.class ) ).getTypeMirror();
+            return ctx.getTypeFactory().getType( ctx.getTypeUtils().getDeclaredType( iteratorElement, elementType ) );
+        }
+
+        private boolean isColumnType(Type type) {
+            if ( type.isArrayType() ) {
+                return true;
+            }
+            Types typeUtils = ctx.getTypeUtils();
+            return type.isCollectionType() && typeUtils.isAssignable(
+                typeUtils.erasure( type.getTypeMirror() ),
+                typeUtils.erasure( ctx.getTypeFactory().getType( List.class ).getTypeMirror() )
+            );
+        }
+
+        private static boolean isSetterOrField(Accessor accessor) {
+            return accessor.getAccessorType() == AccessorType.SETTER
+                || accessor.getAccessorType() == AccessorType.FIELD;
+        }
+
+        @Override
+        protected boolean shouldUsePropertyNamesInHistory() {
+            return true;
+        }
+    }
+
+    /**
+     * A property of the columnar type holding the values of the property with the same name of all elements.
+     */
+    public static class Column {
+
+        private final String name;
+        private final String variableName;
+        private final Type type;
+        private final String accessor;
+        private final boolean fieldAccessor;
+        private final Type propertyType;
+        private final String propertyAccessorName;
+        private final Type elementType;
+        private Assignment assignment;
+        private String iteratorVariableName;
+        private Type iteratorType;
+
+        private Column(String name, String variableName, Type type, String accessor, boolean fieldAccessor,
+                       Type propertyType, String propertyAccessorName) {
+            this.name = name;
+            this.variableName = variableName;
+            this.type = type;
+            this.accessor = accessor;
+            this.fieldAccessor = fieldAccessor;
+            this.propertyType = propertyType;
+            this.propertyAccessorName = propertyAccessorName;
+            this.elementType = type.isArrayType() ? type.getComponentType() :
+                first( type.determineTypeArguments( Iterable.class ) ).getTypeBound();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getVariableName() {
+            return variableName;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the type instantiated for the column when mapping to the columnar type, i.e. the implementation
+         * type of a list interface
+         */
+        public Type getCreationType() {
+            return type.getImplementationType() != null ? type.getImplementationType() : type;
+        }
+
+        /**
+         * @return {@code true} if the created column can be presized with the number of elements
+         */
+        public boolean isPresized() {
+            return type.getImplementation() != null && type.getImplementation().hasInitialCapacityConstructor();
+        }
+
+        public boolean isArray() {
+            return type.isArrayType();
+        }
+
+        public Type getElementType() {
+            return elementType;
+        }
+
+        /**
+         * @return the name of the write accessor of the column when mapping to the columnar type, or the read
+         * expression of the column (e.g. {@code getIds()}) when mapping from the columnar type
+         */
+        public String getAccessor() {
+            return accessor;
+        }
+
+        public boolean isFieldAccessor() {
+            return fieldAccessor;
+        }
+
+        public Type getPropertyType() {
+            return propertyType;
+        }
+
+        /**
+         * @return the name of the write accessor of the element property when mapping from the columnar type
+         */
+        public String getPropertyAccessorName() {
+            return propertyAccessorName;
+        }
+
+        public Assignment getAssignment() {
+            return assignment;
+        }
+
+        /**
+         * @return the name of the variable holding the iterator of a list column when mapping from the columnar type
+         */
+        public String getIteratorVariableName() {
+            return iteratorVariableName;
+        }
+
+        public Type getIteratorType() {
+            return iteratorType;
+        }
+    }
+
+    private ColumnarMappingMethod(Method method, Collection<String> existingVariables, boolean toColumns,
+                                  Type elementType, List<Column> columns, String elementVariableName,
+                                  String indexVariableName, String sizeVariableName) {
+        super( method, existingVariables, Collections.emptyList(), Collections.emptyList() );
+        this.toColumns = toColumns;
+        this.sourceParameter = first( getSourceParameters() );
+        this.elementType = elementType;
+        this.columns = columns;
+        this.elementVariableName = elementVariableName;
+        this.indexVariableName = indexVariableName;
+        this.sizeVariableName = sizeVariableName;
+        this.overridden = method.overridesMethod();
+    }
+
+    /**
+     * @return {@code true} if the elements are transposed into the columnar type, {@code false} if the elements are
+     * created from the columnar type
+     */
+    public boolean isToColumns() {
+        return toColumns;
+    }
+
+    public Parameter getSourceParameter() {
+        return sourceParameter;
+    }
+
+    public Type getElementType() {
+        return elementType;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return {@code true} if any column is a list, to which {@code null} is added for {@code null} elements
+     */
+    public boolean isHasListColumns() {
+        for ( Column column : columns ) {
+            if ( !column.isArray() ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the type instantiated for the result collection when mapping from the columnar type
+     */
+    public Type getResultCreationType() {
+        return getResultType().getImplementationType() != null ? getResultType().getImplementationType() :
+            getResultType();
+    }
+
+    public boolean isResultPresized() {
+        return getResultType().getImplementation() != null
+            && getResultType().getImplementation().hasInitialCapacityConstructor();
+    }
+
+    public boolean isResultLoadFactorAdjustment() {
+        return getResultType().getImplementation() != null
+            && getResultType().getImplementation().isLoadFactorAdjustment();
+    }
+
+    public String getElementVariableName() {
+        return elementVariableName;
+    }
+
+    public String getIndexVariableName() {
+        return indexVariableName;
+    }
+
+    public String getSizeVariableName() {
+        return sizeVariableName;
+    }
+
+    public boolean isOverridden() {
+        return overridden;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+        types.addAll( elementType.getImportTypes() );
+        if ( !toColumns ) {
+            types.addAll( getResultCreationType().getImportTypes() );
+        }
+        for ( Column column : columns ) {
+            types.addAll( column.getType().getImportTypes() );
+            types.addAll( column.getCreationType().getImportTypes() );
+            types.addAll( column.getAssignment().getImportTypes() );
+            if ( column.getIteratorType() != null ) {
+                types.addAll( column.getIteratorType().getImportTypes() );
+            }
+        }
+        return types;
+    }
+}
@@ -10,6 +10,7 @@
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
@@ -29,13 +30,14 @@ public abstract class ContainerMappingMethod extends NormalTypeMappingMethod {
     private final SelectionParameters selectionParameters;
     private final String index1Name;
     private final String index2Name;
-    private IterableCreation iterableCreation;
+    private final BuilderType resultBuilderType;
+    private final IterableCreation iterableCreation;
 
     ContainerMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
         MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
         List<LifecycleCallbackMethodReference> beforeMappingReferences,
         List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters) {
+        SelectionParameters selectionParameters, BuilderType resultBuilderType) {
         super( method, existingVariables, factoryMethod, mapNullToDefault, beforeMappingReferences,
             afterMappingReferences );
         this.elementAssignment = parameterAssignment;
@@ -43,6 +45,8 @@ public abstract class ContainerMappingMethod extends NormalTypeMappingMethod {
         this.selectionParameters = selectionParameters;
         this.index1Name = Strings.getSafeVariableName( "i", existingVariables );
         this.index2Name = Strings.getSafeVariableName( "j", existingVariables );
+        this.resultBuilderType = resultBuilderType;
+        this.iterableCreation = IterableCreation.create( this, getSourceParameter(), resultBuilderType );
     }
 
     public Parameter getSourceParameter() {
@@ -56,9 +60,6 @@ public Parameter getSourceParameter() {
     }
 
     public IterableCreation getIterableCreation() {
-        if ( iterableCreation == null ) {
-            iterableCreation = IterableCreation.create( this, getSourceParameter() );
-        }
         return iterableCreation;
     }
 
@@ -73,8 +74,9 @@ public Set<Type> getImportTypes() {
             types.addAll( elementAssignment.getImportTypes() );
         }
 
-        if ( iterableCreation != null ) {
-            types.addAll( iterableCreation.getImportTypes() );
+        if ( resultBuilderType != null ) {
+            types.addAll( resultBuilderType.getBuilder().getImportTypes() );
+            types.addAll( resultBuilderType.getOwningType().getImportTypes() );
         }
         return types;
     }
@@ -13,6 +13,7 @@
 import java.util.Set;
 
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
@@ -133,17 +134,26 @@ public final M build() {
             factoryMethod = ObjectFactoryMethodResolver.getFactoryMethod( method, null, ctx );
         }
 
+        BuilderType resultBuilderType = null;
+        if ( factoryMethod == null ) {
+            resultBuilderType = getResultBuilderType();
+        }
+
         Set<String> existingVariables = new HashSet<>( method.getParameterNames() );
         existingVariables.add( loopVariableName );
 
+        // the lifecycle methods are applied to the builder, if the elements are collected in a builder
+        Type lifecycleTargetType = resultBuilderType != null ? resultBuilderType.getBuilder() : resultType;
         List<LifecycleCallbackMethodReference> beforeMappingMethods = LifecycleMethodResolver.beforeMappingMethods(
             method,
+            lifecycleTargetType,
             selectionParameters,
             ctx,
             existingVariables
         );
         List<LifecycleCallbackMethodReference> afterMappingMethods = LifecycleMethodResolver.afterMappingMethods(
             method,
+            lifecycleTargetType,
             selectionParameters,
             ctx,
             existingVariables
@@ -158,7 +168,8 @@ public final M build() {
             loopVariableName,
             beforeMappingMethods,
             afterMappingMethods,
-            selectionParameters
+            selectionParameters,
+            resultBuilderType
         );
     }
 
@@ -175,7 +186,15 @@ protected abstract M instantiateMappingMethod(Method method, Collection<String>
                                                   boolean mapNullToDefault, String loopVariableName,
                                                   List<LifecycleCallbackMethodReference> beforeMappingMethods,
                                                   List<LifecycleCallbackMethodReference> afterMappingMethods,
-        SelectionParameters selectionParameters);
+        SelectionParameters selectionParameters, BuilderType resultBuilderType);
+
+    /**
+     * @return the builder into which the mapped elements are collected, or {@code null} if the result is to be
+     * instantiated
+     */
+    protected BuilderType getResultBuilderType() {
+        return null;
+    }
 
     protected abstract Type getElementType(Type parameterType);
 
@@ -16,24 +16,30 @@
 /**
  * Mapper reference which is retrieved via the {@code Mappers#getMapper()} method. Used by default if no other component
  * model is specified via {@code Mapper#uses()}.
+ * <p>
+ * If shared mapper instances are enabled, the reference is obtained via {@code Mappers#getSharedMapper()} instead, so
+ * that only one instance of each used mapper exists, no matter how many mappers are referencing it.
  *
  * @author Gunnar Morling
  */
 public class DefaultMapperReference extends MapperReference {
 
     private final boolean isAnnotatedMapper;
+    private final boolean isShared;
     private final Set<Type> importTypes;
 
-    private DefaultMapperReference(Type type, boolean isAnnotatedMapper, Set<Type> importTypes, String variableName) {
+    private DefaultMapperReference(Type type, boolean isAnnotatedMapper, boolean isShared, Set<Type> importTypes,
+                                   String variableName) {
         super( type, variableName );
         this.isAnnotatedMapper = isAnnotatedMapper;
+        this.isShared = isShared;
         this.importTypes = importTypes;
     }
 
-    public static DefaultMapperReference getInstance(Type type, boolean isAnnotatedMapper, TypeFactory typeFactory,
-                                                     List<String> otherMapperReferences) {
+    public static DefaultMapperReference getInstance(Type type, boolean isAnnotatedMapper, boolean isShared,
+                                                     TypeFactory typeFactory, List<String> otherMapperReferences) {
         Set<Type> importTypes = Collections.asSet( type );
-        if ( isAnnotatedMapper ) {
+        if ( isAnnotatedMapper || isShared ) {
             importTypes.add( typeFactory.getType( "org.mapstruct.factory.Mappers" ) );
         }
 
@@ -42,7 +48,7 @@ public static DefaultMapperReference getInstance(Type type, boolean isAnnotatedM
             otherMapperReferences
         );
 
-        return new DefaultMapperReference( type, isAnnotatedMapper, importTypes, variableName );
+        return new DefaultMapperReference( type, isAnnotatedMapper, isShared, importTypes, variableName );
     }
 
     @Override
@@ -53,4 +59,8 @@ public Set<Type> getImportTypes() {
     public boolean isAnnotatedMapper() {
         return isAnnotatedMapper;
     }
+
+    public boolean isShared() {
+        return isShared;
+    }
 }
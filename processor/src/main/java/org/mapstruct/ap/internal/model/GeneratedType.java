@@ -94,6 +94,7 @@ public T methods(List<MappingMethod> methods) {
     private final Accessibility accessibility;
     private List<Field> fields;
     private Constructor constructor;
+    private SortedSet<String> importTypeNames;
 
     /**
      * Type representing the {@code @Generated} annotation
@@ -245,10 +246,18 @@ public SortedSet<Type> getImportTypes() {
         return importedTypes;
     }
 
+    /**
+     * Returns the names of the types to be imported. These are determined once, as this requires to compare types via
+     * the compiler's model, so it must happen before rendering this type concurrently.
+     *
+     * @return the names of the types to be imported
+     */
     public SortedSet<String> getImportTypeNames() {
-        SortedSet<String> importTypeNames = new TreeSet<>();
-        for ( Type type : getImportTypes() ) {
-            importTypeNames.add( type.getImportName() );
+        if ( importTypeNames == null ) {
+            importTypeNames = new TreeSet<>();
+            for ( Type type : getImportTypes() ) {
+                importTypeNames.add( type.getImportName() );
+            }
         }
         return importTypeNames;
     }
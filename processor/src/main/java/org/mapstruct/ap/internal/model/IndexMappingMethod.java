@@ -0,0 +1,304 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.type.DeclaredType;
+
+import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.IndexMapping;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SelectionParameters;
+import org.mapstruct.ap.internal.prism.DuplicateKeyStrategyPrism;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.Strings;
+import org.mapstruct.ap.internal.util.ValueProvider;
+import org.mapstruct.ap.internal.util.accessor.Accessor;
+
+/**
+ * A {@link MappingMethod} implemented by a {@link Mapper} class which maps an iterable type or an array to a map type,
+ * putting each mapped element into the map under the value of one of its properties (or of a property of the source
+ * element). If the value type of the map is a collection type, the mapped elements are grouped by their key instead.
+ * The map is populated in the same loop which maps the elements.
+ */
+public class IndexMappingMethod extends ContainerMappingMethod {
+
+    private final Index index;
+    private final String keyVariableName;
+    private final String valueVariableName;
+    private final String groupVariableName;
+    private final Type sourceElementType;
+    private final Type resultElementType;
+
+    public static class Builder extends ContainerMappingMethodBuilder<Builder, IndexMappingMethod> {
+
+        private IndexMapping indexMapping;
+
+        public Builder() {
+            super( Builder.class, "collection element" );
+        }
+
+        public Builder indexMapping(IndexMapping indexMapping) {
+            this.indexMapping = indexMapping;
+            return this;
+        }
+
+        @Override
+        protected Type getElementType(Type parameterType) {
+            if ( parameterType.isMapType() ) {
+                Type valueType = getMapValueType( parameterType );
+                return valueType.isCollectionType() ?
+                    first( valueType.determineTypeArguments( Iterable.class ) ).getTypeBound() :
+                    valueType;
+            }
+            return parameterType.isArrayType() ? parameterType.getComponentType() : first(
+                parameterType.determineTypeArguments( Iterable.class ) ).getTypeBound();
+        }
+
+        @Override
+        protected Assignment getWrapper(Assignment assignment, Method method) {
+            Type resultElementType = getElementType( method.getResultType() );
+            return new LocalVarWrapper( assignment, method.getThrownTypes(), resultElementType, false );
+        }
+
+        @Override
+        protected IndexMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
+            Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
+            List<LifecycleCallbackMethodReference> beforeMappingMethods,
+            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters,
+            BuilderType resultBuilderType) {
+
+            Type resultType = method.getResultType();
+            Type keyElementType = getElementType(
+                indexMapping.isSourceKey() ? first( method.getSourceParameters() ).getType() : resultType
+            );
+
+            Accessor keyReadAccessor = null;
+            if ( !keyElementType.isPrimitive() && !keyElementType.isArrayType() ) {
+                keyReadAccessor = keyElementType.getPropertyReadAccessors().get( indexMapping.getKeyProperty() );
+            }
+            if ( keyReadAccessor == null ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    indexMapping.getMirror(),
+                    Message.INDEXMAPPING_UNKNOWN_KEY_PROPERTY,
+                    indexMapping.getKeyProperty(),
+                    indexMapping.isSourceKey() ? "source" : "target",
+                    keyElementType
+                );
+                return null;
+            }
+
+            Type keyType = ctx.getTypeFactory().getReturnType(
+                (DeclaredType) keyElementType.getTypeMirror(),
+                keyReadAccessor
+            );
+            Type resultKeyType = first( resultType.determineTypeArguments( Map.class ) ).getTypeBound();
+            if ( !keyType.isAssignableTo( resultKeyType ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    indexMapping.getMirror(),
+                    Message.INDEXMAPPING_KEY_TYPE_MISMATCH,
+                    indexMapping.getKeyProperty(),
+                    keyType,
+                    resultKeyType
+                );
+                return null;
+            }
+
+            Type groupType = null;
+            Type valueType = getMapValueType( resultType );
+            if ( valueType.isCollectionType() ) {
+                groupType = valueType;
+                if ( groupType.getImplementationType() == null && groupType.isAbstract() ) {
+                    ctx.getMessager().printMessage(
+                        method.getExecutable(),
+                        indexMapping.getMirror(),
+                        Message.INDEXMAPPING_NO_GROUP_IMPLEMENTATION,
+                        groupType
+                    );
+                    return null;
+                }
+            }
+
+            return new IndexMappingMethod(
+                method,
+                existingVariables,
+                assignment,
+                factoryMethod,
+                mapNullToDefault,
+                loopVariableName,
+                beforeMappingMethods,
+                afterMappingMethods,
+                selectionParameters,
+                new Index(
+                    indexMapping.getKeyProperty(),
+                    ValueProvider.of( keyReadAccessor ).getValue(),
+                    !keyType.isPrimitive(),
+                    indexMapping.isSourceKey(),
+                    resultKeyType,
+                    groupType,
+                    indexMapping.getDuplicateKeyStrategy()
+                )
+            );
+        }
+
+        private static Type getMapValueType(Type mapType) {
+            return mapType.determineTypeArguments( Map.class ).get( 1 ).getTypeBound();
+        }
+    }
+
+    /**
+     * How the mapped elements are put into the result map.
+     */
+    private static final class Index {
+
+        private final String keyProperty;
+        private final String keyReadAccessor;
+        private final boolean nullableKey;
+        private final boolean sourceKey;
+        private final Type keyType;
+        private final Type groupType;
+        private final DuplicateKeyStrategyPrism duplicateKeyStrategy;
+
+        private Index(String keyProperty, String keyReadAccessor, boolean nullableKey, boolean sourceKey,
+            Type keyType, Type groupType, DuplicateKeyStrategyPrism duplicateKeyStrategy) {
+            this.keyProperty = keyProperty;
+            this.keyReadAccessor = keyReadAccessor;
+            this.nullableKey = nullableKey;
+            this.sourceKey = sourceKey;
+            this.keyType = keyType;
+            this.groupType = groupType;
+            this.duplicateKeyStrategy = duplicateKeyStrategy;
+        }
+    }
+
+    private IndexMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
+                               MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
+                               List<LifecycleCallbackMethodReference> beforeMappingReferences,
+                               List<LifecycleCallbackMethodReference> afterMappingReferences,
+                               SelectionParameters selectionParameters, Index index) {
+        super(
+            method,
+            existingVariables,
+            parameterAssignment,
+            factoryMethod,
+            mapNullToDefault,
+            loopVariableName,
+            beforeMappingReferences,
+            afterMappingReferences,
+            selectionParameters,
+            null
+        );
+        this.index = index;
+
+        Type sourceParameterType = getSourceParameter().getType();
+        this.sourceElementType = sourceParameterType.isArrayType() ? sourceParameterType.getComponentType() :
+            first( sourceParameterType.determineTypeArguments( Iterable.class ) ).getTypeBound();
+        this.resultElementType = index.groupType != null ?
+            first( index.groupType.determineTypeArguments( Iterable.class ) ) :
+            getResultType().determineTypeArguments( Map.class ).get( 1 );
+
+        this.keyVariableName = Strings.getSafeVariableName( "key", existingVariables );
+        existingVariables.add( keyVariableName );
+        this.valueVariableName = Strings.getSafeVariableName(
+            getResultElementType().getName(),
+            existingVariables
+        );
+        existingVariables.add( valueVariableName );
+        this.groupVariableName = Strings.getSafeVariableName( "group", existingVariables );
+    }
+
+    public Type getSourceElementType() {
+        return sourceElementType;
+    }
+
+    @Override
+    public Type getResultElementType() {
+        return resultElementType;
+    }
+
+    public Type getResultKeyType() {
+        return index.keyType;
+    }
+
+    public String getKeyProperty() {
+        return index.keyProperty;
+    }
+
+    /**
+     * @return the expression reading the key from an element, e.g. {@code getId()}
+     */
+    public String getKeyReadAccessor() {
+        return index.keyReadAccessor;
+    }
+
+    /**
+     * @return {@code true} if the key property can be {@code null}, i.e. it is not of a primitive type
+     */
+    public boolean isNullableKey() {
+        return index.nullableKey;
+    }
+
+    /**
+     * @return {@code true} if the key is read from the source elements, {@code false} if it is read from the mapped
+     * elements
+     */
+    public boolean isSourceKey() {
+        return index.sourceKey;
+    }
+
+    /**
+     * @return {@code true} if the mapped elements are grouped by their key
+     */
+    public boolean isGrouping() {
+        return index.groupType != null;
+    }
+
+    /**
+     * @return the collection type holding the mapped elements with the same key, if {@link #isGrouping()}
+     */
+    public Type getGroupType() {
+        return index.groupType;
+    }
+
+    public String getDuplicateKeyStrategy() {
+        return index.duplicateKeyStrategy.name();
+    }
+
+    public String getKeyVariableName() {
+        return keyVariableName;
+    }
+
+    public String getValueVariableName() {
+        return valueVariableName;
+    }
+
+    public String getGroupVariableName() {
+        return groupVariableName;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+        types.addAll( index.keyType.getImportTypes() );
+        if ( index.groupType != null ) {
+            types.addAll( index.groupType.getImportTypes() );
+            if ( index.groupType.getImplementationType() != null ) {
+                types.addAll( index.groupType.getImplementationType().getImportTypes() );
+            }
+        }
+        return types;
+    }
+}
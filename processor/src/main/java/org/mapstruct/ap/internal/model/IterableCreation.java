@@ -5,9 +5,13 @@
  */
 package org.mapstruct.ap.internal.model;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import javax.lang.model.element.ExecutableElement;
 
+import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.ModelElement;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
@@ -18,7 +22,8 @@
  * Model element that can be used to create a type of {@link Iterable} or {@link java.util.Map}. If an implementation
  * type is used and the target type has a constructor with {@code int} as parameter and the source parameter is of
  * {@link java.util.Collection}, {@link java.util.Map} or {@code Array} type then MapStruct will use that constructor
- * with the {@code size} / {@code length} from the source parameter.
+ * with the {@code size} / {@code length} from the source parameter. If the elements are collected in a builder
+ * instead, e.g. for {@code ImmutableList}, the builder is created.
  *
  * @author Filip Hrisafov
  */
@@ -29,20 +34,53 @@ public class IterableCreation extends ModelElement {
     private final MethodReference factoryMethod;
     private final boolean canUseSize;
     private final boolean loadFactorAdjustment;
-
-    private IterableCreation(Type resultType, Parameter sourceParameter, MethodReference factoryMethod) {
+    private final BuilderType builderType;
+    private final String builderCreationMethodName;
+    private final List<Type> builderCreationTypeArguments;
+    private final String buildMethodName;
+    private final Type enumSetElementType;
+
+    private IterableCreation(Type resultType, Parameter sourceParameter, MethodReference factoryMethod,
+                             BuilderType builderType) {
         this.resultType = resultType;
         this.sourceParameter = sourceParameter;
         this.factoryMethod = factoryMethod;
+        this.builderType = builderType;
         this.canUseSize = ( sourceParameter.getType().isCollectionOrMapType() ||
             sourceParameter.getType().isArrayType() )
             && resultType.getImplementation() != null && resultType.getImplementation().hasInitialCapacityConstructor();
         this.loadFactorAdjustment = this.canUseSize && resultType.getImplementation().isLoadFactorAdjustment();
 
+        // the element type and the builder methods are determined upfront, as the compiler's model must not be
+        // accessed while rendering
+        this.enumSetElementType = isEnumSet() ? first( resultType.determineTypeArguments( Iterable.class ) ) : null;
+        if ( builderType != null ) {
+            ExecutableElement builderCreationMethod = builderType.getBuilderCreationMethod();
+            this.builderCreationMethodName = builderCreationMethod.getSimpleName().toString();
+            this.builderCreationTypeArguments = builderCreationMethod.getTypeParameters().isEmpty() ?
+                Collections.emptyList() :
+                resultType.getTypeParameters();
+            this.buildMethodName = determineBuildMethodName( builderType );
+        }
+        else {
+            this.builderCreationMethodName = null;
+            this.builderCreationTypeArguments = Collections.emptyList();
+            this.buildMethodName = null;
+        }
     }
 
     public static IterableCreation create(NormalTypeMappingMethod mappingMethod, Parameter sourceParameter) {
-        return new IterableCreation( mappingMethod.getResultType(), sourceParameter, mappingMethod.getFactoryMethod() );
+        return create( mappingMethod, sourceParameter, null );
+    }
+
+    public static IterableCreation create(NormalTypeMappingMethod mappingMethod, Parameter sourceParameter,
+                                          BuilderType builderType) {
+        return new IterableCreation(
+            mappingMethod.getResultType(),
+            sourceParameter,
+            mappingMethod.getFactoryMethod(),
+            builderType
+        );
     }
 
     public Type getResultType() {
@@ -65,6 +103,39 @@ public boolean isLoadFactorAdjustment() {
         return loadFactorAdjustment;
     }
 
+    public BuilderType getBuilderType() {
+        return builderType;
+    }
+
+    public String getBuilderCreationMethodName() {
+        return builderCreationMethodName;
+    }
+
+    /**
+     * @return the type arguments to be passed explicitly to the generic builder creation method, so the builder can
+     * also be created outside of an assignment context, e.g. {@code ImmutableList.<String>builder().build()}
+     */
+    public List<Type> getBuilderCreationTypeArguments() {
+        return builderCreationTypeArguments;
+    }
+
+    /**
+     * @return the name of the method creating the result from the builder, preferring a method named {@code build}
+     */
+    public String getBuildMethodName() {
+        return buildMethodName;
+    }
+
+    private static String determineBuildMethodName(BuilderType builderType) {
+        ExecutableElement buildMethod = first( builderType.getBuildMethods() );
+        for ( ExecutableElement method : builderType.getBuildMethods() ) {
+            if ( method.getSimpleName().contentEquals( "build" ) ) {
+                buildMethod = method;
+            }
+        }
+        return buildMethod.getSimpleName().toString();
+    }
+
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> types = new HashSet<>();
@@ -72,6 +143,10 @@ public Set<Type> getImportTypes() {
             types.addAll( resultType.getImplementationType().getImportTypes() );
         }
 
+        if ( builderType != null ) {
+            types.addAll( builderType.getOwningType().getImportTypes() );
+        }
+
         if ( isEnumSet() ) {
             types.add( getEnumSetElementType() );
             // The result type itself is an EnumSet
@@ -81,7 +156,7 @@ public Set<Type> getImportTypes() {
     }
 
     public Type getEnumSetElementType() {
-        return first( getResultType().determineTypeArguments( Iterable.class ) );
+        return enumSetElementType;
     }
 
     public boolean isEnumSet() {
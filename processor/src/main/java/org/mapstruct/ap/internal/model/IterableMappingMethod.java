@@ -13,6 +13,7 @@
 import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
 import org.mapstruct.ap.internal.model.assignment.SetterWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
@@ -25,6 +26,9 @@
  */
 public class IterableMappingMethod extends ContainerMappingMethod {
 
+    private final Type sourceElementType;
+    private final Type resultElementType;
+
     public static class Builder extends ContainerMappingMethodBuilder<Builder, IterableMappingMethod> {
 
         public Builder() {
@@ -53,7 +57,8 @@ protected Assignment getWrapper(Assignment assignment, Method method) {
         protected IterableMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
             Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
             List<LifecycleCallbackMethodReference> beforeMappingMethods,
-            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters,
+            BuilderType resultBuilderType) {
             return new IterableMappingMethod(
                 method,
                 existingVariables,
@@ -63,16 +68,25 @@ protected IterableMappingMethod instantiateMappingMethod(Method method, Collecti
                 loopVariableName,
                 beforeMappingMethods,
                 afterMappingMethods,
-                selectionParameters
+                selectionParameters,
+                resultBuilderType
             );
         }
+
+        @Override
+        protected BuilderType getResultBuilderType() {
+            if ( method.getResultType().isArrayType() ) {
+                return null;
+            }
+            return getResultCollectionBuilderType( "add", 1 );
+        }
     }
 
     private IterableMappingMethod(Method method, Collection<String> existingVariables, Assignment parameterAssignment,
                                   MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
                                   List<LifecycleCallbackMethodReference> beforeMappingReferences,
                                   List<LifecycleCallbackMethodReference> afterMappingReferences,
-        SelectionParameters selectionParameters) {
+        SelectionParameters selectionParameters, BuilderType resultBuilderType) {
         super(
             method,
             existingVariables,
@@ -82,28 +96,23 @@ private IterableMappingMethod(Method method, Collection<String> existingVariable
             loopVariableName,
             beforeMappingReferences,
             afterMappingReferences,
-            selectionParameters
+            selectionParameters,
+            resultBuilderType
         );
-    }
 
-    public Type getSourceElementType() {
         Type sourceParameterType = getSourceParameter().getType();
+        this.sourceElementType = sourceParameterType.isArrayType() ? sourceParameterType.getComponentType() :
+            first( sourceParameterType.determineTypeArguments( Iterable.class ) ).getTypeBound();
+        this.resultElementType = getResultType().isArrayType() ? getResultType().getComponentType() :
+            first( getResultType().determineTypeArguments( Iterable.class ) );
+    }
 
-        if ( sourceParameterType.isArrayType() ) {
-            return sourceParameterType.getComponentType();
-        }
-        else {
-            return first( sourceParameterType.determineTypeArguments( Iterable.class ) ).getTypeBound();
-        }
+    public Type getSourceElementType() {
+        return sourceElementType;
     }
 
     @Override
     public Type getResultElementType() {
-        if ( getResultType().isArrayType() ) {
-            return getResultType().getComponentType();
-        }
-        else {
-            return first( getResultType().determineTypeArguments( Iterable.class ) );
-        }
+        return resultElementType;
     }
 }
@@ -13,6 +13,7 @@
 
 import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
@@ -37,7 +38,10 @@ public class MapMappingMethod extends NormalTypeMappingMethod {
 
     private final Assignment keyAssignment;
     private final Assignment valueAssignment;
-    private IterableCreation iterableCreation;
+    private final BuilderType resultBuilderType;
+    private final List<Type> sourceElementTypes;
+    private final List<Type> resultElementTypes;
+    private final IterableCreation iterableCreation;
 
     public static class Builder extends AbstractMappingMethodBuilder<Builder, MapMappingMethod> {
 
@@ -192,11 +196,20 @@ public MapMappingMethod build() {
             keyAssignment = new LocalVarWrapper( keyAssignment, method.getThrownTypes(), keyTargetType, false );
             valueAssignment = new LocalVarWrapper( valueAssignment, method.getThrownTypes(), valueTargetType, false );
 
+            BuilderType resultBuilderType = null;
+            if ( factoryMethod == null ) {
+                resultBuilderType = getResultCollectionBuilderType( "put", 2 );
+            }
+
+            // the lifecycle methods are applied to the builder, if the entries are collected in a builder
+            Type lifecycleTargetType =
+                resultBuilderType != null ? resultBuilderType.getBuilder() : method.getResultType();
+
             Set<String> existingVariables = new HashSet<>( method.getParameterNames() );
-            List<LifecycleCallbackMethodReference> beforeMappingMethods =
-                LifecycleMethodResolver.beforeMappingMethods( method, null, ctx, existingVariables );
-            List<LifecycleCallbackMethodReference> afterMappingMethods =
-                LifecycleMethodResolver.afterMappingMethods( method, null, ctx, existingVariables );
+            List<LifecycleCallbackMethodReference> beforeMappingMethods = LifecycleMethodResolver
+                .beforeMappingMethods( method, lifecycleTargetType, null, ctx, existingVariables );
+            List<LifecycleCallbackMethodReference> afterMappingMethods = LifecycleMethodResolver
+                .afterMappingMethods( method, lifecycleTargetType, null, ctx, existingVariables );
 
             return new MapMappingMethod(
                 method,
@@ -206,7 +219,8 @@ public MapMappingMethod build() {
                 factoryMethod,
                 mapNullToDefault,
                 beforeMappingMethods,
-                afterMappingMethods
+                afterMappingMethods,
+                resultBuilderType
             );
         }
 
@@ -228,12 +242,17 @@ protected boolean shouldUsePropertyNamesInHistory() {
     private MapMappingMethod(Method method, Collection<String> existingVariableNames, Assignment keyAssignment,
                              Assignment valueAssignment, MethodReference factoryMethod, boolean mapNullToDefault,
                              List<LifecycleCallbackMethodReference> beforeMappingReferences,
-                             List<LifecycleCallbackMethodReference> afterMappingReferences) {
+                             List<LifecycleCallbackMethodReference> afterMappingReferences,
+                             BuilderType resultBuilderType) {
         super( method, existingVariableNames, factoryMethod, mapNullToDefault, beforeMappingReferences,
             afterMappingReferences );
 
         this.keyAssignment = keyAssignment;
         this.valueAssignment = valueAssignment;
+        this.resultBuilderType = resultBuilderType;
+        this.sourceElementTypes = getSourceParameter().getType().determineTypeArguments( Map.class );
+        this.resultElementTypes = getResultType().determineTypeArguments( Map.class );
+        this.iterableCreation = IterableCreation.create( this, getSourceParameter(), resultBuilderType );
     }
 
     public Parameter getSourceParameter() {
@@ -247,12 +266,11 @@ public Parameter getSourceParameter() {
     }
 
     public List<Type> getSourceElementTypes() {
-        Type sourceParameterType = getSourceParameter().getType();
-        return sourceParameterType.determineTypeArguments( Map.class );
+        return sourceElementTypes;
     }
 
     public List<Type> getResultElementTypes() {
-        return getResultType().determineTypeArguments( Map.class );
+        return resultElementTypes;
     }
 
     public Assignment getKeyAssignment() {
@@ -274,8 +292,9 @@ public Set<Type> getImportTypes() {
             types.addAll( valueAssignment.getImportTypes() );
         }
 
-        if ( iterableCreation != null ) {
-            types.addAll( iterableCreation.getImportTypes() );
+        if ( resultBuilderType != null ) {
+            types.addAll( resultBuilderType.getBuilder().getImportTypes() );
+            types.addAll( resultBuilderType.getOwningType().getImportTypes() );
         }
 
         return types;
@@ -303,9 +322,6 @@ public String getEntryVariableName() {
     }
 
     public IterableCreation getIterableCreation() {
-        if ( iterableCreation == null ) {
-            iterableCreation = IterableCreation.create( this, getSourceParameter() );
-        }
         return iterableCreation;
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.util.Strings;
+
+/**
+ * Represents an implementation of {@code org.mapstruct.factory.MapperRegistry}, which maps the mapper types generated
+ * in one processing round to their implementation types. All types are referenced by their fully qualified names, as
+ * the implementation types are generated in the very same round.
+ */
+public class MapperRegistry extends ModelElement {
+
+    private final String packageName;
+    private final String name;
+    private final List<Entry> entries;
+    private final String generatedTypeName;
+    private final boolean suppressGeneratorTimestamp;
+
+    public MapperRegistry(String packageName, String name, List<Entry> entries, String generatedTypeName,
+                          boolean suppressGeneratorTimestamp) {
+        this.packageName = packageName;
+        this.name = name;
+        this.entries = entries;
+        this.generatedTypeName = generatedTypeName;
+        this.suppressGeneratorTimestamp = suppressGeneratorTimestamp;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return Collections.emptySet();
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public boolean hasPackageName() {
+        return !Strings.isEmpty( packageName );
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * @return the initial capacity of the maps holding the entries, avoiding any rehashing while populating them
+     */
+    public int getInitialCapacity() {
+        return entries.size() * 4 / 3 + 1;
+    }
+
+    /**
+     * @return the fully qualified name of the {@code @Generated} annotation, or {@code null} if not available
+     */
+    public String getGeneratedTypeName() {
+        return generatedTypeName;
+    }
+
+    public boolean isSuppressGeneratorTimestamp() {
+        return suppressGeneratorTimestamp;
+    }
+
+    /**
+     * A mapper type together with the type implementing it.
+     */
+    public static class Entry {
+
+        private final String mapperName;
+        private final String implementationName;
+
+        public Entry(String mapperName, String implementationName) {
+            this.mapperName = mapperName;
+            this.implementationName = implementationName;
+        }
+
+        public String getMapperName() {
+            return mapperName;
+        }
+
+        public String getImplementationName() {
+            return implementationName;
+        }
+    }
+}
@@ -30,7 +30,6 @@
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
 import org.mapstruct.ap.internal.util.FormattingMessager;
-import org.mapstruct.ap.internal.util.Services;
 import org.mapstruct.ap.spi.MappingExclusionProvider;
 
 /**
@@ -48,11 +47,6 @@
  */
 public class MappingBuilderContext {
 
-    private static final MappingExclusionProvider SUB_MAPPING_EXCLUSION_PROVIDER = Services.get(
-        MappingExclusionProvider.class,
-        new DefaultMappingExclusionProvider()
-    );
-
     /**
      * Resolves the most suitable way for mapping an element (property, iterable element etc.) from source to target.
      * There are 2 basic types of mappings:
@@ -105,6 +99,7 @@ Assignment getTargetAssignment(Method mappingMethod, Type targetType,
     private final Types typeUtils;
     private final FormattingMessager messager;
     private final AccessorNamingUtils accessorNaming;
+    private final MappingExclusionProvider mappingExclusionProvider;
     private final Options options;
     private final TypeElement mapperTypeElement;
     private final List<SourceMethod> sourceModel;
@@ -114,11 +109,13 @@ Assignment getTargetAssignment(Method mappingMethod, Type targetType,
     private final Map<ForgedMethod, ForgedMethod> forgedMethodsUnderCreation =
         new HashMap<>();
 
+    @SuppressWarnings("checkstyle:parameternumber")
     public MappingBuilderContext(TypeFactory typeFactory,
                           Elements elementUtils,
                           Types typeUtils,
                           FormattingMessager messager,
                           AccessorNamingUtils accessorNaming,
+                          MappingExclusionProvider mappingExclusionProvider,
                           Options options,
                           MappingResolver mappingResolver,
                           TypeElement mapper,
@@ -129,6 +126,7 @@ public MappingBuilderContext(TypeFactory typeFactory,
         this.typeUtils = typeUtils;
         this.messager = messager;
         this.accessorNaming = accessorNaming;
+        this.mappingExclusionProvider = mappingExclusionProvider;
         this.options = options;
         this.mappingResolver = mappingResolver;
         this.mapperTypeElement = mapper;
@@ -239,6 +237,6 @@ public boolean canGenerateAutoSubMappingBetween(Type sourceType, Type targetType
      * @return {@code true} if the type is not excluded from the {@link MappingExclusionProvider}
      */
     private boolean canGenerateAutoSubMappingFor(Type type) {
-        return type.getTypeElement() != null && !SUB_MAPPING_EXCLUSION_PROVIDER.isExcluded( type.getTypeElement() );
+        return type.getTypeElement() != null && !mappingExclusionProvider.isExcluded( type.getTypeElement() );
     }
 }
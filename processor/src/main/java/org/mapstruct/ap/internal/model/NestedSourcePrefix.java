@@ -0,0 +1,86 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.internal.model.common.ModelElement;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.PropertyEntry;
+
+/**
+ * A nested source property path which is shared by several property mappings of a bean mapping method, e.g.
+ * {@code customer.address} for the sources {@code customer.address.city} and {@code customer.address.zip}. The path
+ * is evaluated once into a local variable by means of a {@link NestedPropertyMappingMethod}, the property mappings
+ * only read the remaining properties from that variable. If the path extends another shared path, e.g.
+ * {@code customer} for the additional source {@code customer.name}, it is evaluated from the variable of that path.
+ */
+public class NestedSourcePrefix extends ModelElement {
+
+    private final Parameter sourceParameter;
+    private final NestedSourcePrefix parent;
+    private final List<PropertyEntry> propertyEntries;
+    private final String name;
+    private final String methodName;
+
+    NestedSourcePrefix(Parameter sourceParameter, NestedSourcePrefix parent, List<PropertyEntry> propertyEntries,
+                       String name, String methodName) {
+        this.sourceParameter = sourceParameter;
+        this.parent = parent;
+        this.propertyEntries = propertyEntries;
+        this.name = name;
+        this.methodName = methodName;
+    }
+
+    public Parameter getSourceParameter() {
+        return sourceParameter;
+    }
+
+    /**
+     * @return the shared path extended by this path, or {@code null} if this path is evaluated from the source
+     * parameter
+     */
+    public NestedSourcePrefix getParent() {
+        return parent;
+    }
+
+    /**
+     * @return the name of the variable the path is evaluated from, i.e. the variable of the extended path or the
+     * source parameter
+     */
+    public String getSourceVariableName() {
+        return parent != null ? parent.getName() : sourceParameter.getName();
+    }
+
+    public List<PropertyEntry> getPropertyEntries() {
+        return propertyEntries;
+    }
+
+    /**
+     * @return the name of the local variable holding the value of the path
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the name of the method evaluating the path
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    public Type getType() {
+        return propertyEntries.get( propertyEntries.size() - 1 ).getType();
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        return getType().getTypeBound().getImportTypes();
+    }
+}
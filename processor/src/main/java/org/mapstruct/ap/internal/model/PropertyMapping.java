@@ -38,6 +38,7 @@
 import org.mapstruct.ap.internal.model.source.SourceReference;
 import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
 import org.mapstruct.ap.internal.prism.BuilderPrism;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValueMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.NullValuePropertyMappingStrategyPrism;
@@ -145,7 +146,8 @@ public T existingVariableNames(Set<String> existingVariableNames) {
         }
 
         protected boolean isFieldAssignment() {
-            return targetWriteAccessorType == AccessorType.FIELD;
+            // constructor parameters are assigned to local variables, just like fields
+            return targetWriteAccessorType == AccessorType.FIELD || targetWriteAccessorType == AccessorType.PARAMETER;
         }
     }
 
@@ -164,6 +166,10 @@ public static class PropertyMappingBuilder extends MappingBuilderBase<PropertyMa
         private NullValueCheckStrategyPrism nvcs;
         private NullValueMappingStrategyPrism nvms;
         private NullValuePropertyMappingStrategyPrism nvpms;
+        private CollectionCopyStrategyPrism ccs;
+        private NestedSourcePrefix nestedSourcePrefix;
+        private Type targetBeanType;
+        private Accessor targetBulkAdder;
 
         PropertyMappingBuilder() {
             super( PropertyMappingBuilder.class );
@@ -230,6 +236,32 @@ public PropertyMappingBuilder nullValuePropertyMappingStrategy( NullValuePropert
             return this;
         }
 
+        public PropertyMappingBuilder collectionCopyStrategy( CollectionCopyStrategyPrism ccs ) {
+            this.ccs = ccs;
+            return this;
+        }
+
+        /**
+         * @param nestedSourcePrefix the shared path of the nested source reference, already evaluated into a local
+         * variable
+         *
+         * @return the builder for chaining
+         */
+        public PropertyMappingBuilder nestedSourcePrefix(NestedSourcePrefix nestedSourcePrefix) {
+            this.nestedSourcePrefix = nestedSourcePrefix;
+            return this;
+        }
+
+        /**
+         * @param targetBeanType the type declaring the target write accessor, e.g. the builder of the result type
+         *
+         * @return the builder for chaining
+         */
+        public PropertyMappingBuilder targetBeanType(Type targetBeanType) {
+            this.targetBeanType = targetBeanType;
+            return this;
+        }
+
         public PropertyMapping build() {
 
             MapperConfiguration mapperConfiguration = method.getMapperConfiguration();
@@ -249,6 +281,9 @@ public PropertyMapping build() {
                 this.nvpms = mapperConfiguration.getNullValuePropertyMappingStrategy( nvpmsBean, nvpms );
             }
 
+            // collection copy strategy (determine value based on hierarchy)
+            this.ccs = mapperConfiguration.getCollectionCopyStrategy( ccs );
+
             // handle source
             this.rightHandSide = getSourceRHS( sourceReference );
 
@@ -308,7 +343,9 @@ else if ( targetType.isArrayType() && sourceType.isArrayType() && assignment.get
             return new PropertyMapping(
                 targetPropertyName,
                 rightHandSide.getSourceParameterName(),
-                targetWriteAccessor.getSimpleName().toString(),
+                targetBulkAdder != null ?
+                    targetBulkAdder.getSimpleName().toString() :
+                    targetWriteAccessor.getSimpleName().toString(),
                 ValueProvider.of( targetReadAccessor ),
                 targetType,
                 assignment,
@@ -410,7 +447,8 @@ private Assignment assignToPlain(Type targetType, AccessorType targetAccessorTyp
 
             Assignment result;
 
-            if ( targetAccessorType == AccessorType.SETTER || targetAccessorType == AccessorType.FIELD ) {
+            if ( targetAccessorType == AccessorType.SETTER || targetAccessorType == AccessorType.FIELD
+                || targetAccessorType == AccessorType.PARAMETER ) {
                 result = assignToPlainViaSetter( targetType, rightHandSide );
             }
             else {
@@ -467,7 +505,15 @@ private Assignment assignToPlainViaAdder( Assignment rightHandSide) {
             Assignment result = rightHandSide;
 
             String adderIteratorName = sourcePropertyName == null ? targetPropertyName : sourcePropertyName;
-            if ( result.getSourceType().isCollectionType() ) {
+            if ( result.getSourceType().isCollectionType() && result.getType() == DIRECT ) {
+                // the elements need no conversion, so add them all at once when the target offers a bulk adder
+                targetBulkAdder = getTargetBulkAdder( result.getSourceType() );
+            }
+
+            if ( targetBulkAdder != null ) {
+                result = new SetterWrapper( result, method.getThrownTypes(), isFieldAssignment(), true, false, false );
+            }
+            else if ( result.getSourceType().isCollectionType() ) {
                 result = new AdderWrapper( result, method.getThrownTypes(), isFieldAssignment(), adderIteratorName );
             }
             else if ( result.getSourceType().isStreamType() ) {
@@ -501,6 +547,7 @@ private Assignment assignToCollection(Type targetType, AccessorType targetAccess
                 .assignment( rhs )
                 .nullValueCheckStrategy( nvcs )
                 .nullValuePropertyMappingStrategy( nvpms )
+                .collectionCopyStrategy( ccs )
                 .build();
         }
 
@@ -514,7 +561,8 @@ private Assignment assignToArray(Type targetType, Assignment rightHandSide) {
                 targetType,
                 isFieldAssignment(),
                 nvpms == SET_TO_NULL && !targetType.isPrimitive(),
-                nvpms == SET_TO_DEFAULT );
+                nvpms == SET_TO_DEFAULT,
+                ccs == CollectionCopyStrategyPrism.SHARE );
             return assignment;
         }
 
@@ -555,12 +603,23 @@ else if ( propertyEntries.size() == 1 ) {
                 // copy mapper configuration from the source method, its the same mapper
                 MapperConfiguration config = method.getMapperConfiguration();
 
-                // forge a method from the parameter type to the last entry type.
-                String forgedName = Strings.joinAndCamelize( sourceReference.getElementNames() );
+                // forge a method from the parameter type (or the type of the shared path) to the last entry type.
+                List<String> elementNames = sourceReference.getElementNames();
+                Type forgedSourceType = sourceReference.getParameter().getType();
+                List<PropertyEntry> forgedPropertyEntries = sourceReference.getPropertyEntries();
+                String sourceVariableName = sourceParam.getName();
+                if ( nestedSourcePrefix != null ) {
+                    int prefixSize = nestedSourcePrefix.getPropertyEntries().size();
+                    elementNames = elementNames.subList( prefixSize, elementNames.size() );
+                    forgedSourceType = nestedSourcePrefix.getType();
+                    forgedPropertyEntries = forgedPropertyEntries.subList( prefixSize, forgedPropertyEntries.size() );
+                    sourceVariableName = nestedSourcePrefix.getName();
+                }
+                String forgedName = Strings.joinAndCamelize( elementNames );
                 forgedName = Strings.getSafeVariableName( forgedName, ctx.getReservedNames() );
                 ForgedMethod methodRef = new ForgedMethod(
                     forgedName,
-                    sourceReference.getParameter().getType(),
+                    forgedSourceType,
                     sourceType,
                     config,
                     method.getExecutable(),
@@ -570,7 +629,7 @@ Collections.<Parameter> emptyList(),
                 NestedPropertyMappingMethod.Builder builder = new NestedPropertyMappingMethod.Builder();
                 NestedPropertyMappingMethod nestedPropertyMapping = builder
                     .method( methodRef )
-                    .propertyEntries( sourceReference.getPropertyEntries() )
+                    .propertyEntries( forgedPropertyEntries )
                     .mappingContext( ctx )
                     .build();
 
@@ -581,7 +640,7 @@ Collections.<Parameter> emptyList(),
                 else {
                     forgedName = ctx.getExistingMappingMethod( nestedPropertyMapping ).getName();
                 }
-                String sourceRef = forgedName + "( " + sourceParam.getName() + " )";
+                String sourceRef = forgedName + "( " + sourceVariableName + " )";
                 SourceRHS sourceRhs = new SourceRHS( sourceParam.getName(),
                                                      sourceRef,
                                                      getSourcePresenceCheckerRef( sourceReference ),
@@ -599,6 +658,12 @@ Collections.<Parameter> emptyList(),
             }
         }
 
+        private Accessor getTargetBulkAdder(Type sourceType) {
+            // looked up like the single adder, on the mapped type rather than on the type declaring the adder
+            Type beanType = targetBeanType != null ? targetBeanType : method.getResultType();
+            return beanType.getBulkAdder( targetPropertyName, sourceType );
+        }
+
         private String getSourcePresenceCheckerRef( SourceReference sourceReference ) {
             String sourcePresenceChecker = null;
             if ( !sourceReference.getPropertyEntries().isEmpty() ) {
@@ -859,7 +924,8 @@ public PropertyMapping build() {
             if ( assignment != null ) {
 
                 if ( targetWriteAccessor.getAccessorType() == AccessorType.SETTER  ||
-                targetWriteAccessor.getAccessorType() == AccessorType.FIELD ) {
+                targetWriteAccessor.getAccessorType() == AccessorType.FIELD ||
+                targetWriteAccessor.getAccessorType() == AccessorType.PARAMETER ) {
 
                     // target accessor is setter, so decorate assignment as setter
                     if ( assignment.isCallingUpdateMethod() ) {
@@ -975,7 +1041,8 @@ public PropertyMapping build() {
             Assignment assignment = new SourceRHS( javaExpression, null, existingVariableNames, "" );
 
             if ( targetWriteAccessor.getAccessorType() == AccessorType.SETTER  ||
-                            targetWriteAccessor.getAccessorType() == AccessorType.FIELD ) {
+                            targetWriteAccessor.getAccessorType() == AccessorType.FIELD ||
+                            targetWriteAccessor.getAccessorType() == AccessorType.PARAMETER ) {
                 // setter, so wrap in setter
                 assignment = new SetterWrapper( assignment, method.getThrownTypes(), isFieldAssignment() );
             }
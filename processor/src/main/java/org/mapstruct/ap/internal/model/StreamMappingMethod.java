@@ -15,6 +15,7 @@
 
 import org.mapstruct.ap.internal.model.assignment.Java8FunctionWrapper;
 import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.source.Method;
 import org.mapstruct.ap.internal.model.source.SelectionParameters;
@@ -30,6 +31,8 @@
 public class StreamMappingMethod extends ContainerMappingMethod {
 
     private final Set<Type> helperImports;
+    private final Type sourceElementType;
+    private final Type resultElementType;
 
     public static class Builder extends ContainerMappingMethodBuilder<Builder, StreamMappingMethod> {
 
@@ -51,7 +54,8 @@ protected Assignment getWrapper(Assignment assignment, Method method) {
         protected StreamMappingMethod instantiateMappingMethod(Method method, Collection<String> existingVariables,
             Assignment assignment, MethodReference factoryMethod, boolean mapNullToDefault, String loopVariableName,
             List<LifecycleCallbackMethodReference> beforeMappingMethods,
-            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters) {
+            List<LifecycleCallbackMethodReference> afterMappingMethods, SelectionParameters selectionParameters,
+            BuilderType resultBuilderType) {
 
             Set<Type> helperImports = new HashSet<>();
             if ( method.getResultType().isIterableType() ) {
@@ -93,9 +97,12 @@ private StreamMappingMethod(Method method, Collection<String> existingVariables,
             loopVariableName,
             beforeMappingReferences,
             afterMappingReferences,
-            selectionParameters
+            selectionParameters,
+            null
         );
         this.helperImports = helperImports;
+        this.sourceElementType = getElementType( getSourceParameter().getType() );
+        this.resultElementType = getElementType( getResultType() );
     }
 
     @Override
@@ -108,11 +115,11 @@ public Set<Type> getImportTypes() {
     }
 
     public Type getSourceElementType() {
-        return getElementType( getSourceParameter().getType() );
+        return sourceElementType;
     }
 
     public Type getResultElementType() {
-        return getElementType( getResultType() );
+        return resultElementType;
     }
 
     private static Type getElementType(Type parameterType) {
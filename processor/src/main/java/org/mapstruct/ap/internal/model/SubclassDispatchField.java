@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.List;
+
+import org.mapstruct.ap.internal.model.SubclassMappingMethod.Subclass;
+import org.mapstruct.ap.internal.model.common.Type;
+
+/**
+ * A static {@link ClassValue} field of a mapper, which determines the index of the mapped subclass of the source
+ * objects of a {@link SubclassMappingMethod}. The index is computed once per concrete class of the source objects.
+ */
+public class SubclassDispatchField extends Field {
+
+    private final List<Subclass> subclasses;
+
+    public SubclassDispatchField(Type type, String variableName, List<Subclass> subclasses) {
+        super( type, variableName, true );
+        this.subclasses = subclasses;
+    }
+
+    /**
+     * @return the mapped subclasses, in the order in which they are matched against the class of a source object
+     */
+    public List<Subclass> getSubclasses() {
+        return subclasses;
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.model.assignment.LocalVarWrapper;
+import org.mapstruct.ap.internal.model.common.Assignment;
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.SourceRHS;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
+import org.mapstruct.ap.internal.model.source.SubclassMapping;
+import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
+import org.mapstruct.ap.internal.util.Message;
+import org.mapstruct.ap.internal.util.Strings;
+
+import static org.mapstruct.ap.internal.util.Collections.first;
+
+/**
+ * A {@link MappingMethod} implemented by a {@link Mapper} class which dispatches a polymorphic source parameter to
+ * the mappings of its subclasses as configured via {@code @SubclassMapping}. The mapped subclass of a source object is
+ * looked up by its class in a {@link SubclassDispatchField}, so the dispatch takes constant time regardless of the
+ * number of subclasses.
+ */
+public class SubclassMappingMethod extends MappingMethod {
+
+    private final Parameter sourceParameter;
+    private final List<Subclass> subclasses;
+    private final SubclassDispatchField dispatchField;
+    private final boolean overridden;
+
+    public static class Builder extends AbstractMappingMethodBuilder<Builder, SubclassMappingMethod> {
+
+        private Collection<String> existingFieldNames = new ArrayList<>();
+
+        public Builder() {
+            super( Builder.class );
+        }
+
+        /**
+         * @param existingFieldNames the names of the fields of the mapper, the name of the dispatch field is added
+         *
+         * @return this builder
+         */
+        public Builder existingFieldNames(Collection<String> existingFieldNames) {
+            this.existingFieldNames = existingFieldNames;
+            return this;
+        }
+
+        @Override
+        public SubclassMappingMethod build() {
+            Parameter sourceParameter = first( method.getSourceParameters() );
+            Type sourceType = sourceParameter.getType();
+            Type resultType = method.getResultType();
+
+            if ( !sourceType.isAbstract() ) {
+                ctx.getMessager().printMessage( method.getExecutable(), Message.SUBCLASSMAPPING_CONCRETE_SOURCE,
+                    sourceType );
+                return null;
+            }
+
+            Set<String> existingVariables = new HashSet<>( method.getParameterNames() );
+            List<Subclass> subclasses = new ArrayList<>();
+            boolean hasErrors = false;
+            for ( SubclassMapping subclassMapping : ( (SourceMethod) method ).getSubclassMappings() ) {
+                Subclass subclass = createSubclass( subclassMapping, sourceType, resultType, existingVariables );
+                if ( subclass == null ) {
+                    hasErrors = true;
+                }
+                else {
+                    addMostSpecificFirst( subclasses, subclass );
+                }
+            }
+
+            if ( hasErrors ) {
+                return null;
+            }
+
+            List<Type> unmappedSubclasses = getUnmappedSubclasses( sourceType, subclasses );
+            if ( !unmappedSubclasses.isEmpty() ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    Message.SUBCLASSMAPPING_NOT_EXHAUSTIVE,
+                    Strings.join( unmappedSubclasses, ", " ),
+                    sourceType
+                );
+                return null;
+            }
+
+            String fieldName = Strings.getSafeVariableName( method.getName() + "Subclasses", existingFieldNames );
+            existingFieldNames.add( fieldName );
+
+            return new SubclassMappingMethod(
+                method,
+                existingVariables,
+                subclasses,
+                new SubclassDispatchField( ctx.getTypeFactory().getType( ClassValue.class ), fieldName, subclasses )
+            );
+        }
+
+        private Subclass createSubclass(SubclassMapping subclassMapping, Type sourceType, Type resultType,
+                                        Set<String> existingVariables) {
+            Type subclassType = ctx.getTypeFactory().getType( subclassMapping.getSource() );
+            Type targetType = ctx.getTypeFactory().getType( subclassMapping.getTarget() );
+
+            if ( !isSubclass( subclassType, sourceType ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    subclassMapping.getMirror(),
+                    Message.SUBCLASSMAPPING_NO_SUBCLASS,
+                    subclassType,
+                    sourceType
+                );
+                return null;
+            }
+            if ( !targetType.isAssignableTo( resultType ) ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    subclassMapping.getMirror(),
+                    Message.SUBCLASSMAPPING_TARGET_NOT_ASSIGNABLE,
+                    targetType,
+                    subclassType,
+                    resultType
+                );
+                return null;
+            }
+
+            String variableName = Strings.getSafeVariableName( subclassType.getName(), existingVariables );
+            existingVariables.add( variableName );
+
+            SourceRHS sourceRHS = new SourceRHS( variableName, subclassType, existingVariables, "subclass" );
+            Assignment assignment = ctx.getMappingResolver().getTargetAssignment(
+                method,
+                targetType,
+                null,
+                SelectionCriteria.forMappingMethods( null, null, false ),
+                sourceRHS,
+                subclassMapping.getMirror(),
+                () -> forgeMapping( sourceRHS, subclassType, targetType )
+            );
+            if ( isSelfReference( assignment ) ) {
+                // the subclass would be dispatched again, map it with a dedicated method instead
+                assignment = forgeMapping( sourceRHS, subclassType, targetType );
+            }
+
+            if ( assignment == null ) {
+                ctx.getMessager().printMessage(
+                    method.getExecutable(),
+                    subclassMapping.getMirror(),
+                    Message.SUBCLASSMAPPING_MAPPING_NOT_FOUND,
+                    subclassType,
+                    targetType
+                );
+                return null;
+            }
+
+            return new Subclass(
+                subclassType,
+                variableName,
+                new LocalVarWrapper( assignment, method.getThrownTypes(), resultType, false )
+            );
+        }
+
+        private boolean isSelfReference(Assignment assignment) {
+            if ( !( assignment instanceof MethodReference ) ) {
+                return false;
+            }
+            MethodReference methodReference = (MethodReference) assignment;
+            return methodReference.getDeclaringMapper() == null
+                && methodReference.getProvidingParameter() == null
+                && methodReference.getName().equals( method.getName() )
+                && methodReference.getSingleSourceParameterType() != null
+                && methodReference.getSingleSourceParameterType()
+                    .equals( first( method.getSourceParameters() ).getType() );
+        }
+
+        private boolean isSubclass(Type type, Type superType) {
+            Types typeUtils = ctx.getTypeUtils();
+            TypeMirror erasure = typeUtils.erasure( type.getTypeMirror() );
+            TypeMirror superErasure = typeUtils.erasure( superType.getTypeMirror() );
+            return !typeUtils.isSameType( erasure, superErasure ) && typeUtils.isAssignable( erasure, superErasure );
+        }
+
+        /**
+         * Adds the given subclass before all subclasses it is a subclass of, so a source object is dispatched to the
+         * most specific of the subclasses it is an instance of.
+         */
+        private void addMostSpecificFirst(List<Subclass> subclasses, Subclass subclass) {
+            for ( int i = 0; i < subclasses.size(); i++ ) {
+                if ( isSubclass( subclass.type, subclasses.get( i ).type ) ) {
+                    subclasses.add( i, subclass );
+                    return;
+                }
+            }
+            subclasses.add( subclass );
+        }
+
+        /**
+         * Determines the concrete subclasses of the source type which are not covered by any subclass mapping. The
+         * subclasses known at compile time are the ones declared in the package of the source type, including nested
+         * types. Some compilers, e.g. the Eclipse compiler, don't list the types of a package compiled from sources,
+         * in which case no subclass is reported and only the generated code rejects unmapped subclasses.
+         */
+        private List<Type> getUnmappedSubclasses(Type sourceType, List<Subclass> subclasses) {
+            List<TypeElement> candidates = new ArrayList<>();
+            collectTypes(
+                ctx.getElementUtils().getPackageOf( sourceType.getTypeElement() ).getEnclosedElements(),
+                candidates
+            );
+            if ( !candidates.contains( sourceType.getTypeElement() ) ) {
+                return Collections.emptyList();
+            }
+
+            List<Type> unmappedSubclasses = new ArrayList<>();
+            for ( TypeElement candidate : candidates ) {
+                if ( candidate.getModifiers().contains( Modifier.ABSTRACT )
+                    || ( candidate.getKind() != ElementKind.CLASS && candidate.getKind() != ElementKind.ENUM ) ) {
+                    continue;
+                }
+                Type candidateType = ctx.getTypeFactory().getType( candidate );
+                if ( !isSubclass( candidateType, sourceType ) ) {
+                    continue;
+                }
+                boolean mapped = false;
+                for ( Subclass subclass : subclasses ) {
+                    if ( candidateType.equals( subclass.type ) || isSubclass( candidateType, subclass.type ) ) {
+                        mapped = true;
+                        break;
+                    }
+                }
+                if ( !mapped ) {
+                    unmappedSubclasses.add( candidateType );
+                }
+            }
+            return unmappedSubclasses;
+        }
+
+        private static void collectTypes(List<? extends Element> elements, List<TypeElement> types) {
+            for ( TypeElement type : ElementFilter.typesIn( elements ) ) {
+                types.add( type );
+                collectTypes( type.getEnclosedElements(), types );
+            }
+        }
+
+        @Override
+        protected boolean shouldUsePropertyNamesInHistory() {
+            return false;
+        }
+    }
+
+    /**
+     * A mapped subclass of the source type.
+     */
+    public static class Subclass {
+
+        private final Type type;
+        private final String variableName;
+        private final Assignment assignment;
+
+        private Subclass(Type type, String variableName, Assignment assignment) {
+            this.type = type;
+            this.variableName = variableName;
+            this.assignment = assignment;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         * @return the name of the local variable holding the source object cast to this subclass
+         */
+        public String getVariableName() {
+            return variableName;
+        }
+
+        public Assignment getAssignment() {
+            return assignment;
+        }
+    }
+
+    private SubclassMappingMethod(Method method, Collection<String> existingVariables, List<Subclass> subclasses,
+                                  SubclassDispatchField dispatchField) {
+        super( method, existingVariables, Collections.emptyList(), Collections.emptyList() );
+        this.sourceParameter = first( getSourceParameters() );
+        this.subclasses = subclasses;
+        this.dispatchField = dispatchField;
+        this.overridden = method.overridesMethod();
+    }
+
+    public Parameter getSourceParameter() {
+        return sourceParameter;
+    }
+
+    /**
+     * @return the mapped subclasses, each one before the mapped subclasses it is a subclass of
+     */
+    public List<Subclass> getSubclasses() {
+        return subclasses;
+    }
+
+    /**
+     * @return the field looking up the index of the mapped subclass of a source object in {@link #getSubclasses()}
+     */
+    public SubclassDispatchField getDispatchField() {
+        return dispatchField;
+    }
+
+    public boolean isOverridden() {
+        return overridden;
+    }
+
+    @Override
+    public Set<Type> getImportTypes() {
+        Set<Type> types = super.getImportTypes();
+        for ( Subclass subclass : subclasses ) {
+            types.addAll( subclass.type.getImportTypes() );
+            types.addAll( subclass.assignment.getImportTypes() );
+        }
+        return types;
+    }
+}
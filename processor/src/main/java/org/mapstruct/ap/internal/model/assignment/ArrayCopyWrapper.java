@@ -22,6 +22,7 @@ public class ArrayCopyWrapper extends AssignmentWrapper {
     private final Type targetType;
     private final boolean setExplicitlyToNull;
     private final boolean setExplicitlyToDefault;
+    private final boolean shareReference;
 
     public ArrayCopyWrapper(Assignment rhs,
                             String targetPropertyName,
@@ -29,20 +30,24 @@ public ArrayCopyWrapper(Assignment rhs,
                             Type targetType,
                             boolean fieldAssignment,
                             boolean setExplicitlyToNull,
-                            boolean setExplicitlyToDefault) {
+                            boolean setExplicitlyToDefault,
+                            boolean shareReference) {
         super( rhs, fieldAssignment );
         this.arraysType = arraysType;
         this.targetType = targetType;
         rhs.setSourceLocalVarName( rhs.createUniqueVarName( targetPropertyName ) );
         this.setExplicitlyToDefault = setExplicitlyToDefault;
         this.setExplicitlyToNull = setExplicitlyToNull;
+        this.shareReference = shareReference;
     }
 
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<>();
         imported.addAll( getAssignment().getImportTypes() );
-        imported.add( arraysType );
+        if ( !shareReference ) {
+            imported.add( arraysType );
+        }
         imported.add( targetType );
         return imported;
     }
@@ -58,4 +63,8 @@ public boolean isSetExplicitlyToNull() {
     public boolean isSetExplicitlyToDefault() {
         return setExplicitlyToDefault;
     }
+
+    public boolean isShareReference() {
+        return shareReference;
+    }
 }
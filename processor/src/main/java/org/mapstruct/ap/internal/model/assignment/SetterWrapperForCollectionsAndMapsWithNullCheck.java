@@ -7,6 +7,7 @@
 
 import static org.mapstruct.ap.internal.model.common.Assignment.AssignmentType.DIRECT;
 
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -15,6 +16,7 @@
 import org.mapstruct.ap.internal.model.common.Assignment;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 
 /**
  * This wrapper handles the situation where an assignment is done via the setter and a null check is needed.
@@ -26,12 +28,34 @@ public class SetterWrapperForCollectionsAndMapsWithNullCheck extends WrapperForC
 
     private final Type targetType;
     private final TypeFactory typeFactory;
+    private final CollectionCopyStrategyPrism copyStrategy;
 
     public SetterWrapperForCollectionsAndMapsWithNullCheck(Assignment decoratedAssignment,
         List<Type> thrownTypesToExclude,
         Type targetType,
         TypeFactory typeFactory,
         boolean fieldAssignment) {
+        this(
+            decoratedAssignment,
+            thrownTypesToExclude,
+            targetType,
+            typeFactory,
+            fieldAssignment,
+            CollectionCopyStrategyPrism.COPY
+        );
+    }
+
+    /**
+     * @param copyStrategy how a directly assigned source collection or map is propagated,
+     * {@link CollectionCopyStrategyPrism#UNMODIFIABLE_VIEW} must only be passed if
+     * {@link #getUnmodifiableViewMethodName(Type)} supports the target type
+     */
+    public SetterWrapperForCollectionsAndMapsWithNullCheck(Assignment decoratedAssignment,
+        List<Type> thrownTypesToExclude,
+        Type targetType,
+        TypeFactory typeFactory,
+        boolean fieldAssignment,
+        CollectionCopyStrategyPrism copyStrategy) {
         super(
             decoratedAssignment,
             thrownTypesToExclude,
@@ -40,12 +64,16 @@ public SetterWrapperForCollectionsAndMapsWithNullCheck(Assignment decoratedAssig
         );
         this.targetType = targetType;
         this.typeFactory = typeFactory;
+        this.copyStrategy = copyStrategy;
     }
 
     @Override
     public Set<Type> getImportTypes() {
         Set<Type> imported = new HashSet<>( super.getImportTypes() );
-        if ( isDirectAssignment() ) {
+        if ( isDirectAssignment() && copyStrategy == CollectionCopyStrategyPrism.UNMODIFIABLE_VIEW ) {
+            imported.add( typeFactory.getType( Collections.class ) );
+        }
+        else if ( isDirectAssignment() && copyStrategy == CollectionCopyStrategyPrism.COPY ) {
             if ( targetType.getImplementationType() != null ) {
                 imported.addAll( targetType.getImplementationType().getImportTypes() );
             }
@@ -71,4 +99,47 @@ public boolean isEnumSet() {
         return "java.util.EnumSet".equals( targetType.getFullyQualifiedName() );
     }
 
+    public boolean isShareReference() {
+        return copyStrategy == CollectionCopyStrategyPrism.SHARE;
+    }
+
+    /**
+     * @return the name of the method of {@link Collections} creating an unmodifiable view of the target type, if
+     * such a view is to be assigned, {@code null} otherwise
+     */
+    public String getUnmodifiableViewMethodName() {
+        return copyStrategy == CollectionCopyStrategyPrism.UNMODIFIABLE_VIEW ?
+            getUnmodifiableViewMethodName( targetType ) :
+            null;
+    }
+
+    /**
+     * @param targetType the target collection or map type
+     *
+     * @return the name of the method of {@link Collections} creating an unmodifiable view of the given type, or
+     * {@code null} if there is none
+     */
+    public static String getUnmodifiableViewMethodName(Type targetType) {
+        switch ( targetType.getFullyQualifiedName() ) {
+            case "java.util.Collection":
+                return "unmodifiableCollection";
+            case "java.util.List":
+                return "unmodifiableList";
+            case "java.util.Set":
+                return "unmodifiableSet";
+            case "java.util.SortedSet":
+                return "unmodifiableSortedSet";
+            case "java.util.NavigableSet":
+                return "unmodifiableNavigableSet";
+            case "java.util.Map":
+                return "unmodifiableMap";
+            case "java.util.SortedMap":
+                return "unmodifiableSortedMap";
+            case "java.util.NavigableMap":
+                return "unmodifiableNavigableMap";
+            default:
+                return null;
+        }
+    }
+
 }
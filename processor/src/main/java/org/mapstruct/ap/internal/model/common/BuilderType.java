@@ -88,7 +88,17 @@ public static BuilderType create(BuilderInfo builderInfo, Type typeToBuild, Type
             return null;
         }
 
-        Type builder = typeFactory.getType( builderInfo.getBuilderCreationMethod().getReturnType() );
+        return create(
+            builderInfo,
+            typeToBuild,
+            typeFactory.getType( builderInfo.getBuilderCreationMethod().getReturnType() ),
+            typeFactory,
+            typeUtils
+        );
+    }
+
+    static BuilderType create(BuilderInfo builderInfo, Type typeToBuild, Type builder, TypeFactory typeFactory,
+        Types typeUtils) {
         ExecutableElement builderCreationMethod = builderInfo.getBuilderCreationMethod();
         Type owner;
         TypeMirror builderCreationOwner = builderCreationMethod.getEnclosingElement().asType();
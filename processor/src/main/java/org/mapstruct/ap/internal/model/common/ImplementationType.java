@@ -62,6 +62,22 @@ public boolean hasInitialCapacityConstructor() {
         return initialCapacityConstructor;
     }
 
+    /**
+     * @return {@code true} if the underlying type is an {@link java.util.EnumMap}, which is created by passing the
+     * class of its key type, {@code false} otherwise
+     */
+    public boolean isEnumMap() {
+        return "java.util.EnumMap".equals( type.getFullyQualifiedName() );
+    }
+
+    /**
+     * @return the key type of the underlying {@link java.util.EnumMap}, if {@link #isEnumMap()}, {@code null}
+     * otherwise
+     */
+    public Type getEnumMapKeyType() {
+        return isEnumMap() ? type.getTypeParameters().get( 0 ) : null;
+    }
+
     /**
      * If this method returns {@code true} then {@link #hasInitialCapacityConstructor()} also returns {@code true}
      *
@@ -5,6 +5,7 @@
  */
 package org.mapstruct.ap.internal.model.common;
 
+import java.io.Writer;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -14,6 +15,7 @@
 import org.mapstruct.ap.internal.prism.MappingTargetPrism;
 import org.mapstruct.ap.internal.prism.TargetTypePrism;
 import org.mapstruct.ap.internal.util.Collections;
+import org.mapstruct.ap.internal.writer.DirectWriterSupport;
 
 /**
  * A parameter of a mapping method.
@@ -87,6 +89,16 @@ public boolean isVarArgs() {
         return varArgs;
     }
 
+    /**
+     * Writes the declaration of this parameter directly, without evaluating a template.
+     */
+    @Override
+    public void write(Context context, Writer writer) throws Exception {
+        DirectWriterSupport.include( type, context, writer, "asVarArgs", varArgs );
+        writer.write( ' ' );
+        writer.write( name );
+    }
+
     @Override
     public int hashCode() {
         int result = name != null ? name.hashCode() : 0;
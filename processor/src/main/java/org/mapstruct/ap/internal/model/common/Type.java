@@ -5,8 +5,8 @@
  */
 package org.mapstruct.ap.internal.model.common;
 
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -34,14 +34,14 @@
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
 import org.mapstruct.ap.internal.util.Executables;
-import org.mapstruct.ap.internal.util.Fields;
-import org.mapstruct.ap.internal.util.Filters;
-import org.mapstruct.ap.internal.util.JavaStreamConstants;
 import org.mapstruct.ap.internal.util.Nouns;
+import org.mapstruct.ap.internal.util.TypeMembers;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.internal.util.accessor.AccessorType;
+import org.mapstruct.ap.internal.writer.DirectWriterSupport;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
+import static org.mapstruct.ap.internal.writer.ConcurrentModelWriter.checkCompilerModelAccess;
 import org.mapstruct.ap.internal.util.NativeTypes;
 
 /**
@@ -78,6 +78,9 @@ public class Type extends ModelElement implements Comparable<Type> {
     private final boolean isCollectionType;
     private final boolean isMapType;
     private final boolean isVoid;
+    private final TypeKind kind;
+    private final boolean isWildCardSuperBound;
+    private final boolean isWildCardExtendsBound;
     private final boolean isStream;
     private final boolean isLiteral;
 
@@ -87,22 +90,12 @@ public class Type extends ModelElement implements Comparable<Type> {
     private final Map<String, String> notToBeImportedTypes;
     private Boolean isToBeImported;
 
-    private Map<String, Accessor> readAccessors = null;
-    private Map<String, Accessor> presenceCheckers = null;
-
-    private List<ExecutableElement> allMethods = null;
-    private List<VariableElement> allFields = null;
-
-    private List<Accessor> setters = null;
-    private List<Accessor> adders = null;
-    private List<Accessor> alternativeTargetAccessors = null;
+    private TypeMembers members;
 
     private Type boundingBase = null;
 
     private Boolean hasEmptyAccessibleContructor;
 
-    private final Filters filters;
-
     //CHECKSTYLE:OFF
     public Type(Types typeUtils, Elements elementUtils, TypeFactory typeFactory,
                 AccessorNamingUtils accessorNaming,
@@ -137,7 +130,12 @@ public Type(Types typeUtils, Elements elementUtils, TypeFactory typeFactory,
         this.isCollectionType = isCollectionType;
         this.isMapType = isMapType;
         this.isStream = isStreamType;
-        this.isVoid = typeMirror.getKind() == TypeKind.VOID;
+        // the kind of type is determined upfront, as the compiler's model must not be accessed while rendering
+        this.kind = typeMirror.getKind();
+        this.isVoid = kind == TypeKind.VOID;
+        this.isWildCardSuperBound = kind == TypeKind.WILDCARD && ( (WildcardType) typeMirror ).getSuperBound() != null;
+        this.isWildCardExtendsBound =
+            kind == TypeKind.WILDCARD && ( (WildcardType) typeMirror ).getExtendsBound() != null;
         this.isLiteral = isLiteral;
 
         if ( isEnumType ) {
@@ -159,15 +157,16 @@ public Type(Types typeUtils, Elements elementUtils, TypeFactory typeFactory,
         this.isToBeImported = isToBeImported;
         this.toBeImportedTypes = toBeImportedTypes;
         this.notToBeImportedTypes = notToBeImportedTypes;
-        this.filters = new Filters( accessorNaming, typeUtils, typeMirror );
     }
     //CHECKSTYLE:ON
 
     public TypeMirror getTypeMirror() {
+        checkCompilerModelAccess();
         return typeMirror;
     }
 
     public TypeElement getTypeElement() {
+        checkCompilerModelAccess();
         return typeElement;
     }
 
@@ -198,12 +197,50 @@ public List<Type> getTypeParameters() {
         return typeParameters;
     }
 
+    /**
+     * Writes a reference to this type directly, as types are included too often for evaluating a template each time.
+     * Supports the parameters {@code asVarArgs} (for the type of a varargs parameter) and {@code raw} (omitting any
+     * type arguments).
+     */
+    @Override
+    public void write(Context context, Writer writer) throws Exception {
+        if ( isWildCardExtendsBound() ) {
+            writer.write( "? extends " );
+            DirectWriterSupport.include( getTypeBound(), context, writer );
+        }
+        else if ( isWildCardSuperBound() ) {
+            writer.write( "? super " );
+            DirectWriterSupport.include( getTypeBound(), context, writer );
+        }
+        else if ( DirectWriterSupport.getBooleanParameter( context, "asVarArgs" ) ) {
+            String referenceName = createReferenceName();
+            writer.write( referenceName.endsWith( "[]" ) ?
+                referenceName.substring( 0, referenceName.length() - 2 ) :
+                referenceName );
+            writer.write( "..." );
+        }
+        else {
+            writer.write( createReferenceName() );
+        }
+
+        if ( !DirectWriterSupport.hasParameter( context, "raw" ) && !typeParameters.isEmpty() ) {
+            writer.write( '<' );
+            for ( int i = 0; i < typeParameters.size(); i++ ) {
+                if ( i > 0 ) {
+                    writer.write( ", " );
+                }
+                DirectWriterSupport.include( typeParameters.get( i ), context, writer );
+            }
+            writer.write( '>' );
+        }
+    }
+
     public Type getComponentType() {
         return componentType;
     }
 
     public boolean isPrimitive() {
-        return typeMirror.getKind().isPrimitive();
+        return kind.isPrimitive();
     }
 
     public boolean isInterface() {
@@ -219,6 +256,7 @@ public boolean isVoid() {
     }
 
     public boolean isAbstract() {
+        checkCompilerModelAccess();
         return typeElement != null && typeElement.getModifiers().contains( Modifier.ABSTRACT );
     }
 
@@ -281,7 +319,7 @@ public boolean isArrayType() {
     }
 
     public boolean isTypeVar() {
-        return (typeMirror.getKind() == TypeKind.TYPEVAR);
+        return kind == TypeKind.TYPEVAR;
     }
 
     /**
@@ -294,21 +332,11 @@ public boolean isStreamType() {
     }
 
     public boolean isWildCardSuperBound() {
-        boolean result = false;
-        if ( typeMirror.getKind() == TypeKind.WILDCARD ) {
-            WildcardType wildcardType = (WildcardType) typeMirror;
-            result = wildcardType.getSuperBound() != null;
-        }
-        return result;
+        return isWildCardSuperBound;
     }
 
     public boolean isWildCardExtendsBound() {
-        boolean result = false;
-        if ( typeMirror.getKind() == TypeKind.WILDCARD ) {
-            WildcardType wildcardType = (WildcardType) typeMirror;
-            result = wildcardType.getExtendsBound() != null;
-        }
-        return result;
+        return isWildCardExtendsBound;
     }
 
     public String getFullyQualifiedName() {
@@ -326,7 +354,7 @@ public String getImportName() {
     public Set<Type> getImportTypes() {
         Set<Type> result = new HashSet<>();
 
-        if ( getTypeMirror().getKind() == TypeKind.DECLARED ) {
+        if ( kind == TypeKind.DECLARED ) {
             result.add( this );
         }
 
@@ -386,6 +414,7 @@ private boolean shouldUseSimpleName() {
      * @return true, if the type is annotated with an annotation of the specified type (super-types are not inspected)
      */
     public boolean isAnnotatedWith(String annotationTypeName) {
+        checkCompilerModelAccess();
         List<? extends AnnotationMirror> annotationMirrors = typeElement.getAnnotationMirrors();
 
         for ( AnnotationMirror mirror : annotationMirrors ) {
@@ -492,36 +521,7 @@ public boolean isAssignableTo(Type other) {
      * @return an unmodifiable map of all read accessors (including 'is' for booleans), indexed by property name
      */
     public Map<String, Accessor> getPropertyReadAccessors() {
-        if ( readAccessors == null ) {
-            List<Accessor> getterList = filters.getterMethodsIn( getAllMethods() );
-            Map<String, Accessor> modifiableGetters = new LinkedHashMap<>();
-            for ( Accessor getter : getterList ) {
-                String propertyName = getPropertyName( getter );
-                if ( modifiableGetters.containsKey( propertyName ) ) {
-                    // In the DefaultAccessorNamingStrategy, this can only be the case for Booleans: isFoo() and
-                    // getFoo(); The latter is preferred.
-                    if ( !getter.getSimpleName().toString().startsWith( "is" ) ) {
-                        modifiableGetters.put( getPropertyName( getter ), getter );
-                    }
-
-                }
-                else {
-                    modifiableGetters.put( getPropertyName( getter ), getter );
-                }
-            }
-
-            List<Accessor> fieldsList = filters.fieldsIn( getAllFields() );
-            for ( Accessor field : fieldsList ) {
-                String propertyName = getPropertyName( field );
-                if ( !modifiableGetters.containsKey( propertyName ) ) {
-                    // If there was no getter or is method for booleans, then resort to the field.
-                    // If a field was already added do not add it again.
-                    modifiableGetters.put( propertyName,  field );
-                }
-            }
-            readAccessors = Collections.unmodifiableMap( modifiableGetters );
-        }
-        return readAccessors;
+        return getMembers().getPropertyReadAccessors();
     }
 
     /**
@@ -530,34 +530,30 @@ public Map<String, Accessor> getPropertyReadAccessors() {
      * @return an unmodifiable map of all presence checkers, indexed by property name
      */
     public Map<String, Accessor> getPropertyPresenceCheckers() {
-        if ( presenceCheckers == null ) {
-            List<Accessor> checkerList = filters.presenceCheckMethodsIn( getAllMethods() );
-            Map<String, Accessor> modifiableCheckers = new LinkedHashMap<>();
-            for ( Accessor checker : checkerList ) {
-                modifiableCheckers.put( getPropertyName( checker ), checker );
-            }
-            presenceCheckers = Collections.unmodifiableMap( modifiableCheckers );
-        }
-        return presenceCheckers;
+        return getMembers().getPropertyPresenceCheckers();
     }
 
     /**
      * getPropertyWriteAccessors returns a map of the write accessors according to the CollectionMappingStrategy. These
      * accessors include:
      * <ul>
-     * <li>setters, the obvious candidate :-), {@link #getSetters() }</li>
+     * <li>setters, the obvious candidate :-), {@link TypeMembers#getSetters() }</li>
      * <li>readAccessors, for collections that do not have a setter, e.g. for JAXB generated collection attributes
      * {@link #getPropertyReadAccessors() }</li>
-     * <li>adders, typically for from table generated entities, {@link #getAdders() }</li>
+     * <li>adders, typically for from table generated entities, {@link TypeMembers#getAdders() }</li>
      * </ul>
      *
      * @param cmStrategy collection mapping strategy
      * @return an unmodifiable map of all write accessors indexed by property name
      */
     public Map<String, Accessor> getPropertyWriteAccessors( CollectionMappingStrategyPrism cmStrategy ) {
+        return getMembers().getPropertyWriteAccessors( cmStrategy, this::determinePropertyWriteAccessors );
+    }
+
+    private Map<String, Accessor> determinePropertyWriteAccessors(CollectionMappingStrategyPrism cmStrategy) {
         // collect all candidate target accessors
-        List<Accessor> candidates = new ArrayList<>( getSetters() );
-        candidates.addAll( getAlternativeTargetAccessors() );
+        List<Accessor> candidates = new ArrayList<>( getMembers().getSetters() );
+        candidates.addAll( getMembers().getAlternativeTargetAccessors() );
 
         Map<String, Accessor> result = new LinkedHashMap<>();
 
@@ -628,29 +624,16 @@ else if ( candidate.getAccessorType() == AccessorType.GETTER
         return null;
     }
 
-    private List<ExecutableElement> getAllMethods() {
-        if ( allMethods == null ) {
-            allMethods = Executables.getAllEnclosedExecutableElements( elementUtils, typeElement );
-        }
-
-        return allMethods;
-    }
-
-    private List<VariableElement> getAllFields() {
-        if ( allFields == null ) {
-            allFields = Fields.getAllEnclosedFields( elementUtils, typeElement );
+    private TypeMembers getMembers() {
+        if ( members == null ) {
+            members = typeFactory.getTypeMembers( typeElement, typeMirror );
         }
 
-        return allFields;
+        return members;
     }
 
     private String getPropertyName(Accessor accessor ) {
-        if ( accessor.getAccessorType() == AccessorType.FIELD ) {
-            return accessorNaming.getPropertyName( (VariableElement) accessor.getElement() );
-        }
-        else {
-            return accessorNaming.getPropertyName( (ExecutableElement) accessor.getElement() );
-        }
+        return getMembers().getPropertyName( accessor );
     }
 
     /**
@@ -702,6 +685,28 @@ else if ( collectionProperty.isStreamType() ) {
         return null;
     }
 
+    /**
+     * Tries to find a bulk adder in this type for the given collection property, i.e. a method adding all elements of
+     * an {@link Iterable} at once, e.g. {@code addAllItems(Iterable<? extends Item> items)} for the property
+     * {@code items}.
+     *
+     * @param propertyName the collection property name
+     * @param sourceType the type of the collection to be added
+     *
+     * @return the bulk adder accepting the given source type when present
+     */
+    public Accessor getBulkAdder(String propertyName, Type sourceType) {
+        for ( Accessor adder : getMembers().getAdders() ) {
+            if ( propertyName.equals( accessorNaming.getPropertyNameForBulkAdder( adder ) ) ) {
+                Parameter parameter = typeFactory.getSingleParameter( (DeclaredType) typeMirror, adder );
+                if ( parameter != null && sourceType.isAssignableTo( parameter.getType() ) ) {
+                    return adder;
+                }
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns all accessor candidates that start with "add" and have exactly one argument
      * whose type matches the collection or stream property's type argument.
@@ -716,7 +721,7 @@ private List<Accessor> getAccessorCandidates(Type property, Class<?> superclass)
         // now, look for a method that
         // 1) starts with add,
         // 2) and has typeArg as one and only arg
-        List<Accessor> adderList = getAdders();
+        List<Accessor> adderList = getMembers().getAdders();
         List<Accessor> candidateList = new ArrayList<>();
         for ( Accessor adder : adderList ) {
             ExecutableElement executable = (ExecutableElement) adder.getElement();
@@ -737,110 +742,6 @@ private TypeMirror boxed(TypeMirror possiblePrimitive) {
         }
     }
 
-    /**
-     * getSetters
-     *
-     * @return an unmodifiable list of all setters
-     */
-    private List<Accessor> getSetters() {
-        if ( setters == null ) {
-            setters = Collections.unmodifiableList( filters.setterMethodsIn( getAllMethods() ) );
-        }
-        return setters;
-    }
-
-    /**
-     * Alternative accessors could be a getter for a collection / map. By means of the
-     * {@link Collection#addAll(Collection) } or {@link Map#putAll(Map)} this getter can still be used as
-     * targetAccessor. JAXB XJC tool generates such constructs. This method can be extended when new cases come along.
-     * getAdders
-     *
-     * @return an unmodifiable list of all adders
-     */
-    private List<Accessor> getAdders() {
-        if ( adders == null ) {
-            adders = Collections.unmodifiableList( filters.adderMethodsIn( getAllMethods() ) );
-        }
-        return adders;
-    }
-
-    /**
-     * Alternative accessors could be a getter for a collection. By means of the
-     * {@link java.util.Collection#addAll(java.util.Collection) } this getter can still
-     * be used as targetAccessor. JAXB XJC tool generates such constructs.
-     *
-     * This method can be extended when new cases come along.
-     *
-     * @return an unmodifiable list of alternative target accessors.
-     */
-    private List<Accessor> getAlternativeTargetAccessors() {
-
-        if ( alternativeTargetAccessors == null ) {
-
-            List<Accessor> result = new ArrayList<>();
-            List<Accessor> setterMethods = getSetters();
-            List<Accessor> readAccessors = new ArrayList<>( getPropertyReadAccessors().values() );
-            // All the fields are also alternative accessors
-            readAccessors.addAll( filters.fieldsIn( getAllFields() ) );
-
-            // there could be a read accessor (field or  method) for a list/map that is not present as setter.
-            // an accessor could substitute the setter in that case and act as setter.
-            // (assuming it is initialized)
-            for ( Accessor readAccessor : readAccessors ) {
-                if ( isCollectionOrMapOrStream( readAccessor ) &&
-                    !correspondingSetterMethodExists( readAccessor, setterMethods ) ) {
-                    result.add( readAccessor );
-                }
-                else if ( readAccessor.getAccessorType() == AccessorType.FIELD &&
-                    !correspondingSetterMethodExists( readAccessor, setterMethods ) ) {
-                    result.add( readAccessor );
-                }
-            }
-
-            alternativeTargetAccessors = Collections.unmodifiableList( result );
-        }
-        return alternativeTargetAccessors;
-    }
-
-    private boolean correspondingSetterMethodExists(Accessor getterMethod,
-                                                    List<Accessor> setterMethods) {
-        String getterPropertyName = getPropertyName( getterMethod );
-
-        for ( Accessor setterMethod : setterMethods ) {
-            String setterPropertyName = getPropertyName( setterMethod );
-            if ( getterPropertyName.equals( setterPropertyName ) ) {
-                return true;
-            }
-        }
-
-        return false;
-    }
-
-    private boolean isCollectionOrMapOrStream(Accessor getterMethod) {
-        return isCollection( getterMethod.getAccessedType() ) || isMap( getterMethod.getAccessedType() ) ||
-            isStream( getterMethod.getAccessedType() );
-    }
-
-    private boolean isCollection(TypeMirror candidate) {
-        return isSubType( candidate, Collection.class );
-    }
-
-    private boolean isStream(TypeMirror candidate) {
-        TypeElement streamTypeElement = elementUtils.getTypeElement( JavaStreamConstants.STREAM_FQN );
-        TypeMirror streamType = streamTypeElement == null ? null : typeUtils.erasure( streamTypeElement.asType() );
-        return streamType != null && typeUtils.isSubtype( candidate, streamType );
-    }
-
-    private boolean isMap(TypeMirror candidate) {
-        return isSubType( candidate, Map.class );
-    }
-
-    private boolean isSubType(TypeMirror candidate, Class<?> clazz) {
-        String className = clazz.getCanonicalName();
-        TypeMirror classType = typeUtils.erasure( elementUtils.getTypeElement( className ).asType() );
-        return typeUtils.isSubtype( candidate, classType );
-    }
-
     /**
      * Returns the length of the shortest path in the type hierarchy between this type and the specified other type.
      * Returns {@code -1} if this type is not assignable to the other type. Returns {@code 0} if this type is equal to
@@ -982,6 +883,7 @@ public int compareTo(Type o) {
 
     @Override
     public String toString() {
+        checkCompilerModelAccess();
         return typeMirror.toString();
     }
 
@@ -1013,7 +915,13 @@ public Type getTypeBound() {
             return boundingBase;
         }
 
-        boundingBase = typeFactory.getType( typeFactory.getTypeBound( getTypeMirror() ) );
+        // any other type is its own bound, which doesn't require the compiler's model
+        if ( kind != TypeKind.WILDCARD && kind != TypeKind.TYPEVAR ) {
+            boundingBase = this;
+            return boundingBase;
+        }
+
+        boundingBase = typeFactory.getType( typeFactory.getTypeBound( typeMirror ) );
 
         return boundingBase;
     }
@@ -1034,6 +942,59 @@ public boolean hasEmptyAccessibleContructor() {
         return hasEmptyAccessibleContructor;
     }
 
+    /**
+     * Returns the constructor via which instances of this type are created when mapping to it, passing the target
+     * properties as constructor arguments. That's the non-private constructor annotated with an annotation named
+     * {@code Default}, or else the single non-private constructor of an immutable type, i.e. a type without an
+     * accessible parameterless constructor and without setters, adders or public fields.
+     *
+     * @param cmStrategy the collection mapping strategy, determining the write accessors of this type
+     *
+     * @return the constructor, or {@code null} if instances are to be created via the parameterless constructor or
+     * there is no suitable constructor
+     */
+    public ExecutableElement getMappingConstructor(CollectionMappingStrategyPrism cmStrategy) {
+        if ( typeElement == null || isAbstract() || isEnumType() ) {
+            return null;
+        }
+
+        ExecutableElement defaultConstructor = Executables.getDefaultAnnotatedConstructor( typeElement );
+        if ( defaultConstructor != null ) {
+            return defaultConstructor;
+        }
+        if ( hasEmptyAccessibleContructor() ) {
+            return null;
+        }
+
+        List<ExecutableElement> constructors = getAccessibleConstructors();
+        if ( constructors.size() != 1 ) {
+            return null;
+        }
+        for ( Accessor writeAccessor : getPropertyWriteAccessors( cmStrategy ).values() ) {
+            if ( writeAccessor.getAccessorType() == AccessorType.SETTER
+                || writeAccessor.getAccessorType() == AccessorType.FIELD
+                || writeAccessor.getAccessorType() == AccessorType.ADDER ) {
+                return null;
+            }
+        }
+        return first( constructors );
+    }
+
+    /**
+     * @return the non-private constructors of this type
+     */
+    public List<ExecutableElement> getAccessibleConstructors() {
+        List<ExecutableElement> constructors = new ArrayList<>();
+        if ( typeElement != null ) {
+            for ( ExecutableElement constructor : ElementFilter.constructorsIn( typeElement.getEnclosedElements() ) ) {
+                if ( !constructor.getModifiers().contains( Modifier.PRIVATE ) ) {
+                    constructors.add( constructor );
+                }
+            }
+        }
+        return constructors;
+    }
+
     /**
      * Searches for the given superclass and collects all type arguments for the given class
      *
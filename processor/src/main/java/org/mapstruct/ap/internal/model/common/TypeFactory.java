@@ -12,21 +12,15 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.NavigableMap;
-import java.util.NavigableSet;
 import java.util.Set;
-import java.util.SortedMap;
-import java.util.SortedSet;
-import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.Parameterizable;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
@@ -36,29 +30,34 @@
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.type.TypeVariable;
 import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.internal.prism.BuilderPrism;
 import org.mapstruct.ap.internal.util.AnnotationProcessingException;
 import org.mapstruct.ap.internal.util.Collections;
+import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.Extractor;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.JavaStreamConstants;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.NativeTypes;
 import org.mapstruct.ap.internal.util.RoundContext;
+import org.mapstruct.ap.internal.util.TypeMembers;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.internal.util.accessor.AccessorType;
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
 import org.mapstruct.ap.spi.BuilderInfo;
+import org.mapstruct.ap.spi.CollectionImplementationInfo;
 import org.mapstruct.ap.spi.MoreThanOneBuilderCreationMethodException;
 import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
 
 import static org.mapstruct.ap.internal.model.common.ImplementationType.withDefaultConstructor;
 import static org.mapstruct.ap.internal.model.common.ImplementationType.withInitialCapacity;
 import static org.mapstruct.ap.internal.model.common.ImplementationType.withLoadFactorAdjustment;
+import static org.mapstruct.ap.internal.writer.ConcurrentModelWriter.checkCompilerModelAccess;
 
 /**
  * Factory creating {@link Type} instances.
@@ -85,7 +84,7 @@ public String apply(BuilderInfo builderInfo) {
     private final TypeMirror mapType;
     private final TypeMirror streamType;
 
-    private final Map<String, ImplementationType> implementationTypes = new HashMap<>();
+    private final Map<TypeElement, Type> implementationTypes = new HashMap<>();
     private final Map<String, String> toBeImportedTypes = new HashMap<>();
     private final Map<String, String> notToBeImportedTypes;
 
@@ -104,25 +103,6 @@ public TypeFactory(Elements elementUtils, Types typeUtils, FormattingMessager me
         TypeElement streamTypeElement = elementUtils.getTypeElement( JavaStreamConstants.STREAM_FQN );
         streamType = streamTypeElement == null ? null : typeUtils.erasure( streamTypeElement.asType() );
 
-        implementationTypes.put( Iterable.class.getName(), withInitialCapacity( getType( ArrayList.class ) ) );
-        implementationTypes.put( Collection.class.getName(), withInitialCapacity( getType( ArrayList.class ) ) );
-        implementationTypes.put( List.class.getName(), withInitialCapacity( getType( ArrayList.class ) ) );
-
-        implementationTypes.put( Set.class.getName(), withLoadFactorAdjustment( getType( HashSet.class ) ) );
-        implementationTypes.put( SortedSet.class.getName(), withDefaultConstructor( getType( TreeSet.class ) ) );
-        implementationTypes.put( NavigableSet.class.getName(), withDefaultConstructor( getType( TreeSet.class ) ) );
-
-        implementationTypes.put( Map.class.getName(), withLoadFactorAdjustment( getType( HashMap.class ) ) );
-        implementationTypes.put( SortedMap.class.getName(), withDefaultConstructor( getType( TreeMap.class ) ) );
-        implementationTypes.put( NavigableMap.class.getName(), withDefaultConstructor( getType( TreeMap.class ) ) );
-        implementationTypes.put(
-            ConcurrentMap.class.getName(),
-            withLoadFactorAdjustment( getType( ConcurrentHashMap.class ) )
-        );
-        implementationTypes.put(
-            ConcurrentNavigableMap.class.getName(),
-            withDefaultConstructor( getType( ConcurrentSkipListMap.class ) )
-        );
     }
 
     public Type getTypeForLiteral(Class<?> type) {
@@ -183,6 +163,7 @@ public Type getType(TypeMirror mirror) {
     }
 
     private Type getType(TypeMirror mirror, boolean isLiteral) {
+        checkCompilerModelAccess();
         if ( !canBeProcessed( mirror ) ) {
             throw new TypeHierarchyErroneousException( mirror );
         }
@@ -482,13 +463,16 @@ private ImplementationType getImplementationType(TypeMirror mirror) {
 
         DeclaredType declaredType = (DeclaredType) mirror;
 
-        ImplementationType implementation = implementationTypes.get(
-            ( (TypeElement) declaredType.asElement() ).getQualifiedName()
-                .toString()
-        );
+        CollectionImplementationInfo implementation = roundContext.getAnnotationProcessorContext()
+            .getCollectionImplementationProvider()
+            .findImplementation( declaredType );
 
-        if ( implementation != null ) {
-            Type implementationType = implementation.getType();
+        if ( implementation != null && !implementation.getImplementationType().equals( declaredType.asElement() ) ) {
+            Type implementationType = implementationTypes.get( implementation.getImplementationType() );
+            if ( implementationType == null ) {
+                implementationType = getType( implementation.getImplementationType(), false );
+                implementationTypes.put( implementation.getImplementationType(), implementationType );
+            }
             Type replacement = new Type(
                 typeUtils,
                 elementUtils,
@@ -516,7 +500,14 @@ private ImplementationType getImplementationType(TypeMirror mirror) {
                 null,
                 implementationType.isLiteral()
             );
-            return implementation.createNew( replacement );
+            switch ( implementation.getSizing() ) {
+                case INITIAL_CAPACITY:
+                    return withInitialCapacity( replacement );
+                case EXPECTED_SIZE:
+                    return withLoadFactorAdjustment( replacement );
+                default:
+                    return withDefaultConstructor( replacement );
+            }
         }
 
         return null;
@@ -526,6 +517,12 @@ private BuilderInfo findBuilder(TypeMirror type, BuilderPrism builderPrism, bool
         if ( builderPrism != null && builderPrism.disableBuilder() ) {
             return null;
         }
+        Element element = typeUtils.asElement( type );
+        if ( element instanceof TypeElement
+            && Executables.getDefaultAnnotatedConstructor( (TypeElement) element ) != null ) {
+            // an explicitly chosen constructor takes precedence over a builder
+            return null;
+        }
         try {
             return roundContext.getAnnotationProcessorContext()
                 .getBuilderProvider()
@@ -608,6 +605,7 @@ public Type createVoidType() {
      * @return the bound for this parameter
      */
     public TypeMirror getTypeBound(TypeMirror typeMirror) {
+        checkCompilerModelAccess();
         if ( typeMirror.getKind() == TypeKind.WILDCARD ) {
             WildcardType wildCardType = (WildcardType) typeMirror;
             if ( wildCardType.getExtendsBound() != null ) {
@@ -668,6 +666,55 @@ private boolean canBeProcessed(TypeMirror type) {
         return true;
     }
 
+    /**
+     * Returns the members and property accessors of the given type. They don't depend on the imports of the generated
+     * source file, so for types without type parameters they are determined only once per round and shared between
+     * all mappers. Members of generic types depend on the actual type arguments and are determined per type.
+     *
+     * @param typeElement the type element
+     * @param typeMirror the type mirror
+     *
+     * @return the members of the given type
+     */
+    TypeMembers getTypeMembers(TypeElement typeElement, TypeMirror typeMirror) {
+        if ( typeMirror.getKind() == TypeKind.DECLARED && !isGeneric( typeElement ) ) {
+            return roundContext.getTypeMembers( typeElement, this::createTypeMembers );
+        }
+
+        return new TypeMembers(
+            typeUtils,
+            elementUtils,
+            roundContext.getAnnotationProcessorContext().getAccessorNaming(),
+            typeElement,
+            typeMirror
+        );
+    }
+
+    private TypeMembers createTypeMembers(TypeElement typeElement) {
+        return new TypeMembers(
+            typeUtils,
+            elementUtils,
+            roundContext.getAnnotationProcessorContext().getAccessorNaming(),
+            typeElement,
+            typeElement.asType()
+        );
+    }
+
+    /**
+     * Whether the given type or any of its enclosing types or methods declares type parameters.
+     */
+    private boolean isGeneric(TypeElement typeElement) {
+        Element element = typeElement;
+        while ( element != null ) {
+            if ( element instanceof Parameterizable
+                && !( (Parameterizable) element ).getTypeParameters().isEmpty() ) {
+                return true;
+            }
+            element = element.getEnclosingElement();
+        }
+        return false;
+    }
+
     public BuilderType builderTypeFor( Type type, BuilderPrism builderPrism ) {
         if ( type != null ) {
             BuilderInfo builderInfo = findBuilder( type.getTypeMirror(), builderPrism, true );
@@ -676,6 +723,147 @@ public BuilderType builderTypeFor( Type type, BuilderPrism builderPrism ) {
         return null;
     }
 
+    /**
+     * Determines the builder of a collection or map type, e.g. {@code ImmutableList.builder()}, into which the mapped
+     * elements can be collected directly. The type arguments of the given type are applied to the builder, e.g.
+     * {@code ImmutableList.Builder<String>} for {@code ImmutableList<String>}.
+     *
+     * @param type the collection or map type
+     * @param builderPrism the builder configuration of the mapping method, can be {@code null}
+     * @param elementMethodName the name of the builder method accepting the elements, e.g. {@code add} or {@code put}
+     * @param elementMethodParameters the number of parameters of the builder method accepting the elements
+     *
+     * @return the builder, or {@code null} if there is no builder with a suitable method accepting the elements
+     */
+    public BuilderType collectionBuilderTypeFor(Type type, BuilderPrism builderPrism, String elementMethodName,
+                                                int elementMethodParameters) {
+        if ( type == null || type.getTypeMirror().getKind() != TypeKind.DECLARED ) {
+            return null;
+        }
+
+        BuilderInfo builderInfo = findBuilder( type.getTypeMirror(), builderPrism, false );
+        if ( builderInfo == null && ( builderPrism == null || !builderPrism.disableBuilder() ) ) {
+            builderInfo = findCollectionBuilder( type.getTypeElement() );
+        }
+        if ( builderInfo == null ) {
+            return null;
+        }
+
+        ExecutableElement builderCreationMethod = builderInfo.getBuilderCreationMethod();
+        if ( builderCreationMethod.getReturnType().getKind() != TypeKind.DECLARED ) {
+            return null;
+        }
+
+        DeclaredType builderMirror = (DeclaredType) builderCreationMethod.getReturnType();
+        List<? extends TypeMirror> builderTypeArguments = builderMirror.getTypeArguments();
+        if ( !builderTypeArguments.isEmpty() ) {
+            // the builder of a generic type is created by a generic method, e.g. <E> Builder<E> builder(), so its type
+            // parameters are replaced by the type arguments of the type to build
+            List<? extends TypeParameterElement> typeParameters = builderCreationMethod.getTypeParameters();
+            List<? extends TypeMirror> typeArguments = ( (DeclaredType) type.getTypeMirror() ).getTypeArguments();
+            if ( typeParameters.size() != typeArguments.size() ) {
+                return null;
+            }
+
+            TypeMirror[] actualBuilderTypeArguments = new TypeMirror[builderTypeArguments.size()];
+            for ( int i = 0; i < builderTypeArguments.size(); i++ ) {
+                int index = indexOfTypeParameter( typeParameters, builderTypeArguments.get( i ) );
+                if ( index < 0 || typeArguments.get( index ).getKind() != TypeKind.DECLARED ) {
+                    return null;
+                }
+                actualBuilderTypeArguments[i] = typeArguments.get( index );
+            }
+
+            TypeElement builderElement = (TypeElement) builderMirror.asElement();
+            if ( builderElement.getEnclosingElement().getKind().isClass()
+                || builderElement.getEnclosingElement().getKind().isInterface() ) {
+                // a nested builder, e.g. ImmutableList.Builder, is a member of the raw enclosing type
+                builderMirror = typeUtils.getDeclaredType(
+                    (DeclaredType) typeUtils.erasure( builderElement.getEnclosingElement().asType() ),
+                    builderElement,
+                    actualBuilderTypeArguments
+                );
+            }
+            else {
+                builderMirror = typeUtils.getDeclaredType( builderElement, actualBuilderTypeArguments );
+            }
+        }
+
+        TypeElement builderElement = (TypeElement) builderMirror.asElement();
+        boolean hasElementMethod = ElementFilter.methodsIn( elementUtils.getAllMembers( builderElement ) )
+            .stream()
+            .anyMatch( method -> method.getSimpleName().contentEquals( elementMethodName )
+                && method.getParameters().size() == elementMethodParameters
+                && method.getModifiers().contains( Modifier.PUBLIC )
+                && !method.getModifiers().contains( Modifier.STATIC ) );
+        if ( !hasElementMethod ) {
+            return null;
+        }
+
+        return BuilderType.create( builderInfo, type, getType( builderMirror ), this, typeUtils );
+    }
+
+    /**
+     * Looks up the builder of a generic collection or map type which isn't found by the builder provider, as the
+     * build method of e.g. {@code ImmutableList.Builder<E>} returns the type with the type variable of the builder.
+     * Therefore the raw types of the build methods and the type to build are compared. This is only done for the
+     * builders collecting the mapped elements, the builders of other types are determined by the builder provider
+     * alone.
+     *
+     * @param typeElement the collection or map type
+     *
+     * @return the builder, or {@code null} if there is none or if there are several builder creation methods, e.g.
+     * {@code ImmutableSortedSet.naturalOrder()} and {@code ImmutableSortedSet.reverseOrder()}
+     */
+    private BuilderInfo findCollectionBuilder(TypeElement typeElement) {
+        if ( typeElement == null || typeElement.getTypeParameters().isEmpty() ) {
+            return null;
+        }
+
+        TypeMirror rawType = typeUtils.erasure( typeElement.asType() );
+        BuilderInfo builderInfo = null;
+        for ( ExecutableElement method : ElementFilter.methodsIn( typeElement.getEnclosedElements() ) ) {
+            if ( !method.getParameters().isEmpty()
+                || !method.getModifiers().contains( Modifier.PUBLIC )
+                || !method.getModifiers().contains( Modifier.STATIC )
+                || method.getReturnType().getKind() != TypeKind.DECLARED
+                || typeUtils.isSameType( typeUtils.erasure( method.getReturnType() ), rawType ) ) {
+                continue;
+            }
+
+            TypeElement builderElement = (TypeElement) typeUtils.asElement( method.getReturnType() );
+            List<ExecutableElement> buildMethods = ElementFilter.methodsIn(
+                elementUtils.getAllMembers( builderElement ) )
+                .stream()
+                .filter( buildMethod -> buildMethod.getParameters().isEmpty()
+                    && buildMethod.getModifiers().contains( Modifier.PUBLIC )
+                    && !buildMethod.getModifiers().contains( Modifier.STATIC )
+                    && typeUtils.isAssignable( typeUtils.erasure( buildMethod.getReturnType() ), rawType ) )
+                .collect( Collectors.toList() );
+
+            if ( !buildMethods.isEmpty() ) {
+                if ( builderInfo != null ) {
+                    return null;
+                }
+                builderInfo = new BuilderInfo.Builder()
+                    .builderCreationMethod( method )
+                    .buildMethod( buildMethods )
+                    .build();
+            }
+        }
+
+        return builderInfo;
+    }
+
+    private int indexOfTypeParameter(List<? extends TypeParameterElement> typeParameters, TypeMirror typeArgument) {
+        for ( int i = 0; i < typeParameters.size(); i++ ) {
+            if ( typeUtils.isSameType( typeParameters.get( i ).asType(), typeArgument ) ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     public Type effectiveResultTypeFor( Type type, BuilderPrism builderPrism ) {
         if ( type != null ) {
             BuilderInfo builderInfo = findBuilder( type.getTypeMirror(), builderPrism, false );
@@ -0,0 +1,77 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.source;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+
+import org.mapstruct.ap.internal.prism.DuplicateKeyStrategyPrism;
+import org.mapstruct.ap.internal.prism.IndexMappingPrism;
+import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.Message;
+
+/**
+ * Represents the indexing of the elements of an iterable by a key property as configured via {@code @IndexMapping}.
+ */
+public class IndexMapping {
+
+    private final String keyProperty;
+    private final boolean sourceKey;
+    private final DuplicateKeyStrategyPrism duplicateKeyStrategy;
+    private final AnnotationMirror mirror;
+
+    public static IndexMapping fromPrism(IndexMappingPrism indexMapping, ExecutableElement method,
+        FormattingMessager messager) {
+        if ( indexMapping == null ) {
+            return null;
+        }
+
+        boolean keyDefined = !indexMapping.key().isEmpty();
+        boolean sourceKeyDefined = !indexMapping.sourceKey().isEmpty();
+        if ( keyDefined == sourceKeyDefined ) {
+            messager.printMessage( method, indexMapping.mirror, Message.INDEXMAPPING_NO_UNIQUE_KEY );
+            return null;
+        }
+
+        return new IndexMapping(
+            keyDefined ? indexMapping.key() : indexMapping.sourceKey(),
+            sourceKeyDefined,
+            DuplicateKeyStrategyPrism.valueOf( indexMapping.duplicateKeyStrategy() ),
+            indexMapping.mirror
+        );
+    }
+
+    private IndexMapping(String keyProperty, boolean sourceKey, DuplicateKeyStrategyPrism duplicateKeyStrategy,
+        AnnotationMirror mirror) {
+        this.keyProperty = keyProperty;
+        this.sourceKey = sourceKey;
+        this.duplicateKeyStrategy = duplicateKeyStrategy;
+        this.mirror = mirror;
+    }
+
+    /**
+     * @return the name of the property used as key
+     */
+    public String getKeyProperty() {
+        return keyProperty;
+    }
+
+    /**
+     * @return {@code true} if the key property is read from the source elements, {@code false} if it is read from the
+     * mapped target elements
+     */
+    public boolean isSourceKey() {
+        return sourceKey;
+    }
+
+    public DuplicateKeyStrategyPrism getDuplicateKeyStrategy() {
+        return duplicateKeyStrategy;
+    }
+
+    public AnnotationMirror getMirror() {
+        return mirror;
+    }
+}
@@ -19,6 +19,7 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.MappingPrism;
 import org.mapstruct.ap.internal.prism.MappingsPrism;
 import org.mapstruct.ap.internal.prism.NullValueCheckStrategyPrism;
@@ -54,6 +55,7 @@ public class Mapping {
     private final AnnotationValue dependsOnAnnotationValue;
     private final NullValueCheckStrategyPrism nullValueCheckStrategy;
     private final NullValuePropertyMappingStrategyPrism nullValuePropertyMappingStrategy;
+    private final CollectionCopyStrategyPrism collectionCopyStrategy;
 
     private final InheritContext inheritContext;
     private SourceReference sourceReference;
@@ -158,6 +160,11 @@ public static Mapping fromMappingPrism(MappingPrism mappingPrism, ExecutableElem
                 ? null
                 : NullValuePropertyMappingStrategyPrism.valueOf( mappingPrism.nullValuePropertyMappingStrategy() );
 
+        CollectionCopyStrategyPrism collectionCopyStrategy =
+            null == mappingPrism.values.collectionCopyStrategy()
+                ? null
+                : CollectionCopyStrategyPrism.valueOf( mappingPrism.collectionCopyStrategy() );
+
         return new Mapping(
             source,
             constant,
@@ -175,6 +182,7 @@ public static Mapping fromMappingPrism(MappingPrism mappingPrism, ExecutableElem
             dependsOn,
             nullValueCheckStrategy,
             nullValuePropertyMappingStrategy,
+            collectionCopyStrategy,
             null
         );
     }
@@ -197,6 +205,7 @@ public static Mapping forIgnore( String targetName) {
             Collections.emptySet(),
             null,
             null,
+            null,
             null
         );
     }
@@ -334,6 +343,7 @@ private Mapping(String sourceName, String constant, String javaExpression, Strin
                     AnnotationValue dependsOnAnnotationValue, Set<String> dependsOn,
                     NullValueCheckStrategyPrism nullValueCheckStrategy,
                     NullValuePropertyMappingStrategyPrism nullValuePropertyMappingStrategy,
+                    CollectionCopyStrategyPrism collectionCopyStrategy,
                     InheritContext inheritContext) {
         this.sourceName = sourceName;
         this.constant = constant;
@@ -351,6 +361,7 @@ private Mapping(String sourceName, String constant, String javaExpression, Strin
         this.dependsOn = dependsOn;
         this.nullValueCheckStrategy = nullValueCheckStrategy;
         this.nullValuePropertyMappingStrategy = nullValuePropertyMappingStrategy;
+        this.collectionCopyStrategy = collectionCopyStrategy;
         this.inheritContext = inheritContext;
     }
 
@@ -373,6 +384,7 @@ private Mapping( Mapping mapping, TargetReference targetReference ) {
         this.targetReference = targetReference;
         this.nullValueCheckStrategy = mapping.nullValueCheckStrategy;
         this.nullValuePropertyMappingStrategy = mapping.nullValuePropertyMappingStrategy;
+        this.collectionCopyStrategy = mapping.collectionCopyStrategy;
         this.inheritContext = mapping.inheritContext;
     }
 
@@ -395,6 +407,7 @@ private Mapping( Mapping mapping, SourceReference sourceReference ) {
         this.targetReference = mapping.targetReference;
         this.nullValueCheckStrategy = mapping.nullValueCheckStrategy;
         this.nullValuePropertyMappingStrategy = mapping.nullValuePropertyMappingStrategy;
+        this.collectionCopyStrategy = mapping.collectionCopyStrategy;
         this.inheritContext = mapping.inheritContext;
     }
 
@@ -504,6 +517,10 @@ public NullValuePropertyMappingStrategyPrism getNullValuePropertyMappingStrategy
         return nullValuePropertyMappingStrategy;
     }
 
+    public CollectionCopyStrategyPrism getCollectionCopyStrategy() {
+        return collectionCopyStrategy;
+    }
+
     public Set<String> getDependsOn() {
         return dependsOn;
     }
@@ -579,6 +596,7 @@ public Mapping copyForInverseInheritance(SourceMethod method ) {
             Collections.<String>emptySet(),
             nullValueCheckStrategy,
             nullValuePropertyMappingStrategy,
+            collectionCopyStrategy,
             new InheritContext( true, false, method )
         );
 
@@ -607,6 +625,7 @@ public Mapping copyForForwardInheritance( SourceMethod method ) {
             dependsOn,
             nullValueCheckStrategy,
             nullValuePropertyMappingStrategy,
+            collectionCopyStrategy,
             new InheritContext( false, true, method )
         );
 
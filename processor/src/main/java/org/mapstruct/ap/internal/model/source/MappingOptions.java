@@ -11,10 +11,12 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import javax.lang.model.element.ExecutableElement;
 
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
+import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 
 import static org.mapstruct.ap.internal.model.source.Mapping.getMappingTargetNamesBy;
@@ -252,13 +254,17 @@ public void applyIgnoreAll(SourceMethod method, TypeFactory typeFactory ) {
             );
         }
         Map<String, Accessor> writeAccessors = writeType.getPropertyWriteAccessors( cms );
-
+        Set<String> targetPropertyNames = new LinkedHashSet<>( writeAccessors.keySet() );
+        ExecutableElement constructor = method.isUpdateMethod() ? null : writeType.getMappingConstructor( cms );
+        if ( constructor != null ) {
+            targetPropertyNames.addAll( Executables.getConstructorPropertyNames( constructor ) );
+        }
 
         Set<String> mappedPropertyNames = mappings.stream()
                                                   .map( m -> getPropertyEntries( m )[0] )
                                                   .collect( Collectors.toSet() );
 
-        for ( String targetPropertyName : writeAccessors.keySet() ) {
+        for ( String targetPropertyName : targetPropertyNames ) {
             if ( !mappedPropertyNames.contains( targetPropertyName ) ) {
                 Mapping mapping = Mapping.forIgnore( targetPropertyName );
                 mappings.add( mapping );
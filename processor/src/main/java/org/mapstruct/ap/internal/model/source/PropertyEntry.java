@@ -100,6 +100,15 @@ public String getFullName() {
         return Strings.join( Arrays.asList(  fullName ), "." );
     }
 
+    /**
+     * @param writeAccessor the write accessor of the new entry
+     *
+     * @return a copy of this entry with the given write accessor
+     */
+    public PropertyEntry withWriteAccessor(Accessor writeAccessor) {
+        return new PropertyEntry( fullName, readAccessor, writeAccessor, presenceChecker, type, builderType );
+    }
+
     public PropertyEntry pop() {
         if ( fullName.length > 1 ) {
             String[] newFullName = Arrays.copyOfRange( fullName, 1, fullName.length );
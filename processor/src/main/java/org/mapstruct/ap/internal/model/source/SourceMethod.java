@@ -19,6 +19,7 @@
 import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
+import org.mapstruct.ap.internal.prism.ColumnarMappingPrism;
 import org.mapstruct.ap.internal.prism.ObjectFactoryPrism;
 import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.MapperConfiguration;
@@ -68,7 +69,11 @@ public class SourceMethod implements Method {
     private Boolean isIterableMapping;
     private Boolean isMapMapping;
     private Boolean isStreamMapping;
+    private Boolean isIndexMapping;
     private final boolean hasObjectFactoryAnnotation;
+    private final boolean hasColumnarMappingAnnotation;
+    private final IndexMapping indexMapping;
+    private final List<SubclassMapping> subclassMappings;
 
     public static class Builder {
 
@@ -82,6 +87,8 @@ public static class Builder {
         private Set<Mapping> mappings;
         private IterableMapping iterableMapping = null;
         private MapMapping mapMapping = null;
+        private IndexMapping indexMapping = null;
+        private List<SubclassMapping> subclassMappings = Collections.emptyList();
         private BeanMapping beanMapping = null;
         private Types typeUtils;
         private TypeFactory typeFactory = null;
@@ -130,6 +137,16 @@ public Builder setMapMapping(MapMapping mapMapping) {
             return this;
         }
 
+        public Builder setIndexMapping(IndexMapping indexMapping) {
+            this.indexMapping = indexMapping;
+            return this;
+        }
+
+        public Builder setSubclassMappings(List<SubclassMapping> subclassMappings) {
+            this.subclassMappings = subclassMappings;
+            return this;
+        }
+
         public Builder setBeanMapping(BeanMapping beanMapping) {
             this.beanMapping = beanMapping;
             return this;
@@ -200,6 +217,7 @@ private SourceMethod(Builder builder, MappingOptions mappingOptions) {
         this.mappingTargetParameter = Parameter.getMappingTargetParameter( parameters );
         this.targetTypeParameter = Parameter.getTargetTypeParameter( parameters );
         this.hasObjectFactoryAnnotation = ObjectFactoryPrism.getInstanceOn( executable ) != null;
+        this.hasColumnarMappingAnnotation = ColumnarMappingPrism.getInstanceOn( executable ) != null;
         this.isObjectFactory = determineIfIsObjectFactory();
 
         this.typeUtils = builder.typeUtils;
@@ -207,6 +225,8 @@ private SourceMethod(Builder builder, MappingOptions mappingOptions) {
         this.config = builder.mapperConfig;
         this.prototypeMethods = builder.prototypeMethods;
         this.mapperToImplement = builder.definingType;
+        this.indexMapping = builder.indexMapping;
+        this.subclassMappings = builder.subclassMappings;
     }
 
     private boolean determineIfIsObjectFactory() {
@@ -349,6 +369,50 @@ && first( getSourceParameters() ).getType().isMapType()
         return isMapMapping;
     }
 
+    /**
+     * @return {@code true} if this method maps an iterable type or an array to a map type, indexing the elements as
+     * configured via {@code @IndexMapping}
+     */
+    public boolean isIndexMapping() {
+        if ( isIndexMapping == null ) {
+            isIndexMapping = indexMapping != null
+                && getSourceParameters().size() == 1
+                && first( getSourceParameters() ).getType().isIterableType()
+                && getResultType().isMapType();
+        }
+        return isIndexMapping;
+    }
+
+    /**
+     * @return the indexing of the elements as configured via {@code @IndexMapping}, or {@code null}
+     */
+    public IndexMapping getIndexMapping() {
+        return indexMapping;
+    }
+
+    /**
+     * @return {@code true} if this method dispatches its polymorphic source parameter to the mappings of its subclasses
+     * as configured via {@code @SubclassMapping}
+     */
+    public boolean isSubclassMapping() {
+        return !subclassMappings.isEmpty() && getSourceParameters().size() == 1 && mappingTargetParameter == null;
+    }
+
+    /**
+     * @return the mappings of the subclasses of the source parameter as configured via {@code @SubclassMapping}
+     */
+    public List<SubclassMapping> getSubclassMappings() {
+        return subclassMappings;
+    }
+
+    /**
+     * @return {@code true} if this method transposes a collection or an array of beans into a columnar type or vice
+     * versa, as configured via {@code @ColumnarMapping}
+     */
+    public boolean isColumnarMapping() {
+        return hasColumnarMappingAnnotation && getSourceParameters().size() == 1;
+    }
+
     /**
      * Enum Mapping was realized with @Mapping in stead of @ValueMapping. @Mapping is no longer
      * supported.
@@ -0,0 +1,83 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.model.source;
+
+import java.util.List;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.prism.SubclassMappingPrism;
+import org.mapstruct.ap.internal.prism.SubclassMappingsPrism;
+import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.Message;
+
+/**
+ * Represents the mapping of one subclass of a polymorphic source as configured via {@code @SubclassMapping}.
+ */
+public class SubclassMapping {
+
+    private final TypeMirror source;
+    private final TypeMirror target;
+    private final AnnotationMirror mirror;
+
+    public static void fromMappingsPrism(SubclassMappingsPrism mappingsAnnotation, ExecutableElement method,
+        FormattingMessager messager, Types typeUtils, List<SubclassMapping> mappings) {
+
+        for ( SubclassMappingPrism mappingPrism : mappingsAnnotation.value() ) {
+            addMapping( mappingPrism, method, messager, typeUtils, mappings );
+        }
+    }
+
+    public static void fromMappingPrism(SubclassMappingPrism mappingPrism, ExecutableElement method,
+        FormattingMessager messager, Types typeUtils, List<SubclassMapping> mappings) {
+
+        addMapping( mappingPrism, method, messager, typeUtils, mappings );
+    }
+
+    private static void addMapping(SubclassMappingPrism mappingPrism, ExecutableElement method,
+        FormattingMessager messager, Types typeUtils, List<SubclassMapping> mappings) {
+
+        for ( SubclassMapping mapping : mappings ) {
+            if ( typeUtils.isSameType( mapping.source, mappingPrism.source() ) ) {
+                messager.printMessage(
+                    method,
+                    mappingPrism.mirror,
+                    Message.SUBCLASSMAPPING_DUPLICATE_SOURCE,
+                    mappingPrism.source()
+                );
+                return;
+            }
+        }
+
+        mappings.add( new SubclassMapping( mappingPrism.source(), mappingPrism.target(), mappingPrism.mirror ) );
+    }
+
+    private SubclassMapping(TypeMirror source, TypeMirror target, AnnotationMirror mirror) {
+        this.source = source;
+        this.target = target;
+        this.mirror = mirror;
+    }
+
+    /**
+     * @return the subclass of the source type
+     */
+    public TypeMirror getSource() {
+        return source;
+    }
+
+    /**
+     * @return the type instances of the source subclass are mapped to
+     */
+    public TypeMirror getTarget() {
+        return target;
+    }
+
+    public AnnotationMirror getMirror() {
+        return mirror;
+    }
+}
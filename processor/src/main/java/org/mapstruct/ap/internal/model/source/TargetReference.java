@@ -8,9 +8,12 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
 
 import org.mapstruct.ap.internal.model.common.BuilderType;
 import org.mapstruct.ap.internal.model.common.Parameter;
@@ -18,11 +21,13 @@
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.prism.BuilderPrism;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
+import org.mapstruct.ap.internal.util.Executables;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.Strings;
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.internal.util.accessor.AccessorType;
+import org.mapstruct.ap.internal.util.accessor.ParameterElementAccessor;
 
 import static org.mapstruct.ap.internal.util.Collections.first;
 
@@ -64,6 +69,7 @@ public static class BuilderFromTargetMapping {
         private Method method;
         private FormattingMessager messager;
         private TypeFactory typeFactory;
+        private Map<String, Accessor> constructorAccessors;
 
         /**
          * During {@link #getTargetEntries(Type, String[])} an error can occur. However, we are invoking
@@ -92,6 +98,17 @@ public BuilderFromTargetMapping typeFactory(TypeFactory typeFactory) {
             return this;
         }
 
+        /**
+         * @param constructorAccessors the accessors of the parameters of the constructor creating the result type, by
+         * property name. They take precedence over the property write accessors of the result type.
+         *
+         * @return this builder
+         */
+        public BuilderFromTargetMapping constructorAccessors(Map<String, Accessor> constructorAccessors) {
+            this.constructorAccessors = constructorAccessors;
+            return this;
+        }
+
         public TargetReference build() {
 
             boolean isInverse =  mapping.getInheritContext() != null ? mapping.getInheritContext().isReversed() : false;
@@ -156,7 +173,20 @@ private List<PropertyEntry> getTargetEntries(Type type, String[] entryNames) {
 
                 Type mappingType = typeBasedOnMethod( nextType );
                 Accessor targetReadAccessor = mappingType.getPropertyReadAccessors().get( entryNames[i] );
-                Accessor targetWriteAccessor = mappingType.getPropertyWriteAccessors( cms ).get( entryNames[i] );
+                Accessor targetWriteAccessor = null;
+                if ( i == 0 && constructorAccessors != null ) {
+                    targetWriteAccessor = constructorAccessors.get( entryNames[i] );
+                }
+                else if ( i > 0 && !method.isUpdateMethod() ) {
+                    targetWriteAccessor = getNestedConstructorAccessor( mappingType, entryNames[i], cms );
+                }
+                if ( targetWriteAccessor == null ) {
+                    targetWriteAccessor = mappingType.getPropertyWriteAccessors( cms ).get( entryNames[i] );
+                }
+                if ( targetWriteAccessor != null && targetWriteAccessor.getAccessorType() == AccessorType.PARAMETER ) {
+                    // the parameter is passed to the constructor, so it's not read from the target
+                    targetReadAccessor = null;
+                }
                 boolean isLast = i == entryNames.length - 1;
                 boolean isNotLast = i < entryNames.length - 1;
                 if ( isWriteAccessorNotValidWhenNotLast( targetWriteAccessor, isNotLast )
@@ -168,7 +198,8 @@ private List<PropertyEntry> getTargetEntries(Type type, String[] entryNames) {
                 }
 
                 if ( isLast || ( targetWriteAccessor.getAccessorType() == AccessorType.SETTER  ||
-                                targetWriteAccessor.getAccessorType() == AccessorType.FIELD ) ) {
+                                targetWriteAccessor.getAccessorType() == AccessorType.FIELD ||
+                                targetWriteAccessor.getAccessorType() == AccessorType.PARAMETER ) ) {
                     // only intermediate nested properties when they are a true setter or field accessor
                     // the last may be other readAccessor (setter / getter / adder).
 
@@ -216,7 +247,11 @@ private List<PropertyEntry> getTargetEntries(Type type, String[] entryNames) {
         private Type findNextType(Type initial, Accessor targetWriteAccessor, Accessor targetReadAccessor) {
             Type nextType;
             Accessor toUse = targetWriteAccessor != null ? targetWriteAccessor : targetReadAccessor;
-            if ( toUse.getAccessorType() == AccessorType.GETTER  || toUse.getAccessorType() == AccessorType.FIELD ) {
+            if ( toUse.getAccessorType() == AccessorType.PARAMETER ) {
+                nextType = typeFactory.getType( toUse.getAccessedType() );
+            }
+            else if ( toUse.getAccessorType() == AccessorType.GETTER
+                || toUse.getAccessorType() == AccessorType.FIELD ) {
                 nextType = typeFactory.getReturnType(
                     (DeclaredType) typeBasedOnMethod( initial ).getTypeMirror(),
                     toUse
@@ -250,6 +285,33 @@ else if ( targetWriteAccessor == null ) {
          * be itself, otherwise, we always get the effective type. The reason is that when doing updates we always
          * search for setters and getters within the updating type.
          */
+        /**
+         * Finds the parameter of the constructor creating a nested target type with the given name. The name of the
+         * returned accessor is only preliminary, the method creating the nested target determines the variable names
+         * of the constructor parameters (see {@link #withConstructorAccessors(Map)}).
+         */
+        private Accessor getNestedConstructorAccessor(Type type, String propertyName,
+                                                      CollectionMappingStrategyPrism cms) {
+            ExecutableElement constructor = type.getMappingConstructor( cms );
+            if ( constructor == null ) {
+                return null;
+            }
+
+            int index = Executables.getConstructorPropertyNames( constructor ).indexOf( propertyName );
+            if ( index < 0 ) {
+                return null;
+            }
+            ExecutableType constructorType = typeFactory.getMethodType(
+                (DeclaredType) type.getTypeMirror(),
+                constructor
+            );
+            return new ParameterElementAccessor(
+                constructor.getParameters().get( index ),
+                constructorType.getParameterTypes().get( index ),
+                constructor.getParameters().get( index ).getSimpleName()
+            );
+        }
+
         private Type typeBasedOnMethod(Type type) {
             if ( method.isUpdateMethod() ) {
                 return type;
@@ -375,6 +437,30 @@ public List<String> getElementNames() {
         return elementNames;
     }
 
+    /**
+     * @param constructorAccessors the accessors of the parameters of the constructor creating the result type of the
+     * method this reference is used in, by property name
+     *
+     * @return this reference, with the write accessor of the first property entry replaced by the given accessor of the
+     * same constructor parameter, if it is a constructor parameter of a nested target type
+     */
+    public TargetReference withConstructorAccessors(Map<String, Accessor> constructorAccessors) {
+        if ( propertyEntries.isEmpty() ) {
+            return this;
+        }
+
+        PropertyEntry firstEntry = propertyEntries.get( 0 );
+        Accessor constructorAccessor = constructorAccessors.get( firstEntry.getName() );
+        if ( constructorAccessor == null || firstEntry.getWriteAccessor() == null
+            || firstEntry.getWriteAccessor().getAccessorType() != AccessorType.PARAMETER ) {
+            return this;
+        }
+
+        List<PropertyEntry> newPropertyEntries = new ArrayList<>( propertyEntries );
+        newPropertyEntries.set( 0, firstEntry.withWriteAccessor( constructorAccessor ) );
+        return new TargetReference( parameter, newPropertyEntries, isValid );
+    }
+
     public TargetReference pop() {
         if ( propertyEntries.size() > 1 ) {
             List<PropertyEntry> newPropertyEntries = new ArrayList<>( propertyEntries.size() - 1 );
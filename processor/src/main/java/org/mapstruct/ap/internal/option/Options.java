@@ -20,16 +20,34 @@ public class Options {
     private final boolean alwaysGenerateSpi;
     private final String defaultComponentModel;
     private final boolean verbose;
+    private final boolean sharedMapperInstances;
+    private final boolean generateMapperRegistry;
+    private final boolean generateNativeImageConfig;
+    private final int renderingThreads;
+    private final boolean profile;
+    private final String generationCacheDir;
+    private final boolean disableEnumMaps;
 
+    @SuppressWarnings("checkstyle:parameternumber")
     public Options(boolean suppressGeneratorTimestamp, boolean suppressGeneratorVersionComment,
                    ReportingPolicyPrism unmappedTargetPolicy,
-                   String defaultComponentModel, boolean alwaysGenerateSpi, boolean verbose) {
+                   String defaultComponentModel, boolean alwaysGenerateSpi, boolean verbose,
+                   boolean sharedMapperInstances, boolean generateMapperRegistry,
+                   boolean generateNativeImageConfig, int renderingThreads,
+                   boolean profile, String generationCacheDir, boolean disableEnumMaps) {
         this.suppressGeneratorTimestamp = suppressGeneratorTimestamp;
         this.suppressGeneratorVersionComment = suppressGeneratorVersionComment;
         this.unmappedTargetPolicy = unmappedTargetPolicy;
         this.defaultComponentModel = defaultComponentModel;
         this.alwaysGenerateSpi = alwaysGenerateSpi;
         this.verbose = verbose;
+        this.sharedMapperInstances = sharedMapperInstances;
+        this.generateMapperRegistry = generateMapperRegistry;
+        this.generateNativeImageConfig = generateNativeImageConfig;
+        this.renderingThreads = renderingThreads;
+        this.profile = profile;
+        this.generationCacheDir = generationCacheDir;
+        this.disableEnumMaps = disableEnumMaps;
     }
 
     public boolean isSuppressGeneratorTimestamp() {
@@ -55,4 +73,32 @@ public boolean isAlwaysGenerateSpi() {
     public boolean isVerbose() {
         return verbose;
     }
+
+    public boolean isSharedMapperInstances() {
+        return sharedMapperInstances;
+    }
+
+    public boolean isGenerateMapperRegistry() {
+        return generateMapperRegistry;
+    }
+
+    public boolean isGenerateNativeImageConfig() {
+        return generateNativeImageConfig;
+    }
+
+    public int getRenderingThreads() {
+        return renderingThreads;
+    }
+
+    public boolean isProfile() {
+        return profile;
+    }
+
+    public String getGenerationCacheDir() {
+        return generationCacheDir;
+    }
+
+    public boolean isDisableEnumMaps() {
+        return disableEnumMaps;
+    }
 }
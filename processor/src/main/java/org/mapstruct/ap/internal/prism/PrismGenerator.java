@@ -12,9 +12,11 @@
 import org.mapstruct.BeanMapping;
 import org.mapstruct.BeforeMapping;
 import org.mapstruct.Builder;
+import org.mapstruct.ColumnarMapping;
 import org.mapstruct.Context;
 import org.mapstruct.DecoratedWith;
 import org.mapstruct.InheritConfiguration;
+import org.mapstruct.IndexMapping;
 import org.mapstruct.InheritInverseConfiguration;
 import org.mapstruct.IterableMapping;
 import org.mapstruct.MapMapping;
@@ -26,6 +28,8 @@
 import org.mapstruct.Named;
 import org.mapstruct.ObjectFactory;
 import org.mapstruct.Qualifier;
+import org.mapstruct.SubclassMapping;
+import org.mapstruct.SubclassMappings;
 import org.mapstruct.TargetType;
 import org.mapstruct.ValueMapping;
 import org.mapstruct.ValueMappings;
@@ -45,6 +49,10 @@
     @GeneratePrism(value = IterableMapping.class, publicAccess = true),
     @GeneratePrism(value = BeanMapping.class, publicAccess = true),
     @GeneratePrism(value = MapMapping.class, publicAccess = true),
+    @GeneratePrism(value = IndexMapping.class, publicAccess = true),
+    @GeneratePrism(value = ColumnarMapping.class, publicAccess = true),
+    @GeneratePrism(value = SubclassMapping.class, publicAccess = true),
+    @GeneratePrism(value = SubclassMappings.class, publicAccess = true),
     @GeneratePrism(value = TargetType.class, publicAccess = true),
     @GeneratePrism(value = MappingTarget.class, publicAccess = true),
     @GeneratePrism(value = DecoratedWith.class, publicAccess = true),
@@ -21,11 +21,14 @@
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.processor.ModelElementProcessor.ProcessorContext;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
+import org.mapstruct.ap.internal.util.ConfinedElements;
+import org.mapstruct.ap.internal.util.ConfinedTypes;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Message;
 import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.util.workarounds.TypesDecorator;
 import org.mapstruct.ap.internal.version.VersionInformation;
+import org.mapstruct.ap.internal.writer.ConcurrentModelWriter;
 
 /**
  * Default implementation of the processor context.
@@ -35,34 +38,52 @@
 public class DefaultModelElementProcessorContext implements ProcessorContext {
 
     private final ProcessingEnvironment processingEnvironment;
+    private final Filer filer;
     private final DelegatingMessager messager;
     private final Options options;
     private final TypeFactory typeFactory;
     private final VersionInformation versionInformation;
     private final Types delegatingTypes;
+    private final Elements elementUtils;
     private final AccessorNamingUtils accessorNaming;
+    private final RoundContext roundContext;
 
     public DefaultModelElementProcessorContext(ProcessingEnvironment processingEnvironment, Options options,
-            RoundContext roundContext, Map<String, String> notToBeImported) {
+            RoundContext roundContext, Map<String, String> notToBeImported, Filer filer) {
 
         this.processingEnvironment = processingEnvironment;
+        this.filer = filer;
         this.messager = new DelegatingMessager( processingEnvironment.getMessager(), options.isVerbose() );
         this.accessorNaming = roundContext.getAnnotationProcessorContext().getAccessorNaming();
         this.versionInformation = DefaultVersionInformation.fromProcessingEnvironment( processingEnvironment );
-        this.delegatingTypes = new TypesDecorator( processingEnvironment, versionInformation );
+        // when rendering mappers concurrently, the compiler's model must not be accessed while rendering
+        ConcurrentModelWriter concurrentModelWriter = roundContext.getConcurrentModelWriter();
+        this.delegatingTypes = roundContext.getTypeUtils( () -> {
+            Types typeUtils = new TypesDecorator( processingEnvironment, versionInformation );
+            return concurrentModelWriter != null ?
+                new ConfinedTypes( typeUtils ) :
+                typeUtils;
+        } );
+        this.elementUtils = roundContext.getElementUtils( () -> {
+            Elements elementUtils = processingEnvironment.getElementUtils();
+            return concurrentModelWriter != null ?
+                new ConfinedElements( elementUtils ) :
+                elementUtils;
+        } );
         this.typeFactory = new TypeFactory(
-            processingEnvironment.getElementUtils(),
+            elementUtils,
             delegatingTypes,
             messager,
             roundContext,
             notToBeImported
         );
         this.options = options;
+        this.roundContext = roundContext;
     }
 
     @Override
     public Filer getFiler() {
-        return processingEnvironment.getFiler();
+        return filer;
     }
 
     @Override
@@ -72,7 +93,7 @@ public Types getTypeUtils() {
 
     @Override
     public Elements getElementUtils() {
-        return processingEnvironment.getElementUtils();
+        return elementUtils;
     }
 
     @Override
@@ -100,15 +121,28 @@ public VersionInformation getVersionInformation() {
         return versionInformation;
     }
 
+    @Override
+    public RoundContext getRoundContext() {
+        return roundContext;
+    }
+
     @Override
     public boolean isErroneous() {
         return messager.isErroneous();
     }
 
+    /**
+     * @return whether any diagnostics other than notes have been reported for the currently processed mapper type
+     */
+    public boolean hasReportedDiagnostics() {
+        return messager.hasReportedDiagnostics();
+    }
+
     private static final class DelegatingMessager implements FormattingMessager {
 
         private final Messager delegate;
         private boolean isErroneous = false;
+        private boolean hasReportedDiagnostics = false;
         private final boolean verbose;
 
         DelegatingMessager(Messager delegate, boolean verbose) {
@@ -120,18 +154,14 @@ private static final class DelegatingMessager implements FormattingMessager {
         public void printMessage(Message msg, Object... args) {
             String message = String.format( msg.getDescription(), args );
             delegate.printMessage( msg.getDiagnosticKind(), message );
-            if ( msg.getDiagnosticKind() == Kind.ERROR ) {
-                isErroneous = true;
-            }
+            reported( msg.getDiagnosticKind() );
         }
 
         @Override
         public void printMessage(Element e, Message msg, Object... args) {
             String message = String.format( msg.getDescription(), args );
             delegate.printMessage( msg.getDiagnosticKind(), message, e );
-            if ( msg.getDiagnosticKind() == Kind.ERROR ) {
-                isErroneous = true;
-            }
+            reported( msg.getDiagnosticKind() );
         }
 
         @Override
@@ -142,9 +172,7 @@ public void printMessage(Element e, AnnotationMirror a, Message msg, Object... a
             else {
                 String message = String.format( msg.getDescription(), args );
                 delegate.printMessage( msg.getDiagnosticKind(), message, e, a );
-                if ( msg.getDiagnosticKind() == Kind.ERROR ) {
-                    isErroneous = true;
-                }
+                reported( msg.getDiagnosticKind() );
             }
         }
 
@@ -153,9 +181,7 @@ public void printMessage(Element e, AnnotationMirror a, AnnotationValue v, Messa
                                  Object... args) {
             String message = String.format( msg.getDescription(), args );
             delegate.printMessage( msg.getDiagnosticKind(), message, e, a, v );
-            if ( msg.getDiagnosticKind() == Kind.ERROR ) {
-                isErroneous = true;
-            }
+            reported( msg.getDiagnosticKind() );
         }
 
         public void note( int level, Message msg, Object... args ) {
@@ -167,9 +193,22 @@ public void note( int level, Message msg, Object... args ) {
             }
         }
 
+        private void reported(Kind kind) {
+            if ( kind == Kind.ERROR ) {
+                isErroneous = true;
+            }
+            if ( kind != Kind.NOTE ) {
+                hasReportedDiagnostics = true;
+            }
+        }
+
         public boolean isErroneous() {
             return isErroneous;
         }
 
+        public boolean hasReportedDiagnostics() {
+            return hasReportedDiagnostics;
+        }
+
     }
 }
@@ -0,0 +1,853 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.SimpleAnnotationValueVisitor8;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.ForwardingFileObject;
+import javax.tools.ForwardingJavaFileObject;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.mapstruct.ap.internal.util.AnnotationProcessorContext;
+import org.mapstruct.ap.internal.util.FreeBuilderConstants;
+import org.mapstruct.ap.internal.util.ImmutablesConstants;
+import org.mapstruct.ap.internal.util.JaxbConstants;
+import org.mapstruct.ap.internal.util.JodaTimeConstants;
+import org.mapstruct.ap.internal.util.RoundContext;
+import org.mapstruct.ap.internal.util.XmlConstants;
+import org.mapstruct.ap.internal.version.VersionInformation;
+import org.mapstruct.ap.spi.AccessorNamingStrategy;
+import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
+import org.mapstruct.ap.spi.BuilderInfo;
+import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.spi.CollectionImplementationProvider;
+import org.mapstruct.ap.spi.MappingExclusionProvider;
+import org.mapstruct.ap.spi.MoreThanOneBuilderCreationMethodException;
+
+/**
+ * Keeps the files generated for mappers in a directory which outlives a single build, so that mappers whose inputs
+ * didn't change since a previous build can be restored from there instead of being processed again.
+ * <p>
+ * The inputs of a mapper are captured by a fingerprint over the signatures (annotations, super types and members) of
+ * the mapper type and of all types transitively referenced by these signatures, e.g. source and target types, used
+ * mappers and the mapper configuration. As builder providers may look up the builder of a type by name (e.g. the
+ * {@code ImmutableX} type generated by Immutables for a type {@code X}), the builder of each of these types and the
+ * types declaring and implementing it are part of the fingerprint as well.
+ * <p>
+ * Types of the JDK the processor runs on are not part of the fingerprint, they are covered by the fingerprint of the
+ * environment instead: the MapStruct and compiler versions, the processor options, the registered SPI implementations
+ * and their classes.
+ * <p>
+ * Only mappers processed without any diagnostics (other than notes) are stored, as restoring a mapper doesn't report
+ * diagnostics again. Mappers generating files other than source files and resources in the root of the class output
+ * (i.e. service files) aren't stored either.
+ */
+public class GenerationCache {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final int SOURCE_FILE = 0;
+    private static final int RESOURCE = 1;
+
+    /**
+     * Types looked up by name, whose presence changes the generated code.
+     */
+    private static final String[] OPTIONAL_TYPES = {
+        "javax.annotation.Generated",
+        "javax.annotation.processing.Generated",
+        JaxbConstants.JAXB_ELEMENT_FQN,
+        XmlConstants.JAVAX_XML_DATATYPE_XMLGREGORIAN_CALENDAR,
+        JodaTimeConstants.DATE_TIME_FQN,
+        FreeBuilderConstants.FREE_BUILDER_FQN,
+        ImmutablesConstants.IMMUTABLE_FQN
+    };
+
+    private static final Class<?>[] SERVICE_TYPES = {
+        AccessorNamingStrategy.class,
+        AstModifyingAnnotationProcessor.class,
+        BuilderProvider.class,
+        CollectionImplementationProvider.class,
+        MappingExclusionProvider.class,
+        ModelElementProcessor.class
+    };
+
+    private final ProcessingEnvironment processingEnvironment;
+    private final AnnotationProcessorContext annotationProcessorContext;
+    private final Path directory;
+    private final byte[] environmentFingerprint;
+    private final Map<TypeElement, TypeSignature> signatures = new HashMap<>();
+    private final Map<String, Boolean> jdkTypes = new HashMap<>();
+    private final List<Recording> pendingRecordings = new ArrayList<>();
+
+    public GenerationCache(ProcessingEnvironment processingEnvironment,
+                           AnnotationProcessorContext annotationProcessorContext, Path directory) {
+        this.processingEnvironment = processingEnvironment;
+        this.annotationProcessorContext = annotationProcessorContext;
+        this.directory = directory;
+        this.environmentFingerprint = getEnvironmentFingerprint(
+            DefaultVersionInformation.fromProcessingEnvironment( processingEnvironment )
+        );
+    }
+
+    /**
+     * Marks the beginning of another processing round; the types may have changed since the previous round.
+     */
+    public void nextRound() {
+        signatures.clear();
+    }
+
+    /**
+     * @param mapperTypeElement the mapper
+     *
+     * @return the fingerprint of the inputs of the given mapper, or {@code null} if the mapper cannot be cached as it
+     * refers to erroneous types or to builders which are not available yet
+     */
+    public String getFingerprint(TypeElement mapperTypeElement) {
+        Map<String, String> signaturesByName = new TreeMap<>();
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>();
+        toVisit.add( mapperTypeElement );
+
+        while ( !toVisit.isEmpty() ) {
+            TypeElement type = toVisit.poll();
+            if ( !visited.add( type ) ) {
+                continue;
+            }
+
+            TypeSignature signature = signatures.computeIfAbsent( type, TypeSignature::new );
+            if ( signature.erroneous ) {
+                return null;
+            }
+
+            String builderSignature = getBuilderSignature( type, toVisit );
+            if ( builderSignature == null ) {
+                return null;
+            }
+
+            signaturesByName.put( type.getQualifiedName().toString(), signature.signature + builderSignature );
+            for ( TypeElement referencedType : signature.referencedTypes ) {
+                addIfNotJdkType( toVisit, referencedType );
+            }
+        }
+
+        MessageDigest digest = newDigest();
+        digest.update( environmentFingerprint );
+        update( digest, mapperTypeElement.getQualifiedName().toString() );
+        for ( Map.Entry<String, String> signature : signaturesByName.entrySet() ) {
+            update( digest, signature.getKey() );
+            update( digest, signature.getValue() );
+        }
+        return toHex( digest.digest() );
+    }
+
+    /**
+     * Writes the files stored for the given fingerprint, if any.
+     *
+     * @param mapperTypeElement the mapper
+     * @param fingerprint the fingerprint of the mapper's inputs
+     * @param roundContext the current round
+     *
+     * @return {@code true} if the mapper has been restored from the cache, {@code false} if it needs to be processed
+     */
+    public boolean restore(TypeElement mapperTypeElement, String fingerprint, RoundContext roundContext) {
+        Entry entry = readEntry( fingerprint );
+        if ( entry == null ) {
+            return false;
+        }
+
+        Filer filer = processingEnvironment.getFiler();
+        try {
+            for ( CachedFile file : entry.files ) {
+                FileObject fileObject = file.kind == SOURCE_FILE ?
+                    filer.createSourceFile( file.name, mapperTypeElement ) :
+                    filer.createResource( StandardLocation.CLASS_OUTPUT, "", file.name, mapperTypeElement );
+
+                try ( Writer writer = fileObject.openWriter() ) {
+                    writer.write( file.content );
+                }
+            }
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        if ( entry.implementationName != null ) {
+            roundContext.addGeneratedMapper( mapperTypeElement, entry.implementationName );
+        }
+
+        return true;
+    }
+
+    /**
+     * Starts recording the files generated for the given mapper. The recording is only stored if passed to
+     * {@link #store(Recording, RoundContext)} once the mapper has been processed successfully.
+     *
+     * @param mapperTypeElement the mapper
+     * @param fingerprint the fingerprint of the mapper's inputs
+     *
+     * @return the recording
+     */
+    public Recording record(TypeElement mapperTypeElement, String fingerprint) {
+        return new Recording( mapperTypeElement, fingerprint, processingEnvironment.getFiler() );
+    }
+
+    /**
+     * Stores the given recording of a mapper processed without any diagnostics. If the files of the mapper are
+     * rendered concurrently, the recording is stored by {@link #storePendingRecordings(RoundContext)} instead, once all
+     * files have been written.
+     *
+     * @param recording the recording
+     * @param roundContext the current round
+     */
+    public void store(Recording recording, RoundContext roundContext) {
+        if ( roundContext.getConcurrentModelWriter() != null ) {
+            pendingRecordings.add( recording );
+        }
+        else {
+            storeIfComplete( recording, roundContext );
+        }
+    }
+
+    /**
+     * Stores the recordings of the current round which were waiting for their files to be written. To be invoked once
+     * all files of the round have been written.
+     *
+     * @param roundContext the current round
+     */
+    public void storePendingRecordings(RoundContext roundContext) {
+        for ( Recording recording : pendingRecordings ) {
+            storeIfComplete( recording, roundContext );
+        }
+        pendingRecordings.clear();
+    }
+
+    private void storeIfComplete(Recording recording, RoundContext roundContext) {
+        if ( recording.isComplete() ) {
+            String implementationName = roundContext.getGeneratedMappers().get( recording.mapperTypeElement );
+            writeEntry( recording.fingerprint, new Entry( implementationName, recording.files ) );
+        }
+    }
+
+    private Entry readEntry(String fingerprint) {
+        try ( DataInputStream in = new DataInputStream( Files.newInputStream( directory.resolve( fingerprint ) ) ) ) {
+            if ( in.readInt() != FORMAT_VERSION ) {
+                return null;
+            }
+
+            String implementationName = in.readBoolean() ? in.readUTF() : null;
+            int fileCount = in.readInt();
+            List<CachedFile> files = new ArrayList<>( fileCount );
+            for ( int i = 0; i < fileCount; i++ ) {
+                int kind = in.readByte();
+                String name = in.readUTF();
+                byte[] content = new byte[in.readInt()];
+                in.readFully( content );
+                files.add( new CachedFile( kind, name, new String( content, StandardCharsets.UTF_8 ) ) );
+            }
+
+            return new Entry( implementationName, files );
+        }
+        catch ( NoSuchFileException e ) {
+            return null;
+        }
+        catch ( IOException e ) {
+            // a corrupt entry is processed again and overwritten afterwards
+            return null;
+        }
+    }
+
+    private void writeEntry(String fingerprint, Entry entry) {
+        try {
+            Files.createDirectories( directory );
+            Path tempFile = Files.createTempFile( directory, fingerprint, ".tmp" );
+
+            try ( DataOutputStream out = new DataOutputStream( Files.newOutputStream( tempFile ) ) ) {
+                out.writeInt( FORMAT_VERSION );
+                out.writeBoolean( entry.implementationName != null );
+                if ( entry.implementationName != null ) {
+                    out.writeUTF( entry.implementationName );
+                }
+                out.writeInt( entry.files.size() );
+                for ( CachedFile file : entry.files ) {
+                    byte[] content = file.content.getBytes( StandardCharsets.UTF_8 );
+                    out.writeByte( file.kind );
+                    out.writeUTF( file.name );
+                    out.writeInt( content.length );
+                    out.write( content );
+                }
+            }
+
+            // concurrent builds sharing the cache directory never see partially written entries
+            Files.move( tempFile, directory.resolve( fingerprint ), StandardCopyOption.REPLACE_EXISTING );
+        }
+        catch ( IOException e ) {
+            processingEnvironment.getMessager().printMessage(
+                Kind.NOTE,
+                "MapStruct: could not store generated files in the generation cache: " + e
+            );
+        }
+    }
+
+    /**
+     * Describes the builder of the given type as found by the builder provider and adds the types declaring and
+     * implementing the builder to the types to visit.
+     *
+     * @return the description of the builder, or {@code null} if the builder cannot be determined yet
+     */
+    private String getBuilderSignature(TypeElement type, Deque<TypeElement> toVisit) {
+        BuilderInfo builderInfo;
+        try {
+            builderInfo = annotationProcessorContext.getBuilderProvider().findBuilderInfo( type.asType() );
+        }
+        catch ( MoreThanOneBuilderCreationMethodException e ) {
+            return "builder=ambiguous;";
+        }
+        catch ( RuntimeException e ) {
+            // e.g. a TypeHierarchyErroneousException for a builder type generated in a later round
+            return null;
+        }
+
+        if ( builderInfo == null ) {
+            return "builder=none;";
+        }
+
+        ExecutableElement creationMethod = builderInfo.getBuilderCreationMethod();
+        StringBuilder signature = new StringBuilder( "builder=" )
+            .append( creationMethod.getEnclosingElement() )
+            .append( '.' )
+            .append( creationMethod.getSimpleName() )
+            .append( creationMethod.getReturnType() );
+        for ( ExecutableElement buildMethod : builderInfo.getBuildMethods() ) {
+            signature.append( ',' ).append( buildMethod.getSimpleName() ).append( buildMethod.getReturnType() );
+        }
+
+        addIfNotJdkType( toVisit, (TypeElement) creationMethod.getEnclosingElement() );
+        if ( creationMethod.getReturnType().getKind() == TypeKind.DECLARED ) {
+            addIfNotJdkType( toVisit, (TypeElement) ( (DeclaredType) creationMethod.getReturnType() ).asElement() );
+        }
+
+        return signature.append( ';' ).toString();
+    }
+
+    private void addIfNotJdkType(Deque<TypeElement> toVisit, TypeElement type) {
+        if ( !isJdkType( type ) ) {
+            toVisit.add( type );
+        }
+    }
+
+    /**
+     * A type belongs to the JDK if the JDK the processor runs on provides it, i.e. if it can be loaded by the platform
+     * (or, before Java 9, the extension) class loader. Types of libraries in {@code java.*} or {@code javax.*}
+     * packages, e.g. {@code javax.inject}, are not considered JDK types.
+     */
+    private boolean isJdkType(TypeElement type) {
+        String binaryName = processingEnvironment.getElementUtils().getBinaryName( type ).toString();
+        return jdkTypes.computeIfAbsent( binaryName, GenerationCache::isLoadableByJdk );
+    }
+
+    private static boolean isLoadableByJdk(String binaryName) {
+        try {
+            Class.forName( binaryName, false, ClassLoader.getSystemClassLoader().getParent() );
+            return true;
+        }
+        catch ( ClassNotFoundException | LinkageError e ) {
+            return false;
+        }
+    }
+
+    private byte[] getEnvironmentFingerprint(VersionInformation versionInformation) {
+        MessageDigest digest = newDigest();
+        update( digest, String.valueOf( FORMAT_VERSION ) );
+        update( digest, versionInformation.getMapStructVersion() );
+        update( digest, versionInformation.getCompiler() );
+        update( digest, versionInformation.getRuntimeVersion() );
+        update( digest, versionInformation.getRuntimeVendor() );
+        update( digest, processingEnvironment.getSourceVersion().name() );
+        update( digest, new TreeMap<>( processingEnvironment.getOptions() ).toString() );
+
+        for ( String optionalType : OPTIONAL_TYPES ) {
+            boolean present = processingEnvironment.getElementUtils().getTypeElement( optionalType ) != null;
+            update( digest, optionalType + "=" + present );
+        }
+
+        ClassLoader classLoader = GenerationCache.class.getClassLoader();
+        for ( Class<?> serviceType : SERVICE_TYPES ) {
+            try {
+                String serviceFileName = "META-INF/services/" + serviceType.getName();
+                for ( URL serviceFile : Collections.list( classLoader.getResources( serviceFileName ) ) ) {
+                    update( digest, serviceFile.toString() );
+                    byte[] content;
+                    try ( InputStream in = serviceFile.openStream() ) {
+                        content = readAll( in );
+                    }
+                    digest.update( content );
+
+                    // an implementation may change without its service file changing
+                    for ( String implementation : getImplementationNames( content ) ) {
+                        updateWithClassFile( digest, classLoader, implementation );
+                    }
+                }
+            }
+            catch ( IOException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+
+        return digest.digest();
+    }
+
+    private static List<String> getImplementationNames(byte[] serviceFileContent) throws IOException {
+        List<String> implementationNames = new ArrayList<>();
+        try ( BufferedReader reader = new BufferedReader( new InputStreamReader(
+            new ByteArrayInputStream( serviceFileContent ), StandardCharsets.UTF_8 ) ) ) {
+            String line;
+            while ( ( line = reader.readLine() ) != null ) {
+                int commentStart = line.indexOf( '#' );
+                String implementationName = ( commentStart >= 0 ? line.substring( 0, commentStart ) : line ).trim();
+                if ( !implementationName.isEmpty() ) {
+                    implementationNames.add( implementationName );
+                }
+            }
+        }
+        return implementationNames;
+    }
+
+    private static void updateWithClassFile(MessageDigest digest, ClassLoader classLoader, String className)
+        throws IOException {
+        update( digest, className );
+        URL classFile = classLoader.getResource( className.replace( '.', '/' ) + ".class" );
+        if ( classFile == null ) {
+            update( digest, "missing" );
+            return;
+        }
+
+        update( digest, classFile.toString() );
+        try ( InputStream in = classFile.openStream() ) {
+            digest.update( readAll( in ) );
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ( ( read = in.read( buffer ) ) != -1 ) {
+            out.write( buffer, 0, read );
+        }
+        return out.toByteArray();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance( "SHA-256" );
+        }
+        catch ( NoSuchAlgorithmException e ) {
+            throw new IllegalStateException( e );
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+        digest.update( (byte) ( bytes.length >>> 24 ) );
+        digest.update( (byte) ( bytes.length >>> 16 ) );
+        digest.update( (byte) ( bytes.length >>> 8 ) );
+        digest.update( (byte) bytes.length );
+        digest.update( bytes );
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder( bytes.length * 2 );
+        for ( byte b : bytes ) {
+            sb.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) );
+            sb.append( Character.forDigit( b & 0xF, 16 ) );
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Describes the signature of a type and collects the types it refers to.
+     */
+    private static class TypeSignature {
+
+        private final StringBuilder builder = new StringBuilder();
+        private final List<TypeElement> referencedTypes = new ArrayList<>();
+        private final String signature;
+        private boolean erroneous;
+
+        TypeSignature(TypeElement type) {
+            try {
+                appendType( type );
+            }
+            catch ( RuntimeException e ) {
+                // e.g. annotations of library types which are not on the class path; the compiler reports these
+                // types only if they are actually needed, and so would the processor when building the mapper
+                erroneous = true;
+            }
+            this.signature = builder.toString();
+        }
+
+        private void appendType(TypeElement type) {
+            append( type.getKind() ).append( type.getModifiers() );
+            appendAnnotations( type );
+            append( type.getSuperclass() );
+            for ( TypeMirror interfaceType : type.getInterfaces() ) {
+                append( interfaceType );
+            }
+            for ( TypeParameterElement typeParameter : type.getTypeParameters() ) {
+                append( typeParameter.getSimpleName() );
+                for ( TypeMirror bound : typeParameter.getBounds() ) {
+                    append( bound );
+                }
+            }
+            if ( type.getEnclosingElement() instanceof TypeElement ) {
+                referencedTypes.add( (TypeElement) type.getEnclosingElement() );
+            }
+
+            for ( Element member : type.getEnclosedElements() ) {
+                append( member.getKind() ).append( member.getModifiers() ).append( member.getSimpleName() );
+                appendAnnotations( member );
+
+                if ( member instanceof TypeElement ) {
+                    // nested types are described by their own signature
+                    referencedTypes.add( (TypeElement) member );
+                    continue;
+                }
+
+                append( member.asType() );
+                if ( member instanceof ExecutableElement ) {
+                    ExecutableElement method = (ExecutableElement) member;
+                    for ( VariableElement parameter : method.getParameters() ) {
+                        append( parameter.getSimpleName() );
+                        appendAnnotations( parameter );
+                    }
+                    if ( method.getDefaultValue() != null ) {
+                        appendAnnotationValue( method.getDefaultValue() );
+                    }
+                }
+                else if ( member instanceof VariableElement ) {
+                    append( ( (VariableElement) member ).getConstantValue() );
+                }
+            }
+        }
+
+        private void appendAnnotations(Element element) {
+            for ( AnnotationMirror annotation : element.getAnnotationMirrors() ) {
+                appendAnnotation( annotation );
+            }
+        }
+
+        private void appendAnnotation(AnnotationMirror annotation) {
+            append( annotation.getAnnotationType() );
+            for ( Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value :
+                annotation.getElementValues().entrySet() ) {
+                append( value.getKey().getSimpleName() );
+                appendAnnotationValue( value.getValue() );
+            }
+        }
+
+        private void appendAnnotationValue(AnnotationValue value) {
+            value.accept( new SimpleAnnotationValueVisitor8<Void, Void>() {
+
+                @Override
+                protected Void defaultAction(Object o, Void p) {
+                    append( o );
+                    return null;
+                }
+
+                @Override
+                public Void visitType(TypeMirror t, Void p) {
+                    append( t );
+                    return null;
+                }
+
+                @Override
+                public Void visitEnumConstant(VariableElement c, Void p) {
+                    append( c.asType() ).append( c.getSimpleName() );
+                    return null;
+                }
+
+                @Override
+                public Void visitAnnotation(AnnotationMirror a, Void p) {
+                    appendAnnotation( a );
+                    return null;
+                }
+
+                @Override
+                public Void visitArray(List<? extends AnnotationValue> values, Void p) {
+                    append( "[" );
+                    for ( AnnotationValue arrayValue : values ) {
+                        arrayValue.accept( this, null );
+                    }
+                    append( "]" );
+                    return null;
+                }
+            }, null );
+        }
+
+        private TypeSignature append(TypeMirror type) {
+            collectReferencedTypes( type );
+            return append( (Object) type );
+        }
+
+        private TypeSignature append(Object value) {
+            builder.append( value ).append( ';' );
+            return this;
+        }
+
+        private void collectReferencedTypes(TypeMirror type) {
+            if ( type == null ) {
+                return;
+            }
+
+            switch ( type.getKind() ) {
+                case ERROR:
+                    erroneous = true;
+                    break;
+                case DECLARED:
+                    referencedTypes.add( (TypeElement) ( (DeclaredType) type ).asElement() );
+                    for ( TypeMirror typeArgument : ( (DeclaredType) type ).getTypeArguments() ) {
+                        collectReferencedTypes( typeArgument );
+                    }
+                    break;
+                case ARRAY:
+                    collectReferencedTypes( ( (ArrayType) type ).getComponentType() );
+                    break;
+                case WILDCARD:
+                    collectReferencedTypes( ( (WildcardType) type ).getExtendsBound() );
+                    collectReferencedTypes( ( (WildcardType) type ).getSuperBound() );
+                    break;
+                case EXECUTABLE:
+                    ExecutableType executableType = (ExecutableType) type;
+                    collectReferencedTypes( executableType.getReturnType() );
+                    for ( TypeMirror parameterType : executableType.getParameterTypes() ) {
+                        collectReferencedTypes( parameterType );
+                    }
+                    for ( TypeMirror thrownType : executableType.getThrownTypes() ) {
+                        collectReferencedTypes( thrownType );
+                    }
+                    for ( TypeMirror typeVariable : executableType.getTypeVariables() ) {
+                        if ( typeVariable.getKind() == TypeKind.TYPEVAR ) {
+                            collectReferencedTypes( ( (TypeVariable) typeVariable ).getUpperBound() );
+                        }
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Records the files generated for a mapper while passing them on to the compiler's {@link Filer}.
+     */
+    public static class Recording {
+
+        private final TypeElement mapperTypeElement;
+        private final String fingerprint;
+        private final RecordingFiler filer;
+        private final List<CachedFile> files = new ArrayList<>();
+        private int openFiles;
+        private boolean cacheable = true;
+
+        Recording(TypeElement mapperTypeElement, String fingerprint, Filer delegate) {
+            this.mapperTypeElement = mapperTypeElement;
+            this.fingerprint = fingerprint;
+            this.filer = new RecordingFiler( delegate );
+        }
+
+        /**
+         * @return the filer to be used for generating the files of the recorded mapper
+         */
+        public Filer getFiler() {
+            return filer;
+        }
+
+        private boolean isComplete() {
+            return cacheable && openFiles == 0 && !files.isEmpty();
+        }
+
+        private Writer record(int kind, String name, Writer writer) {
+            openFiles++;
+            StringWriter content = new StringWriter();
+
+            return new FilterWriter( writer ) {
+
+                private boolean closed;
+
+                @Override
+                public void write(int c) throws IOException {
+                    super.write( c );
+                    content.write( c );
+                }
+
+                @Override
+                public void write(char[] cbuf, int off, int len) throws IOException {
+                    super.write( cbuf, off, len );
+                    content.write( cbuf, off, len );
+                }
+
+                @Override
+                public void write(String str, int off, int len) throws IOException {
+                    super.write( str, off, len );
+                    content.write( str, off, len );
+                }
+
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    if ( !closed ) {
+                        closed = true;
+                        openFiles--;
+                        files.add( new CachedFile( kind, name, content.toString() ) );
+                    }
+                }
+            };
+        }
+
+        private class RecordingFiler implements Filer {
+
+            private final Filer delegate;
+
+            RecordingFiler(Filer delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public JavaFileObject createSourceFile(CharSequence name, Element... originatingElements)
+                throws IOException {
+                String sourceName = name.toString();
+                JavaFileObject sourceFile = delegate.createSourceFile( name, originatingElements );
+
+                return new ForwardingJavaFileObject<JavaFileObject>( sourceFile ) {
+
+                    @Override
+                    public Writer openWriter() throws IOException {
+                        return record( SOURCE_FILE, sourceName, super.openWriter() );
+                    }
+
+                    @Override
+                    public OutputStream openOutputStream() throws IOException {
+                        cacheable = false;
+                        return super.openOutputStream();
+                    }
+                };
+            }
+
+            @Override
+            public JavaFileObject createClassFile(CharSequence name, Element... originatingElements)
+                throws IOException {
+                cacheable = false;
+                return delegate.createClassFile( name, originatingElements );
+            }
+
+            @Override
+            public FileObject createResource(JavaFileManager.Location location, CharSequence pkg,
+                                             CharSequence relativeName, Element... originatingElements)
+                throws IOException {
+                FileObject resource = delegate.createResource( location, pkg, relativeName, originatingElements );
+                if ( location != StandardLocation.CLASS_OUTPUT || pkg.length() != 0 ) {
+                    cacheable = false;
+                    return resource;
+                }
+
+                String resourceName = relativeName.toString();
+                return new ForwardingFileObject<FileObject>( resource ) {
+
+                    @Override
+                    public Writer openWriter() throws IOException {
+                        return record( RESOURCE, resourceName, super.openWriter() );
+                    }
+
+                    @Override
+                    public OutputStream openOutputStream() throws IOException {
+                        cacheable = false;
+                        return super.openOutputStream();
+                    }
+                };
+            }
+
+            @Override
+            public FileObject getResource(JavaFileManager.Location location, CharSequence pkg,
+                                          CharSequence relativeName)
+                throws IOException {
+                return delegate.getResource( location, pkg, relativeName );
+            }
+        }
+    }
+
+    private static class Entry {
+
+        private final String implementationName;
+        private final List<CachedFile> files;
+
+        Entry(String implementationName, List<CachedFile> files) {
+            this.implementationName = implementationName;
+            this.files = files;
+        }
+    }
+
+    private static class CachedFile {
+
+        private final int kind;
+        private final String name;
+        private final String content;
+
+        CachedFile(int kind, String name, String content) {
+            this.kind = kind;
+            this.name = name;
+            this.content = content;
+        }
+    }
+}
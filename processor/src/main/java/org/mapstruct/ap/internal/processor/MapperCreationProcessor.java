@@ -22,12 +22,14 @@
 import javax.lang.model.util.Types;
 
 import org.mapstruct.ap.internal.model.BeanMappingMethod;
+import org.mapstruct.ap.internal.model.ColumnarMappingMethod;
 import org.mapstruct.ap.internal.model.ContainerMappingMethod;
 import org.mapstruct.ap.internal.model.ContainerMappingMethodBuilder;
 import org.mapstruct.ap.internal.model.Decorator;
 import org.mapstruct.ap.internal.model.DefaultMapperReference;
 import org.mapstruct.ap.internal.model.DelegatingMethod;
 import org.mapstruct.ap.internal.model.Field;
+import org.mapstruct.ap.internal.model.IndexMappingMethod;
 import org.mapstruct.ap.internal.model.IterableMappingMethod;
 import org.mapstruct.ap.internal.model.MapMappingMethod;
 import org.mapstruct.ap.internal.model.Mapper;
@@ -35,6 +37,7 @@
 import org.mapstruct.ap.internal.model.MappingBuilderContext;
 import org.mapstruct.ap.internal.model.MappingMethod;
 import org.mapstruct.ap.internal.model.StreamMappingMethod;
+import org.mapstruct.ap.internal.model.SubclassMappingMethod;
 import org.mapstruct.ap.internal.model.SupportingConstructorFragment;
 import org.mapstruct.ap.internal.model.ValueMappingMethod;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
@@ -102,6 +105,7 @@ public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, L
             typeUtils,
             messager,
             accessorNaming,
+            context.getRoundContext().getAnnotationProcessorContext().getMappingExclusionProvider(),
             options,
             new MappingResolverImpl(
                 messager,
@@ -134,6 +138,7 @@ private List<MapperReference> initReferencedMappers(TypeElement element, MapperC
             DefaultMapperReference mapperReference = DefaultMapperReference.getInstance(
                 typeFactory.getType( usedMapper ),
                 MapperPrism.getInstanceOn( typeUtils.asElement( usedMapper ) ) != null,
+                options.isSharedMapperInstances(),
                 typeFactory,
                 variableNames
             );
@@ -156,6 +161,11 @@ private Mapper getMapper(TypeElement element, MapperConfiguration mapperConfig,
         Set<Field> supportingFieldSet = new LinkedHashSet<>();
         addAllFieldsIn( mappingContext.getUsedSupportedMappings(), supportingFieldSet );
         fields.addAll( supportingFieldSet );
+        for ( MappingMethod mappingMethod : mappingMethods ) {
+            if ( mappingMethod instanceof SubclassMappingMethod ) {
+                fields.add( ( (SubclassMappingMethod) mappingMethod ).getDispatchField() );
+            }
+        }
 
         // handle constructorfragments
         Set<SupportingConstructorFragment> constructorFragments = new LinkedHashSet<>();
@@ -286,7 +296,27 @@ private List<MappingMethod> getMappingMethods(MapperConfiguration mapperConfig,
 
             boolean hasFactoryMethod = false;
 
-            if ( method.isIterableMapping() ) {
+            if ( method.isSubclassMapping() ) {
+                SubclassMappingMethod subclassMappingMethod = createSubclassMappingMethod( method, mappingMethods );
+                if ( subclassMappingMethod == null ) {
+                    // the problem has been reported when building the method
+                    continue;
+                }
+                // all created instances are created by the mappings of the subclasses
+                hasFactoryMethod = true;
+                mappingMethods.add( subclassMappingMethod );
+            }
+            else if ( method.isColumnarMapping() ) {
+                ColumnarMappingMethod columnarMappingMethod = createColumnarMappingMethod( method );
+                if ( columnarMappingMethod == null ) {
+                    // the problem has been reported when building the method
+                    continue;
+                }
+                // abstract result types have been reported when building the method
+                hasFactoryMethod = true;
+                mappingMethods.add( columnarMappingMethod );
+            }
+            else if ( method.isIterableMapping() ) {
                 this.messager.note( 1, Message.ITERABLEMAPPING_CREATE_NOTE, method );
                 IterableMappingMethod iterableMappingMethod = createWithElementMappingMethod(
                     method,
@@ -329,6 +359,21 @@ else if ( method.isMapMapping() ) {
                 hasFactoryMethod = mapMappingMethod.getFactoryMethod() != null;
                 mappingMethods.add( mapMappingMethod );
             }
+            else if ( method.isIndexMapping() ) {
+                this.messager.note( 1, Message.INDEXMAPPING_CREATE_NOTE, method );
+                IndexMappingMethod indexMappingMethod = createWithElementMappingMethod(
+                    method,
+                    mappingOptions,
+                    new IndexMappingMethod.Builder().indexMapping( method.getIndexMapping() )
+                );
+
+                if ( indexMappingMethod == null ) {
+                    // the problem has been reported when building the method
+                    continue;
+                }
+                hasFactoryMethod = indexMappingMethod.getFactoryMethod() != null;
+                mappingMethods.add( indexMappingMethod );
+            }
             else if ( method.isValueMapping() ) {
                 // prefer value mappings over enum mapping
                 this.messager.note( 1, Message.VALUEMAPPING_CREATE_NOTE, method );
@@ -386,6 +431,35 @@ else if ( method.isStreamMapping() ) {
         return mappingMethods;
     }
 
+    private ColumnarMappingMethod createColumnarMappingMethod(SourceMethod method) {
+        this.messager.note( 1, Message.COLUMNARMAPPING_CREATE_NOTE, method );
+        return new ColumnarMappingMethod.Builder()
+            .mappingContext( mappingContext )
+            .method( method )
+            .build();
+    }
+
+    private SubclassMappingMethod createSubclassMappingMethod(SourceMethod method,
+        List<MappingMethod> mappingMethods) {
+        List<String> existingFieldNames = new ArrayList<>();
+        for ( MapperReference mapperReference : mappingContext.getMapperReferences() ) {
+            existingFieldNames.add( mapperReference.getVariableName() );
+        }
+        for ( MappingMethod mappingMethod : mappingMethods ) {
+            if ( mappingMethod instanceof SubclassMappingMethod ) {
+                Field dispatchField = ( (SubclassMappingMethod) mappingMethod ).getDispatchField();
+                existingFieldNames.add( dispatchField.getVariableName() );
+            }
+        }
+
+        this.messager.note( 1, Message.SUBCLASSMAPPING_CREATE_NOTE, method );
+        return new SubclassMappingMethod.Builder()
+            .mappingContext( mappingContext )
+            .method( method )
+            .existingFieldNames( existingFieldNames )
+            .build();
+    }
+
     private <M extends ContainerMappingMethod> M createWithElementMappingMethod(SourceMethod method,
         MappingOptions mappingOptions, ContainerMappingMethodBuilder<?, M> builder) {
 
@@ -0,0 +1,186 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import org.mapstruct.ap.internal.model.MapperRegistry;
+import org.mapstruct.ap.internal.option.Options;
+import org.mapstruct.ap.internal.util.RoundContext;
+import org.mapstruct.ap.internal.version.VersionInformation;
+import org.mapstruct.ap.internal.writer.ModelWriter;
+
+/**
+ * Generates a {@link MapperRegistry} for the public mappers generated in the processing rounds of a module (see
+ * {@link RoundContext#addGeneratedMapper(TypeElement, String)}) and, once processing is over, the
+ * {@code META-INF/services} file announcing it.
+ * <p>
+ * The registry is generated in the first round which doesn't process any mappers, i.e. usually the round compiling the
+ * generated mapper implementations, so a single registry covers all mappers of the module. Only if further mappers
+ * appear in later rounds, e.g. generated by other processors, an additional registry is generated for them.
+ * <p>
+ * The registries are named after a hash of the registered mapper types, so registries of different modules don't
+ * collide, even if they are located in the same package.
+ */
+public class MapperRegistryGenerator {
+
+    static final String MAPPER_REGISTRY_TYPE = "org.mapstruct.factory.MapperRegistry";
+    private static final String MAPPER_REGISTRY_NAME_PREFIX = "MapStructMapperRegistry_";
+
+    private final ProcessingEnvironment processingEnvironment;
+    private final Options options;
+    /**
+     * The implementation names of the public mappers not registered yet, by the qualified names of the mapper types.
+     * Only names are kept, as the elements of one round must not be used in later rounds.
+     */
+    private final Map<String, String> publicMappers = new TreeMap<>();
+    private final List<String> generatedRegistries = new ArrayList<>();
+
+    public MapperRegistryGenerator(ProcessingEnvironment processingEnvironment, Options options) {
+        this.processingEnvironment = processingEnvironment;
+        this.options = options;
+    }
+
+    /**
+     * Collects the public mappers generated in the given round. The registry can only refer to mapper types which are
+     * accessible from any package.
+     *
+     * @param roundContext the current round
+     */
+    public void addGeneratedMappers(RoundContext roundContext) {
+        for ( Map.Entry<TypeElement, String> generatedMapper : roundContext.getGeneratedMappers().entrySet() ) {
+            if ( isPubliclyAccessible( generatedMapper.getKey() ) ) {
+                publicMappers.put( generatedMapper.getKey().getQualifiedName().toString(), generatedMapper.getValue() );
+            }
+        }
+    }
+
+    /**
+     * Generates the registry for the public mappers collected since the last registry was generated, if there are any.
+     */
+    public void generateRegistry() {
+        if ( publicMappers.isEmpty() ) {
+            return;
+        }
+
+        Elements elementUtils = processingEnvironment.getElementUtils();
+        List<MapperRegistry.Entry> entries = new ArrayList<>( publicMappers.size() );
+        List<Element> originatingElements = new ArrayList<>( publicMappers.size() );
+        for ( Map.Entry<String, String> publicMapper : publicMappers.entrySet() ) {
+            entries.add( new MapperRegistry.Entry( publicMapper.getKey(), publicMapper.getValue() ) );
+
+            TypeElement mapperType = elementUtils.getTypeElement( publicMapper.getKey() );
+            if ( mapperType != null ) {
+                originatingElements.add( mapperType );
+            }
+        }
+
+        if ( originatingElements.isEmpty() ) {
+            return;
+        }
+
+        String packageName = elementUtils.getPackageOf( originatingElements.get( 0 ) ).getQualifiedName().toString();
+        String name = MAPPER_REGISTRY_NAME_PREFIX + Integer.toHexString( String.join( ",", publicMappers.keySet() )
+            .hashCode() );
+
+        MapperRegistry registry = new MapperRegistry(
+            packageName,
+            name,
+            entries,
+            getGeneratedTypeName( elementUtils ),
+            options.isSuppressGeneratorTimestamp()
+        );
+
+        String qualifiedName = registry.hasPackageName() ? packageName + "." + name : name;
+        Filer filer = processingEnvironment.getFiler();
+
+        JavaFileObject sourceFile;
+        try {
+            sourceFile = filer.createSourceFile( qualifiedName, originatingElements.toArray( new Element[0] ) );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        new ModelWriter().writeModel( sourceFile, registry );
+        generatedRegistries.add( qualifiedName );
+        publicMappers.clear();
+    }
+
+    /**
+     * Generates the {@code META-INF/services} file for all registries generated so far, if there are any.
+     */
+    public void generateServicesFile() {
+        if ( generatedRegistries.isEmpty() ) {
+            return;
+        }
+
+        try {
+            FileObject servicesFile = processingEnvironment.getFiler().createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                "META-INF/services/" + MAPPER_REGISTRY_TYPE
+            );
+
+            try ( Writer writer = servicesFile.openWriter() ) {
+                for ( String registry : generatedRegistries ) {
+                    writer.write( registry );
+                    writer.write( "\n" );
+                }
+            }
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * @return the fully qualified names of the generated registries
+     */
+    public List<String> getGeneratedRegistries() {
+        return generatedRegistries;
+    }
+
+    private static boolean isPubliclyAccessible(TypeElement mapperTypeElement) {
+        for ( Element element = mapperTypeElement; element instanceof TypeElement;
+            element = element.getEnclosingElement() ) {
+            if ( !element.getModifiers().contains( Modifier.PUBLIC ) ) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private String getGeneratedTypeName(Elements elementUtils) {
+        VersionInformation versionInformation =
+            DefaultVersionInformation.fromProcessingEnvironment( processingEnvironment );
+
+        if ( versionInformation.isSourceVersionAtLeast9() &&
+            elementUtils.getTypeElement( "javax.annotation.processing.Generated" ) != null ) {
+            return "javax.annotation.processing.Generated";
+        }
+        else if ( elementUtils.getTypeElement( "javax.annotation.Generated" ) != null ) {
+            return "javax.annotation.Generated";
+        }
+
+        return null;
+    }
+}
@@ -13,6 +13,7 @@
 
 import org.mapstruct.ap.internal.model.GeneratedType;
 import org.mapstruct.ap.internal.model.Mapper;
+import org.mapstruct.ap.internal.writer.ConcurrentModelWriter;
 import org.mapstruct.ap.internal.writer.ModelWriter;
 
 /**
@@ -26,24 +27,32 @@ public class MapperRenderingProcessor implements ModelElementProcessor<Mapper, M
     @Override
     public Mapper process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
         if ( !context.isErroneous() ) {
-            writeToSourceFile( context.getFiler(), mapper, mapperTypeElement );
+            writeToSourceFile( context, mapper, mapperTypeElement );
             return mapper;
         }
 
         return null;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model, TypeElement originatingElement) {
-        ModelWriter modelWriter = new ModelWriter();
+    private void writeToSourceFile(ProcessorContext context, Mapper model, TypeElement originatingElement) {
+        ConcurrentModelWriter concurrentModelWriter = context.getRoundContext().getConcurrentModelWriter();
+        ModelWriter modelWriter = concurrentModelWriter == null ? new ModelWriter() : null;
 
-        createSourceFile( model, modelWriter, filer, originatingElement );
+        createSourceFile( model, modelWriter, concurrentModelWriter, context.getFiler(), originatingElement );
 
         if ( model.getDecorator() != null ) {
-            createSourceFile( model.getDecorator(), modelWriter, filer, originatingElement );
+            createSourceFile(
+                model.getDecorator(),
+                modelWriter,
+                concurrentModelWriter,
+                context.getFiler(),
+                originatingElement
+            );
         }
     }
 
-    private void createSourceFile(GeneratedType model, ModelWriter modelWriter, Filer filer,
+    private void createSourceFile(GeneratedType model, ModelWriter modelWriter,
+                                  ConcurrentModelWriter concurrentModelWriter, Filer filer,
                                   TypeElement originatingElement) {
         String fileName = "";
         if ( model.hasPackageName() ) {
@@ -59,7 +68,14 @@ private void createSourceFile(GeneratedType model, ModelWriter modelWriter, File
             throw new RuntimeException( e );
         }
 
-        modelWriter.writeModel( sourceFile, model );
+        if ( concurrentModelWriter != null ) {
+            // determining the imports requires the compiler's model, which must not be accessed while rendering
+            model.getImportTypeNames();
+            concurrentModelWriter.writeModel( sourceFile, model, originatingElement );
+        }
+        else {
+            modelWriter.writeModel( sourceFile, model );
+        }
     }
 
     @Override
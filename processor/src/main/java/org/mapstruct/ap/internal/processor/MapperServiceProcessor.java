@@ -24,27 +24,32 @@
  *
  * Service files will only be generated for mappers with the default component model
  * unless force using the {@code mapstruct.alwaysGenerateServicesFile} option.
+ * <p>
+ * Mappers with the default component model are furthermore registered with the current round, so they can be added
+ * to the generated mapper registry and native image configuration, if enabled.
  *
  * @author Christophe Labouisse on 12/07/2015.
  */
 public class MapperServiceProcessor  implements ModelElementProcessor<Mapper, Void> {
     @Override
     public Void process(ProcessorContext context, TypeElement mapperTypeElement, Mapper mapper) {
-        boolean spiGenerationNeeded;
+        String componentModel =
+            MapperConfiguration.getInstanceOn( mapperTypeElement ).componentModel( context.getOptions() );
+        boolean defaultComponentModel = "default".equals( componentModel );
+        boolean spiGenerationNeeded = context.getOptions().isAlwaysGenerateSpi() || defaultComponentModel;
 
-        if ( context.getOptions().isAlwaysGenerateSpi() ) {
-            spiGenerationNeeded = true;
+        if ( !context.isErroneous() && spiGenerationNeeded && mapper.hasCustomImplementation() ) {
+            writeToSourceFile( context.getFiler(), mapper, mapperTypeElement );
         }
-        else {
-            String componentModel =
-                MapperConfiguration.getInstanceOn( mapperTypeElement ).componentModel( context.getOptions() );
 
-            spiGenerationNeeded = "default".equals( componentModel );
-        }
+        if ( !context.isErroneous() && defaultComponentModel ) {
+            GeneratedType implementation = mapper.getDecorator() == null ? mapper : mapper.getDecorator();
+            String implementationName = implementation.hasPackageName() ?
+                implementation.getPackageName() + "." + implementation.getName() : implementation.getName();
 
-        if ( !context.isErroneous() && spiGenerationNeeded && mapper.hasCustomImplementation() ) {
-            writeToSourceFile( context.getFiler(), mapper );
+            context.getRoundContext().addGeneratedMapper( mapperTypeElement, implementationName );
         }
+
         return null;
     }
 
@@ -53,11 +58,11 @@ public int getPriority() {
         return 10000;
     }
 
-    private void writeToSourceFile(Filer filer, Mapper model) {
+    private void writeToSourceFile(Filer filer, Mapper model, TypeElement originatingElement) {
         ModelWriter modelWriter = new ModelWriter();
         ServicesEntry servicesEntry = getServicesEntry( model.getDecorator() == null ? model : model.getDecorator() );
 
-        createSourceFile( servicesEntry, modelWriter, filer );
+        createSourceFile( servicesEntry, modelWriter, filer, originatingElement );
     }
 
     private ServicesEntry getServicesEntry(GeneratedType model) {
@@ -67,12 +72,18 @@ private ServicesEntry getServicesEntry(GeneratedType model) {
                                  model.getPackageName(), model.getName());
     }
 
-    private void createSourceFile(ServicesEntry model, ModelWriter modelWriter, Filer filer) {
+    private void createSourceFile(ServicesEntry model, ModelWriter modelWriter, Filer filer,
+                                  TypeElement originatingElement) {
         String fileName = model.getPackageName() + "." + model.getName();
 
         FileObject sourceFile;
         try {
-            sourceFile = filer.createResource( StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + fileName );
+            sourceFile = filer.createResource(
+                StandardLocation.CLASS_OUTPUT,
+                "",
+                "META-INF/services/" + fileName,
+                originatingElement
+            );
         }
         catch ( IOException e ) {
             throw new RuntimeException( e );
@@ -24,18 +24,24 @@
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.model.source.BeanMapping;
+import org.mapstruct.ap.internal.model.source.IndexMapping;
 import org.mapstruct.ap.internal.model.source.IterableMapping;
 import org.mapstruct.ap.internal.model.source.MapMapping;
 import org.mapstruct.ap.internal.model.source.Mapping;
 import org.mapstruct.ap.internal.model.source.ParameterProvidedMethods;
 import org.mapstruct.ap.internal.model.source.SourceMethod;
+import org.mapstruct.ap.internal.model.source.SubclassMapping;
 import org.mapstruct.ap.internal.model.source.ValueMapping;
 import org.mapstruct.ap.internal.prism.BeanMappingPrism;
+import org.mapstruct.ap.internal.prism.ColumnarMappingPrism;
+import org.mapstruct.ap.internal.prism.IndexMappingPrism;
 import org.mapstruct.ap.internal.prism.IterableMappingPrism;
 import org.mapstruct.ap.internal.prism.MapMappingPrism;
 import org.mapstruct.ap.internal.prism.MappingPrism;
 import org.mapstruct.ap.internal.prism.MappingsPrism;
 import org.mapstruct.ap.internal.prism.ObjectFactoryPrism;
+import org.mapstruct.ap.internal.prism.SubclassMappingPrism;
+import org.mapstruct.ap.internal.prism.SubclassMappingsPrism;
 import org.mapstruct.ap.internal.prism.ValueMappingPrism;
 import org.mapstruct.ap.internal.prism.ValueMappingsPrism;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
@@ -235,6 +241,12 @@ private SourceMethod getMethodRequiringImplementation(ExecutableType methodType,
             return null;
         }
 
+        IndexMappingPrism indexMappingPrism = IndexMappingPrism.getInstanceOn( method );
+        IndexMapping indexMapping = IndexMapping.fromPrism( indexMappingPrism, method, messager );
+        if ( indexMappingPrism != null && indexMapping == null ) {
+            return null;
+        }
+
         ParameterProvidedMethods contextProvidedMethods =
             retrieveContextProvidedMethods( contextParameters, mapperToImplement, mapperConfig );
 
@@ -253,6 +265,8 @@ private SourceMethod getMethodRequiringImplementation(ExecutableType methodType,
                 ) )
             .setMapMapping(
                 MapMapping.fromPrism( MapMappingPrism.getInstanceOn( method ), method, messager, typeUtils ) )
+            .setIndexMapping( indexMapping )
+            .setSubclassMappings( getSubclassMappings( method ) )
             .setBeanMapping(
                 BeanMapping.fromPrism( BeanMappingPrism.getInstanceOn( method ), method, messager, typeUtils ) )
             .setValueMappings( getValueMappings( method ) )
@@ -429,7 +443,28 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
 
         Type parameterType = sourceParameters.get( 0 ).getType();
 
-        if ( parameterType.isIterableOrStreamType() && !resultType.isIterableOrStreamType() ) {
+        boolean isIndexMapping = IndexMappingPrism.getInstanceOn( method ) != null;
+        if ( isIndexMapping && !( parameterType.isIterableType() && resultType.isMapType() ) ) {
+            messager.printMessage( method, Message.INDEXMAPPING_NOT_ITERABLE_TO_MAP );
+            return false;
+        }
+
+        boolean isColumnarMapping = ColumnarMappingPrism.getInstanceOn( method ) != null;
+        if ( isColumnarMapping && !isColumnarMapping( parameterType, resultType, targetParameter ) ) {
+            messager.printMessage( method, Message.COLUMNARMAPPING_INVALID_METHOD );
+            return false;
+        }
+
+        boolean isSubclassMapping = SubclassMappingPrism.getInstanceOn( method ) != null
+            || SubclassMappingsPrism.getInstanceOn( method ) != null;
+        if ( isSubclassMapping && ( sourceParameters.size() != 1 || targetParameter != null
+            || !isBeanType( parameterType ) || !isBeanType( resultType ) ) ) {
+            messager.printMessage( method, Message.SUBCLASSMAPPING_INVALID_METHOD );
+            return false;
+        }
+
+        if ( parameterType.isIterableOrStreamType() && !resultType.isIterableOrStreamType() && !isIndexMapping
+            && !isColumnarMapping ) {
             messager.printMessage( method, Message.RETRIEVAL_ITERABLE_TO_NON_ITERABLE );
             return false;
         }
@@ -439,7 +474,7 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
             return false;
         }
 
-        if ( !parameterType.isIterableOrStreamType() && resultType.isIterableOrStreamType() ) {
+        if ( !parameterType.isIterableOrStreamType() && resultType.isIterableOrStreamType() && !isColumnarMapping ) {
             messager.printMessage( method, Message.RETRIEVAL_NON_ITERABLE_TO_ITERABLE );
             return false;
         }
@@ -490,6 +525,24 @@ private boolean checkParameterAndReturnType(ExecutableElement method, List<Param
         return true;
     }
 
+    /**
+     * A columnar mapping maps a collection or an array of beans to a bean type (the columns) or vice versa.
+     */
+    private boolean isColumnarMapping(Type parameterType, Type resultType, Parameter targetParameter) {
+        if ( targetParameter != null ) {
+            return false;
+        }
+        if ( parameterType.isArrayType() || parameterType.isCollectionType() ) {
+            return isBeanType( resultType );
+        }
+        return resultType.isCollectionType() && isBeanType( parameterType );
+    }
+
+    private boolean isBeanType(Type type) {
+        return !type.isIterableOrStreamType() && !type.isMapType() && !type.isPrimitive() && !type.isEnumType()
+            && !type.isNative();
+    }
+
     /**
      * Retrieves the mappings configured via {@code @Mapping} from the given
      * method.
@@ -515,6 +568,31 @@ private Set<Mapping> getMappings(ExecutableElement method) {
         return mappings;
     }
 
+    /**
+     * Retrieves the mappings configured via {@code @SubclassMapping} from the given
+     * method.
+     *
+     * @param method The method of interest
+     *
+     * @return The subclass mappings for the given method
+     */
+    private List<SubclassMapping> getSubclassMappings(ExecutableElement method) {
+        List<SubclassMapping> subclassMappings = new ArrayList<>();
+
+        SubclassMappingPrism mappingAnnotation = SubclassMappingPrism.getInstanceOn( method );
+        SubclassMappingsPrism mappingsAnnotation = SubclassMappingsPrism.getInstanceOn( method );
+
+        if ( mappingAnnotation != null ) {
+            SubclassMapping.fromMappingPrism( mappingAnnotation, method, messager, typeUtils, subclassMappings );
+        }
+
+        if ( mappingsAnnotation != null ) {
+            SubclassMapping.fromMappingsPrism( mappingsAnnotation, method, messager, typeUtils, subclassMappings );
+        }
+
+        return subclassMappings;
+    }
+
     /**
      * Retrieves the mappings configured via {@code @ValueMapping} from the given
      * method.
@@ -15,6 +15,7 @@
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.util.AccessorNamingUtils;
 import org.mapstruct.ap.internal.util.FormattingMessager;
+import org.mapstruct.ap.internal.util.RoundContext;
 import org.mapstruct.ap.internal.version.VersionInformation;
 
 /**
@@ -55,6 +56,8 @@ public interface ProcessorContext {
 
         VersionInformation getVersionInformation();
 
+        RoundContext getRoundContext();
+
         /**
          * Whether the currently processed mapper type is erroneous which is the
          * case if at least one diagnostic with {@link Kind#ERROR} is reported
@@ -0,0 +1,157 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.mapstruct.ap.internal.util.RoundContext;
+
+/**
+ * Generates the GraalVM native image configuration required for retrieving the generated mappers via
+ * {@code Mappers#getMapper()}:
+ * <ul>
+ * <li>{@code reflect-config.json}, registering the mapper implementation types (which are loaded by name and
+ * instantiated reflectively) as well as any generated mapper registries (which are instantiated by the service
+ * loader)</li>
+ * <li>{@code resource-config.json}, registering the {@code META-INF/services} files of mappers with a custom
+ * implementation name or package and of the mapper registries</li>
+ * </ul>
+ * The configuration is collected over all processing rounds and written once processing is over, as each file can be
+ * created only once. The files are located in {@code META-INF/native-image/<package>/mapstruct/}, where
+ * {@code <package>} is the common package of all mappers of the compiled module, so the configurations of different
+ * modules don't collide when their JARs are merged.
+ */
+public class NativeImageConfigGenerator {
+
+    private static final String CONFIG_LOCATION_PREFIX = "META-INF/native-image/";
+    private static final String CONFIG_LOCATION_SUFFIX = "/mapstruct/";
+    private static final String DEFAULT_PACKAGE_DIRECTORY = "default-package";
+
+    private final ProcessingEnvironment processingEnvironment;
+    private final SortedSet<String> reflectiveTypes = new TreeSet<>();
+    private final SortedSet<String> serviceFiles = new TreeSet<>();
+    private final SortedSet<String> mapperPackages = new TreeSet<>();
+
+    public NativeImageConfigGenerator(ProcessingEnvironment processingEnvironment) {
+        this.processingEnvironment = processingEnvironment;
+    }
+
+    /**
+     * Adds the mappers generated in the given round to the configuration.
+     *
+     * @param roundContext the current round
+     */
+    public void addGeneratedMappers(RoundContext roundContext) {
+        for ( Map.Entry<TypeElement, String> mapper : roundContext.getGeneratedMappers().entrySet() ) {
+            String mapperName = processingEnvironment.getElementUtils()
+                .getBinaryName( mapper.getKey() )
+                .toString();
+
+            reflectiveTypes.add( mapper.getValue() );
+            mapperPackages.add( processingEnvironment.getElementUtils()
+                .getPackageOf( mapper.getKey() )
+                .getQualifiedName()
+                .toString() );
+
+            if ( !mapper.getValue().equals( mapperName + "Impl" ) ) {
+                serviceFiles.add( "META-INF/services/" + mapperName );
+            }
+        }
+    }
+
+    /**
+     * Adds the given generated mapper registries to the configuration.
+     *
+     * @param registries the fully qualified names of the registries
+     */
+    public void addMapperRegistries(Iterable<String> registries) {
+        for ( String registry : registries ) {
+            reflectiveTypes.add( registry );
+            serviceFiles.add( "META-INF/services/" + MapperRegistryGenerator.MAPPER_REGISTRY_TYPE );
+        }
+    }
+
+    /**
+     * Writes the configuration files, if any mappers have been generated.
+     */
+    public void generateConfigFiles() {
+        if ( reflectiveTypes.isEmpty() ) {
+            return;
+        }
+
+        Filer filer = processingEnvironment.getFiler();
+        String configLocation = CONFIG_LOCATION_PREFIX + getConfigDirectory() + CONFIG_LOCATION_SUFFIX;
+
+        try ( Writer writer = createConfigFile( filer, configLocation + "reflect-config.json" ) ) {
+            writer.write( "[\n" );
+            for ( Iterator<String> it = reflectiveTypes.iterator(); it.hasNext(); ) {
+                writer.write( "  {\n" );
+                writer.write( "    \"name\" : \"" + it.next() + "\",\n" );
+                writer.write( "    \"methods\" : [ { \"name\" : \"<init>\", \"parameterTypes\" : [] } ]\n" );
+                writer.write( it.hasNext() ? "  },\n" : "  }\n" );
+            }
+            writer.write( "]\n" );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+
+        try ( Writer writer = createConfigFile( filer, configLocation + "resource-config.json" ) ) {
+            writer.write( "{\n" );
+            writer.write( "  \"resources\" : {\n" );
+            writer.write( "    \"includes\" : [\n" );
+            for ( Iterator<String> it = serviceFiles.iterator(); it.hasNext(); ) {
+                writer.write( "      { \"pattern\" : \"\\\\Q" + it.next() + "\\\\E\" }" );
+                writer.write( it.hasNext() ? ",\n" : "\n" );
+            }
+            writer.write( "    ]\n" );
+            writer.write( "  }\n" );
+            writer.write( "}\n" );
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    /**
+     * @return the longest package name which all mapper packages start with, or the first mapper package if they
+     * have no common package
+     */
+    private String getConfigDirectory() {
+        String commonPackage = mapperPackages.first();
+        for ( String mapperPackage : mapperPackages ) {
+            while ( !mapperPackage.equals( commonPackage ) && !mapperPackage.startsWith( commonPackage + "." ) ) {
+                int lastDot = commonPackage.lastIndexOf( '.' );
+                if ( lastDot == -1 ) {
+                    commonPackage = "";
+                    break;
+                }
+                commonPackage = commonPackage.substring( 0, lastDot );
+            }
+        }
+
+        if ( commonPackage.isEmpty() ) {
+            commonPackage = mapperPackages.first();
+        }
+
+        return commonPackage.isEmpty() ? DEFAULT_PACKAGE_DIRECTORY : commonPackage;
+    }
+
+    private Writer createConfigFile(Filer filer, String fileName) throws IOException {
+        FileObject configFile = filer.createResource( StandardLocation.CLASS_OUTPUT, "", fileName );
+        return configFile.openWriter();
+    }
+}
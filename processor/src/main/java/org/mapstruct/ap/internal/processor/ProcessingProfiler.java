@@ -0,0 +1,190 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.sun.management.ThreadMXBean;
+import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
+
+/**
+ * Records the wall time and the memory allocated per mapper in each {@link ModelElementProcessor}, and writes a
+ * summary of all rounds to {@value #PROFILE_FILE_NAME} in the source output directory once processing is over.
+ * <p>
+ * Phases aborted by a {@link TypeHierarchyErroneousException} are reported separately, as the work done for a mapper
+ * before it gets deferred to a later round is spent in vain. Allocations are only reported if the JVM supports
+ * measuring them per thread; when rendering mappers concurrently, the allocations of the rendering threads aren't
+ * accounted.
+ */
+public class ProcessingProfiler {
+
+    static final String PROFILE_FILE_NAME = "mapstruct-processing-profile.txt";
+
+    private final ProcessingEnvironment processingEnvironment;
+    private final ThreadMXBean threadMXBean;
+    private final Map<String, List<Measurement>> measurementsByMapper = new LinkedHashMap<>();
+    private int round;
+
+    public ProcessingProfiler(ProcessingEnvironment processingEnvironment) {
+        this.processingEnvironment = processingEnvironment;
+        this.threadMXBean = getThreadMXBean();
+    }
+
+    private static ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if ( threadMXBean instanceof ThreadMXBean
+            && ( (ThreadMXBean) threadMXBean ).isThreadAllocatedMemorySupported()
+            && ( (ThreadMXBean) threadMXBean ).isThreadAllocatedMemoryEnabled() ) {
+            return (ThreadMXBean) threadMXBean;
+        }
+        return null;
+    }
+
+    /**
+     * Marks the beginning of another processing round.
+     */
+    public void nextRound() {
+        round++;
+    }
+
+    /**
+     * Runs the given phase of processing the given mapper and records its wall time and allocated memory.
+     *
+     * @param mapperTypeElement the processed mapper
+     * @param processor the processor applied to the mapper
+     * @param phase applies the processor
+     * @param <R> the result type of the processor
+     * @return the result of the given phase
+     */
+    public <R> R profile(TypeElement mapperTypeElement, ModelElementProcessor<?, ?> processor, Supplier<R> phase) {
+        long startTime = System.nanoTime();
+        long startAllocatedBytes = getAllocatedBytes();
+        boolean deferred = false;
+
+        try {
+            return phase.get();
+        }
+        catch ( TypeHierarchyErroneousException e ) {
+            deferred = true;
+            throw e;
+        }
+        finally {
+            measurementsByMapper.computeIfAbsent(
+                mapperTypeElement.getQualifiedName().toString(),
+                k -> new ArrayList<>()
+            )
+                .add( new Measurement(
+                    processor.getClass().getSimpleName(),
+                    round,
+                    deferred,
+                    System.nanoTime() - startTime,
+                    threadMXBean != null ? getAllocatedBytes() - startAllocatedBytes : -1
+                ) );
+        }
+    }
+
+    private long getAllocatedBytes() {
+        return threadMXBean != null ? threadMXBean.getThreadAllocatedBytes( Thread.currentThread().getId() ) : -1;
+    }
+
+    /**
+     * Writes the profile, listing the mappers by descending total wall time, followed by the totals per phase.
+     */
+    public void generateProfile() {
+        if ( measurementsByMapper.isEmpty() ) {
+            return;
+        }
+
+        List<Map.Entry<String, List<Measurement>>> mappers = new ArrayList<>( measurementsByMapper.entrySet() );
+        mappers.sort( Comparator.comparingLong( e -> -total( e.getValue() ).nanos ) );
+
+        Map<String, Measurement> phaseTotals = new LinkedHashMap<>();
+
+        try ( Writer writer = createProfileFile() ) {
+            writer.write( "MapStruct processing profile (wall time in ms, allocated memory in KiB)\n" );
+
+            for ( Map.Entry<String, List<Measurement>> mapper : mappers ) {
+                writer.write( "\n" );
+                writeLine( writer, mapper.getKey(), total( mapper.getValue() ) );
+
+                for ( Measurement measurement : mapper.getValue() ) {
+                    String phase = measurement.deferred ?
+                        measurement.phase + " (deferred in round " + measurement.round + ")" :
+                        measurement.phase;
+
+                    writeLine( writer, "  " + phase, measurement );
+                    phaseTotals.merge( phase, measurement, Measurement::add );
+                }
+            }
+
+            writer.write( "\nTotal per phase\n" );
+            for ( Map.Entry<String, Measurement> phaseTotal : phaseTotals.entrySet() ) {
+                writeLine( writer, "  " + phaseTotal.getKey(), phaseTotal.getValue() );
+            }
+        }
+        catch ( IOException e ) {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private Writer createProfileFile() throws IOException {
+        FileObject profileFile = processingEnvironment.getFiler()
+            .createResource( StandardLocation.SOURCE_OUTPUT, "", PROFILE_FILE_NAME );
+        return profileFile.openWriter();
+    }
+
+    private static Measurement total(List<Measurement> measurements) {
+        return measurements.stream().reduce( Measurement::add ).orElseThrow( IllegalStateException::new );
+    }
+
+    private static void writeLine(Writer writer, String label, Measurement measurement) throws IOException {
+        writer.write( String.format(
+            "%-100s %10.1f %12s\n",
+            label,
+            measurement.nanos / 1_000_000D,
+            measurement.allocatedBytes >= 0 ? String.valueOf( measurement.allocatedBytes / 1024 ) : "n/a"
+        ) );
+    }
+
+    private static class Measurement {
+
+        private final String phase;
+        private final int round;
+        private final boolean deferred;
+        private final long nanos;
+        private final long allocatedBytes;
+
+        Measurement(String phase, int round, boolean deferred, long nanos, long allocatedBytes) {
+            this.phase = phase;
+            this.round = round;
+            this.deferred = deferred;
+            this.nanos = nanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        Measurement add(Measurement other) {
+            return new Measurement(
+                phase,
+                round,
+                deferred,
+                nanos + other.nanos,
+                allocatedBytes >= 0 && other.allocatedBytes >= 0 ? allocatedBytes + other.allocatedBytes : -1
+            );
+        }
+    }
+}
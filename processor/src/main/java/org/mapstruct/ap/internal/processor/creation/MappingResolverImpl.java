@@ -6,11 +6,17 @@
 package org.mapstruct.ap.internal.processor.creation;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.function.Supplier;
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
@@ -34,16 +40,19 @@
 import org.mapstruct.ap.internal.model.common.ConversionContext;
 import org.mapstruct.ap.internal.model.common.DefaultConversionContext;
 import org.mapstruct.ap.internal.model.common.FormattingParameters;
+import org.mapstruct.ap.internal.model.common.Parameter;
 import org.mapstruct.ap.internal.model.common.SourceRHS;
 import org.mapstruct.ap.internal.model.common.Type;
 import org.mapstruct.ap.internal.model.common.TypeFactory;
 import org.mapstruct.ap.internal.model.source.Method;
+import org.mapstruct.ap.internal.model.source.SourceMethod;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInMappingMethods;
 import org.mapstruct.ap.internal.model.source.builtin.BuiltInMethod;
 import org.mapstruct.ap.internal.model.source.selector.MethodSelectors;
 import org.mapstruct.ap.internal.model.source.selector.SelectedMethod;
 import org.mapstruct.ap.internal.model.source.selector.SelectionCriteria;
 import org.mapstruct.ap.internal.prism.ReportingPolicyPrism;
+import org.mapstruct.ap.internal.prism.XmlElementDeclPrism;
 import org.mapstruct.ap.internal.util.Collections;
 import org.mapstruct.ap.internal.util.FormattingMessager;
 import org.mapstruct.ap.internal.util.Message;
@@ -51,6 +60,7 @@
 import org.mapstruct.ap.internal.util.Strings;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.unmodifiableList;
 import static org.mapstruct.ap.internal.util.Collections.first;
 
 /**
@@ -66,13 +76,32 @@ public class MappingResolverImpl implements MappingResolver {
     private final Types typeUtils;
     private final TypeFactory typeFactory;
 
-    private final List<Method> sourceModel;
+    private final SourceTypeMethodIndex<Method> sourceModelIndex;
     private final List<MapperReference> mapperReferences;
 
     private final Conversions conversions;
-    private final BuiltInMappingMethods builtInMethods;
+    private final SourceTypeMethodIndex<BuiltInMethod> builtInMethodIndex;
     private final MethodSelectors methodSelectors;
 
+    /**
+     * The outcome of selecting methods for a given combination of source type, target type and selection criteria.
+     * Many properties of the mapping methods of a mapper share such a combination, so the selection is only carried
+     * out once for each of them.
+     */
+    private final Map<SelectionKey, SelectionOutcome> selectionOutcomes = new HashMap<>();
+
+    /**
+     * The messager used by the method selectors, recording the messages reported during a selection, so they can be
+     * reported again whenever the outcome of the selection is reused.
+     */
+    private final RecordingMessager selectionMessager;
+
+    /**
+     * Whether the target property name needs to be considered when selecting methods, which is only the case for
+     * methods annotated with {@code @XmlElementDecl}.
+     */
+    private final boolean selectionByTargetPropertyName;
+
     /**
      * Private methods which are not present in the original mapper interface and are added to map certain property
      * types.
@@ -86,12 +115,23 @@ public MappingResolverImpl(FormattingMessager messager, Elements elementUtils, T
         this.typeUtils = typeUtils;
         this.typeFactory = typeFactory;
 
-        this.sourceModel = sourceModel;
+        this.sourceModelIndex = new SourceTypeMethodIndex<>(
+            typeUtils,
+            filterPossibleCandidateMethods( sourceModel )
+        );
         this.mapperReferences = mapperReferences;
 
         this.conversions = new Conversions( elementUtils, typeFactory );
-        this.builtInMethods = new BuiltInMappingMethods( typeFactory );
-        this.methodSelectors = new MethodSelectors( typeUtils, elementUtils, typeFactory, messager );
+        this.builtInMethodIndex = new SourceTypeMethodIndex<>(
+            typeUtils,
+            new BuiltInMappingMethods( typeFactory ).getBuiltInMethods()
+        );
+        this.selectionMessager = new RecordingMessager( messager );
+        this.methodSelectors = new MethodSelectors( typeUtils, elementUtils, typeFactory, selectionMessager );
+        this.selectionByTargetPropertyName = sourceModelIndex.getMethods()
+            .stream()
+            .anyMatch( method -> method instanceof SourceMethod
+                && XmlElementDeclPrism.getInstanceOn( method.getExecutable() ) != null );
     }
 
     @Override
@@ -102,7 +142,6 @@ public Assignment getTargetAssignment(Method mappingMethod, Type targetType,
                                           Supplier<Assignment> forger) {
 
         ResolvingAttempt attempt = new ResolvingAttempt(
-            sourceModel,
             mappingMethod,
             formattingParameters,
             sourceRHS,
@@ -119,6 +158,36 @@ public Set<SupportingMappingMethod> getUsedSupportedMappings() {
         return usedSupportedMappings;
     }
 
+    private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods) {
+        List<T> result = new ArrayList<>( candidateMethods.size() );
+        for ( T candidate : candidateMethods ) {
+            if ( isCandidateForMapping( candidate ) ) {
+                result.add( candidate );
+            }
+        }
+
+        return result;
+    }
+
+    private boolean isCandidateForMapping(Method methodCandidate) {
+        return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
+    }
+
+    private boolean isCreateMethodForMapping(Method methodCandidate) {
+        // a create method may not return void and has no target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && !methodCandidate.getReturnType().isVoid()
+            && methodCandidate.getMappingTargetParameter() == null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
+    private boolean isUpdateMethodForMapping(Method methodCandidate) {
+        // an update method may, or may not return void and has a target parameter
+        return methodCandidate.getSourceParameters().size() == 1
+            && methodCandidate.getMappingTargetParameter() != null
+            && !methodCandidate.isLifecycleCallbackMethod();
+    }
+
     private MapperReference findMapperReference(Method method) {
         for ( MapperReference ref : mapperReferences ) {
             if ( ref.getType().equals( method.getDeclaringMapper() ) ) {
@@ -133,7 +202,6 @@ private MapperReference findMapperReference(Method method) {
     private class ResolvingAttempt {
 
         private final Method mappingMethod;
-        private final List<Method> methods;
         private final SelectionCriteria selectionCriteria;
         private final SourceRHS sourceRHS;
         private final boolean savedPreferUpdateMapping;
@@ -146,14 +214,13 @@ private class ResolvingAttempt {
         // so this set must be cleared.
         private final Set<SupportingMappingMethod> supportingMethodCandidates;
 
-        private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod,
+        private ResolvingAttempt(Method mappingMethod,
                                  FormattingParameters formattingParameters, SourceRHS sourceRHS,
                                  SelectionCriteria criteria,
                                  AnnotationMirror positionHint,
                                  Supplier<Assignment> forger) {
 
             this.mappingMethod = mappingMethod;
-            this.methods = filterPossibleCandidateMethods( sourceModel );
             this.formattingParameters =
                 formattingParameters == null ? FormattingParameters.EMPTY : formattingParameters;
             this.sourceRHS = sourceRHS;
@@ -164,17 +231,6 @@ private ResolvingAttempt(List<Method> sourceModel, Method mappingMethod,
             this.forger = forger;
         }
 
-        private <T extends Method> List<T> filterPossibleCandidateMethods(List<T> candidateMethods) {
-            List<T> result = new ArrayList<>( candidateMethods.size() );
-            for ( T candidate : candidateMethods ) {
-                if ( isCandidateForMapping( candidate ) ) {
-                    result.add( candidate );
-                }
-            }
-
-            return result;
-        }
-
         private Assignment getTargetAssignment(Type sourceType, Type targetType) {
 
             // first simple mapping method
@@ -304,7 +360,8 @@ private ConversionAssignment resolveViaConversion(Type sourceType, Type targetTy
         private Assignment resolveViaMethod(Type sourceType, Type targetType, boolean considerBuiltInMethods) {
 
             // first try to find a matching source method
-            SelectedMethod<Method> matchingSourceMethod = getBestMatch( methods, sourceType, targetType );
+            SelectedMethod<Method> matchingSourceMethod =
+                getBestMatch( sourceModelIndex, sourceType, targetType );
 
             if ( matchingSourceMethod != null ) {
                 return getMappingMethodReference( matchingSourceMethod, targetType );
@@ -319,7 +376,7 @@ private Assignment resolveViaMethod(Type sourceType, Type targetType, boolean co
 
         private Assignment resolveViaBuiltInMethod(Type sourceType, Type targetType) {
             SelectedMethod<BuiltInMethod> matchingBuiltInMethod =
-                getBestMatch( builtInMethods.getBuiltInMethods(), sourceType, targetType );
+                getBestMatch( builtInMethodIndex, sourceType, targetType );
 
             if ( matchingBuiltInMethod != null ) {
 
@@ -355,10 +412,12 @@ private Assignment resolveViaBuiltInMethod(Type sourceType, Type targetType) {
          */
         private Assignment resolveViaMethodAndMethod(Type sourceType, Type targetType) {
 
-            List<Method> methodYCandidates = new ArrayList<>( methods );
-            methodYCandidates.addAll( builtInMethods.getBuiltInMethods() );
+            List<Method> methodYCandidates = new ArrayList<>( sourceModelIndex.getMethods() );
+            methodYCandidates.addAll( builtInMethodIndex.getMethods() );
 
             Assignment methodRefY = null;
+            // intermediate types for which no method 'Y' to the target type exists, no need to look again
+            Set<Type> unmappableTypesY = new HashSet<>();
 
             // Iterate over all source methods. Check if the return type matches with the parameter that we need.
             // so assume we need a method from A to C we look for a methodX from A to B (all methods in the
@@ -373,13 +432,19 @@ private Assignment resolveViaMethodAndMethod(Type sourceType, Type targetType) {
                     continue;
                 }
 
-                methodRefY =
-                    resolveViaMethod( methodYCandidate.getSourceParameters().get( 0 ).getType(), targetType, true );
+                Type typeY = methodYCandidate.getSourceParameters().get( 0 ).getType();
+                if ( unmappableTypesY.contains( typeY ) ) {
+                    continue;
+                }
+
+                methodRefY = resolveViaMethod( typeY, targetType, true );
 
-                if ( methodRefY != null ) {
+                if ( methodRefY == null ) {
+                    unmappableTypesY.add( typeY );
+                }
+                else {
                     selectionCriteria.setPreferUpdateMapping( false );
-                    Assignment methodRefX =
-                        resolveViaMethod( sourceType, methodYCandidate.getSourceParameters().get( 0 ).getType(), true );
+                    Assignment methodRefX = resolveViaMethod( sourceType, typeY, true );
                     selectionCriteria.setPreferUpdateMapping( savedPreferUpdateMapping );
                     if ( methodRefX != null ) {
                         methodRefY.setAssignment( methodRefX );
@@ -410,10 +475,12 @@ private Assignment resolveViaMethodAndMethod(Type sourceType, Type targetType) {
          */
         private Assignment resolveViaConversionAndMethod(Type sourceType, Type targetType) {
 
-            List<Method> methodYCandidates = new ArrayList<>( methods );
-            methodYCandidates.addAll( builtInMethods.getBuiltInMethods() );
+            List<Method> methodYCandidates = new ArrayList<>( sourceModelIndex.getMethods() );
+            methodYCandidates.addAll( builtInMethodIndex.getMethods() );
 
             Assignment methodRefY = null;
+            // intermediate types for which no method 'Y' to the target type exists, no need to look again
+            Set<Type> unmappableTypesY = new HashSet<>();
 
             for ( Method methodYCandidate : methodYCandidates ) {
                 if ( Object.class.getName()
@@ -422,12 +489,18 @@ private Assignment resolveViaConversionAndMethod(Type sourceType, Type targetTyp
                     continue;
                 }
 
-                methodRefY =
-                    resolveViaMethod( methodYCandidate.getSourceParameters().get( 0 ).getType(), targetType, true );
+                Type typeY = methodYCandidate.getSourceParameters().get( 0 ).getType();
+                if ( unmappableTypesY.contains( typeY ) ) {
+                    continue;
+                }
 
-                if ( methodRefY != null ) {
-                    Type targetTypeX = methodYCandidate.getSourceParameters().get( 0 ).getType();
-                    ConversionAssignment conversionXRef = resolveViaConversion( sourceType, targetTypeX );
+                methodRefY = resolveViaMethod( typeY, targetType, true );
+
+                if ( methodRefY == null ) {
+                    unmappableTypesY.add( typeY );
+                }
+                else {
+                    ConversionAssignment conversionXRef = resolveViaConversion( sourceType, typeY );
                     if ( conversionXRef != null ) {
                         methodRefY.setAssignment( conversionXRef.getAssignment() );
                         conversionXRef.getAssignment().setAssignment( sourceRHS );
@@ -458,10 +531,12 @@ private Assignment resolveViaConversionAndMethod(Type sourceType, Type targetTyp
          */
         private ConversionAssignment resolveViaMethodAndConversion(Type sourceType, Type targetType) {
 
-            List<Method> methodXCandidates = new ArrayList<>( methods );
-            methodXCandidates.addAll( builtInMethods.getBuiltInMethods() );
+            List<Method> methodXCandidates = new ArrayList<>( sourceModelIndex.getMethods() );
+            methodXCandidates.addAll( builtInMethodIndex.getMethods() );
 
             ConversionAssignment conversionYRef = null;
+            // intermediate types to which no method 'X' from the source type exists, no need to look again
+            Set<Type> unmappableTypesX = new HashSet<>();
 
             // search the other way around
             for ( Method methodXCandidate : methodXCandidates ) {
@@ -471,13 +546,17 @@ private ConversionAssignment resolveViaMethodAndConversion(Type sourceType, Type
                     continue;
                 }
 
-                Assignment methodRefX = resolveViaMethod(
-                    sourceType,
-                    methodXCandidate.getReturnType(),
-                    true
-                );
-                if ( methodRefX != null ) {
-                    conversionYRef = resolveViaConversion( methodXCandidate.getReturnType(), targetType );
+                Type typeX = methodXCandidate.getReturnType();
+                if ( unmappableTypesX.contains( typeX ) ) {
+                    continue;
+                }
+
+                Assignment methodRefX = resolveViaMethod( sourceType, typeX, true );
+                if ( methodRefX == null ) {
+                    unmappableTypesX.add( typeX );
+                }
+                else {
+                    conversionYRef = resolveViaConversion( typeX, targetType );
                     if ( conversionYRef != null ) {
                         conversionYRef.getAssignment().setAssignment( methodRefX );
                         methodRefX.setAssignment( sourceRHS );
@@ -494,34 +573,10 @@ private ConversionAssignment resolveViaMethodAndConversion(Type sourceType, Type
             return conversionYRef;
         }
 
-        private boolean isCandidateForMapping(Method methodCandidate) {
-            return isCreateMethodForMapping( methodCandidate ) || isUpdateMethodForMapping( methodCandidate );
-        }
-
-        private boolean isCreateMethodForMapping(Method methodCandidate) {
-            // a create method may not return void and has no target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && !methodCandidate.getReturnType().isVoid()
-                && methodCandidate.getMappingTargetParameter() == null
-                && !methodCandidate.isLifecycleCallbackMethod();
-        }
+        private <T extends Method> SelectedMethod<T> getBestMatch(SourceTypeMethodIndex<T> methodIndex,
+                                                                  Type sourceType, Type returnType) {
 
-        private boolean isUpdateMethodForMapping(Method methodCandidate) {
-            // an update method may, or may not return void and has a target parameter
-            return methodCandidate.getSourceParameters().size() == 1
-                && methodCandidate.getMappingTargetParameter() != null
-                && !methodCandidate.isLifecycleCallbackMethod();
-        }
-
-        private <T extends Method> SelectedMethod<T> getBestMatch(List<T> methods, Type sourceType, Type returnType) {
-
-            List<SelectedMethod<T>> candidates = methodSelectors.getMatchingMethods(
-                mappingMethod,
-                methods,
-                singletonList( sourceType ),
-                returnType,
-                selectionCriteria
-            );
+            List<SelectedMethod<T>> candidates = getMatchingMethods( methodIndex, sourceType, returnType );
 
             // raise an error if more than one mapping method is suitable to map the given source type
             // into the target type
@@ -555,6 +610,40 @@ private <T extends Method> SelectedMethod<T> getBestMatch(List<T> methods, Type
             return null;
         }
 
+        @SuppressWarnings("unchecked")
+        private <T extends Method> List<SelectedMethod<T>> getMatchingMethods(SourceTypeMethodIndex<T> methodIndex,
+                                                                              Type sourceType, Type returnType) {
+            SelectionKey key = new SelectionKey(
+                mappingMethod,
+                methodIndex,
+                sourceType,
+                returnType,
+                selectionCriteria,
+                selectionByTargetPropertyName
+            );
+
+            SelectionOutcome outcome = selectionOutcomes.get( key );
+            if ( outcome == null ) {
+                selectionMessager.startRecording();
+                List<SelectedMethod<T>> matchingMethods = methodSelectors.getMatchingMethods(
+                    mappingMethod,
+                    methodIndex.getCandidates( sourceType ),
+                    singletonList( sourceType ),
+                    returnType,
+                    selectionCriteria
+                );
+                outcome = new SelectionOutcome(
+                    mappingMethod,
+                    matchingMethods,
+                    selectionMessager.stopRecording()
+                );
+                selectionOutcomes.put( key, outcome );
+            }
+
+            outcome.reportMessages( messager, mappingMethod );
+            return (List<SelectedMethod<T>>) outcome.selectedMethods;
+        }
+
         private Assignment getMappingMethodReference(SelectedMethod<Method> method,
                                                      Type targetType) {
             MapperReference mapperReference = findMapperReference( method.getMethod() );
@@ -646,6 +735,169 @@ private boolean hasCompatibleCopyConstructor(Type sourceType, Type targetType) {
         }
     }
 
+    /**
+     * Everything the outcome of {@link MethodSelectors#getMatchingMethods} depends on when selecting a method for a
+     * single source type. Of the mapping method for which the selection is carried out, only the context parameters
+     * (which can be passed to the selected methods) and, when selecting by target property name, the result type are
+     * considered, so the outcome is shared by all mapping methods of the mapper.
+     */
+    private static class SelectionKey {
+
+        private final List<Parameter> contextParameters;
+        private final Type mappingResultType;
+        private final SourceTypeMethodIndex<?> methodIndex;
+        private final Type sourceType;
+        private final Type targetType;
+        private final List<String> qualifiers;
+        private final List<String> qualifiedByNames;
+        private final String qualifyingResultType;
+        private final boolean preferUpdateMapping;
+        private final String targetPropertyName;
+
+        SelectionKey(Method mappingMethod, SourceTypeMethodIndex<?> methodIndex, Type sourceType, Type targetType,
+                     SelectionCriteria criteria, boolean selectionByTargetPropertyName) {
+            this.contextParameters = mappingMethod.getContextParameters();
+            this.mappingResultType = selectionByTargetPropertyName ? mappingMethod.getResultType() : null;
+            this.methodIndex = methodIndex;
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.qualifiers = criteria.getQualifiers()
+                .stream()
+                .map( Object::toString )
+                .collect( Collectors.toList() );
+            this.qualifiedByNames = new ArrayList<>( criteria.getQualifiedByNames() );
+            this.qualifyingResultType = Objects.toString( criteria.getQualifyingResultType(), null );
+            this.preferUpdateMapping = criteria.isPreferUpdateMapping();
+            this.targetPropertyName = selectionByTargetPropertyName ? criteria.getTargetPropertyName() : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() ) {
+                return false;
+            }
+            SelectionKey that = (SelectionKey) o;
+            return methodIndex == that.methodIndex
+                && preferUpdateMapping == that.preferUpdateMapping
+                && sourceType.equals( that.sourceType )
+                && targetType.equals( that.targetType )
+                && qualifiers.equals( that.qualifiers )
+                && qualifiedByNames.equals( that.qualifiedByNames )
+                && Objects.equals( qualifyingResultType, that.qualifyingResultType )
+                && contextParameters.equals( that.contextParameters )
+                && Objects.equals( mappingResultType, that.mappingResultType )
+                && Objects.equals( targetPropertyName, that.targetPropertyName );
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash( sourceType, targetType, qualifiers, qualifiedByNames, targetPropertyName );
+        }
+    }
+
+    /**
+     * The methods selected for a {@link SelectionKey}, together with the messages reported during the selection.
+     */
+    private static class SelectionOutcome {
+
+        private final Method mappingMethod;
+        private final List<? extends SelectedMethod<?>> selectedMethods;
+        private final List<RecordedMessage> messages;
+
+        SelectionOutcome(Method mappingMethod, List<? extends SelectedMethod<?>> selectedMethods,
+                         List<RecordedMessage> messages) {
+            this.mappingMethod = mappingMethod;
+            this.selectedMethods = unmodifiableList( new ArrayList<>( selectedMethods ) );
+            this.messages = messages;
+        }
+
+        /**
+         * Reports the messages of the selection for the given mapping method, so the diagnostics don't depend on
+         * whether the outcome was computed for another mapping method before.
+         */
+        void reportMessages(FormattingMessager messager, Method currentMappingMethod) {
+            for ( RecordedMessage message : messages ) {
+                Object[] args = new Object[message.args.length];
+                for ( int i = 0; i < args.length; i++ ) {
+                    args[i] = message.args[i] == mappingMethod ? currentMappingMethod : message.args[i];
+                }
+                messager.printMessage( message.element, message.annotation, message.message, args );
+            }
+        }
+    }
+
+    private static class RecordedMessage {
+
+        private final Element element;
+        private final AnnotationMirror annotation;
+        private final Message message;
+        private final Object[] args;
+
+        RecordedMessage(Element element, AnnotationMirror annotation, Message message, Object[] args) {
+            this.element = element;
+            this.annotation = annotation;
+            this.message = message;
+            this.args = args;
+        }
+    }
+
+    /**
+     * Records the messages reported while recording is on instead of passing them on, and passes all other messages
+     * on to the delegate.
+     */
+    private static class RecordingMessager implements FormattingMessager {
+
+        private final FormattingMessager delegate;
+        private List<RecordedMessage> recordedMessages;
+
+        RecordingMessager(FormattingMessager delegate) {
+            this.delegate = delegate;
+        }
+
+        void startRecording() {
+            recordedMessages = new ArrayList<>();
+        }
+
+        List<RecordedMessage> stopRecording() {
+            List<RecordedMessage> messages = recordedMessages;
+            recordedMessages = null;
+            return messages;
+        }
+
+        @Override
+        public void printMessage(Message msg, Object... args) {
+            delegate.printMessage( msg, args );
+        }
+
+        @Override
+        public void printMessage(Element e, Message msg, Object... args) {
+            printMessage( e, null, msg, args );
+        }
+
+        @Override
+        public void printMessage(Element e, AnnotationMirror a, Message msg, Object... args) {
+            if ( recordedMessages != null ) {
+                recordedMessages.add( new RecordedMessage( e, a, msg, args ) );
+            }
+            else {
+                delegate.printMessage( e, a, msg, args );
+            }
+        }
+
+        @Override
+        public void printMessage(Element e, AnnotationMirror a, AnnotationValue v, Message msg, Object... args) {
+            delegate.printMessage( e, a, v, msg, args );
+        }
+
+        @Override
+        public void note(int level, Message log, Object... args) {
+            delegate.note( level, log, args );
+        }
+    }
+
     private static class ConversionAssignment {
 
         private final Type sourceType;
@@ -0,0 +1,146 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.processor.creation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.model.common.Parameter;
+import org.mapstruct.ap.internal.model.common.Type;
+import org.mapstruct.ap.internal.model.source.Method;
+
+/**
+ * Indexes methods with a single source parameter by the erasure of that parameter's type.
+ * <p>
+ * A method whose source parameter is of a declared type (other than {@code Object}) can only be selected for a source
+ * type whose erasure is a subtype of the erased parameter type (primitive source types are considered via their
+ * boxed type). For a given source type, only the methods indexed under one of its super types plus the methods which
+ * can't be indexed (e.g. generic, array or primitive source parameters) are passed on to the method selectors. The
+ * original order of the methods is retained.
+ *
+ * @param <T> the type of the indexed methods
+ */
+class SourceTypeMethodIndex<T extends Method> {
+
+    private final Types typeUtils;
+    private final List<T> methods;
+
+    private final Map<String, BitSet> methodsBySourceType = new HashMap<>();
+    private final BitSet unindexedMethods = new BitSet();
+
+    private final Map<String, List<T>> candidatesBySourceType = new HashMap<>();
+
+    SourceTypeMethodIndex(Types typeUtils, List<T> methods) {
+        this.typeUtils = typeUtils;
+        this.methods = methods;
+
+        for ( int i = 0; i < methods.size(); i++ ) {
+            String key = getIndexKey( methods.get( i ) );
+            if ( key != null ) {
+                methodsBySourceType.computeIfAbsent( key, k -> new BitSet() ).set( i );
+            }
+            else {
+                unindexedMethods.set( i );
+            }
+        }
+    }
+
+    /**
+     * @return all indexed methods
+     */
+    List<T> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @param sourceType the source type
+     *
+     * @return the methods which possibly accept the given source type, in their original order
+     */
+    List<T> getCandidates(Type sourceType) {
+        TypeMirror sourceMirror = sourceType.getTypeMirror();
+        if ( sourceMirror.getKind().isPrimitive() ) {
+            sourceMirror = typeUtils.boxedClass( (PrimitiveType) sourceMirror ).asType();
+        }
+
+        if ( sourceMirror.getKind() != TypeKind.DECLARED ) {
+            return methods;
+        }
+
+        TypeElement sourceElement = (TypeElement) ( (DeclaredType) sourceMirror ).asElement();
+        return candidatesBySourceType.computeIfAbsent(
+            sourceElement.getQualifiedName().toString(),
+            name -> determineCandidates( sourceElement )
+        );
+    }
+
+    private List<T> determineCandidates(TypeElement sourceElement) {
+        BitSet candidates = (BitSet) unindexedMethods.clone();
+        for ( String superTypeName : getSuperTypeNames( sourceElement ) ) {
+            BitSet superTypeMethods = methodsBySourceType.get( superTypeName );
+            if ( superTypeMethods != null ) {
+                candidates.or( superTypeMethods );
+            }
+        }
+
+        List<T> result = new ArrayList<>( candidates.cardinality() );
+        for ( int i = candidates.nextSetBit( 0 ); i >= 0; i = candidates.nextSetBit( i + 1 ) ) {
+            result.add( methods.get( i ) );
+        }
+        return result;
+    }
+
+    private Set<String> getSuperTypeNames(TypeElement typeElement) {
+        Set<String> result = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>();
+        toVisit.add( typeElement );
+
+        while ( !toVisit.isEmpty() ) {
+            TypeElement current = toVisit.poll();
+            if ( result.add( current.getQualifiedName().toString() ) ) {
+                for ( TypeMirror superType : typeUtils.directSupertypes( current.asType() ) ) {
+                    if ( superType.getKind() == TypeKind.DECLARED ) {
+                        toVisit.add( (TypeElement) ( (DeclaredType) superType ).asElement() );
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * @return the qualified name of the erased source parameter type, or {@code null} if the given method accepts
+     * other source types than sub types of that type
+     */
+    private static String getIndexKey(Method method) {
+        List<Parameter> sourceParameters = method.getSourceParameters();
+        if ( sourceParameters.size() != 1 ) {
+            return null;
+        }
+
+        TypeMirror parameterType = sourceParameters.get( 0 ).getType().getTypeMirror();
+        if ( parameterType.getKind() != TypeKind.DECLARED ) {
+            return null;
+        }
+
+        String name = ( (TypeElement) ( (DeclaredType) parameterType ).asElement() ).getQualifiedName().toString();
+        return Object.class.getName().equals( name ) ? null : name;
+    }
+}
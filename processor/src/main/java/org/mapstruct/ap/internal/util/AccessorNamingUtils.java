@@ -87,6 +87,22 @@ public String getElementNameForAdder(Accessor adderMethod) {
         }
     }
 
+    /**
+     * @param adderMethod the adder method
+     *
+     * @return the name of the collection property to which a bulk adder method adds all elements of its argument. If
+     * e.g. an adder method is named {@code addAllChildren(Iterable<Child> v)}, the property name would be 'children'.
+     * {@code null} if the adder method is no bulk adder.
+     */
+    public String getPropertyNameForBulkAdder(Accessor adderMethod) {
+        if ( adderMethod.getAccessorType() == AccessorType.ADDER ) {
+            return accessorNamingStrategy.getPropertyNameForBulkAdder( (ExecutableElement) adderMethod.getElement() );
+        }
+        else {
+            return null;
+        }
+    }
+
     private static String getQualifiedName(TypeMirror type) {
         DeclaredType declaredType = type.accept(
             new SimpleTypeVisitor6<DeclaredType, Void>() {
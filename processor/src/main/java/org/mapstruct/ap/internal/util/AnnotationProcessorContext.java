@@ -6,6 +6,8 @@
 package org.mapstruct.ap.internal.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
@@ -18,12 +20,17 @@
 import org.mapstruct.ap.spi.AccessorNamingStrategy;
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
 import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.spi.CacheableResults;
+import org.mapstruct.ap.spi.CollectionImplementationProvider;
 import org.mapstruct.ap.spi.DefaultAccessorNamingStrategy;
 import org.mapstruct.ap.spi.DefaultBuilderProvider;
+import org.mapstruct.ap.spi.DefaultCollectionImplementationProvider;
 import org.mapstruct.ap.spi.FreeBuilderAccessorNamingStrategy;
 import org.mapstruct.ap.spi.ImmutablesAccessorNamingStrategy;
 import org.mapstruct.ap.spi.ImmutablesBuilderProvider;
 import org.mapstruct.ap.spi.MapStructProcessingEnvironment;
+import org.mapstruct.ap.spi.MappingExclusionProvider;
+import org.mapstruct.ap.spi.NoOpBuilderProvider;
 
 /**
  * Keeps contextual data in the scope of the entire annotation processor ("application scope").
@@ -32,10 +39,27 @@
  */
 public class AnnotationProcessorContext implements MapStructProcessingEnvironment {
 
+    /**
+     * The SPI implementations shipped with MapStruct, whose results are cached even though they don't implement
+     * {@link CacheableResults} (as that would be inherited by custom implementations extending them).
+     */
+    private static final Collection<Class<?>> CACHEABLE_BUILT_IN_SPI_IMPLEMENTATIONS = Arrays.asList(
+        DefaultAccessorNamingStrategy.class,
+        FreeBuilderAccessorNamingStrategy.class,
+        ImmutablesAccessorNamingStrategy.class,
+        DefaultBuilderProvider.class,
+        ImmutablesBuilderProvider.class,
+        NoOpBuilderProvider.class,
+        DefaultMappingExclusionProvider.class,
+        DefaultCollectionImplementationProvider.class
+    );
+
     private List<AstModifyingAnnotationProcessor> astModifyingAnnotationProcessors;
 
     private BuilderProvider builderProvider;
     private AccessorNamingStrategy accessorNamingStrategy;
+    private MappingExclusionProvider mappingExclusionProvider;
+    private CollectionImplementationProvider collectionImplementationProvider;
     private boolean initialized;
 
     private AccessorNamingUtils accessorNaming;
@@ -43,14 +67,17 @@ public class AnnotationProcessorContext implements MapStructProcessingEnvironmen
     private Types typeUtils;
     private Messager messager;
     private boolean verbose;
+    private boolean disableEnumMaps;
 
-    public AnnotationProcessorContext(Elements elementUtils, Types typeUtils, Messager messager, boolean verbose) {
+    public AnnotationProcessorContext(Elements elementUtils, Types typeUtils, Messager messager, boolean verbose,
+                                      boolean disableEnumMaps) {
         astModifyingAnnotationProcessors = java.util.Collections.unmodifiableList(
                 findAstModifyingAnnotationProcessors() );
         this.elementUtils = elementUtils;
         this.typeUtils = typeUtils;
         this.messager = messager;
         this.verbose = verbose;
+        this.disableEnumMaps = disableEnumMaps;
     }
 
     /**
@@ -102,10 +129,65 @@ else if ( elementUtils.getTypeElement( FreeBuilderConstants.FREE_BUILDER_FQN ) !
                 "MapStruct: Using builder provider: " + this.builderProvider.getClass().getCanonicalName()
             );
         }
+        this.mappingExclusionProvider = Services.get(
+            MappingExclusionProvider.class,
+            new DefaultMappingExclusionProvider()
+        );
+        this.collectionImplementationProvider = Services.get(
+            CollectionImplementationProvider.class,
+            new DefaultCollectionImplementationProvider( !disableEnumMaps )
+        );
+        this.collectionImplementationProvider.init( this );
+        if ( verbose ) {
+            messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                "MapStruct: Using collection implementation provider: "
+                    + this.collectionImplementationProvider.getClass().getCanonicalName()
+            );
+        }
+
+        if ( isCacheable( accessorNamingStrategy ) ) {
+            this.accessorNamingStrategy = new CachingAccessorNamingStrategy( accessorNamingStrategy );
+        }
+        if ( isCacheable( builderProvider ) ) {
+            this.builderProvider = new CachingBuilderProvider( builderProvider );
+        }
+        if ( isCacheable( mappingExclusionProvider ) ) {
+            this.mappingExclusionProvider = new CachingMappingExclusionProvider( mappingExclusionProvider );
+        }
+        if ( isCacheable( collectionImplementationProvider ) ) {
+            this.collectionImplementationProvider =
+                new CachingCollectionImplementationProvider( collectionImplementationProvider );
+        }
         this.accessorNaming = new AccessorNamingUtils( this.accessorNamingStrategy );
         this.initialized = true;
     }
 
+    private static boolean isCacheable(Object spiImplementation) {
+        return spiImplementation instanceof CacheableResults
+            || CACHEABLE_BUILT_IN_SPI_IMPLEMENTATIONS.contains( spiImplementation.getClass() );
+    }
+
+    /**
+     * Discards the cached results of the SPI implementations. The elements passed to them can change from one round to
+     * the next (e.g. when they are amended by other processors), so this is to be invoked at the beginning of each
+     * round.
+     */
+    public void clearCaches() {
+        if ( accessorNamingStrategy instanceof CachingAccessorNamingStrategy ) {
+            ( (CachingAccessorNamingStrategy) accessorNamingStrategy ).clear();
+        }
+        if ( builderProvider instanceof CachingBuilderProvider ) {
+            ( (CachingBuilderProvider) builderProvider ).clear();
+        }
+        if ( mappingExclusionProvider instanceof CachingMappingExclusionProvider ) {
+            ( (CachingMappingExclusionProvider) mappingExclusionProvider ).clear();
+        }
+        if ( collectionImplementationProvider instanceof CachingCollectionImplementationProvider ) {
+            ( (CachingCollectionImplementationProvider) collectionImplementationProvider ).clear();
+        }
+    }
+
     private static List<AstModifyingAnnotationProcessor> findAstModifyingAnnotationProcessors() {
         List<AstModifyingAnnotationProcessor> processors = new ArrayList<>();
 
@@ -148,4 +230,14 @@ public BuilderProvider getBuilderProvider() {
         initialize();
         return builderProvider;
     }
+
+    public MappingExclusionProvider getMappingExclusionProvider() {
+        initialize();
+        return mappingExclusionProvider;
+    }
+
+    public CollectionImplementationProvider getCollectionImplementationProvider() {
+        initialize();
+        return collectionImplementationProvider;
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import javax.lang.model.element.ExecutableElement;
+
+import org.mapstruct.ap.spi.AccessorNamingStrategy;
+import org.mapstruct.ap.spi.CacheableResults;
+import org.mapstruct.ap.spi.MethodType;
+
+/**
+ * Caches the results of an {@link AccessorNamingStrategy} adhering to the {@link CacheableResults} contract.
+ */
+class CachingAccessorNamingStrategy implements AccessorNamingStrategy {
+
+    private final AccessorNamingStrategy delegate;
+
+    private final Map<ExecutableElement, MethodType> methodTypes = new HashMap<>();
+    private final Map<ExecutableElement, String> propertyNames = new HashMap<>();
+    private final Map<ExecutableElement, String> elementNames = new HashMap<>();
+    private final Map<ExecutableElement, String> bulkAdderPropertyNames = new HashMap<>();
+    private final Map<String, String> collectionGetterNames = new HashMap<>();
+
+    CachingAccessorNamingStrategy(AccessorNamingStrategy delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public MethodType getMethodType(ExecutableElement method) {
+        return cached( methodTypes, method, delegate::getMethodType );
+    }
+
+    @Override
+    public String getPropertyName(ExecutableElement getterOrSetterMethod) {
+        return cached( propertyNames, getterOrSetterMethod, delegate::getPropertyName );
+    }
+
+    @Override
+    public String getElementName(ExecutableElement adderMethod) {
+        return cached( elementNames, adderMethod, delegate::getElementName );
+    }
+
+    @Override
+    public String getPropertyNameForBulkAdder(ExecutableElement adderMethod) {
+        return cached( bulkAdderPropertyNames, adderMethod, delegate::getPropertyNameForBulkAdder );
+    }
+
+    @Override
+    public String getCollectionGetterName(String property) {
+        return cached( collectionGetterNames, property, delegate::getCollectionGetterName );
+    }
+
+    void clear() {
+        methodTypes.clear();
+        propertyNames.clear();
+        elementNames.clear();
+        bulkAdderPropertyNames.clear();
+        collectionGetterNames.clear();
+    }
+
+    private static <K, V> V cached(Map<K, V> cache, K key, Function<K, V> function) {
+        // not using computeIfAbsent(), as null is a legit result
+        if ( cache.containsKey( key ) ) {
+            return cache.get( key );
+        }
+        V value = function.apply( key );
+        cache.put( key, value );
+        return value;
+    }
+}
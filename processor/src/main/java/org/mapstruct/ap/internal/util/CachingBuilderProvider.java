@@ -0,0 +1,64 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import org.mapstruct.ap.spi.BuilderInfo;
+import org.mapstruct.ap.spi.BuilderProvider;
+import org.mapstruct.ap.spi.CacheableResults;
+import org.mapstruct.ap.spi.MoreThanOneBuilderCreationMethodException;
+
+/**
+ * Caches the results of a {@link BuilderProvider} adhering to the {@link CacheableResults} contract per type element.
+ * Types other than declared types are passed on to the delegate directly.
+ */
+class CachingBuilderProvider implements BuilderProvider {
+
+    private final BuilderProvider delegate;
+    private final Map<TypeElement, Object> builderInfos = new HashMap<>();
+
+    CachingBuilderProvider(BuilderProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public BuilderInfo findBuilderInfo(TypeMirror type) {
+        if ( type.getKind() != TypeKind.DECLARED ) {
+            return delegate.findBuilderInfo( type );
+        }
+
+        TypeElement typeElement = (TypeElement) ( (DeclaredType) type ).asElement();
+        Object builderInfo;
+        if ( builderInfos.containsKey( typeElement ) ) {
+            builderInfo = builderInfos.get( typeElement );
+        }
+        else {
+            try {
+                builderInfo = delegate.findBuilderInfo( type );
+            }
+            catch ( MoreThanOneBuilderCreationMethodException ex ) {
+                builderInfo = ex;
+            }
+            // a TypeHierarchyErroneousException is not cached, the type is to be looked at again later on
+            builderInfos.put( typeElement, builderInfo );
+        }
+
+        if ( builderInfo instanceof MoreThanOneBuilderCreationMethodException ) {
+            throw (MoreThanOneBuilderCreationMethodException) builderInfo;
+        }
+        return (BuilderInfo) builderInfo;
+    }
+
+    void clear() {
+        builderInfos.clear();
+    }
+}
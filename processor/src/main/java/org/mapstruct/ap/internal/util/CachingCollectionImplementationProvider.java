@@ -0,0 +1,45 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.lang.model.type.DeclaredType;
+
+import org.mapstruct.ap.spi.CacheableResults;
+import org.mapstruct.ap.spi.CollectionImplementationInfo;
+import org.mapstruct.ap.spi.CollectionImplementationProvider;
+
+/**
+ * Caches the results of a {@link CollectionImplementationProvider} adhering to the {@link CacheableResults} contract
+ * per declared type, including its type arguments (e.g. the key type of a map decides whether an {@code EnumMap} is
+ * used).
+ */
+class CachingCollectionImplementationProvider implements CollectionImplementationProvider {
+
+    private final CollectionImplementationProvider delegate;
+    private final Map<String, CollectionImplementationInfo> implementations = new HashMap<>();
+
+    CachingCollectionImplementationProvider(CollectionImplementationProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CollectionImplementationInfo findImplementation(DeclaredType type) {
+        String key = type.toString();
+        if ( implementations.containsKey( key ) ) {
+            return implementations.get( key );
+        }
+
+        CollectionImplementationInfo implementation = delegate.findImplementation( type );
+        implementations.put( key, implementation );
+        return implementation;
+    }
+
+    void clear() {
+        implementations.clear();
+    }
+}
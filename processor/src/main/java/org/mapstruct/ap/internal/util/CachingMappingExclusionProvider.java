@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.ap.spi.CacheableResults;
+import org.mapstruct.ap.spi.MappingExclusionProvider;
+
+/**
+ * Caches the results of a {@link MappingExclusionProvider} adhering to the {@link CacheableResults} contract.
+ */
+class CachingMappingExclusionProvider implements MappingExclusionProvider {
+
+    private final MappingExclusionProvider delegate;
+    private final Map<TypeElement, Boolean> exclusions = new HashMap<>();
+
+    CachingMappingExclusionProvider(MappingExclusionProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isExcluded(TypeElement typeElement) {
+        return exclusions.computeIfAbsent( typeElement, delegate::isExcluded );
+    }
+
+    void clear() {
+        exclusions.clear();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Name;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+import static org.mapstruct.ap.internal.writer.ConcurrentModelWriter.checkCompilerModelAccess;
+
+/**
+ * Decorates an {@link Elements} by ensuring that the compiler's model isn't accessed by the threads rendering mappers
+ * concurrently, as it may only be accessed by the thread invoking the processor.
+ *
+ * @see org.mapstruct.ap.internal.writer.ConcurrentModelWriter
+ */
+public class ConfinedElements implements Elements {
+
+    private final Elements delegate;
+
+    public ConfinedElements(Elements delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public PackageElement getPackageElement(CharSequence name) {
+        checkCompilerModelAccess();
+        return delegate.getPackageElement( name );
+    }
+
+    @Override
+    public TypeElement getTypeElement(CharSequence name) {
+        checkCompilerModelAccess();
+        return delegate.getTypeElement( name );
+    }
+
+    @Override
+    public Map<? extends ExecutableElement, ? extends AnnotationValue> getElementValuesWithDefaults(
+        AnnotationMirror a) {
+        checkCompilerModelAccess();
+        return delegate.getElementValuesWithDefaults( a );
+    }
+
+    @Override
+    public String getDocComment(Element e) {
+        checkCompilerModelAccess();
+        return delegate.getDocComment( e );
+    }
+
+    @Override
+    public boolean isDeprecated(Element e) {
+        checkCompilerModelAccess();
+        return delegate.isDeprecated( e );
+    }
+
+    @Override
+    public Name getBinaryName(TypeElement type) {
+        checkCompilerModelAccess();
+        return delegate.getBinaryName( type );
+    }
+
+    @Override
+    public PackageElement getPackageOf(Element type) {
+        checkCompilerModelAccess();
+        return delegate.getPackageOf( type );
+    }
+
+    @Override
+    public List<? extends Element> getAllMembers(TypeElement type) {
+        checkCompilerModelAccess();
+        return delegate.getAllMembers( type );
+    }
+
+    @Override
+    public List<? extends AnnotationMirror> getAllAnnotationMirrors(Element e) {
+        checkCompilerModelAccess();
+        return delegate.getAllAnnotationMirrors( e );
+    }
+
+    @Override
+    public boolean hides(Element hider, Element hidden) {
+        checkCompilerModelAccess();
+        return delegate.hides( hider, hidden );
+    }
+
+    @Override
+    public boolean overrides(ExecutableElement overrider, ExecutableElement overridden, TypeElement type) {
+        checkCompilerModelAccess();
+        return delegate.overrides( overrider, overridden, type );
+    }
+
+    @Override
+    public String getConstantExpression(Object value) {
+        checkCompilerModelAccess();
+        return delegate.getConstantExpression( value );
+    }
+
+    @Override
+    public void printElements(Writer w, Element... elements) {
+        checkCompilerModelAccess();
+        delegate.printElements( w, elements );
+    }
+
+    @Override
+    public Name getName(CharSequence cs) {
+        checkCompilerModelAccess();
+        return delegate.getName( cs );
+    }
+
+    @Override
+    public boolean isFunctionalInterface(TypeElement type) {
+        checkCompilerModelAccess();
+        return delegate.isFunctionalInterface( type );
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.List;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.NoType;
+import javax.lang.model.type.NullType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Types;
+
+import static org.mapstruct.ap.internal.writer.ConcurrentModelWriter.checkCompilerModelAccess;
+
+/**
+ * Decorates a {@link Types} by ensuring that the compiler's model isn't accessed by the threads rendering mappers
+ * concurrently, as it may only be accessed by the thread invoking the processor.
+ *
+ * @see org.mapstruct.ap.internal.writer.ConcurrentModelWriter
+ */
+public class ConfinedTypes implements Types {
+
+    private final Types delegate;
+
+    public ConfinedTypes(Types delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Element asElement(TypeMirror t) {
+        checkCompilerModelAccess();
+        return delegate.asElement( t );
+    }
+
+    @Override
+    public boolean isSameType(TypeMirror t1, TypeMirror t2) {
+        checkCompilerModelAccess();
+        return delegate.isSameType( t1, t2 );
+    }
+
+    @Override
+    public boolean isSubtype(TypeMirror t1, TypeMirror t2) {
+        checkCompilerModelAccess();
+        return delegate.isSubtype( t1, t2 );
+    }
+
+    @Override
+    public boolean isAssignable(TypeMirror t1, TypeMirror t2) {
+        checkCompilerModelAccess();
+        return delegate.isAssignable( t1, t2 );
+    }
+
+    @Override
+    public boolean contains(TypeMirror t1, TypeMirror t2) {
+        checkCompilerModelAccess();
+        return delegate.contains( t1, t2 );
+    }
+
+    @Override
+    public boolean isSubsignature(ExecutableType m1, ExecutableType m2) {
+        checkCompilerModelAccess();
+        return delegate.isSubsignature( m1, m2 );
+    }
+
+    @Override
+    public List<? extends TypeMirror> directSupertypes(TypeMirror t) {
+        checkCompilerModelAccess();
+        return delegate.directSupertypes( t );
+    }
+
+    @Override
+    public TypeMirror erasure(TypeMirror t) {
+        checkCompilerModelAccess();
+        return delegate.erasure( t );
+    }
+
+    @Override
+    public TypeElement boxedClass(PrimitiveType p) {
+        checkCompilerModelAccess();
+        return delegate.boxedClass( p );
+    }
+
+    @Override
+    public PrimitiveType unboxedType(TypeMirror t) {
+        checkCompilerModelAccess();
+        return delegate.unboxedType( t );
+    }
+
+    @Override
+    public TypeMirror capture(TypeMirror t) {
+        checkCompilerModelAccess();
+        return delegate.capture( t );
+    }
+
+    @Override
+    public PrimitiveType getPrimitiveType(TypeKind kind) {
+        checkCompilerModelAccess();
+        return delegate.getPrimitiveType( kind );
+    }
+
+    @Override
+    public NullType getNullType() {
+        checkCompilerModelAccess();
+        return delegate.getNullType();
+    }
+
+    @Override
+    public NoType getNoType(TypeKind kind) {
+        checkCompilerModelAccess();
+        return delegate.getNoType( kind );
+    }
+
+    @Override
+    public ArrayType getArrayType(TypeMirror componentType) {
+        checkCompilerModelAccess();
+        return delegate.getArrayType( componentType );
+    }
+
+    @Override
+    public WildcardType getWildcardType(TypeMirror extendsBound, TypeMirror superBound) {
+        checkCompilerModelAccess();
+        return delegate.getWildcardType( extendsBound, superBound );
+    }
+
+    @Override
+    public DeclaredType getDeclaredType(TypeElement typeElem, TypeMirror... typeArgs) {
+        checkCompilerModelAccess();
+        return delegate.getDeclaredType( typeElem, typeArgs );
+    }
+
+    @Override
+    public DeclaredType getDeclaredType(DeclaredType containing, TypeElement typeElem, TypeMirror... typeArgs) {
+        checkCompilerModelAccess();
+        return delegate.getDeclaredType( containing, typeElem, typeArgs );
+    }
+
+    @Override
+    public TypeMirror asMemberOf(DeclaredType containing, Element element) {
+        checkCompilerModelAccess();
+        return delegate.asMemberOf( containing, element );
+    }
+}
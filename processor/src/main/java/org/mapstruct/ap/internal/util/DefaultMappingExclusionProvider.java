@@ -3,7 +3,7 @@
  *
  * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
  */
-package org.mapstruct.ap.internal.model;
+package org.mapstruct.ap.internal.util;
 
 import java.util.regex.Pattern;
 import javax.lang.model.element.Name;
@@ -10,9 +10,14 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
@@ -23,6 +28,7 @@
 import org.mapstruct.ap.internal.util.accessor.Accessor;
 import org.mapstruct.ap.spi.TypeHierarchyErroneousException;
 
+import static javax.lang.model.util.ElementFilter.constructorsIn;
 import static javax.lang.model.util.ElementFilter.methodsIn;
 import static org.mapstruct.ap.internal.util.workarounds.SpecificCompilerWorkarounds.replaceTypeElementIfNecessary;
 
@@ -234,4 +240,86 @@ public static boolean isAfterMappingMethod(ExecutableElement executableElement)
     public static boolean isBeforeMappingMethod(ExecutableElement executableElement) {
         return BeforeMappingPrism.getInstanceOn( executableElement ) != null;
     }
+
+    /**
+     * @param type the type to check
+     * @return the non-private constructor of the given type which is annotated with an annotation named
+     *         {@code Default}, or {@code null} if there is none
+     */
+    public static ExecutableElement getDefaultAnnotatedConstructor(TypeElement type) {
+        for ( ExecutableElement constructor : constructorsIn( type.getEnclosedElements() ) ) {
+            if ( !constructor.getModifiers().contains( Modifier.PRIVATE ) && isDefaultAnnotated( constructor ) ) {
+                return constructor;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param constructor the constructor
+     * @return the names of the properties passed to the given constructor, in the order of its parameters; taken from
+     *         an annotation named {@code ConstructorProperties} if present, or else the parameter names
+     */
+    public static List<String> getConstructorPropertyNames(ExecutableElement constructor) {
+        List<String> propertyNames = new ArrayList<>();
+
+        AnnotationMirror constructorProperties = getAnnotationNamed( constructor, "ConstructorProperties" );
+        if ( constructorProperties != null ) {
+            for ( Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+                constructorProperties.getElementValues().entrySet() ) {
+                if ( entry.getKey().getSimpleName().contentEquals( "value" )
+                    && entry.getValue().getValue() instanceof List ) {
+                    for ( Object name : (List<?>) entry.getValue().getValue() ) {
+                        propertyNames.add( (String) ( (AnnotationValue) name ).getValue() );
+                    }
+                }
+            }
+            if ( propertyNames.size() == constructor.getParameters().size() ) {
+                return propertyNames;
+            }
+            propertyNames.clear();
+        }
+
+        for ( VariableElement parameter : constructor.getParameters() ) {
+            propertyNames.add( parameter.getSimpleName().toString() );
+        }
+        return propertyNames;
+    }
+
+    /**
+     * @param constructor the constructor
+     * @return {@code true} if the property names of the given constructor can't be determined, i.e. it is not
+     *         annotated with an annotation named {@code ConstructorProperties} and its parameter names are the
+     *         synthetic ones ({@code arg0}, {@code arg1}, ...) of a type compiled without {@code -parameters}
+     */
+    public static boolean hasSyntheticParameterNames(ExecutableElement constructor) {
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        if ( parameters.isEmpty() || getAnnotationNamed( constructor, "ConstructorProperties" ) != null ) {
+            return false;
+        }
+
+        for ( int i = 0; i < parameters.size(); i++ ) {
+            if ( !parameters.get( i ).getSimpleName().contentEquals( "arg" + i ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param constructor the constructor to check
+     * @return {@code true} if the given constructor is annotated with an annotation named {@code Default}
+     */
+    public static boolean isDefaultAnnotated(ExecutableElement constructor) {
+        return getAnnotationNamed( constructor, "Default" ) != null;
+    }
+
+    private static AnnotationMirror getAnnotationNamed(Element element, String simpleName) {
+        for ( AnnotationMirror annotation : element.getAnnotationMirrors() ) {
+            if ( annotation.getAnnotationType().asElement().getSimpleName().contentEquals( simpleName ) ) {
+                return annotation;
+            }
+        }
+        return null;
+    }
 }
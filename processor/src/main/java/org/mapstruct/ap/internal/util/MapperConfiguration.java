@@ -17,6 +17,7 @@
 
 import org.mapstruct.ap.internal.option.Options;
 import org.mapstruct.ap.internal.prism.BuilderPrism;
+import org.mapstruct.ap.internal.prism.CollectionCopyStrategyPrism;
 import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
 import org.mapstruct.ap.internal.prism.InjectionStrategyPrism;
 import org.mapstruct.ap.internal.prism.MapperConfigPrism;
@@ -159,6 +160,18 @@ public CollectionMappingStrategyPrism getCollectionMappingStrategy() {
         }
     }
 
+    public CollectionCopyStrategyPrism getCollectionCopyStrategy(CollectionCopyStrategyPrism mappingPrism) {
+        if ( mappingPrism != null ) {
+            return mappingPrism;
+        }
+        else if ( mapperConfigPrism != null && mapperPrism.values.collectionCopyStrategy() == null ) {
+            return CollectionCopyStrategyPrism.valueOf( mapperConfigPrism.collectionCopyStrategy() );
+        }
+        else {
+            return CollectionCopyStrategyPrism.valueOf( mapperPrism.collectionCopyStrategy() );
+        }
+    }
+
     public MappingInheritanceStrategyPrism getMappingInheritanceStrategy() {
         if ( mapperConfigPrism != null && mapperPrism.values.mappingInheritanceStrategy() == null ) {
             return MappingInheritanceStrategyPrism.valueOf( mapperConfigPrism.mappingInheritanceStrategy() );
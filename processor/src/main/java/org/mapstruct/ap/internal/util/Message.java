@@ -32,6 +32,7 @@ public enum Message {
     BEANMAPPING_UNMAPPED_FORGED_TARGETS_ERROR( "Unmapped target %s. Mapping from %s to %s." ),
     BEANMAPPING_UNMAPPED_SOURCES_WARNING( "Unmapped source %s.", Diagnostic.Kind.WARNING ),
     BEANMAPPING_UNMAPPED_SOURCES_ERROR( "Unmapped source %s." ),
+    BEANMAPPING_CONSTRUCTOR_PARAMETER_NAMES_UNAVAILABLE( "The parameter names of the constructor of %s are not available, e.g. because it has been compiled without -parameters. Annotate the constructor with @ConstructorProperties or provide a parameterless constructor." ),
     BEANMAPPING_CYCLE_BETWEEN_PROPERTIES( "Cycle(s) between properties given via dependsOn(): %s." ),
     BEANMAPPING_UNKNOWN_PROPERTY_IN_DEPENDS_ON( "\"%s\" is no property of the method return type." ),
 
@@ -90,6 +91,26 @@ public enum Message {
     ITERABLEMAPPING_CREATE_ELEMENT_NOTE( "creating element mapping: %s.", Diagnostic.Kind.NOTE ),
     ITERABLEMAPPING_MAPPING_NOT_FOUND( "No implementation can be generated for this method. Found no method nor implicit conversion for mapping source element type into target element type." ),
     ITERABLEMAPPING_NO_ELEMENTS( "'nullValueMappingStrategy','dateformat', 'qualifiedBy' and 'elementTargetType' are undefined in @IterableMapping, define at least one of them." ),
+    INDEXMAPPING_CREATE_NOTE( "creating index mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
+    INDEXMAPPING_NO_UNIQUE_KEY( "Exactly one of 'key' and 'sourceKey' must be defined in @IndexMapping." ),
+    INDEXMAPPING_NOT_ITERABLE_TO_MAP( "@IndexMapping can only be applied to methods mapping an iterable type or an array to a map type." ),
+    INDEXMAPPING_UNKNOWN_KEY_PROPERTY( "Unknown key property \"%s\" in %s element type %s." ),
+    INDEXMAPPING_KEY_TYPE_MISMATCH( "Key property \"%s\" of type %s can't be assigned to the key type %s of the result map." ),
+    INDEXMAPPING_NO_GROUP_IMPLEMENTATION( "No implementation type is registered for the group type %s of the result map." ),
+    COLUMNARMAPPING_CREATE_NOTE( "creating columnar mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
+    COLUMNARMAPPING_INVALID_METHOD( "@ColumnarMapping can only be applied to methods mapping a collection type or an array to a bean type or vice versa, without a @MappingTarget parameter." ),
+    COLUMNARMAPPING_ABSTRACT_TYPE( "The %s type %s may not be an abstract class nor interface." ),
+    COLUMNARMAPPING_NO_COLUMNS( "No columns found in %s. Columns are properties of an array or list type, named like a property of the element type %s." ),
+    COLUMNARMAPPING_UNMAPPED_COLUMN( "Column \"%s\" is not mapped, as the element type %s has no property with that name.", Diagnostic.Kind.WARNING ),
+    COLUMNARMAPPING_COLUMN_MAPPING_NOT_FOUND( "Can't map column \"%s\" between the element property type %s and the column element type %s." ),
+    SUBCLASSMAPPING_CREATE_NOTE( "creating subclass mapping method implementation for %s.", Diagnostic.Kind.NOTE ),
+    SUBCLASSMAPPING_INVALID_METHOD( "@SubclassMapping can only be applied to methods mapping a single bean type to a bean type, without a @MappingTarget parameter." ),
+    SUBCLASSMAPPING_DUPLICATE_SOURCE( "Subclass %s is mapped more than once." ),
+    SUBCLASSMAPPING_CONCRETE_SOURCE( "The source type %s of a subclass mapping method must be an abstract class or an interface." ),
+    SUBCLASSMAPPING_NO_SUBCLASS( "%s is not a subclass of the source type %s." ),
+    SUBCLASSMAPPING_TARGET_NOT_ASSIGNABLE( "The target type %s of the mapping of subclass %s is not assignable to the result type %s." ),
+    SUBCLASSMAPPING_NOT_EXHAUSTIVE( "No subclass mapping is defined for the subclasses %s of the source type %s." ),
+    SUBCLASSMAPPING_MAPPING_NOT_FOUND( "Can't map subclass %s to %s." ),
 
     ENUMMAPPING_MULTIPLE_SOURCES( "One enum constant must not be mapped to more than one target constant, but constant %s is mapped to %s." ),
     ENUMMAPPING_UNDEFINED_SOURCE( "A source constant must be specified for mappings of an enum mapping method." ),
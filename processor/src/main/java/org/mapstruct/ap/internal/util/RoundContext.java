@@ -5,11 +5,20 @@
  */
 package org.mapstruct.ap.internal.util;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 
+import org.mapstruct.ap.internal.writer.ConcurrentModelWriter;
 import org.mapstruct.ap.spi.AstModifyingAnnotationProcessor;
 
 /**
@@ -21,16 +30,33 @@ public class RoundContext {
 
     private final AnnotationProcessorContext annotationProcessorContext;
     private final Set<TypeMirror> clearedTypes;
+    private final Map<TypeElement, String> generatedMappers;
+    private final Map<TypeElement, TypeMembers> typeMembers;
+    private final ConcurrentModelWriter concurrentModelWriter;
+    private Types typeUtils;
+    private Elements elementUtils;
 
-    public RoundContext(AnnotationProcessorContext annotationProcessorContext) {
+    public RoundContext(AnnotationProcessorContext annotationProcessorContext,
+                        ConcurrentModelWriter concurrentModelWriter) {
         this.annotationProcessorContext = annotationProcessorContext;
+        this.concurrentModelWriter = concurrentModelWriter;
         this.clearedTypes = new HashSet<>();
+        this.generatedMappers = new LinkedHashMap<>();
+        this.typeMembers = new HashMap<>();
     }
 
     public AnnotationProcessorContext getAnnotationProcessorContext() {
         return annotationProcessorContext;
     }
 
+    /**
+     * @return the writer rendering the mappers of this round concurrently, or {@code null} if the mappers are to be
+     * rendered sequentially
+     */
+    public ConcurrentModelWriter getConcurrentModelWriter() {
+        return concurrentModelWriter;
+    }
+
     /**
      * Marks the given type as being ready for further processing.
      * @param type the type that is ready for further processing by MapStruct
@@ -52,4 +78,64 @@ public void addTypeReadyForProcessing(TypeMirror type) {
     public boolean isReadyForProcessing(TypeMirror type) {
         return clearedTypes.contains( type );
     }
+
+    /**
+     * Registers a mapper with the default component model which has been generated in this round, i.e. a mapper which
+     * is to be retrieved via {@code Mappers#getMapper()}.
+     *
+     * @param mapperTypeElement the mapper type
+     * @param implementationName the fully qualified name of the type implementing the mapper
+     */
+    public void addGeneratedMapper(TypeElement mapperTypeElement, String implementationName) {
+        generatedMappers.put( mapperTypeElement, implementationName );
+    }
+
+    /**
+     * @return the mappers with the default component model generated in this round, keyed by mapper type, with the
+     * fully qualified names of their implementation types as values
+     */
+    public Map<TypeElement, String> getGeneratedMappers() {
+        return generatedMappers;
+    }
+
+    /**
+     * Returns the members of the given type, shared by all mappers processed in this round. The elements of a type
+     * can only change between rounds (e.g. when other processors amend them), hence the members are not kept any
+     * longer than that.
+     *
+     * @param typeElement the type
+     * @param membersFactory creates the members of the type if they haven't been requested before in this round
+     * @return the members of the given type
+     */
+    public TypeMembers getTypeMembers(TypeElement typeElement,
+                                      Function<TypeElement, TypeMembers> membersFactory) {
+        return typeMembers.computeIfAbsent( typeElement, membersFactory );
+    }
+
+    /**
+     * Returns the {@link Types} shared by all mappers processed in this round, so that memoized type relations can be
+     * re-used across mappers.
+     *
+     * @param typeUtilsFactory creates the type utils upon first request in this round
+     * @return the type utils of this round
+     */
+    public Types getTypeUtils(Supplier<Types> typeUtilsFactory) {
+        if ( typeUtils == null ) {
+            typeUtils = typeUtilsFactory.get();
+        }
+        return typeUtils;
+    }
+
+    /**
+     * Returns the {@link Elements} shared by all mappers processed in this round.
+     *
+     * @param elementUtilsFactory creates the element utils upon first request in this round
+     * @return the element utils of this round
+     */
+    public Elements getElementUtils(Supplier<Elements> elementUtilsFactory) {
+        if ( elementUtils == null ) {
+            elementUtils = elementUtilsFactory.get();
+        }
+        return elementUtils;
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import org.mapstruct.ap.internal.prism.CollectionMappingStrategyPrism;
+import org.mapstruct.ap.internal.util.accessor.Accessor;
+import org.mapstruct.ap.internal.util.accessor.AccessorType;
+
+/**
+ * The members and property accessors of a declared type. They don't depend on the imports of the generated source
+ * file, so for types without type parameters one instance is shared by all mappers processed within one round (see
+ * {@link RoundContext#getTypeMembers(TypeElement, java.util.function.Function)}).
+ * <p>
+ * All members are determined lazily, upon first access.
+ */
+public class TypeMembers {
+
+    private final Types typeUtils;
+    private final Elements elementUtils;
+    private final AccessorNamingUtils accessorNaming;
+    private final TypeElement typeElement;
+    private final Filters filters;
+
+    private Map<String, Accessor> readAccessors = null;
+    private Map<String, Accessor> presenceCheckers = null;
+
+    private List<ExecutableElement> allMethods = null;
+    private List<VariableElement> allFields = null;
+
+    private List<Accessor> setters = null;
+    private List<Accessor> adders = null;
+    private List<Accessor> alternativeTargetAccessors = null;
+
+    private final Map<CollectionMappingStrategyPrism, Map<String, Accessor>> writeAccessors =
+        new EnumMap<>( CollectionMappingStrategyPrism.class );
+
+    public TypeMembers(Types typeUtils, Elements elementUtils, AccessorNamingUtils accessorNaming,
+                TypeElement typeElement, TypeMirror typeMirror) {
+        this.typeUtils = typeUtils;
+        this.elementUtils = elementUtils;
+        this.accessorNaming = accessorNaming;
+        this.typeElement = typeElement;
+        this.filters = new Filters( accessorNaming, typeUtils, typeMirror );
+    }
+
+    /**
+     * @return an unmodifiable map of all read accessors (including 'is' for booleans), indexed by property name
+     */
+    public Map<String, Accessor> getPropertyReadAccessors() {
+        if ( readAccessors == null ) {
+            List<Accessor> getterList = filters.getterMethodsIn( getAllMethods() );
+            Map<String, Accessor> modifiableGetters = new LinkedHashMap<>();
+            for ( Accessor getter : getterList ) {
+                String propertyName = getPropertyName( getter );
+                if ( modifiableGetters.containsKey( propertyName ) ) {
+                    // In the DefaultAccessorNamingStrategy, this can only be the case for Booleans: isFoo() and
+                    // getFoo(); The latter is preferred.
+                    if ( !getter.getSimpleName().toString().startsWith( "is" ) ) {
+                        modifiableGetters.put( getPropertyName( getter ), getter );
+                    }
+
+                }
+                else {
+                    modifiableGetters.put( getPropertyName( getter ), getter );
+                }
+            }
+
+            List<Accessor> fieldsList = filters.fieldsIn( getAllFields() );
+            for ( Accessor field : fieldsList ) {
+                String propertyName = getPropertyName( field );
+                if ( !modifiableGetters.containsKey( propertyName ) ) {
+                    // If there was no getter or is method for booleans, then resort to the field.
+                    // If a field was already added do not add it again.
+                    modifiableGetters.put( propertyName,  field );
+                }
+            }
+            readAccessors = Collections.unmodifiableMap( modifiableGetters );
+        }
+        return readAccessors;
+    }
+
+    /**
+     * @return an unmodifiable map of all presence checkers, indexed by property name
+     */
+    public Map<String, Accessor> getPropertyPresenceCheckers() {
+        if ( presenceCheckers == null ) {
+            List<Accessor> checkerList = filters.presenceCheckMethodsIn( getAllMethods() );
+            Map<String, Accessor> modifiableCheckers = new LinkedHashMap<>();
+            for ( Accessor checker : checkerList ) {
+                modifiableCheckers.put( getPropertyName( checker ), checker );
+            }
+            presenceCheckers = Collections.unmodifiableMap( modifiableCheckers );
+        }
+        return presenceCheckers;
+    }
+
+    /**
+     * @param cmStrategy collection mapping strategy
+     * @param writeAccessorsFactory determines the write accessors for the given strategy, if not done before
+     *
+     * @return an unmodifiable map of all write accessors indexed by property name
+     */
+    public Map<String, Accessor> getPropertyWriteAccessors(CollectionMappingStrategyPrism cmStrategy,
+        Function<CollectionMappingStrategyPrism, Map<String, Accessor>> writeAccessorsFactory) {
+        return writeAccessors.computeIfAbsent(
+            cmStrategy,
+            strategy -> Collections.unmodifiableMap( writeAccessorsFactory.apply( strategy ) )
+        );
+    }
+
+    /**
+     * @return an unmodifiable list of all setters
+     */
+    public List<Accessor> getSetters() {
+        if ( setters == null ) {
+            setters = Collections.unmodifiableList( filters.setterMethodsIn( getAllMethods() ) );
+        }
+        return setters;
+    }
+
+    /**
+     * @return an unmodifiable list of all adders
+     */
+    public List<Accessor> getAdders() {
+        if ( adders == null ) {
+            adders = Collections.unmodifiableList( filters.adderMethodsIn( getAllMethods() ) );
+        }
+        return adders;
+    }
+
+    /**
+     * Alternative accessors could be a getter for a collection. By means of the
+     * {@link java.util.Collection#addAll(java.util.Collection) } this getter can still
+     * be used as targetAccessor. JAXB XJC tool generates such constructs.
+     *
+     * This method can be extended when new cases come along.
+     *
+     * @return an unmodifiable list of alternative target accessors.
+     */
+    public List<Accessor> getAlternativeTargetAccessors() {
+
+        if ( alternativeTargetAccessors == null ) {
+
+            List<Accessor> result = new ArrayList<>();
+            List<Accessor> setterMethods = getSetters();
+            List<Accessor> readAccessors = new ArrayList<>( getPropertyReadAccessors().values() );
+            // All the fields are also alternative accessors
+            readAccessors.addAll( filters.fieldsIn( getAllFields() ) );
+
+            // there could be a read accessor (field or  method) for a list/map that is not present as setter.
+            // an accessor could substitute the setter in that case and act as setter.
+            // (assuming it is initialized)
+            for ( Accessor readAccessor : readAccessors ) {
+                if ( isCollectionOrMapOrStream( readAccessor ) &&
+                    !correspondingSetterMethodExists( readAccessor, setterMethods ) ) {
+                    result.add( readAccessor );
+                }
+                else if ( readAccessor.getAccessorType() == AccessorType.FIELD &&
+                    !correspondingSetterMethodExists( readAccessor, setterMethods ) ) {
+                    result.add( readAccessor );
+                }
+            }
+
+            alternativeTargetAccessors = Collections.unmodifiableList( result );
+        }
+        return alternativeTargetAccessors;
+    }
+
+    public String getPropertyName(Accessor accessor ) {
+        if ( accessor.getAccessorType() == AccessorType.FIELD ) {
+            return accessorNaming.getPropertyName( (VariableElement) accessor.getElement() );
+        }
+        else {
+            return accessorNaming.getPropertyName( (ExecutableElement) accessor.getElement() );
+        }
+    }
+
+    private List<ExecutableElement> getAllMethods() {
+        if ( allMethods == null ) {
+            allMethods = Executables.getAllEnclosedExecutableElements( elementUtils, typeElement );
+        }
+
+        return allMethods;
+    }
+
+    private List<VariableElement> getAllFields() {
+        if ( allFields == null ) {
+            allFields = Fields.getAllEnclosedFields( elementUtils, typeElement );
+        }
+
+        return allFields;
+    }
+
+    private boolean correspondingSetterMethodExists(Accessor getterMethod,
+                                                    List<Accessor> setterMethods) {
+        String getterPropertyName = getPropertyName( getterMethod );
+
+        for ( Accessor setterMethod : setterMethods ) {
+            String setterPropertyName = getPropertyName( setterMethod );
+            if ( getterPropertyName.equals( setterPropertyName ) ) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isCollectionOrMapOrStream(Accessor getterMethod) {
+        return isCollection( getterMethod.getAccessedType() ) || isMap( getterMethod.getAccessedType() ) ||
+            isStream( getterMethod.getAccessedType() );
+    }
+
+    private boolean isCollection(TypeMirror candidate) {
+        return isSubType( candidate, Collection.class );
+    }
+
+    private boolean isStream(TypeMirror candidate) {
+        TypeElement streamTypeElement = elementUtils.getTypeElement( JavaStreamConstants.STREAM_FQN );
+        TypeMirror streamType = streamTypeElement == null ? null : typeUtils.erasure( streamTypeElement.asType() );
+        return streamType != null && typeUtils.isSubtype( candidate, streamType );
+    }
+
+    private boolean isMap(TypeMirror candidate) {
+        return isSubType( candidate, Map.class );
+    }
+
+    private boolean isSubType(TypeMirror candidate, Class<?> clazz) {
+        String className = clazz.getCanonicalName();
+        TypeMirror classType = typeUtils.erasure( elementUtils.getTypeElement( className ).asType() );
+        return typeUtils.isSubtype( candidate, classType );
+    }
+}
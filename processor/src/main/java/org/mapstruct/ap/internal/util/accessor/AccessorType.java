@@ -11,5 +11,6 @@ public enum AccessorType {
     GETTER,
     SETTER,
     ADDER,
-    PRESENCE_CHECKER;
+    PRESENCE_CHECKER,
+    PARAMETER;
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.util.accessor;
+
+import javax.lang.model.element.Name;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * An {@link Accessor} that wraps a constructor parameter of a target type. The value of the parameter is assigned to
+ * a local variable, whose name is the simple name of this accessor, and passed to the constructor afterwards.
+ */
+public class ParameterElementAccessor extends AbstractAccessor<VariableElement> {
+
+    private final TypeMirror accessedType;
+    private final Name variableName;
+
+    public ParameterElementAccessor(VariableElement element, TypeMirror accessedType, Name variableName) {
+        super( element );
+        this.accessedType = accessedType;
+        this.variableName = variableName;
+    }
+
+    @Override
+    public TypeMirror getAccessedType() {
+        return accessedType;
+    }
+
+    @Override
+    public Name getSimpleName() {
+        return variableName;
+    }
+
+    @Override
+    public String toString() {
+        return element.toString();
+    }
+
+    @Override
+    public AccessorType getAccessorType() {
+        return AccessorType.PARAMETER;
+    }
+
+}
@@ -5,7 +5,9 @@
  */
 package org.mapstruct.ap.internal.util.workarounds;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
@@ -26,6 +28,10 @@
 /**
  * Replaces the usage of {@link Types} within MapStruct by delegating to the original implementation or to our specific
  * workarounds if necessary.
+ * <p>
+ * The results of {@link #isAssignable(TypeMirror, TypeMirror)} and {@link #isSubtype(TypeMirror, TypeMirror)} are
+ * memoized per pair of type mirror instances, as the same types are compared over and over again while resolving the
+ * mappings. An instance is therefore only to be used within one processing round.
  *
  * @author Andreas Gudian
  */
@@ -33,6 +39,8 @@ public class TypesDecorator implements Types {
     private final Types delegate;
     private final ProcessingEnvironment processingEnv;
     private final VersionInformation versionInformation;
+    private final Map<TypeMirror, Map<TypeMirror, Boolean>> subtypes = new IdentityHashMap<>();
+    private final Map<TypeMirror, Map<TypeMirror, Boolean>> assignables = new IdentityHashMap<>();
 
     public TypesDecorator(ProcessingEnvironment processingEnv, VersionInformation versionInformation) {
         this.delegate = processingEnv.getTypeUtils();
@@ -52,12 +60,24 @@ public boolean isSameType(TypeMirror t1, TypeMirror t2) {
 
     @Override
     public boolean isSubtype(TypeMirror t1, TypeMirror t2) {
-        return SpecificCompilerWorkarounds.isSubtype( delegate, t1, t2 );
+        Map<TypeMirror, Boolean> t1Subtypes = subtypes.computeIfAbsent( t1, t -> new IdentityHashMap<>() );
+        Boolean isSubtype = t1Subtypes.get( t2 );
+        if ( isSubtype == null ) {
+            isSubtype = SpecificCompilerWorkarounds.isSubtype( delegate, t1, t2 );
+            t1Subtypes.put( t2, isSubtype );
+        }
+        return isSubtype;
     }
 
     @Override
     public boolean isAssignable(TypeMirror t1, TypeMirror t2) {
-        return SpecificCompilerWorkarounds.isAssignable( delegate, t1, t2 );
+        Map<TypeMirror, Boolean> t1Assignables = assignables.computeIfAbsent( t1, t -> new IdentityHashMap<>() );
+        Boolean isAssignable = t1Assignables.get( t2 );
+        if ( isAssignable == null ) {
+            isAssignable = SpecificCompilerWorkarounds.isAssignable( delegate, t1, t2 );
+            t1Assignables.put( t2, isAssignable );
+        }
+        return isAssignable;
     }
 
     @Override
@@ -0,0 +1,192 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.writer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import javax.lang.model.element.Element;
+import javax.tools.FileObject;
+
+/**
+ * Writes Java source files based on given models, rendering the models on a pool of worker threads. That way the
+ * models of the mappers processed so far are rendered while the models of the remaining mappers are being built.
+ * <p>
+ * Only the rendering happens concurrently; the source files must be created and written on the thread invoking the
+ * processor, as the {@code Filer} isn't thread-safe. Hence {@link #writeModel(FileObject, Writable, Element)} only
+ * schedules the rendering of a model. The rendered sources are written in the order their models were scheduled, as
+ * soon as they are available, and any remaining ones upon {@link #close()}.
+ * <p>
+ * In order to keep the memory footprint of large modules low, only a limited number of models may be pending at any
+ * time; scheduling further models blocks until the oldest pending model has been rendered and written.
+ * <p>
+ * The compiler's model isn't thread-safe, so it must not be accessed while rendering: everything the templates need
+ * has to be determined when building the model (or at least before scheduling it, see
+ * {@code GeneratedType#getImportTypeNames()}). Any attempt to access the compiler's model from a rendering thread
+ * (see {@link #checkCompilerModelAccess()}) aborts the rendering of the model, which is then rendered on the thread
+ * invoking the processor instead.
+ */
+public class ConcurrentModelWriter {
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final ModelWriter modelWriter = new ModelWriter();
+    private final ExecutorService executor;
+    private final int maxPendingSourceFiles;
+    private final BiConsumer<Element, Throwable> errorHandler;
+    private final Deque<PendingSourceFile> pendingSourceFiles = new ArrayDeque<>();
+
+    /**
+     * @param threads the number of rendering threads
+     * @param errorHandler invoked with the originating element of any model which couldn't be written
+     */
+    public ConcurrentModelWriter(int threads, BiConsumer<Element, Throwable> errorHandler) {
+        this.maxPendingSourceFiles = threads * 2;
+        this.errorHandler = errorHandler;
+        this.executor = Executors.newFixedThreadPool( threads, RenderingThread::new );
+    }
+
+    /**
+     * Must be invoked before accessing the compiler's model by any code which may be executed while rendering a model.
+     *
+     * @throws CompilerModelAccessException if invoked by a thread rendering a model concurrently
+     */
+    public static void checkCompilerModelAccess() {
+        if ( Thread.currentThread() instanceof RenderingThread ) {
+            throw new CompilerModelAccessException();
+        }
+    }
+
+    /**
+     * Schedules the rendering of the given model into the given source file.
+     *
+     * @param sourceFile the source file to write to, already created by the {@code Filer}
+     * @param model the model to render
+     * @param originatingElement the element to report any failure of rendering the model on
+     */
+    public void writeModel(FileObject sourceFile, Writable model, Element originatingElement) {
+        Future<String> source = executor.submit( () -> modelWriter.renderModel( model ) );
+        pendingSourceFiles.add( new PendingSourceFile( sourceFile, model, source, originatingElement ) );
+
+        // write whatever has been rendered already, so the rendered sources don't pile up until the end of the round
+        while ( !pendingSourceFiles.isEmpty()
+            && ( pendingSourceFiles.size() > maxPendingSourceFiles || pendingSourceFiles.peek().source.isDone() ) ) {
+            if ( !writeNext() ) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Waits for all scheduled models to be rendered, writes them to their source files in the order they were
+     * scheduled and shuts down the worker threads.
+     */
+    public void close() {
+        try {
+            while ( !pendingSourceFiles.isEmpty() ) {
+                if ( !writeNext() ) {
+                    return;
+                }
+            }
+        }
+        finally {
+            pendingSourceFiles.clear();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Writes the oldest pending source file, waiting for its model to be rendered if required.
+     *
+     * @return {@code false} if the current thread got interrupted, {@code true} otherwise
+     */
+    private boolean writeNext() {
+        PendingSourceFile pendingSourceFile = pendingSourceFiles.poll();
+        try {
+            pendingSourceFile.write();
+        }
+        catch ( ExecutionException e ) {
+            errorHandler.accept( pendingSourceFile.originatingElement, e.getCause() );
+        }
+        catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            errorHandler.accept( pendingSourceFile.originatingElement, e );
+            return false;
+        }
+        catch ( IOException | RuntimeException e ) {
+            errorHandler.accept( pendingSourceFile.originatingElement, e );
+        }
+        return true;
+    }
+
+    private static boolean isCausedByCompilerModelAccess(Throwable throwable) {
+        for ( Throwable cause = throwable; cause != null; cause = cause.getCause() ) {
+            if ( cause instanceof CompilerModelAccessException ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class RenderingThread extends Thread {
+
+        RenderingThread(Runnable runnable) {
+            super( runnable, "mapstruct-renderer-" + THREAD_NUMBER.incrementAndGet() );
+            // never keep the compiler from exiting, e.g. if processing is aborted
+            setDaemon( true );
+        }
+    }
+
+    /**
+     * Thrown upon accessing the compiler's model while rendering a model concurrently.
+     */
+    public static class CompilerModelAccessException extends RuntimeException {
+
+        private CompilerModelAccessException() {
+            super( "The compiler's model must not be accessed while rendering concurrently" );
+        }
+    }
+
+    private class PendingSourceFile {
+
+        private final FileObject sourceFile;
+        private final Writable model;
+        private final Future<String> source;
+        private final Element originatingElement;
+
+        PendingSourceFile(FileObject sourceFile, Writable model, Future<String> source, Element originatingElement) {
+            this.sourceFile = sourceFile;
+            this.model = model;
+            this.source = source;
+            this.originatingElement = originatingElement;
+        }
+
+        void write() throws ExecutionException, InterruptedException, IOException {
+            String renderedSource;
+            try {
+                renderedSource = source.get();
+            }
+            catch ( ExecutionException e ) {
+                if ( !isCausedByCompilerModelAccess( e ) ) {
+                    throw e;
+                }
+                // the model depends on the compiler's model while rendering, which is safe on this thread only
+                renderedSource = modelWriter.renderModel( model );
+            }
+
+            try ( Writer writer = sourceFile.openWriter() ) {
+                writer.write( renderedSource );
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.internal.writer;
+
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.mapstruct.ap.internal.writer.ModelWriter.DefaultModelElementWriterContext;
+
+import freemarker.template.Configuration;
+import freemarker.template.TemplateBooleanModel;
+import freemarker.template.TemplateModelException;
+
+/**
+ * Helpers for model elements which write themselves directly instead of via a FreeMarker template. This is done for
+ * small elements which are included very often (e.g. type references), as evaluating a template for each of them
+ * takes a considerable share of the time needed for writing a mapper.
+ * <p>
+ * Such elements receive the parameters passed to them via {@code <@includeModel/>} in the same way as templates do,
+ * and they can include other elements (directly written or template based) in turn.
+ */
+public final class DirectWriterSupport {
+
+    private DirectWriterSupport() {
+    }
+
+    /**
+     * Equivalent to {@code ext.name??} within a template.
+     *
+     * @param context the context of the written element
+     * @param name the parameter name
+     * @return whether the given parameter has been passed to the written element
+     */
+    public static boolean hasParameter(Writable.Context context, String name) {
+        Map<?, ?> parameters = context.get( Map.class );
+        return parameters != null && parameters.get( name ) != null;
+    }
+
+    /**
+     * Equivalent to {@code ext.name!false} within a template.
+     *
+     * @param context the context of the written element
+     * @param name the parameter name
+     * @return the value of the given boolean parameter, {@code false} if it hasn't been passed
+     */
+    public static boolean getBooleanParameter(Writable.Context context, String name) {
+        Map<?, ?> parameters = context.get( Map.class );
+        Object value = parameters != null ? parameters.get( name ) : null;
+
+        if ( value instanceof TemplateBooleanModel ) {
+            try {
+                return ( (TemplateBooleanModel) value ).getAsBoolean();
+            }
+            catch ( TemplateModelException e ) {
+                throw new RuntimeException( e );
+            }
+        }
+
+        return Boolean.TRUE.equals( value );
+    }
+
+    /**
+     * Equivalent to {@code <@includeModel object=element/>} within a template.
+     *
+     * @param element the element to include, may be {@code null}
+     * @param context the context of the including element
+     * @param writer the writer to write the element to
+     * @throws Exception in case the element couldn't be written
+     */
+    public static void include(Writable element, Writable.Context context, Writer writer) throws Exception {
+        include( element, context, writer, Collections.emptyMap() );
+    }
+
+    /**
+     * Equivalent to {@code <@includeModel object=element name=value/>} within a template.
+     *
+     * @param element the element to include, may be {@code null}
+     * @param context the context of the including element
+     * @param writer the writer to write the element to
+     * @param name the name of the parameter to pass
+     * @param value the value of the parameter to pass
+     * @throws Exception in case the element couldn't be written
+     */
+    public static void include(Writable element, Writable.Context context, Writer writer, String name, Object value)
+        throws Exception {
+        include( element, context, writer, Collections.singletonMap( name, value ) );
+    }
+
+    private static void include(Writable element, Writable.Context context, Writer writer,
+                                Map<String, Object> parameters) throws Exception {
+        if ( element == null ) {
+            return;
+        }
+
+        Map<Class<?>, Object> values = new HashMap<>();
+        values.put( Configuration.class, context.get( Configuration.class ) );
+        values.put( Map.class, parameters );
+
+        element.write( new DefaultModelElementWriterContext( values ), writer );
+    }
+}
@@ -40,6 +40,18 @@ class IndentationCorrectingWriter extends Writer {
     private static final String LINE_SEPARATOR = System.lineSeparator( );
     private static final boolean IS_WINDOWS = System.getProperty( "os.name" ).startsWith( "Windows" );
 
+    /**
+     * The indentations of the commonly used levels, so they don't need to be created for each line. Must not be
+     * modified.
+     */
+    private static final char[][] INDENTATIONS = new char[16][];
+
+    static {
+        for ( int i = 0; i < INDENTATIONS.length; i++ ) {
+            INDENTATIONS[i] = createIndentation( i );
+        }
+    }
+
     private State currentState = State.START_OF_LINE;
     private final StateContext context;
 
@@ -85,6 +97,14 @@ private static boolean isWindows() {
     }
 
     private static char[] getIndentation(int indentationLevel) {
+        if ( indentationLevel < INDENTATIONS.length ) {
+            return INDENTATIONS[indentationLevel];
+        }
+
+        return createIndentation( indentationLevel );
+    }
+
+    private static char[] createIndentation(int indentationLevel) {
         char[] indentation = new char[indentationLevel * 4];
         Arrays.fill( indentation, ' ' );
         return indentation;
@@ -10,6 +10,8 @@
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.Charset;
@@ -63,15 +65,28 @@ public class ModelWriter {
 
     public void writeModel(FileObject sourceFile, Writable model) {
         try {
-            BufferedWriter writer = new BufferedWriter( new IndentationCorrectingWriter( sourceFile.openWriter() ) );
-
-            Map<Class<?>, Object> values = new HashMap<>();
-            values.put( Configuration.class, CONFIGURATION );
+            writeModel( sourceFile.openWriter(), model );
+        }
+        catch ( RuntimeException e ) {
+            throw e;
+        }
+        catch ( Exception e ) {
+            throw new RuntimeException( e );
+        }
+    }
 
-            model.write( new DefaultModelElementWriterContext( values ), writer );
+    /**
+     * Renders the given model into a string, without accessing any source file. Can be invoked concurrently for
+     * different models.
+     *
+     * @param model the model to render
+     * @return the Java source representing the given model
+     */
+    public String renderModel(Writable model) {
+        StringWriter sourceWriter = new StringWriter();
 
-            writer.flush();
-            writer.close();
+        try {
+            writeModel( sourceWriter, model );
         }
         catch ( RuntimeException e ) {
             throw e;
@@ -79,6 +94,20 @@ public void writeModel(FileObject sourceFile, Writable model) {
         catch ( Exception e ) {
             throw new RuntimeException( e );
         }
+
+        return sourceWriter.toString();
+    }
+
+    private void writeModel(Writer target, Writable model) throws Exception {
+        BufferedWriter writer = new BufferedWriter( new IndentationCorrectingWriter( target ) );
+
+        Map<Class<?>, Object> values = new HashMap<>();
+        values.put( Configuration.class, CONFIGURATION );
+
+        model.write( new DefaultModelElementWriterContext( values ), writer );
+
+        writer.flush();
+        writer.close();
     }
 
     /**
@@ -58,6 +58,21 @@ default void init(MapStructProcessingEnvironment processingEnvironment) {
      */
     String getElementName(ExecutableElement adderMethod);
 
+    /**
+     * Returns the name of the collection property to which the given adder method adds all elements of its
+     * argument at once, e.g. when the adder method is a bulk adder taking an {@link Iterable}.
+     * <p>
+     * The default implementation will e.g. return "items" for {@code public void addAllItems(Iterable<Item> items)}.
+     *
+     * @param adderMethod to be analyzed.
+     *
+     * @return the property name, or {@code null} when the given method is no bulk adder
+     *
+     * @since 1.4
+     */
+    default String getPropertyNameForBulkAdder(ExecutableElement adderMethod) {
+        return null;
+    }
 
     /**
      * Returns the getter name of the given collection property.
@@ -0,0 +1,37 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+
+import org.mapstruct.util.Experimental;
+
+/**
+ * Marker interface for implementations of {@link AccessorNamingStrategy}, {@link BuilderProvider},
+ * {@link MappingExclusionProvider} and {@link CollectionImplementationProvider} whose results solely depend on the
+ * given arguments. MapStruct caches the results of such implementations for the duration of an annotation processing
+ * round, i.e. they are invoked only once:
+ * <ul>
+ * <li>per {@link ExecutableElement} (or property name) for the methods of an {@link AccessorNamingStrategy},</li>
+ * <li>per {@link TypeElement} of the given declared type for {@link BuilderProvider#findBuilderInfo}; the builder
+ * info must therefore not depend on the type arguments of the given type,</li>
+ * <li>per {@link TypeElement} for {@link MappingExclusionProvider#isExcluded},</li>
+ * <li>per declared type, including its type arguments, for
+ * {@link CollectionImplementationProvider#findImplementation}.</li>
+ * </ul>
+ * A {@link MoreThanOneBuilderCreationMethodException} is cached as well, whereas a
+ * {@link TypeHierarchyErroneousException} never is, so that the type is looked at again after the processing has been
+ * postponed.
+ * <p>
+ * The implementations shipped with MapStruct are cached as well. Implementations extending one of them are only
+ * cached if they implement this interface themselves.
+ *
+ * @since 1.4
+ */
+@Experimental("This SPI can have it's signature changed in subsequent releases")
+public interface CacheableResults {
+}
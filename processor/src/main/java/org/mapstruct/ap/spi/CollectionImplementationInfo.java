@@ -0,0 +1,102 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import javax.lang.model.element.TypeElement;
+
+/**
+ * Holder for the implementation type instantiated for an iterable or map type and the way it is created.
+ *
+ * @since 1.4
+ */
+public class CollectionImplementationInfo {
+
+    /**
+     * The way the size of the source is passed to the constructor of the implementation type, when it is known.
+     */
+    public enum Sizing {
+
+        /**
+         * The default constructor is invoked, e.g. {@code new TreeSet<>()}.
+         */
+        NONE,
+
+        /**
+         * The constructor with an {@code int} parameter is invoked with the size of the source, e.g.
+         * {@code new ArrayList<>( source.size() )}.
+         */
+        INITIAL_CAPACITY,
+
+        /**
+         * The constructor with an {@code int} parameter is invoked with the capacity of a hash based collection
+         * needed to hold the elements of the source without rehashing, using the default load factor of
+         * {@code 0.75}, e.g. {@code new HashMap<>( Math.max( (int) ( source.size() / .75f ) + 1, 16 ) )}.
+         */
+        EXPECTED_SIZE
+    }
+
+    private final TypeElement implementationType;
+    private final Sizing sizing;
+
+    private CollectionImplementationInfo(TypeElement implementationType, Sizing sizing) {
+        this.implementationType = implementationType;
+        this.sizing = sizing;
+    }
+
+    /**
+     * The type to be instantiated. It must have the same type parameters as the iterable or map type it is the
+     * implementation of, e.g. {@code ArrayList<E>} for {@code List<E>}.
+     *
+     * @return the implementation type
+     */
+    public TypeElement getImplementationType() {
+        return implementationType;
+    }
+
+    /**
+     * The way the implementation type is sized when it is created.
+     *
+     * @return the sizing of the implementation type
+     */
+    public Sizing getSizing() {
+        return sizing;
+    }
+
+    public static class Builder {
+        private TypeElement implementationType;
+        private Sizing sizing = Sizing.NONE;
+
+        /**
+         * @see CollectionImplementationInfo#getImplementationType()
+         */
+        public Builder implementationType(TypeElement implementationType) {
+            this.implementationType = implementationType;
+            return this;
+        }
+
+        /**
+         * @see CollectionImplementationInfo#getSizing()
+         */
+        public Builder sizing(Sizing sizing) {
+            this.sizing = sizing;
+            return this;
+        }
+
+        /**
+         * Create the {@link CollectionImplementationInfo}.
+         * @throws IllegalArgumentException if the implementation type or the sizing are {@code null}
+         */
+        public CollectionImplementationInfo build() {
+            if ( implementationType == null ) {
+                throw new IllegalArgumentException( "Implementation type is mandatory" );
+            }
+            else if ( sizing == null ) {
+                throw new IllegalArgumentException( "Sizing is mandatory" );
+            }
+            return new CollectionImplementationInfo( implementationType, sizing );
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import javax.lang.model.type.DeclaredType;
+
+import org.mapstruct.util.Experimental;
+
+/**
+ * A service provider interface that is used to determine the type instantiated by the generated code for an iterable
+ * or map type which cannot be instantiated itself, e.g. {@code ArrayList} for {@code List}. This allows to choose
+ * collections better suited for a code base, e.g. {@code ArrayDeque} for {@code Deque}, a {@code LinkedHashMap} for
+ * {@code Map} or open addressing hash maps.
+ * <p>
+ * Custom implementations usually extend {@link DefaultCollectionImplementationProvider} and delegate to it for all
+ * types they don't handle themselves.
+ *
+ * @since 1.4
+ */
+@Experimental("This SPI can have it's signature changed in subsequent releases")
+public interface CollectionImplementationProvider {
+
+    /**
+     * Initializes the collection implementation provider with the MapStruct processing environment.
+     *
+     * @param processingEnvironment environment for facilities
+     */
+    default void init(MapStructProcessingEnvironment processingEnvironment) {
+
+    }
+
+    /**
+     * Determines the implementation to be instantiated for the given type. This is invoked for all declared types
+     * MapStruct encounters, so implementations should return quickly for types they don't handle.
+     *
+     * @param type the type, e.g. {@code List<String>}
+     *
+     * @return the implementation of the type, or {@code null} if the type is to be instantiated itself
+     */
+    CollectionImplementationInfo findImplementation(DeclaredType type);
+}
@@ -190,6 +190,25 @@ public String getElementName(ExecutableElement adderMethod) {
         return IntrospectorUtils.decapitalize( methodName.substring( 3 ) );
     }
 
+    /**
+     * Bulk adder methods add all elements of an {@link Iterable} to collections on a target bean at once, as e.g.
+     * generated for protocol buffers builders. The convention is that the method starts with 'addAll' and the
+     * remainder is equal to the property name. Example: 'addAllElements' property name will be 'elements'.
+     *
+     * @param adderMethod adder method.
+     *
+     * @return the property name, or {@code null} when the given method is no bulk adder.
+     */
+    @Override
+    public String getPropertyNameForBulkAdder(ExecutableElement adderMethod) {
+        String methodName = adderMethod.getSimpleName().toString();
+        if ( methodName.startsWith( "addAll" ) && methodName.length() > 6
+            && Character.isUpperCase( methodName.charAt( 6 ) ) ) {
+            return IntrospectorUtils.decapitalize( methodName.substring( 6 ) );
+        }
+        return null;
+    }
+
     /**
      * Helper method, to obtain the fully qualified name of a type.
      *
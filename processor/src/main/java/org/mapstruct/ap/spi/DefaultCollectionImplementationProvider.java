@@ -0,0 +1,142 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.spi;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+
+import org.mapstruct.ap.spi.CollectionImplementationInfo.Sizing;
+
+/**
+ * The default implementation of the {@link CollectionImplementationProvider} SPI. It instantiates the following
+ * implementation types for the iterable and map interfaces of the JDK:
+ *
+ * <table>
+ * <caption>Default implementation types</caption>
+ * <tr><th>Interface type</th><th>Implementation type</th></tr>
+ * <tr><td>{@code Iterable}, {@code Collection}, {@code List}</td><td>{@code ArrayList}</td></tr>
+ * <tr><td>{@code Set}</td><td>{@code HashSet}</td></tr>
+ * <tr><td>{@code SortedSet}, {@code NavigableSet}</td><td>{@code TreeSet}</td></tr>
+ * <tr><td>{@code Map}</td><td>{@code HashMap}</td></tr>
+ * <tr><td>{@code Map} with an enum key type</td><td>{@code EnumMap}</td></tr>
+ * <tr><td>{@code SortedMap}, {@code NavigableMap}</td><td>{@code TreeMap}</td></tr>
+ * <tr><td>{@code ConcurrentMap}</td><td>{@code ConcurrentHashMap}</td></tr>
+ * <tr><td>{@code ConcurrentNavigableMap}</td><td>{@code ConcurrentSkipListMap}</td></tr>
+ * </table>
+ * <p>
+ * As an {@code EnumMap} doesn't permit {@code null} keys, a {@code HashMap} is instantiated instead if the processor
+ * option {@code mapstruct.disableEnumMaps} is set to {@code true}.
+ *
+ * @since 1.4
+ */
+public class DefaultCollectionImplementationProvider implements CollectionImplementationProvider {
+
+    protected Elements elementUtils;
+
+    private final Map<String, CollectionImplementationInfo> implementations = new HashMap<>();
+    private final boolean enumMaps;
+    private CollectionImplementationInfo enumMapImplementation;
+
+    public DefaultCollectionImplementationProvider() {
+        this( true );
+    }
+
+    /**
+     * @param enumMaps whether an {@code EnumMap} is instantiated for {@code Map} types with an enum key type, instead
+     * of a {@code HashMap}
+     */
+    public DefaultCollectionImplementationProvider(boolean enumMaps) {
+        this.enumMaps = enumMaps;
+    }
+
+    @Override
+    public void init(MapStructProcessingEnvironment processingEnvironment) {
+        this.elementUtils = processingEnvironment.getElementUtils();
+
+        register( Iterable.class, ArrayList.class, Sizing.INITIAL_CAPACITY );
+        register( Collection.class, ArrayList.class, Sizing.INITIAL_CAPACITY );
+        register( List.class, ArrayList.class, Sizing.INITIAL_CAPACITY );
+
+        register( Set.class, HashSet.class, Sizing.EXPECTED_SIZE );
+        register( SortedSet.class, TreeSet.class, Sizing.NONE );
+        register( NavigableSet.class, TreeSet.class, Sizing.NONE );
+
+        register( Map.class, HashMap.class, Sizing.EXPECTED_SIZE );
+        register( SortedMap.class, TreeMap.class, Sizing.NONE );
+        register( NavigableMap.class, TreeMap.class, Sizing.NONE );
+        register( ConcurrentMap.class, ConcurrentHashMap.class, Sizing.EXPECTED_SIZE );
+        register( ConcurrentNavigableMap.class, ConcurrentSkipListMap.class, Sizing.NONE );
+
+        enumMapImplementation = new CollectionImplementationInfo.Builder()
+            .implementationType( elementUtils.getTypeElement( EnumMap.class.getCanonicalName() ) )
+            .build();
+    }
+
+    /**
+     * Registers the implementation type to be instantiated for the given interface type.
+     *
+     * @param type the interface type
+     * @param implementationType the implementation type
+     * @param sizing the way the implementation type is sized when it is created
+     */
+    protected void register(Class<?> type, Class<?> implementationType, Sizing sizing) {
+        TypeElement implementationElement = elementUtils.getTypeElement( implementationType.getCanonicalName() );
+        implementations.put(
+            type.getName(),
+            new CollectionImplementationInfo.Builder()
+                .implementationType( implementationElement )
+                .sizing( sizing )
+                .build()
+        );
+    }
+
+    @Override
+    public CollectionImplementationInfo findImplementation(DeclaredType type) {
+        String qualifiedName = ( (TypeElement) type.asElement() ).getQualifiedName().toString();
+        if ( enumMaps && Map.class.getName().equals( qualifiedName ) && hasEnumKeyType( type ) ) {
+            return enumMapImplementation;
+        }
+        return implementations.get( qualifiedName );
+    }
+
+    /**
+     * @param type a map type
+     *
+     * @return {@code true} if the key type of the given map type is an enum, in which case an {@code EnumMap} is
+     * instantiated, {@code false} otherwise
+     */
+    protected boolean hasEnumKeyType(DeclaredType type) {
+        if ( type.getTypeArguments().isEmpty() ) {
+            return false;
+        }
+
+        TypeMirror keyType = type.getTypeArguments().get( 0 );
+        return keyType.getKind() == TypeKind.DECLARED
+            && ( (DeclaredType) keyType ).asElement().getKind() == ElementKind.ENUM;
+    }
+}
@@ -24,7 +24,20 @@
     }
     </#if>
 
-    <#if !existingInstanceMapping>
+    <#if constructorMapping>
+        <#list constructorParameters as constructorParam>
+        <@includeModel object=constructorParam.type/> ${constructorParam.name} = ${constructorParam.type.null};
+        </#list>
+
+        <#list nestedSourcePrefixes as nestedSourcePrefix>
+            <@includeModel object=nestedSourcePrefix/>
+        </#list>
+        <#-- the constructor arguments are assigned to local variables, hence there's no target bean yet -->
+        <@propertyMappings mappingsByParameter=constructorPropertyMappingsByParameter constants=constructorConstantMappings targetBeanName=""/>
+
+        <@includeModel object=returnTypeToConstruct/> ${resultName} = new <@includeModel object=returnTypeToConstruct/>( <#list constructorParameters as constructorParam>${constructorParam.name}<#if constructorParam_has_next>, </#if></#list> );
+
+    <#elseif !existingInstanceMapping>
         <@includeModel object=returnTypeToConstruct/> ${resultName} = <#if factoryMethod??><@includeModel object=factoryMethod targetType=returnTypeToConstruct/><#else>new <@includeModel object=returnTypeToConstruct/>()</#if>;
 
     </#if>
@@ -34,33 +47,12 @@
 
     	</#if>
     </#list>
-    <#if (sourceParameters?size > 1)>
-        <#list sourceParametersExcludingPrimitives as sourceParam>
-            <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
-                if ( ${sourceParam.name} != null ) {
-                    <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
-                        <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-                    </#list>
-                }
-            </#if>
-        </#list>
-        <#list sourcePrimitiveParameters as sourceParam>
-            <#if (propertyMappingsByParameter(sourceParam)?size > 0)>
-                <#list propertyMappingsByParameter(sourceParam) as propertyMapping>
-                    <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-                </#list>
-            </#if>
-        </#list>
-    <#else>
-        <#if mapNullToDefault>if ( ${sourceParameters[0].name} != null ) {</#if>
-        <#list propertyMappingsByParameter(sourceParameters[0]) as propertyMapping>
-            <@includeModel object=propertyMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
-        </#list>
-        <#if mapNullToDefault>}</#if>
-    </#if>
-    <#list constantMappings as constantMapping>
-         <@includeModel object=constantMapping targetBeanName=resultName existingInstanceMapping=existingInstanceMapping/>
+    <#if !constructorMapping>
+    <#list nestedSourcePrefixes as nestedSourcePrefix>
+        <@includeModel object=nestedSourcePrefix/>
     </#list>
+    </#if>
+    <@propertyMappings mappingsByParameter=propertyMappingsByParameter constants=constantMappings targetBeanName=resultName/>
     <#list afterMappingReferences as callback>
     	<#if callback_index = 0>
 
@@ -76,6 +68,36 @@
     </#if>
     </#if>
 }
+<#macro propertyMappings mappingsByParameter constants targetBeanName>
+    <#if (sourceParameters?size > 1)>
+        <#list sourceParametersExcludingPrimitives as sourceParam>
+            <#if (mappingsByParameter(sourceParam)?size > 0)>
+                if ( ${sourceParam.name} != null ) {
+                    <#list mappingsByParameter(sourceParam) as propertyMapping>
+                        <@includeModel object=propertyMapping targetBeanName=targetBeanName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
+                    </#list>
+                }
+            </#if>
+        </#list>
+        <#list sourcePrimitiveParameters as sourceParam>
+            <#if (mappingsByParameter(sourceParam)?size > 0)>
+                <#list mappingsByParameter(sourceParam) as propertyMapping>
+                    <@includeModel object=propertyMapping targetBeanName=targetBeanName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
+                </#list>
+            </#if>
+        </#list>
+    <#else>
+        <#local nullCheck = mapNullToDefault && (mappingsByParameter(sourceParameters[0])?size > 0) />
+        <#if nullCheck>if ( ${sourceParameters[0].name} != null ) {</#if>
+        <#list mappingsByParameter(sourceParameters[0]) as propertyMapping>
+            <@includeModel object=propertyMapping targetBeanName=targetBeanName existingInstanceMapping=existingInstanceMapping defaultValueAssignment=propertyMapping.defaultValueAssignment/>
+        </#list>
+        <#if nullCheck>}</#if>
+    </#if>
+    <#list constants as constantMapping>
+         <@includeModel object=constantMapping targetBeanName=targetBeanName existingInstanceMapping=existingInstanceMapping/>
+    </#list>
+</#macro>
 <#macro throws>
     <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
         <#list thrownTypes as exceptionType>
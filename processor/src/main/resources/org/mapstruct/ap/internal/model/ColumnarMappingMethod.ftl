@@ -0,0 +1,111 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.ColumnarMappingMethod" -->
+<#if overridden>@Override</#if>
+<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+    if ( ${sourceParameter.name} == null ) {
+        return null;
+    }
+
+    <#if toColumns>
+    int ${sizeVariableName} = ${sourceParameter.name}.<#if sourceParameter.type.arrayType>length<#else>size()</#if>;
+    <#list columns as column>
+    <#if column.array>
+    <#assign columnTypeString><@includeModel object=column.type/></#assign>
+    ${columnTypeString} ${column.variableName} = new ${columnTypeString?keep_before('[]')}[${sizeVariableName}]${columnTypeString?keep_after('[]')};
+    <#else>
+    <@includeModel object=column.type/> ${column.variableName} = new <@includeModel object=column.creationType/>(<#if column.presized> ${sizeVariableName} </#if>);
+    </#if>
+    </#list>
+
+    int ${indexVariableName} = 0;
+    for ( <@includeModel object=elementType/> ${elementVariableName} : ${sourceParameter.name} ) {
+        <#-- null elements leave the default value in array columns -->
+        <#if hasListColumns>
+        if ( ${elementVariableName} == null ) {
+            <#list columns as column>
+            <#if !column.array>
+            ${column.variableName}.add( null );
+            </#if>
+            </#list>
+        }
+        else {
+        <#else>
+        if ( ${elementVariableName} != null ) {
+        </#if>
+            <#list columns as column>
+            <#if column.array>
+            <@includeModel object=column.assignment
+                targetWriteAccessorName="${column.variableName}[${indexVariableName}]"
+                targetType=column.elementType
+                isTargetDefined=true/>
+            <#else>
+            <@includeModel object=column.assignment
+                targetBeanName=column.variableName
+                targetWriteAccessorName="add"
+                targetType=column.elementType/>
+            </#if>
+            </#list>
+        }
+        ${indexVariableName}++;
+    }
+
+    <@includeModel object=resultType/> ${resultName} = new <@includeModel object=resultType/>();
+    <#list columns as column>
+    ${resultName}.${column.accessor}<#if column.fieldAccessor> = ${column.variableName}<#else>( ${column.variableName} )</#if>;
+    </#list>
+    <#else>
+    <#list columns as column>
+    <@includeModel object=column.type/> ${column.variableName} = ${sourceParameter.name}.${column.accessor};
+    if ( ${column.variableName} == null ) {
+        throw new IllegalArgumentException( "Column \"${column.name}\" is null" );
+    }
+    </#list>
+
+    int ${sizeVariableName} = ${columns[0].variableName}.<#if columns[0].array>length<#else>size()</#if>;
+    <#list columns as column>
+    <#if (column_index > 0)>
+    <#assign columnSize>${column.variableName}.<#if column.array>length<#else>size()</#if></#assign>
+    if ( ${columnSize} != ${sizeVariableName} ) {
+        throw new IllegalArgumentException(
+            "Column \"${column.name}\" has " + ${columnSize} + " elements, expected " + ${sizeVariableName} );
+    }
+    </#if>
+    </#list>
+    <#if hasListColumns>
+
+    </#if>
+    <#list columns as column>
+    <#if !column.array>
+    <@includeModel object=column.iteratorType/> ${column.iteratorVariableName} = ${column.variableName}.iterator();
+    </#if>
+    </#list>
+
+    <@includeModel object=resultType/> ${resultName} = new <@includeModel object=resultCreationType/>(<#if resultPresized> <#if resultLoadFactorAdjustment>Math.max( (int) ( ${sizeVariableName} / .75f ) + 1, 16 )<#else>${sizeVariableName}</#if> </#if>);
+    for ( int ${indexVariableName} = 0; ${indexVariableName} < ${sizeVariableName}; ${indexVariableName}++ ) {
+        <@includeModel object=elementType/> ${elementVariableName} = new <@includeModel object=elementType/>();
+        <#list columns as column>
+        <@includeModel object=column.assignment
+            targetBeanName=elementVariableName
+            targetWriteAccessorName=column.propertyAccessorName
+            targetType=column.propertyType/>
+        </#list>
+        ${resultName}.add( ${elementVariableName} );
+    }
+    </#if>
+
+    return ${resultName};
+}
+<#macro throws>
+    <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
+        <#list thrownTypes as exceptionType>
+            <@includeModel object=exceptionType/>
+            <#if exceptionType_has_next>, </#if><#t>
+        </#list>
+    </@compress>
+</#macro>
@@ -6,4 +6,4 @@
 
 -->
 <#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.DefaultMapperReference" -->
-private final <@includeModel object=type/> ${variableName} = <#if annotatedMapper>Mappers.getMapper( <@includeModel object=type/>.class );<#else>new <@includeModel object=type/>();</#if>
\ No newline at end of file
+private final <@includeModel object=type/> ${variableName} = <#if shared>Mappers.getSharedMapper( <@includeModel object=type/>.class );<#elseif annotatedMapper>Mappers.getMapper( <@includeModel object=type/>.class );<#else>new <@includeModel object=type/>();</#if>
\ No newline at end of file
@@ -0,0 +1,96 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.IndexMappingMethod" -->
+<#if overridden>@Override</#if>
+<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+    <#list beforeMappingReferencesWithoutMappingTarget as callback>
+        <@includeModel object=callback targetBeanName=resultName targetType=resultType/>
+        <#if !callback_has_next>
+
+        </#if>
+    </#list>
+    if ( ${sourceParameter.name} == null ) {
+        <#if !mapNullToDefault>
+            return<#if returnType.name != "void"> null</#if>;
+        <#elseif existingInstanceMapping>
+            ${resultName}.clear();
+            return<#if returnType.name != "void"> ${resultName}</#if>;
+        <#else>
+            return <@includeModel object=iterableCreation useSizeIfPossible=false/>;
+        </#if>
+    }
+
+    <#if existingInstanceMapping>
+        ${resultName}.clear();
+    <#else>
+        <#-- a group per element is the upper bound, so the result is only presized if the elements are not grouped -->
+        <@includeModel object=resultType/> ${resultName} = <@includeModel object=iterableCreation useSizeIfPossible=!grouping/>;
+    </#if>
+    <#list beforeMappingReferencesWithMappingTarget as callback>
+        <@includeModel object=callback targetBeanName=resultName targetType=resultType/>
+        <#if !callback_has_next>
+
+        </#if>
+    </#list>
+    for ( <@includeModel object=sourceElementType/> ${loopVariableName} : ${sourceParameter.name} ) {
+        <#if !sourceElementType.primitive>
+        if ( ${loopVariableName} == null ) {
+            continue;
+        }
+        </#if>
+        <#if sourceKey>
+        <@includeModel object=resultKeyType/> ${keyVariableName} = ${loopVariableName}.${keyReadAccessor};
+        </#if>
+        <@includeModel object=elementAssignment targetWriteAccessorName=valueVariableName targetType=resultElementType/>
+        if ( ${valueVariableName} == null ) {
+            continue;
+        }
+        <#if !sourceKey>
+        <@includeModel object=resultKeyType/> ${keyVariableName} = ${valueVariableName}.${keyReadAccessor};
+        </#if>
+        <#if nullableKey>
+        if ( ${keyVariableName} == null ) {
+            throw new IllegalStateException( "Null key property \"${keyProperty}\"" );
+        }
+        </#if>
+        <#if grouping>
+        <@includeModel object=groupType/> ${groupVariableName} = ${resultName}.get( ${keyVariableName} );
+        if ( ${groupVariableName} == null ) {
+            ${groupVariableName} = new <#if groupType.implementationType??><@includeModel object=groupType.implementationType/><#else><@includeModel object=groupType/></#if>();
+            ${resultName}.put( ${keyVariableName}, ${groupVariableName} );
+        }
+        ${groupVariableName}.add( ${valueVariableName} );
+        <#elseif duplicateKeyStrategy == "REPLACE">
+        ${resultName}.put( ${keyVariableName}, ${valueVariableName} );
+        <#elseif duplicateKeyStrategy == "KEEP_FIRST">
+        ${resultName}.putIfAbsent( ${keyVariableName}, ${valueVariableName} );
+        <#else>
+        if ( ${resultName}.putIfAbsent( ${keyVariableName}, ${valueVariableName} ) != null ) {
+            throw new IllegalStateException( "Duplicate key " + ${keyVariableName} );
+        }
+        </#if>
+    }
+    <#list afterMappingReferences as callback>
+        <#if callback_index = 0>
+
+        </#if>
+        <@includeModel object=callback targetBeanName=resultName targetType=resultType/>
+    </#list>
+    <#if returnType.name != "void">
+
+        return ${resultName};
+    </#if>
+}
+<#macro throws>
+    <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
+        <#list thrownTypes as exceptionType>
+            <@includeModel object=exceptionType/>
+            <#if exceptionType_has_next>, </#if><#t>
+        </#list>
+    </@compress>
+</#macro>
@@ -9,8 +9,12 @@
 <@compress single_line=true>
     <#if factoryMethod??>
         <@includeModel object=factoryMethod targetType=resultType/>
+    <#elseif builderType??>
+        <@includeModel object=builderType.owningType raw=true/>.<#if builderCreationTypeArguments?has_content><<#list builderCreationTypeArguments as typeArgument><@includeModel object=typeArgument/><#if typeArgument_has_next>, </#if></#list>></#if>${builderCreationMethodName}()
     <#elseif enumSet>
         EnumSet.noneOf( <@includeModel object=enumSetElementType raw=true/>.class )
+    <#elseif resultType.implementation?? && resultType.implementation.enumMap>
+        new <@includeModel object=resultType.implementationType/>( <@includeModel object=resultType.implementation.enumMapKeyType raw=true/>.class )
     <#else>
     new
         <#if resultType.implementationType??>
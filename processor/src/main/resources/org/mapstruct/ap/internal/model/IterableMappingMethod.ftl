@@ -34,7 +34,7 @@
                     ${resultName}.clear();
                     return<#if returnType.name != "void"> ${resultName}</#if>;
                 <#else>
-                    return <@includeModel object=iterableCreation useSizeIfPossible=false/>;
+                    return <@includeModel object=iterableCreation useSizeIfPossible=false/><@build/>;
                 </#if>
             </#if>
         </#if>
@@ -83,7 +83,7 @@
     </#list>
 
     <#if returnType.name != "void">
-        return ${resultName};
+        return ${resultName}<@build/>;
     </#if>
 }
 <#macro throws>
@@ -105,10 +105,13 @@
 </#macro>
 <#macro iterableLocalVarDef>
     <@compress single_line=true>
-        <#if resultType.fullyQualifiedName == "java.lang.Iterable">
+        <#if iterableCreation.builderType??>
+            <@includeModel object=iterableCreation.builderType.builder/>
+        <#elseif resultType.fullyQualifiedName == "java.lang.Iterable">
             <@includeModel object=resultType.implementationType/>
         <#else>
             <@includeModel object=resultType/>
         </#if>
     </@compress>
-</#macro>
\ No newline at end of file
+</#macro>
+<#macro build><#if iterableCreation.builderType??>.${iterableCreation.buildMethodName}()</#if></#macro>
@@ -22,7 +22,7 @@
                  ${resultName}.clear();
                  return<#if returnType.name != "void"> ${resultName}</#if>;
             <#else>
-                 return <@includeModel object=iterableCreation useSizeIfPossible=false/>;
+                 return <@includeModel object=iterableCreation useSizeIfPossible=false/><@build/>;
             </#if>
         </#if>
     }
@@ -30,7 +30,7 @@
     <#if existingInstanceMapping>
         ${resultName}.clear();
     <#else>
-        <@includeModel object=resultType /> ${resultName} = <@includeModel object=iterableCreation useSizeIfPossible=true/>;
+        <#if iterableCreation.builderType??><@includeModel object=iterableCreation.builderType.builder /><#else><@includeModel object=resultType /></#if> ${resultName} = <@includeModel object=iterableCreation useSizeIfPossible=true/>;
     </#if>
 
     <#list beforeMappingReferencesWithMappingTarget as callback>
@@ -59,7 +59,7 @@
     </#list>
     <#if returnType.name != "void">
 
-        return ${resultName};
+        return ${resultName}<@build/>;
     </#if>
 }
 <#macro throws>
@@ -69,4 +69,5 @@
             <#if exceptionType_has_next>, </#if><#t>
         </#list>
     </@compress>
-</#macro>
\ No newline at end of file
+</#macro>
+<#macro build><#if iterableCreation.builderType??>.${iterableCreation.buildMethodName}()</#if></#macro>
@@ -0,0 +1,47 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.MapperRegistry" -->
+<#if hasPackageName()>
+package ${packageName};
+</#if>
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+<#if generatedTypeName??>
+@${generatedTypeName}(
+    value = "org.mapstruct.ap.MappingProcessor"<#if suppressGeneratorTimestamp == false>,
+    date = "${.now?string("yyyy-MM-dd'T'HH:mm:ssZ")}"</#if>
+)
+</#if>
+public class ${name} implements org.mapstruct.factory.MapperRegistry {
+
+    private static final Map<Class<?>, Class<?>> IMPLEMENTATIONS = new HashMap<Class<?>, Class<?>>( ${initialCapacity?c} );
+    private static final Map<Class<?>, Supplier<?>> FACTORIES = new HashMap<Class<?>, Supplier<?>>( ${initialCapacity?c} );
+
+    static {
+    <#list entries as entry>
+        IMPLEMENTATIONS.put( ${entry.mapperName}.class, ${entry.implementationName}.class );
+        FACTORIES.put( ${entry.mapperName}.class, ${entry.implementationName}::new );
+    </#list>
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <T> Class<? extends T> getMapperClass(Class<T> mapperType) {
+        return (Class<? extends T>) IMPLEMENTATIONS.get( mapperType );
+    }
+
+    @Override
+    @SuppressWarnings( "unchecked" )
+    public <T> T getMapper(Class<T> mapperType) {
+        Supplier<?> factory = FACTORIES.get( mapperType );
+        return factory != null ? (T) factory.get() : null;
+    }
+}
@@ -5,5 +5,5 @@
     Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
 
 -->
-<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.common.Parameter" -->
-<@includeModel object=type asVarArgs=varArgs/> ${name}
\ No newline at end of file
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.NestedSourcePrefix" -->
+<@includeModel object=type.typeBound/> ${name} = ${methodName}( ${sourceVariableName} );
@@ -0,0 +1,20 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SubclassDispatchField" -->
+private static final ClassValue<Integer> ${variableName} = new ClassValue<Integer>() {
+
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            <#list subclasses as subclass>
+            if ( <@includeModel object=subclass.type raw=true/>.class.isAssignableFrom( type ) ) {
+                return ${subclass_index};
+            }
+            </#list>
+            return -1;
+        }
+    };
@@ -0,0 +1,41 @@
+<#--
+
+    Copyright MapStruct Authors.
+
+    Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+
+-->
+<#-- @ftlvariable name="" type="org.mapstruct.ap.internal.model.SubclassMappingMethod" -->
+<#if overridden>@Override</#if>
+<#lt>${accessibility.keyword} <@includeModel object=returnType/> ${name}(<#list parameters as param><@includeModel object=param/><#if param_has_next>, </#if></#list>)<@throws/> {
+    if ( ${sourceParameter.name} == null ) {
+        return null;
+    }
+
+    <@includeModel object=resultType/> ${resultName} = null;
+
+    switch ( ${dispatchField.variableName}.get( ${sourceParameter.name}.getClass() ) ) {
+        <#list subclasses as subclass>
+        <#-- the variable names of all cases are unique, as they share the scope of the switch statement -->
+        case ${subclass_index}:
+            <@includeModel object=subclass.type/> ${subclass.variableName} = (<@includeModel object=subclass.type/>) ${sourceParameter.name};
+            <@includeModel object=subclass.assignment
+                targetWriteAccessorName=resultName
+                targetType=resultType
+                isTargetDefined=true/>
+            break;
+        </#list>
+        default:
+            throw new IllegalArgumentException( "No subclass mapping is defined for " + ${sourceParameter.name}.getClass().getName() + "." );
+    }
+
+    return ${resultName};
+}
+<#macro throws>
+    <#if (thrownTypes?size > 0)><#lt> throws </#if><@compress single_line=true>
+        <#list thrownTypes as exceptionType>
+            <@includeModel object=exceptionType/>
+            <#if exceptionType_has_next>, </#if><#t>
+        </#list>
+    </@compress>
+</#macro>
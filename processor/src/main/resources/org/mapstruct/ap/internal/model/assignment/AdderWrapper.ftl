@@ -11,7 +11,7 @@
     <@lib.sourceLocalVarAssignment/>
     <@lib.handleSourceReferenceNullCheck>
         for ( <@includeModel object=adderType.typeBound/> ${sourceLoopVarName} : <#if sourceLocalVarName??>${sourceLocalVarName}<#else>${sourceReference}</#if> ) {
-          ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
+          <@lib.targetWrite/><@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
       }
     </@lib.handleSourceReferenceNullCheck>
 </@lib.handleExceptions>
\ No newline at end of file
@@ -10,6 +10,6 @@
 <@lib.handleExceptions>
     <@lib.sourceLocalVarAssignment/>
     <@lib.handleSourceReferenceNullCheck>
-        ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite>Arrays.copyOf( ${sourceLocalVarName}, ${sourceLocalVarName}.length )</@lib.handleWrite>;
+        <@lib.targetWrite/><@lib.handleWrite><#if shareReference>${sourceLocalVarName}<#else>Arrays.copyOf( ${sourceLocalVarName}, ${sourceLocalVarName}.length )</#if></@lib.handleWrite>;
     </@lib.handleSourceReferenceNullCheck>
 </@lib.handleExceptions>
\ No newline at end of file
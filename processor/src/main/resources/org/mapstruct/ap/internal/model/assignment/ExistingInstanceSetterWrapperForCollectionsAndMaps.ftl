@@ -9,13 +9,13 @@
 <#import "../macro/CommonMacros.ftl" as lib>
 <@lib.sourceLocalVarAssignment/>
 <@lib.handleExceptions>
-  if ( ${ext.targetBeanName}.${ext.targetReadAccessorName} != null ) {
+  if ( <@lib.targetRead/> != null ) {
       <@lib.handleLocalVarNullCheck needs_explicit_local_var=false>
-      ${ext.targetBeanName}.${ext.targetReadAccessorName}.clear();
-      ${ext.targetBeanName}.${ext.targetReadAccessorName}.<#if ext.targetType.collectionType>addAll<#else>putAll</#if>( <@lib.handleWithAssignmentOrNullCheckVar/> );
+      <@lib.targetRead/>.clear();
+      <@lib.targetRead/>.<#if ext.targetType.collectionType>addAll<#else>putAll</#if>( <@lib.handleWithAssignmentOrNullCheckVar/> );
       </@lib.handleLocalVarNullCheck>
       <#if !ext.defaultValueAssignment?? && !sourcePresenceCheckerReference?? && includeElseBranch>else {<#-- the opposite (defaultValueAssignment) case is handeld inside lib.handleLocalVarNullCheck -->
-      ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><#if mapNullToDefault><@lib.initTargetObject/><#else>null</#if></@lib.handleWrite>;
+      <@lib.targetWrite/><@lib.handleWrite><#if mapNullToDefault><@lib.initTargetObject/><#else>null</#if></@lib.handleWrite>;
       }
       </#if>
   }
@@ -28,15 +28,17 @@
 -->
 <#macro callTargetWriteAccessor>
   <@lib.handleLocalVarNullCheck needs_explicit_local_var=directAssignment>
-    ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><#if directAssignment><@wrapLocalVarInCollectionInitializer/><#else><@lib.handleWithAssignmentOrNullCheckVar/></#if></@lib.handleWrite>;
+    <@lib.targetWrite/><@lib.handleWrite><#if directAssignment><@wrapLocalVarInCollectionInitializer/><#else><@lib.handleWithAssignmentOrNullCheckVar/></#if></@lib.handleWrite>;
   </@lib.handleLocalVarNullCheck>
 </#macro>
 <#--
-  wraps the local variable in a collection initializer (new collection, or EnumSet.copyOf)
+  wraps the local variable in a collection initializer (new collection, EnumSet.copyOf or a new EnumMap)
 -->
 <#macro wrapLocalVarInCollectionInitializer><@compress single_line=true>
     <#if enumSet>
       EnumSet.copyOf( ${nullCheckLocalVarName} )
+    <#elseif ext.targetType.implementation?? && ext.targetType.implementation.enumMap>
+      ${nullCheckLocalVarName}.isEmpty() ? new <@includeModel object=ext.targetType.implementationType/>( <@includeModel object=ext.targetType.implementation.enumMapKeyType raw=true/>.class ) : new <@includeModel object=ext.targetType.implementationType/>( ${nullCheckLocalVarName} )
     <#else>
       new <#if ext.targetType.implementationType??><@includeModel object=ext.targetType.implementationType/><#else><@includeModel object=ext.targetType/></#if>( ${nullCheckLocalVarName} )
     </#if>
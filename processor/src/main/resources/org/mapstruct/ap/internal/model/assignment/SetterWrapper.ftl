@@ -10,6 +10,6 @@
 <@lib.handleExceptions>
     <@lib.sourceLocalVarAssignment/>
     <@lib.handleSourceReferenceNullCheck>
-        ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
+        <@lib.targetWrite/><@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
     </@lib.handleSourceReferenceNullCheck>
 </@lib.handleExceptions>
\ No newline at end of file
@@ -9,5 +9,5 @@
 <#import "../macro/CommonMacros.ftl" as lib>
 <@lib.sourceLocalVarAssignment/>
 <@lib.handleExceptions>
-  ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
+  <@lib.targetWrite/><@lib.handleWrite><@lib.handleAssignment/></@lib.handleWrite>;
 </@lib.handleExceptions>
\ No newline at end of file
@@ -16,15 +16,21 @@
 -->
 <#macro callTargetWriteAccessor>
   <@lib.handleLocalVarNullCheck needs_explicit_local_var=directAssignment>
-    ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><#if directAssignment><@wrapLocalVarInCollectionInitializer/><#else><@lib.handleWithAssignmentOrNullCheckVar/></#if></@lib.handleWrite>;
+    <@lib.targetWrite/><@lib.handleWrite><#if directAssignment><@wrapLocalVarInCollectionInitializer/><#else><@lib.handleWithAssignmentOrNullCheckVar/></#if></@lib.handleWrite>;
   </@lib.handleLocalVarNullCheck>
 </#macro>
 <#--
-  wraps the local variable in a collection initializer (new collection, or EnumSet.copyOf)
+  wraps the local variable in a collection initializer (new collection, EnumSet.copyOf or a new EnumMap)
 -->
 <#macro wrapLocalVarInCollectionInitializer><@compress single_line=true>
-    <#if enumSet>
+    <#if shareReference>
+      ${nullCheckLocalVarName}
+    <#elseif unmodifiableViewMethodName??>
+      Collections.${unmodifiableViewMethodName}( ${nullCheckLocalVarName} )
+    <#elseif enumSet>
       EnumSet.copyOf( ${nullCheckLocalVarName} )
+    <#elseif ext.targetType.implementation?? && ext.targetType.implementation.enumMap>
+      ${nullCheckLocalVarName}.isEmpty() ? new <@includeModel object=ext.targetType.implementationType/>( <@includeModel object=ext.targetType.implementation.enumMapKeyType raw=true/>.class ) : new <@includeModel object=ext.targetType.implementationType/>( ${nullCheckLocalVarName} )
     <#else>
       new <#if ext.targetType.implementationType??><@includeModel object=ext.targetType.implementationType/><#else><@includeModel object=ext.targetType/></#if>( ${nullCheckLocalVarName} )
     </#if>
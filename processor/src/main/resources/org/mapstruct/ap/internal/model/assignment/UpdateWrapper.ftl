@@ -16,7 +16,7 @@
     }
     <#if setExplicitlyToDefault || setExplicitlyToNull>
     else {
-      ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><#if setExplicitlyToDefault><@lib.initTargetObject/><#else>null</#if></@lib.handleWrite>;
+      <@lib.targetWrite/><@lib.handleWrite><#if setExplicitlyToDefault><@lib.initTargetObject/><#else>null</#if></@lib.handleWrite>;
     }
     </#if>
   <#else>
@@ -28,7 +28,7 @@
     target innner check and assignment
 -->
 <#macro assignToExistingTarget>
-    if ( ${ext.targetBeanName}.${ext.targetReadAccessorName} == null ) {
-        ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><@lib.initTargetObject/></@lib.handleWrite>;
+    if ( <@lib.targetRead/> == null ) {
+        <@lib.targetWrite/><@lib.handleWrite><@lib.initTargetObject/></@lib.handleWrite>;
     }
 </#macro>
@@ -40,7 +40,7 @@
       }
     <#elseif setExplicitlyToDefault || setExplicitlyToNull>
       else {
-        ${ext.targetBeanName}.${ext.targetWriteAccessorName}<@lib.handleWrite><#if setExplicitlyToDefault><@lib.initTargetObject/><#else>null</#if></@lib.handleWrite>;
+        <@lib.targetWrite/><@lib.handleWrite><#if setExplicitlyToDefault><@lib.initTargetObject/><#else>null</#if></@lib.handleWrite>;
       }
     </#if>
 </#macro>
@@ -132,6 +132,14 @@ Performs a default assignment with a default value.
   purpose: To handle the writing to a field or using a method. The line is not closed with ';'
 -->
 <#macro handleWrite><#if fieldAssignment> = <#nested><#else>( <#nested> )</#if></#macro>
+<#--
+  macro: targetWrite / targetRead
+
+  purpose: To handle the target property write and read accessor, qualified with the target bean unless the target
+           is a local variable (e.g. a parameter of the constructor creating the target bean)
+-->
+<#macro targetWrite><#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetWriteAccessorName}</#macro>
+<#macro targetRead><#if ext.targetBeanName?has_content>${ext.targetBeanName}.</#if>${ext.targetReadAccessorName}</#macro>
 
 <#--
   macro: handleWriteAccesing
@@ -157,7 +165,9 @@ Performs a default assignment with a default value.
   purpose: Either call the constructor of the target object directly or of the implementing type.
 -->
 <#macro constructTargetObject><@compress single_line=true>
-    <#if ext.targetType.implementationType??>
+    <#if ext.targetType.implementation?? && ext.targetType.implementation.enumMap>
+        new <@includeModel object=ext.targetType.implementationType/>( <@includeModel object=ext.targetType.implementation.enumMapKeyType raw=true/>.class )
+    <#elseif ext.targetType.implementationType??>
         new <@includeModel object=ext.targetType.implementationType/>()
     <#elseif ext.targetType.arrayType>
         new <@includeModel object=ext.targetType.componentType/>[0]
@@ -0,0 +1,63 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.allocation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+import static org.mapstruct.ap.testutil.assertions.AllocationAssert.assertThatInvocation;
+
+/**
+ * Verifies that generated mappers don't allocate more than the objects they are supposed to create.
+ */
+@WithClasses({ Source.class, Target.class, AllocationMapper.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class AllocationBudgetTest {
+
+    @Test
+    public void beanMappingAllocatesOnlyTheTarget() {
+        Source source = source();
+
+        // the target bean, allowing for object layouts without compressed references
+        assertThatInvocation( () -> AllocationMapper.INSTANCE.map( source ) ).allocatesAtMost( 48 );
+    }
+
+    @Test
+    public void updateMappingAllocatesNothing() {
+        Source source = source();
+        Target target = new Target();
+
+        assertThatInvocation( () -> {
+            AllocationMapper.INSTANCE.update( source, target );
+            return target;
+        } ).allocatesNothing();
+    }
+
+    @Test
+    public void iterableMappingAllocatesTheTargetsAndOneList() {
+        List<Source> sources = new ArrayList<>();
+        for ( int i = 0; i < 10; i++ ) {
+            sources.add( source() );
+        }
+
+        // the target beans, the list with its backing array and the iterator
+        assertThatInvocation( () -> AllocationMapper.INSTANCE.mapList( sources ) ).allocatesAtMost( 10 * 48 + 160 );
+    }
+
+    private static Source source() {
+        Source source = new Source();
+        source.setCount( 42 );
+        source.setId( 4711L );
+        source.setActive( true );
+        source.setName( "name" );
+        return source;
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.allocation;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface AllocationMapper {
+
+    AllocationMapper INSTANCE = Mappers.getMapper( AllocationMapper.class );
+
+    Target map(Source source);
+
+    void update(Source source, @MappingTarget Target target);
+
+    List<Target> mapList(List<Source> sources);
+}
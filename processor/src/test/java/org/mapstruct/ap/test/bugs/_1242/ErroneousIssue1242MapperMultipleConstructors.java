@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.bugs._1242;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ObjectFactory;
+
+/**
+ * Results in an ambiguous factory method error, and the target type can't be created via one of its constructors
+ * either.
+ */
+@Mapper
+public abstract class ErroneousIssue1242MapperMultipleConstructors {
+    abstract TargetC toTargetC(SourceB source);
+
+    @ObjectFactory
+    protected TargetC createTargetC(SourceB source) {
+        throw new RuntimeException( "never to be called" );
+    }
+
+    @ObjectFactory
+    protected TargetC anotherTargetCCreator(SourceB source) {
+        throw new RuntimeException( "never to be called" );
+    }
+}
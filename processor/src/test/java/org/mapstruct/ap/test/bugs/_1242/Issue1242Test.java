@@ -65,10 +65,28 @@ public void factoryMethodWithSourceParamIsChosen() {
                     + " .*TargetB .*TargetFactories\\.createTargetB\\(@TargetType java.lang.Class<.*TargetB> clazz\\),"
                     + " .*TargetB .*TargetFactories\\.createTargetB\\(\\)."),
             @Diagnostic(type = ErroneousIssue1242MapperMultipleSources.class,
-                kind = javax.tools.Diagnostic.Kind.ERROR,
+                kind = javax.tools.Diagnostic.Kind.WARNING,
                 line = 20,
-                messageRegExp = ".*TargetB does not have an accessible parameterless constructor\\.")
+                messageRegExp = "Unmapped target property: \"passedViaConstructor\"\\.")
         })
     public void ambiguousMethodErrorForTwoFactoryMethodsWithSourceParam() {
     }
+
+    @Test
+    @WithClasses({ ErroneousIssue1242MapperMultipleConstructors.class, TargetC.class })
+    @ExpectedCompilationOutcome(value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousIssue1242MapperMultipleConstructors.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 17,
+                messageRegExp = "Ambiguous factory methods found for creating .*TargetC:"
+                    + " .*TargetC createTargetC\\(.*SourceB source\\),"
+                    + " .*TargetC anotherTargetCCreator\\(.*SourceB source\\)."),
+            @Diagnostic(type = ErroneousIssue1242MapperMultipleConstructors.class,
+                kind = javax.tools.Diagnostic.Kind.ERROR,
+                line = 17,
+                messageRegExp = ".*TargetC does not have an accessible parameterless constructor\\.")
+        })
+    public void ambiguousMethodErrorForTargetWithSeveralConstructors() {
+    }
 }
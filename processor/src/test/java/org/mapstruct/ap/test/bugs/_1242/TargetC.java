@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.bugs._1242;
+
+/**
+ * Has several constructors, so none of them is used for creating instances implicitly.
+ */
+class TargetC {
+    private final String passedViaConstructor;
+
+    TargetC(String passedViaConstructor) {
+        this.passedViaConstructor = passedViaConstructor;
+    }
+
+    TargetC(TargetC original) {
+        this( original.passedViaConstructor );
+    }
+
+    String getPassedViaConstructor() {
+        return passedViaConstructor;
+    }
+}
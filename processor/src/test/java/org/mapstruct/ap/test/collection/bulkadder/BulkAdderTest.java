@@ -0,0 +1,88 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that bulk adders are preferred over adders when the elements need no conversion.
+ */
+@WithClasses({
+    Address.class,
+    AddressDto.class,
+    Article.class,
+    ArticleDto.class,
+    Person.class,
+    PersonDto.class,
+    PersonMapper.class,
+    TaggedDto.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class BulkAdderTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldUseBulkAdderForElementsWithoutConversion() {
+        Person person = new Person();
+        person.setPhones( Arrays.asList( "123", "456", "789" ) );
+        person.setAddresses( Arrays.asList( new Address( "Berlin" ), new Address( "Hamburg" ) ) );
+
+        PersonDto personDto = PersonMapper.INSTANCE.map( person );
+
+        assertThat( personDto.getPhones() ).containsExactly( "123", "456", "789" );
+        assertThat( personDto.getAddresses() ).extracting( AddressDto::getCity ).containsExactly( "Berlin", "Hamburg" );
+        // the phones are added at once, the addresses need to be mapped one by one
+        assertThat( personDto.getBulkAdditions() ).isEqualTo( 1 );
+        assertThat( personDto.getSingleAdditions() ).isEqualTo( 2 );
+
+        generatedSource.forMapper( PersonMapper.class )
+            .content()
+            .contains( "personDto.addAllPhones( person.getPhones() );" )
+            .contains( "personDto.addAddress( map( address ) );" );
+    }
+
+    @Test
+    public void shouldUseBulkAdderForExistingTarget() {
+        Person person = new Person();
+        person.setPhones( Arrays.asList( "123", "456" ) );
+        PersonDto personDto = new PersonDto();
+        personDto.addPhone( "000" );
+
+        PersonMapper.INSTANCE.update( person, personDto );
+
+        assertThat( personDto.getPhones() ).containsExactly( "000", "123", "456" );
+        assertThat( personDto.getBulkAdditions() ).isEqualTo( 1 );
+        assertThat( personDto.getAddresses() ).isEmpty();
+    }
+
+    @Test
+    public void shouldUseInheritedBulkAdder() {
+        Article article = new Article();
+        article.setTitle( "MapStruct" );
+        article.setTags( Arrays.asList( "java", "mapping" ) );
+
+        ArticleDto articleDto = PersonMapper.INSTANCE.map( article );
+
+        assertThat( articleDto.getTags() ).containsExactly( "java", "mapping" );
+        assertThat( articleDto.getBulkAdditions() ).isEqualTo( 1 );
+        assertThat( articleDto.getSingleAdditions() ).isEqualTo( 0 );
+
+        generatedSource.forMapper( PersonMapper.class )
+            .content()
+            .contains( "articleDto.addAllTags( article.getTags() );" );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resembles a protocol buffers message builder, offering a singular and a bulk adder for each repeated field.
+ */
+public class PersonDto {
+
+    private final List<String> phones = new ArrayList<>();
+    private final List<AddressDto> addresses = new ArrayList<>();
+    private int singleAdditions;
+    private int bulkAdditions;
+
+    public List<String> getPhones() {
+        return phones;
+    }
+
+    public void setPhones(List<String> phones) {
+        throw new UnsupportedOperationException( "Adder should be used" );
+    }
+
+    public void addPhone(String phone) {
+        singleAdditions++;
+        phones.add( phone );
+    }
+
+    public void addAllPhones(Iterable<? extends String> phones) {
+        bulkAdditions++;
+        for ( String phone : phones ) {
+            this.phones.add( phone );
+        }
+    }
+
+    public List<AddressDto> getAddresses() {
+        return addresses;
+    }
+
+    public void setAddresses(List<AddressDto> addresses) {
+        throw new UnsupportedOperationException( "Adder should be used" );
+    }
+
+    public void addAddress(AddressDto address) {
+        singleAdditions++;
+        addresses.add( address );
+    }
+
+    public void addAllAddresses(Iterable<? extends AddressDto> addresses) {
+        bulkAdditions++;
+        for ( AddressDto address : addresses ) {
+            this.addresses.add( address );
+        }
+    }
+
+    public int getSingleAdditions() {
+        return singleAdditions;
+    }
+
+    public int getBulkAdditions() {
+        return bulkAdditions;
+    }
+}
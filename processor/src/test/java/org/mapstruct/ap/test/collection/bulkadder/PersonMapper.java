@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import org.mapstruct.CollectionMappingStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(collectionMappingStrategy = CollectionMappingStrategy.ADDER_PREFERRED)
+public interface PersonMapper {
+
+    PersonMapper INSTANCE = Mappers.getMapper( PersonMapper.class );
+
+    @Mapping(target = "singleAdditions", ignore = true)
+    @Mapping(target = "bulkAdditions", ignore = true)
+    PersonDto map(Person person);
+
+    @Mapping(target = "singleAdditions", ignore = true)
+    @Mapping(target = "bulkAdditions", ignore = true)
+    void update(Person person, @MappingTarget PersonDto personDto);
+
+    AddressDto map(Address address);
+
+    @Mapping(target = "singleAdditions", ignore = true)
+    @Mapping(target = "bulkAdditions", ignore = true)
+    ArticleDto map(Article article);
+}
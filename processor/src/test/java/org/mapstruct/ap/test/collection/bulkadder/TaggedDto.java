@@ -0,0 +1,47 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.bulkadder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A base type declaring a singular and a bulk adder, which are inherited by the mapped type.
+ */
+public class TaggedDto {
+
+    private final List<String> tags = new ArrayList<>();
+    private int singleAdditions;
+    private int bulkAdditions;
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        throw new UnsupportedOperationException( "Adder should be used" );
+    }
+
+    public void addTag(String tag) {
+        singleAdditions++;
+        tags.add( tag );
+    }
+
+    public void addAllTags(Iterable<? extends String> tags) {
+        bulkAdditions++;
+        for ( String tag : tags ) {
+            this.tags.add( tag );
+        }
+    }
+
+    public int getSingleAdditions() {
+        return singleAdditions;
+    }
+
+    public int getBulkAdditions() {
+        return bulkAdditions;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.columnar;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests mapping methods which transpose a collection of beans into arrays or lists of their properties and back.
+ */
+@WithClasses({
+    Trade.class,
+    TradeColumns.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ColumnarMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses(TradeMapper.class)
+    public void shouldMapCollectionToColumns() {
+        TradeColumns columns = TradeMapper.INSTANCE.toColumns( Arrays.asList(
+            new Trade( 1, 100L, 1.5, "ABC" ),
+            null,
+            new Trade( 3, 300L, 2.5, "XYZ" )
+        ) );
+
+        assertThat( columns.getId() ).containsExactly( 1, 0, 3 );
+        assertThat( columns.getAmount() ).containsExactly( 100L, 0L, 300L );
+        assertThat( columns.getPrice() ).containsExactly( 1.5, null, 2.5 );
+        assertThat( columns.getSymbol() ).containsExactly( "ABC", null, "XYZ" );
+
+        assertThat( TradeMapper.INSTANCE.toColumns( null ) ).isNull();
+
+        generatedSource.forMapper( TradeMapper.class )
+            .content()
+            .contains( "int[] id = new int[size];" )
+            .contains( "id[i] = trade.getId();" )
+            .contains( "List<String> symbol = new ArrayList<String>( size );" )
+            .contains( "symbol.add( trade.getSymbol() );" );
+    }
+
+    @Test
+    @WithClasses(TradeMapper.class)
+    public void shouldMapArrayToColumns() {
+        TradeColumns columns = TradeMapper.INSTANCE.arrayToColumns( new Trade[] {
+            new Trade( 1, 100L, 1.5, "ABC" ),
+            new Trade( 2, 200L, 2.0, "DEF" )
+        } );
+
+        assertThat( columns.getId() ).containsExactly( 1, 2 );
+        assertThat( columns.getAmount() ).containsExactly( 100L, 200L );
+        assertThat( columns.getPrice() ).containsExactly( 1.5, 2.0 );
+        assertThat( columns.getSymbol() ).containsExactly( "ABC", "DEF" );
+    }
+
+    @Test
+    @WithClasses(TradeMapper.class)
+    public void shouldMapColumnsToCollection() {
+        TradeColumns columns = new TradeColumns();
+        columns.setId( new int[] { 1, 2 } );
+        columns.setAmount( new long[] { 100L, 200L } );
+        columns.setPrice( Arrays.asList( 1.5, 2.0 ) );
+        columns.setSymbol( Arrays.asList( "ABC", "DEF" ) );
+
+        List<Trade> trades = TradeMapper.INSTANCE.fromColumns( columns );
+
+        assertThat( trades )
+            .extracting( Trade::getId, Trade::getAmount, Trade::getPrice, Trade::getSymbol )
+            .containsExactly(
+                tuple( 1, 100L, 1.5, "ABC" ),
+                tuple( 2, 200L, 2.0, "DEF" )
+            );
+
+        assertThat( TradeMapper.INSTANCE.fromColumns( null ) ).isNull();
+
+        generatedSource.forMapper( TradeMapper.class )
+            .content()
+            .contains( "List<Trade> list = new ArrayList<Trade>( size );" )
+            .contains( "trade.setAmount( amount[i] );" )
+            .contains( "Iterator<String> symbolIterator = symbol.iterator();" )
+            .contains( "trade.setSymbol( symbolIterator.next() );" );
+    }
+
+    @Test
+    @WithClasses(TradeMapper.class)
+    public void shouldFailOnNullColumn() {
+        TradeColumns columns = new TradeColumns();
+        columns.setId( new int[] { 1 } );
+        columns.setAmount( new long[] { 100L } );
+        columns.setSymbol( Collections.singletonList( "ABC" ) );
+
+        assertThatThrownBy( () -> TradeMapper.INSTANCE.fromColumns( columns ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessage( "Column \"price\" is null" );
+    }
+
+    @Test
+    @WithClasses(TradeMapper.class)
+    public void shouldFailOnColumnsOfDifferentSizes() {
+        TradeColumns columns = new TradeColumns();
+        columns.setId( new int[] { 1, 2 } );
+        columns.setAmount( new long[] { 100L, 200L } );
+        columns.setPrice( Arrays.asList( 1.5, 2.0 ) );
+        columns.setSymbol( Collections.singletonList( "ABC" ) );
+
+        assertThatThrownBy( () -> TradeMapper.INSTANCE.fromColumns( columns ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessage( "Column \"symbol\" has 1 elements, expected 2" );
+
+        columns.setSymbol( Arrays.asList( "ABC", "DEF" ) );
+        columns.setAmount( new long[] { 100L } );
+
+        assertThatThrownBy( () -> TradeMapper.INSTANCE.fromColumns( columns ) )
+            .isInstanceOf( IllegalArgumentException.class )
+            .hasMessage( "Column \"amount\" has 1 elements, expected 2" );
+    }
+
+    @Test
+    @WithClasses({ VenueTradeColumns.class, VenueTradeMapper.class })
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.SUCCEEDED,
+        diagnostics = {
+            @Diagnostic(type = VenueTradeMapper.class,
+                kind = Kind.WARNING,
+                line = 20,
+                messageRegExp = "Column \"venue\" is not mapped, as the element type .*Trade has no property with that "
+                    + "name\\.")
+        }
+    )
+    public void shouldWarnAboutUnmappedColumnAndMapFieldColumns() {
+        VenueTradeColumns columns = VenueTradeMapper.INSTANCE.toColumns( Arrays.asList(
+            new Trade( 1, 100L, 1.5, "ABC" ),
+            new Trade( 2, 200L, 2.0, "DEF" )
+        ) );
+
+        assertThat( columns.id ).containsExactly( 1, 2 );
+        assertThat( columns.venue ).isNull();
+    }
+
+    @Test
+    @WithClasses(ErroneousTradeMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousTradeMapper.class,
+                kind = Kind.ERROR,
+                line = 17,
+                messageRegExp = "@ColumnarMapping can only be applied to methods mapping a collection type or an array "
+                    + "to a bean type or vice versa, .*"),
+            @Diagnostic(type = ErroneousTradeMapper.class,
+                kind = Kind.ERROR,
+                line = 20,
+                messageRegExp = "@ColumnarMapping can only be applied to methods mapping a collection type or an array "
+                    + "to a bean type or vice versa, .*"),
+            @Diagnostic(type = ErroneousTradeMapper.class,
+                kind = Kind.ERROR,
+                line = 23,
+                messageRegExp = "The columnar type .*AbstractTradeColumns may not be an abstract class nor "
+                    + "interface\\.")
+        }
+    )
+    public void shouldReportInvalidColumnarMappings() {
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.columnar;
+
+import java.util.List;
+
+import org.mapstruct.ColumnarMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousTradeMapper {
+
+    @ColumnarMapping
+    List<Trade> toTrades(List<TradeColumns> columns);
+
+    @ColumnarMapping
+    TradeColumns toColumns(Trade trade);
+
+    @ColumnarMapping
+    AbstractTradeColumns toAbstractColumns(List<Trade> trades);
+
+    abstract class AbstractTradeColumns {
+
+        //CHECKSTYLE:OFF
+        public int[] id;
+        //CHECKSTYLE:ON
+    }
+}
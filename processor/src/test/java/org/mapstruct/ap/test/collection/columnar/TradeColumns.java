@@ -0,0 +1,48 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.columnar;
+
+import java.util.List;
+
+public class TradeColumns {
+
+    private int[] id;
+    private long[] amount;
+    private List<Double> price;
+    private List<String> symbol;
+
+    public int[] getId() {
+        return id;
+    }
+
+    public void setId(int[] id) {
+        this.id = id;
+    }
+
+    public long[] getAmount() {
+        return amount;
+    }
+
+    public void setAmount(long[] amount) {
+        this.amount = amount;
+    }
+
+    public List<Double> getPrice() {
+        return price;
+    }
+
+    public void setPrice(List<Double> price) {
+        this.price = price;
+    }
+
+    public List<String> getSymbol() {
+        return symbol;
+    }
+
+    public void setSymbol(List<String> symbol) {
+        this.symbol = symbol;
+    }
+}
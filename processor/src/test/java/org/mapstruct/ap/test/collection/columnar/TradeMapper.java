@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.columnar;
+
+import java.util.List;
+
+import org.mapstruct.ColumnarMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface TradeMapper {
+
+    TradeMapper INSTANCE = Mappers.getMapper( TradeMapper.class );
+
+    @ColumnarMapping
+    TradeColumns toColumns(List<Trade> trades);
+
+    @ColumnarMapping
+    TradeColumns arrayToColumns(Trade[] trades);
+
+    @ColumnarMapping
+    List<Trade> fromColumns(TradeColumns columns);
+}
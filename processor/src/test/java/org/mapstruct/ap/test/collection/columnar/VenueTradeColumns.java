@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.columnar;
+
+public class VenueTradeColumns {
+
+    //CHECKSTYLE:OFF
+    public int[] id;
+    public String[] venue;
+    //CHECKSTYLE:ON
+}
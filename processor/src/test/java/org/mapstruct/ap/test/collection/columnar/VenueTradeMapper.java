@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.columnar;
+
+import java.util.List;
+
+import org.mapstruct.ColumnarMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface VenueTradeMapper {
+
+    VenueTradeMapper INSTANCE = Mappers.getMapper( VenueTradeMapper.class );
+
+    @ColumnarMapping
+    VenueTradeColumns toColumns(List<Trade> trades);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the propagation of collections, maps and arrays according to the configured
+ * {@link org.mapstruct.CollectionCopyStrategy}.
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    SharingMapper.class,
+    UnmodifiableViewConfig.class,
+    UnmodifiableViewMapper.class,
+    CopyingMapper.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CollectionCopyStrategyTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldCopyByDefault() {
+        Source source = createSource();
+
+        Target target = CopyingMapper.INSTANCE.map( source );
+
+        assertThat( target.getTags() ).isNotSameAs( source.getTags() ).isEqualTo( source.getTags() );
+        assertThat( target.getScores() ).isNotSameAs( source.getScores() ).isEqualTo( source.getScores() );
+        assertThat( target.getData() ).isNotSameAs( source.getData() ).isEqualTo( source.getData() );
+        assertThat( target.getNames() ).isNotSameAs( source.getNames() ).isEqualTo( source.getNames() );
+    }
+
+    @Test
+    public void shouldShareReferences() {
+        Source source = createSource();
+
+        Target target = SharingMapper.INSTANCE.map( source );
+
+        assertThat( target.getTags() ).isSameAs( source.getTags() );
+        assertThat( target.getScores() ).isSameAs( source.getScores() );
+        assertThat( target.getData() ).isSameAs( source.getData() );
+        assertThat( target.getNames() ).isSameAs( source.getNames() );
+
+        generatedSource.forMapper( SharingMapper.class )
+            .content()
+            .contains( "target.setTags( list );" )
+            .contains( "target.setData( data );" )
+            .doesNotContain( "Arrays.copyOf" );
+    }
+
+    @Test
+    public void shouldNotSetNullSourceWhenSharingReferences() {
+        Target target = SharingMapper.INSTANCE.map( new Source() );
+
+        assertThat( target.getTags() ).isNull();
+        assertThat( target.getScores() ).isNull();
+        assertThat( target.getData() ).isNull();
+        assertThat( target.getNames() ).isNull();
+    }
+
+    @Test
+    public void shouldApplyStrategyOfMapping() {
+        Source source = createSource();
+
+        Target target = SharingMapper.INSTANCE.mapCopyingTags( source );
+
+        assertThat( target.getTags() ).isNotSameAs( source.getTags() ).isEqualTo( source.getTags() );
+        assertThat( target.getScores() ).isSameAs( source.getScores() );
+    }
+
+    @Test
+    public void shouldAssignUnmodifiableViews() {
+        Source source = createSource();
+
+        Target target = UnmodifiableViewMapper.INSTANCE.map( source );
+
+        assertThatThrownBy( () -> target.getTags().add( "c" ) ).isInstanceOf( UnsupportedOperationException.class );
+        assertThatThrownBy( () -> target.getScores().put( "c", 3 ) )
+            .isInstanceOf( UnsupportedOperationException.class );
+
+        // the views reflect the source
+        source.getTags().add( "c" );
+        assertThat( target.getTags() ).containsExactly( "a", "b", "c" );
+
+        // there are no views for arrays and implementation types
+        assertThat( target.getData() ).isNotSameAs( source.getData() ).isEqualTo( source.getData() );
+        assertThat( target.getNames() ).isNotSameAs( source.getNames() ).isEqualTo( source.getNames() );
+
+        generatedSource.forMapper( UnmodifiableViewMapper.class )
+            .content()
+            .contains( "target.setTags( Collections.unmodifiableList( list ) );" )
+            .contains( "target.setScores( Collections.unmodifiableMap( map ) );" );
+    }
+
+    private static Source createSource() {
+        Source source = new Source();
+        source.setTags( new ArrayList<>( Arrays.asList( "a", "b" ) ) );
+        Map<String, Integer> scores = new HashMap<>();
+        scores.put( "a", 1 );
+        source.setScores( scores );
+        source.setData( new byte[] { 1, 2, 3 } );
+        source.setNames( new ArrayList<>( Arrays.asList( "x", "y" ) ) );
+        return source;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import org.mapstruct.CollectionCopyStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(collectionCopyStrategy = CollectionCopyStrategy.SHARE)
+public interface SharingMapper {
+
+    SharingMapper INSTANCE = Mappers.getMapper( SharingMapper.class );
+
+    Target map(Source source);
+
+    @Mapping(target = "tags", collectionCopyStrategy = CollectionCopyStrategy.COPY)
+    Target mapCopyingTags(Source source);
+}
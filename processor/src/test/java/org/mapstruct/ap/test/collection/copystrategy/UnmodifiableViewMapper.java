@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.copystrategy;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(config = UnmodifiableViewConfig.class)
+public interface UnmodifiableViewMapper {
+
+    UnmodifiableViewMapper INSTANCE = Mappers.getMapper( UnmodifiableViewMapper.class );
+
+    Target map(Source source);
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.enummap;
+
+import java.util.Map;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+public interface EnumMapMapper {
+
+    EnumMapMapper INSTANCE = Mappers.getMapper( EnumMapMapper.class );
+
+    Target map(Source source);
+
+    void update(Source source, @MappingTarget Target target);
+
+    Map<Tier, Long> toDiscounts(Map<String, Integer> discounts);
+
+    Map<Tier, Long> toTierDiscounts(Map<Tier, Integer> discounts);
+
+    Map<Tier, Long> updateDiscounts(Map<String, Integer> discounts, @MappingTarget Map<Tier, Long> target);
+}
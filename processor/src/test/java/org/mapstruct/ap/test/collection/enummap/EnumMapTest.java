@@ -0,0 +1,156 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.enummap;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests the instantiation of an {@link EnumMap} for map targets with an enum key type.
+ */
+@WithClasses({
+    EnumMapMapper.class,
+    Source.class,
+    Target.class,
+    Tier.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class EnumMapTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldCreateEnumMapInMapMappingMethod() {
+        Map<String, Integer> discounts = new HashMap<>();
+        discounts.put( "PREMIUM", 10 );
+        discounts.put( "BASIC", 5 );
+
+        assertThat( EnumMapMapper.INSTANCE.toDiscounts( discounts ) )
+            .isInstanceOf( EnumMap.class )
+            .containsExactly( entry( Tier.BASIC, 5L ), entry( Tier.PREMIUM, 10L ) );
+
+        assertThat( EnumMapMapper.INSTANCE.toDiscounts( null ) )
+            .isInstanceOf( EnumMap.class )
+            .isEmpty();
+
+        generatedSource.forMapper( EnumMapMapper.class )
+            .content()
+            .contains( "new EnumMap<Tier, Long>( Tier.class )" )
+            .doesNotContain( "HashMap" );
+    }
+
+    @Test
+    public void shouldCopyIntoEnumMap() {
+        Map<Tier, Integer> prices = new HashMap<>();
+        prices.put( Tier.STANDARD, 20 );
+        prices.put( Tier.BASIC, 10 );
+        Source source = new Source();
+        source.setPrices( prices );
+        source.setDiscounts( Collections.singletonMap( "STANDARD", 2 ) );
+
+        Target target = EnumMapMapper.INSTANCE.map( source );
+
+        assertThat( target.getPrices() )
+            .isInstanceOf( EnumMap.class )
+            .containsExactly( entry( Tier.BASIC, 10 ), entry( Tier.STANDARD, 20 ) );
+        assertThat( target.getDiscounts() )
+            .isInstanceOf( EnumMap.class )
+            .containsExactly( entry( Tier.STANDARD, 2L ) );
+    }
+
+    @Test
+    public void shouldCopyEmptyMapIntoEnumMap() {
+        Source source = new Source();
+        source.setPrices( new HashMap<>() );
+
+        Target target = EnumMapMapper.INSTANCE.map( source );
+
+        assertThat( target.getPrices() )
+            .isInstanceOf( EnumMap.class )
+            .isEmpty();
+    }
+
+    @Test
+    public void shouldCreateEnumMapWhenUpdatingTargetWithoutMap() {
+        Source source = new Source();
+        source.setPrices( Collections.singletonMap( Tier.PREMIUM, 30 ) );
+        Target target = new Target();
+
+        EnumMapMapper.INSTANCE.update( source, target );
+
+        assertThat( target.getPrices() )
+            .isInstanceOf( EnumMap.class )
+            .containsExactly( entry( Tier.PREMIUM, 30 ) );
+    }
+
+    @Test
+    public void shouldUpdateExistingMap() {
+        Map<Tier, Long> existing = new HashMap<>();
+        existing.put( Tier.BASIC, 1L );
+
+        Map<Tier, Long> result = EnumMapMapper.INSTANCE.updateDiscounts(
+            Collections.singletonMap( "PREMIUM", 3 ),
+            existing
+        );
+
+        assertThat( result ).isSameAs( existing )
+            .containsOnly( entry( Tier.PREMIUM, 3L ) );
+    }
+
+    @Test
+    public void shouldFailOnNullKey() {
+        // an EnumMap doesn't permit null keys
+        Map<Tier, Integer> discounts = new HashMap<>();
+        discounts.put( null, 1 );
+
+        assertThatThrownBy( () -> EnumMapMapper.INSTANCE.toTierDiscounts( discounts ) )
+            .isInstanceOf( NullPointerException.class );
+
+        Source source = new Source();
+        source.setPrices( discounts );
+
+        assertThatThrownBy( () -> EnumMapMapper.INSTANCE.map( source ) )
+            .isInstanceOf( NullPointerException.class );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.disableEnumMaps", value = "true")
+    public void shouldCreateHashMapIfEnumMapsAreDisabled() {
+        Map<Tier, Integer> discounts = new HashMap<>();
+        discounts.put( null, 1 );
+        discounts.put( Tier.BASIC, 2 );
+
+        assertThat( EnumMapMapper.INSTANCE.toTierDiscounts( discounts ) )
+            .isInstanceOf( HashMap.class )
+            .containsOnly( entry( null, 1L ), entry( Tier.BASIC, 2L ) );
+
+        Source source = new Source();
+        source.setPrices( discounts );
+
+        assertThat( EnumMapMapper.INSTANCE.map( source ).getPrices() )
+            .isInstanceOf( HashMap.class )
+            .containsOnly( entry( null, 1 ), entry( Tier.BASIC, 2 ) );
+
+        generatedSource.forMapper( EnumMapMapper.class )
+            .content()
+            .doesNotContain( "java.util.EnumMap" );
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.enummap;
+
+import java.util.Map;
+
+public class Source {
+
+    private Map<Tier, Integer> prices;
+    private Map<String, Integer> discounts;
+
+    public Map<Tier, Integer> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(Map<Tier, Integer> prices) {
+        this.prices = prices;
+    }
+
+    public Map<String, Integer> getDiscounts() {
+        return discounts;
+    }
+
+    public void setDiscounts(Map<String, Integer> discounts) {
+        this.discounts = discounts;
+    }
+}
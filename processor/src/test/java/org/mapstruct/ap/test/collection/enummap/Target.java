@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.enummap;
+
+import java.util.Map;
+
+public class Target {
+
+    private Map<Tier, Integer> prices;
+    private Map<Tier, Long> discounts;
+
+    public Map<Tier, Integer> getPrices() {
+        return prices;
+    }
+
+    public void setPrices(Map<Tier, Integer> prices) {
+        this.prices = prices;
+    }
+
+    public Map<Tier, Long> getDiscounts() {
+        return discounts;
+    }
+
+    public void setDiscounts(Map<Tier, Long> discounts) {
+        this.discounts = discounts;
+    }
+}
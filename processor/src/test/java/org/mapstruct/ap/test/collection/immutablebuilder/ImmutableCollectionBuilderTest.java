@@ -0,0 +1,87 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.immutablebuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests that the mapped elements are collected in the builder of immutable collection types, e.g.
+ * {@code ImmutableList.builder()}, instead of an intermediate collection.
+ */
+@WithClasses({ Source.class, Target.class, ImmutableCollectionMapper.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ImmutableCollectionBuilderTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldCollectElementsInBuilder() {
+        Source source = new Source();
+        source.setNumbers( Arrays.asList( 1, 2, 3 ) );
+        source.setNames( Arrays.asList( "Alice", "Bob" ) );
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        scores.put( "Alice", 10 );
+        scores.put( "Bob", 20 );
+        source.setScores( scores );
+
+        Target target = ImmutableCollectionMapper.INSTANCE.map( source );
+
+        assertThat( target.getNumbers() ).containsExactly( "1", "2", "3" );
+        assertThat( target.getNames() ).containsExactly( "Alice", "Bob" );
+        assertThat( target.getScores() ).containsExactly( entry( "Alice", "10" ), entry( "Bob", "20" ) );
+
+        generatedSource.forMapper( ImmutableCollectionMapper.class )
+            .content()
+            .contains( "ImmutableList.<String>builder();" )
+            .contains( "ImmutableMap.<String, String>builder();" )
+            .doesNotContain( "new ArrayList" )
+            .doesNotContain( "new HashMap" );
+    }
+
+    @Test
+    public void shouldApplyLifecycleMethodsToBuilder() {
+        assertThat( ImmutableCollectionMapper.INSTANCE.toCodes( new HashSet<>( Collections.singletonList( 1 ) ) ) )
+            .containsExactlyInAnyOrder( "1", "default" );
+    }
+
+    @Test
+    public void shouldBuildDefaultFromBuilder() {
+        assertThat( ImmutableCollectionMapper.INSTANCE.toCodes( null ) ).isEmpty();
+    }
+
+    @Test
+    @WithClasses({ SortedSource.class, SortedTarget.class, SortedCollectionMapper.class })
+    public void shouldNotReportSeveralBuildersOfSortedCollectionProperties() {
+        // no warnings are expected, even though e.g. ImmutableSortedSet has the builder creation methods
+        // naturalOrder() and reverseOrder()
+        SortedSource source = new SortedSource();
+        source.setNames( Arrays.asList( "Bob", "Alice" ) );
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        scores.put( "Bob", 20 );
+        scores.put( "Alice", 10 );
+        source.setScores( scores );
+
+        SortedTarget target = SortedCollectionMapper.INSTANCE.map( source );
+
+        assertThat( target.getNames() ).containsExactly( "Alice", "Bob" );
+        assertThat( target.getScores() ).containsExactly( entry( "Alice", 10 ), entry( "Bob", 20 ) );
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.immutablebuilder;
+
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import org.mapstruct.AfterMapping;
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface ImmutableCollectionMapper {
+
+    ImmutableCollectionMapper INSTANCE = Mappers.getMapper( ImmutableCollectionMapper.class );
+
+    Target map(Source source);
+
+    @IterableMapping(nullValueMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+    ImmutableSet<String> toCodes(Set<Integer> codes);
+
+    @AfterMapping
+    default void addDefaultCode(@MappingTarget ImmutableSet.Builder<String> codes) {
+        codes.add( "default" );
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.immutablebuilder;
+
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import org.mapstruct.Mapper;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface SortedCollectionMapper {
+
+    SortedCollectionMapper INSTANCE = Mappers.getMapper( SortedCollectionMapper.class );
+
+    SortedTarget map(SortedSource source);
+
+    default ImmutableSortedSet<String> toSortedSet(List<String> names) {
+        return ImmutableSortedSet.copyOf( names );
+    }
+
+    default ImmutableSortedMap<String, Integer> toSortedMap(Map<String, Integer> scores) {
+        return ImmutableSortedMap.copyOf( scores );
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.immutablebuilder;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+
+public class SortedTarget {
+
+    private ImmutableSortedSet<String> names;
+    private ImmutableSortedMap<String, Integer> scores;
+
+    public ImmutableSortedSet<String> getNames() {
+        return names;
+    }
+
+    public void setNames(ImmutableSortedSet<String> names) {
+        this.names = names;
+    }
+
+    public ImmutableSortedMap<String, Integer> getScores() {
+        return scores;
+    }
+
+    public void setScores(ImmutableSortedMap<String, Integer> scores) {
+        this.scores = scores;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.immutablebuilder;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+public class Target {
+
+    private ImmutableList<String> numbers;
+    private ImmutableList<String> names;
+    private ImmutableMap<String, String> scores;
+
+    public ImmutableList<String> getNumbers() {
+        return numbers;
+    }
+
+    public void setNumbers(ImmutableList<String> numbers) {
+        this.numbers = numbers;
+    }
+
+    public ImmutableList<String> getNames() {
+        return names;
+    }
+
+    public void setNames(ImmutableList<String> names) {
+        this.names = names;
+    }
+
+    public ImmutableMap<String, String> getScores() {
+        return scores;
+    }
+
+    public void setScores(ImmutableMap<String, String> scores) {
+        this.scores = scores;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.implementationprovider;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.spi.CollectionImplementationProvider;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.WithServiceImplementation;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests the usage of a custom {@link CollectionImplementationProvider}.
+ */
+@WithClasses(CollectionMapper.class)
+@WithServiceImplementation(value = CustomCollectionImplementationProvider.class,
+    provides = CollectionImplementationProvider.class)
+@RunWith(AnnotationProcessorTestRunner.class)
+public class CollectionImplementationProviderTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldInstantiateImplementationsOfProvider() {
+        assertThat( CollectionMapper.INSTANCE.toDeque( Arrays.asList( 1, 2 ) ) )
+            .isInstanceOf( ArrayDeque.class )
+            .containsExactly( "1", "2" );
+
+        Map<Integer, Integer> numbers = new LinkedHashMap<>();
+        numbers.put( 2, 20 );
+        numbers.put( 1, 10 );
+        assertThat( CollectionMapper.INSTANCE.toMap( numbers ) )
+            .isInstanceOf( LinkedHashMap.class )
+            .containsExactly( entry( "2", "20" ), entry( "1", "10" ) );
+
+        generatedSource.forMapper( CollectionMapper.class )
+            .content()
+            .contains( "new ArrayDeque<String>( numbers.size() )" )
+            .contains( "new LinkedHashMap<String, String>( Math.max( (int) ( numbers.size() / .75f ) + 1, 16 ) )" );
+    }
+
+    @Test
+    public void shouldFallBackToDefaultImplementations() {
+        assertThat( CollectionMapper.INSTANCE.toList( Arrays.asList( 1, 2 ) ) )
+            .isInstanceOf( ArrayList.class )
+            .containsExactly( "1", "2" );
+    }
+
+    @Test
+    public void shouldPreferObjectFactory() {
+        assertThat( CollectionMapper.INSTANCE.toSet( Arrays.asList( 2, 1 ) ) )
+            .isInstanceOf( LinkedHashSet.class )
+            .containsExactly( "2", "1" );
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.implementationprovider;
+
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ObjectFactory;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface CollectionMapper {
+
+    CollectionMapper INSTANCE = Mappers.getMapper( CollectionMapper.class );
+
+    Deque<String> toDeque(List<Integer> numbers);
+
+    Map<String, String> toMap(Map<Integer, Integer> numbers);
+
+    List<String> toList(List<Integer> numbers);
+
+    Set<String> toSet(List<Integer> numbers);
+
+    @ObjectFactory
+    default Set<String> createSet(List<Integer> numbers) {
+        return new LinkedHashSet<>( numbers.size() * 2 );
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.implementationprovider;
+
+// tag::documentation[]
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.mapstruct.ap.spi.CollectionImplementationInfo.Sizing;
+import org.mapstruct.ap.spi.DefaultCollectionImplementationProvider;
+import org.mapstruct.ap.spi.MapStructProcessingEnvironment;
+
+public class CustomCollectionImplementationProvider extends DefaultCollectionImplementationProvider {
+
+    @Override
+    public void init(MapStructProcessingEnvironment processingEnvironment) {
+        super.init( processingEnvironment );
+
+        register( Deque.class, ArrayDeque.class, Sizing.INITIAL_CAPACITY );
+        register( Map.class, LinkedHashMap.class, Sizing.EXPECTED_SIZE );
+    }
+}
+// end::documentation[]
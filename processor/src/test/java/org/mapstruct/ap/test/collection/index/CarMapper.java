@@ -0,0 +1,41 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.mapstruct.DuplicateKeyStrategy;
+import org.mapstruct.IndexMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface CarMapper {
+
+    CarMapper INSTANCE = Mappers.getMapper( CarMapper.class );
+
+    @IndexMapping(key = "id")
+    Map<String, Car> carsById(List<CarDto> cars);
+
+    @IndexMapping(sourceKey = "make")
+    Map<String, List<Car>> carsByMake(Collection<CarDto> cars);
+
+    @IndexMapping(key = "seats", duplicateKeyStrategy = DuplicateKeyStrategy.KEEP_FIRST)
+    Map<Integer, Car> carsBySeats(CarDto[] cars);
+
+    @IndexMapping(key = "id", duplicateKeyStrategy = DuplicateKeyStrategy.REPLACE)
+    void updateCarsById(List<CarDto> cars, @MappingTarget Map<String, Car> target);
+
+    @IndexMapping(key = "id")
+    void updateCarsByIdOrFail(List<CarDto> cars, @MappingTarget Map<String, Car> target);
+
+    Fleet toFleet(FleetDto fleet);
+
+    Car toCar(CarDto car);
+}
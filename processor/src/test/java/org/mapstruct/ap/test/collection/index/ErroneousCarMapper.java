@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.index;
+
+import java.util.List;
+import java.util.Map;
+
+import org.mapstruct.IndexMapping;
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousCarMapper {
+
+    @IndexMapping(key = "model")
+    Map<String, Car> unknownKey(List<CarDto> cars);
+
+    @IndexMapping(sourceKey = "seats")
+    Map<String, Car> keyTypeMismatch(List<CarDto> cars);
+
+    @IndexMapping(key = "id", sourceKey = "id")
+    Map<String, Car> ambiguousKey(List<CarDto> cars);
+
+    @IndexMapping(key = "id")
+    List<Car> notAMap(List<CarDto> cars);
+
+    Car toCar(CarDto car);
+}
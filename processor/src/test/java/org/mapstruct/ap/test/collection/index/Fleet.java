@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.index;
+
+import java.util.Map;
+
+public class Fleet {
+
+    private Map<String, Car> cars;
+
+    public Map<String, Car> getCars() {
+        return cars;
+    }
+
+    public void setCars(Map<String, Car> cars) {
+        this.cars = cars;
+    }
+}
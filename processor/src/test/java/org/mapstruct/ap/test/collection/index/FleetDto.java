@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.index;
+
+import java.util.List;
+
+public class FleetDto {
+
+    private List<CarDto> cars;
+
+    public List<CarDto> getCars() {
+        return cars;
+    }
+
+    public void setCars(List<CarDto> cars) {
+        this.cars = cars;
+    }
+}
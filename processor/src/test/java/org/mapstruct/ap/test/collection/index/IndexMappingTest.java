@@ -0,0 +1,192 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.collection.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests mapping methods which index the mapped elements of an iterable by a key property.
+ */
+@WithClasses({
+    Car.class,
+    CarDto.class
+})
+@RunWith(AnnotationProcessorTestRunner.class)
+public class IndexMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldIndexByTargetProperty() {
+        Map<String, Car> cars = CarMapper.INSTANCE.carsById( Arrays.asList(
+            new CarDto( "1", "Audi", 5 ),
+            null,
+            new CarDto( "2", "Volvo", 7 )
+        ) );
+
+        assertThat( cars ).containsOnlyKeys( "1", "2" );
+        assertThat( cars.get( "1" ).getMake() ).isEqualTo( "Audi" );
+        assertThat( cars.get( "2" ).getMake() ).isEqualTo( "Volvo" );
+
+        assertThat( CarMapper.INSTANCE.carsById( null ) ).isNull();
+
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "Map<String, Car> map = new HashMap<String, Car>( Math.max( (int) ( cars.size() / .75f ) + 1, "
+                + "16 ) );" )
+            .contains( "String key = car.getId();" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldFailOnDuplicateKeyByDefault() {
+        List<CarDto> cars = Arrays.asList( new CarDto( "1", "Audi", 5 ), new CarDto( "1", "Volvo", 7 ) );
+
+        assertThatThrownBy( () -> CarMapper.INSTANCE.carsById( cars ) )
+            .isInstanceOf( IllegalStateException.class )
+            .hasMessage( "Duplicate key 1" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldKeepFirstElementWhenFailingOnDuplicateKey() {
+        Map<String, Car> target = new HashMap<>();
+
+        assertThatThrownBy( () -> CarMapper.INSTANCE.updateCarsByIdOrFail(
+            Arrays.asList( new CarDto( "1", "Audi", 5 ), new CarDto( "1", "Volvo", 7 ) ),
+            target
+        ) )
+            .isInstanceOf( IllegalStateException.class )
+            .hasMessage( "Duplicate key 1" );
+
+        assertThat( target ).containsOnlyKeys( "1" );
+        assertThat( target.get( "1" ).getMake() ).isEqualTo( "Audi" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldFailOnNullKey() {
+        List<CarDto> cars = Arrays.asList( new CarDto( "1", "Audi", 5 ), new CarDto( null, "Volvo", 7 ) );
+
+        assertThatThrownBy( () -> CarMapper.INSTANCE.carsById( cars ) )
+            .isInstanceOf( IllegalStateException.class )
+            .hasMessage( "Null key property \"id\"" );
+        assertThatThrownBy( () -> CarMapper.INSTANCE.carsByMake( Arrays.asList( new CarDto( "1", null, 5 ) ) ) )
+            .isInstanceOf( IllegalStateException.class )
+            .hasMessage( "Null key property \"make\"" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldNotCheckPrimitiveKeyForNull() {
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "if ( key == null ) {" )
+            .contains( "map.putIfAbsent( key, car );" )
+            .doesNotContain( "Null key property \"seats\"" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldGroupBySourceProperty() {
+        Map<String, List<Car>> cars = CarMapper.INSTANCE.carsByMake( Arrays.asList(
+            new CarDto( "1", "Audi", 5 ),
+            new CarDto( "2", "Volvo", 7 ),
+            new CarDto( "3", "Audi", 2 )
+        ) );
+
+        assertThat( cars ).containsOnlyKeys( "Audi", "Volvo" );
+        assertThat( cars.get( "Audi" ) ).extracting( Car::getId ).containsExactly( "1", "3" );
+        assertThat( cars.get( "Volvo" ) ).extracting( Car::getId ).containsExactly( "2" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldKeepFirstElementWithSameKey() {
+        Map<Integer, Car> cars = CarMapper.INSTANCE.carsBySeats( new CarDto[] {
+            new CarDto( "1", "Audi", 5 ),
+            new CarDto( "2", "Volvo", 5 ),
+            new CarDto( "3", "Fiat", 4 )
+        } );
+
+        assertThat( cars ).containsOnlyKeys( 4, 5 );
+        assertThat( cars.get( 5 ).getId() ).isEqualTo( "1" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldReplaceElementsOfExistingMap() {
+        Map<String, Car> target = new HashMap<>();
+        target.put( "0", new Car() );
+
+        CarMapper.INSTANCE.updateCarsById(
+            Arrays.asList( new CarDto( "1", "Audi", 5 ), new CarDto( "1", "Volvo", 7 ) ),
+            target
+        );
+
+        assertThat( target ).containsOnlyKeys( "1" );
+        assertThat( target.get( "1" ).getMake() ).isEqualTo( "Volvo" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Fleet.class, FleetDto.class })
+    public void shouldUseIndexMappingMethodForProperty() {
+        FleetDto source = new FleetDto();
+        source.setCars( Collections.singletonList( new CarDto( "1", "Audi", 5 ) ) );
+
+        Fleet fleet = CarMapper.INSTANCE.toFleet( source );
+
+        assertThat( fleet.getCars() ).containsOnlyKeys( "1" );
+    }
+
+    @Test
+    @WithClasses(ErroneousCarMapper.class)
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousCarMapper.class,
+                kind = Kind.ERROR,
+                line = 17,
+                messageRegExp = "Unknown key property \"model\" in target element type .*Car\\."),
+            @Diagnostic(type = ErroneousCarMapper.class,
+                kind = Kind.ERROR,
+                line = 20,
+                messageRegExp = "Key property \"seats\" of type int can't be assigned to the key type "
+                    + "java.lang.String of the result map\\."),
+            @Diagnostic(type = ErroneousCarMapper.class,
+                kind = Kind.ERROR,
+                line = 23,
+                messageRegExp = "Exactly one of 'key' and 'sourceKey' must be defined in @IndexMapping\\."),
+            @Diagnostic(type = ErroneousCarMapper.class,
+                kind = Kind.ERROR,
+                line = 27,
+                messageRegExp = "@IndexMapping can only be applied to methods mapping an iterable type or an array "
+                    + "to a map type\\.")
+        }
+    )
+    public void shouldFailOnInvalidIndexMappings() {
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.concurrentrendering;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.Compiler;
+import org.mapstruct.ap.testutil.runner.DisabledOnCompiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test for rendering several mappers and their decorators concurrently.
+ */
+@WithClasses({
+    Customer.class,
+    CustomerDto.class,
+    Order.class,
+    OrderDto.class,
+    OrderMapper.class,
+    CustomerMapper.class,
+    CustomerMapperDecorator.class,
+    CustomerSummaryMapper.class
+})
+@ProcessorOption(name = "mapstruct.renderingThreads", value = "4")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ConcurrentRenderingTest {
+
+    @Test
+    public void shouldGenerateAllMappersAndDecorators() {
+        Customer customer = createCustomer();
+
+        CustomerDto customerDto = CustomerMapper.INSTANCE.toDto( customer );
+        assertThat( customerDto.getName() ).isEqualTo( "GARY" );
+        assertThat( customerDto.getAge() ).isEqualTo( 42 );
+        assertThat( customerDto.getOrders() ).hasSize( 1 );
+        assertThat( customerDto.getOrders().get( 0 ).getNumber() ).isEqualTo( "1" );
+        assertThat( customerDto.getOrders().get( 0 ).getArticles() ).containsExactly( "Pen", "Paper" );
+        assertThat( customerDto.getBonusPoints() ).containsEntry( "2020", "100" );
+
+        customerDto.setAge( null );
+        assertThat( CustomerMapper.INSTANCE.fromDto( customerDto ).getAge() ).isEqualTo( 0 );
+
+        List<CustomerDto> summaries = CustomerSummaryMapper.INSTANCE.toSummaries( Arrays.asList( customer ) );
+        assertThat( summaries ).hasSize( 1 );
+        assertThat( summaries.get( 0 ).getName() ).isEqualTo( "Gary" );
+        assertThat( summaries.get( 0 ).getOrders() ).isNull();
+    }
+
+    @Test
+    // the Eclipse compiler setup of the tests only reports diagnostics located in a source file
+    @DisabledOnCompiler(Compiler.ECLIPSE)
+    @ProcessorOption(name = "mapstruct.renderingThreads", value = "many")
+    @ExpectedCompilationOutcome(value = CompilationResult.SUCCEEDED,
+        diagnostics = {
+            @Diagnostic(kind = Kind.WARNING,
+                messageRegExp = "MapStruct: the value \"many\" of the option mapstruct.renderingThreads isn't a " +
+                    "positive number, the mappers are rendered by a single thread\\.")
+        })
+    public void shouldWarnAboutInvalidNumberOfRenderingThreads() {
+        assertThat( OrderMapper.INSTANCE.toDto( createCustomer().getOrders().get( 0 ) ).getNumber() )
+            .isEqualTo( "1" );
+    }
+
+    private static Customer createCustomer() {
+        Map<String, Long> bonusPoints = new HashMap<>();
+        bonusPoints.put( "2020", 100L );
+
+        Customer customer = new Customer();
+        customer.setName( "Gary" );
+        customer.setAge( 42 );
+        customer.setOrders( Collections.singletonList(
+            new Order( 1L, new LinkedHashSet<>( Arrays.asList( "Pen", "Paper" ) ) )
+        ) );
+        customer.setBonusPoints( bonusPoints );
+        return customer;
+    }
+}
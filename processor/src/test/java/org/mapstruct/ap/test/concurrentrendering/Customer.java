@@ -0,0 +1,49 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.concurrentrendering;
+
+import java.util.List;
+import java.util.Map;
+
+public class Customer {
+
+    private String name;
+    private int age;
+    private List<Order> orders;
+    private Map<String, Long> bonusPoints;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public void setAge(int age) {
+        this.age = age;
+    }
+
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<Order> orders) {
+        this.orders = orders;
+    }
+
+    public Map<String, Long> getBonusPoints() {
+        return bonusPoints;
+    }
+
+    public void setBonusPoints(Map<String, Long> bonusPoints) {
+        this.bonusPoints = bonusPoints;
+    }
+}
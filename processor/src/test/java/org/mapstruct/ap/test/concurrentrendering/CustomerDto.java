@@ -0,0 +1,49 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.concurrentrendering;
+
+import java.util.List;
+import java.util.Map;
+
+public class CustomerDto {
+
+    private String name;
+    private Integer age;
+    private List<OrderDto> orders;
+    private Map<String, String> bonusPoints;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public List<OrderDto> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderDto> orders) {
+        this.orders = orders;
+    }
+
+    public Map<String, String> getBonusPoints() {
+        return bonusPoints;
+    }
+
+    public void setBonusPoints(Map<String, String> bonusPoints) {
+        this.bonusPoints = bonusPoints;
+    }
+}
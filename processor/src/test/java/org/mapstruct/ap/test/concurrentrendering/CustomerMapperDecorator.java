@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.concurrentrendering;
+
+public abstract class CustomerMapperDecorator implements CustomerMapper {
+
+    private final CustomerMapper delegate;
+
+    public CustomerMapperDecorator(CustomerMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public CustomerDto toDto(Customer customer) {
+        CustomerDto customerDto = delegate.toDto( customer );
+        customerDto.setName( customerDto.getName().toUpperCase() );
+        return customerDto;
+    }
+}
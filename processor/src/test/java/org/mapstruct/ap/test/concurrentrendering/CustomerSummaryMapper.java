@@ -0,0 +1,27 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.concurrentrendering;
+
+import java.util.List;
+import java.util.Map;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface CustomerSummaryMapper {
+
+    CustomerSummaryMapper INSTANCE = Mappers.getMapper( CustomerSummaryMapper.class );
+
+    @Mapping(target = "orders", ignore = true)
+    @Mapping(target = "bonusPoints", ignore = true)
+    CustomerDto toSummary(Customer customer);
+
+    List<CustomerDto> toSummaries(List<Customer> customers);
+
+    Map<String, Long> toBonusPoints(Map<String, String> bonusPoints);
+}
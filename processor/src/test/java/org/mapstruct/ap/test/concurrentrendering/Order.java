@@ -0,0 +1,38 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.concurrentrendering;
+
+import java.util.Set;
+
+public class Order {
+
+    private long number;
+    private Set<String> articles;
+
+    public Order() {
+    }
+
+    public Order(long number, Set<String> articles) {
+        this.number = number;
+        this.articles = articles;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public void setNumber(long number) {
+        this.number = number;
+    }
+
+    public Set<String> getArticles() {
+        return articles;
+    }
+
+    public void setArticles(Set<String> articles) {
+        this.articles = articles;
+    }
+}
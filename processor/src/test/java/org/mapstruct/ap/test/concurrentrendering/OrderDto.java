@@ -0,0 +1,30 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.concurrentrendering;
+
+import java.util.List;
+
+public class OrderDto {
+
+    private String number;
+    private List<String> articles;
+
+    public String getNumber() {
+        return number;
+    }
+
+    public void setNumber(String number) {
+        this.number = number;
+    }
+
+    public List<String> getArticles() {
+        return articles;
+    }
+
+    public void setArticles(List<String> articles) {
+        this.articles = articles;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+import org.mapstruct.Default;
+
+public class Car {
+
+    private final String make;
+    private final int seats;
+    private String color;
+
+    public Car() {
+        this( null, 0 );
+    }
+
+    public Car(String make) {
+        this( make, 4 );
+    }
+
+    @Default
+    public Car(String make, int seats) {
+        this.make = make;
+        this.seats = seats;
+    }
+
+    public String getMake() {
+        return make;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+public class CarDto {
+
+    private String make;
+    private int seats;
+    private String color;
+
+    public CarDto(String make, int seats, String color) {
+        this.make = make;
+        this.seats = seats;
+        this.color = color;
+    }
+
+    public String getMake() {
+        return make;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    public String getColor() {
+        return color;
+    }
+}
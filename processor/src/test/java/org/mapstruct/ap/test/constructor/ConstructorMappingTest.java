@@ -0,0 +1,152 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+import java.util.Arrays;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests mapping methods which create the target via one of its constructors.
+ */
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ConstructorMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses({ PersonMapper.class, Person.class, PersonDto.class, Address.class, AddressDto.class })
+    public void shouldMapImmutableTargetViaItsConstructor() {
+        PersonDto dto = new PersonDto();
+        dto.setFullName( "Bob" );
+        dto.setAge( 33 );
+        dto.setAddress( new AddressDto( "Main Street", "Springfield" ) );
+        dto.setNicknames( Arrays.asList( "Bobby", "Rob" ) );
+
+        Person person = PersonMapper.INSTANCE.toPerson( dto );
+
+        assertThat( person.getName() ).isEqualTo( "Bob" );
+        assertThat( person.getAge() ).isEqualTo( 33 );
+        assertThat( person.getAddress().getStreet() ).isEqualTo( "Main Street" );
+        assertThat( person.getAddress().getCity() ).isEqualTo( "Springfield" );
+        assertThat( person.getNicknames() ).containsExactly( "Bobby", "Rob" );
+        assertThat( person.getNicknames() ).isNotSameAs( dto.getNicknames() );
+
+        assertThat( PersonMapper.INSTANCE.toPerson( null ) ).isNull();
+
+        generatedSource.forMapper( PersonMapper.class )
+            .content()
+            .contains( "String name = null;" )
+            .contains( "int age = 0;" )
+            .contains( "name = dto.getFullName();" )
+            .contains( "Person person = new Person( name, age, address, nicknames );" );
+    }
+
+    @Test
+    @WithClasses({ PersonMapper.class, Person.class, PersonDto.class, Address.class, AddressDto.class })
+    public void shouldPassNullForMissingSourceValues() {
+        Person person = PersonMapper.INSTANCE.toPerson( new PersonDto() );
+
+        assertThat( person.getName() ).isNull();
+        assertThat( person.getAddress() ).isNull();
+        assertThat( person.getNicknames() ).isNull();
+    }
+
+    @Test
+    @WithClasses({ FlatPersonMapper.class, FlatPersonDto.class, Person.class, Address.class })
+    public void shouldMapNestedTargetPropertiesOfConstructorParameter() {
+        FlatPersonDto dto = new FlatPersonDto();
+        dto.setFullName( "Bob" );
+        dto.setStreet( "Main Street" );
+        dto.setCity( "Springfield" );
+
+        Person person = FlatPersonMapper.INSTANCE.toPerson( dto );
+
+        assertThat( person.getName() ).isEqualTo( "Bob" );
+        assertThat( person.getAddress().getStreet() ).isEqualTo( "Main Street" );
+        assertThat( person.getAddress().getCity() ).isEqualTo( "Springfield" );
+    }
+
+    @Test
+    @WithClasses({ PairMapper.class, Pair.class, PairDto.class })
+    public void shouldMapGenericImmutableTarget() {
+        Pair<String, Integer> pair = PairMapper.INSTANCE.toPair( new PairDto( "answer", 42 ) );
+
+        assertThat( pair.getFirst() ).isEqualTo( "answer" );
+        assertThat( pair.getSecond() ).isEqualTo( 42 );
+
+        generatedSource.forMapper( PairMapper.class )
+            .content()
+            .contains( "Integer second = null;" )
+            .contains( "Pair<String, Integer> pair = new Pair<String, Integer>( first, second );" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Car.class, CarDto.class, Engine.class, EngineDto.class })
+    public void shouldUseDefaultAnnotatedConstructorAndSetRemainingProperties() {
+        Car car = CarMapper.INSTANCE.toCar( new CarDto( "Morris", 2, "green" ) );
+
+        assertThat( car.getMake() ).isEqualTo( "Morris" );
+        assertThat( car.getSeats() ).isEqualTo( 2 );
+        assertThat( car.getColor() ).isEqualTo( "green" );
+
+        generatedSource.forMapper( CarMapper.class )
+            .content()
+            .contains( "Car car = new Car( make, seats );" )
+            .contains( "car.setColor( dto.getColor() );" );
+    }
+
+    @Test
+    @WithClasses({ CarMapper.class, Car.class, CarDto.class, Engine.class, EngineDto.class })
+    public void shouldPreferDefaultAnnotatedConstructorOverBuilder() {
+        Engine engine = CarMapper.INSTANCE.toEngine( new EngineDto( 150 ) );
+
+        assertThat( engine.getHorsePower() ).isEqualTo( 150 );
+        assertThat( engine.isBuiltViaBuilder() ).isFalse();
+    }
+
+    @Test
+    @WithClasses({ ErroneousTruckMapper.class, Truck.class, CarDto.class })
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousTruckMapper.class,
+                kind = Kind.ERROR,
+                line = 13,
+                messageRegExp = ".*Truck does not have an accessible parameterless constructor\\.")
+        }
+    )
+    public void shouldFailForSeveralConstructorsWithoutDefaultAnnotation() {
+    }
+
+    @Test
+    @WithClasses({ ErroneousUuidMapper.class, UuidDto.class })
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousUuidMapper.class,
+                kind = Kind.ERROR,
+                line = 16,
+                messageRegExp = "The parameter names of the constructor of java\\.util\\.UUID are not available, "
+                    + "e\\.g\\. because it has been compiled without -parameters\\. Annotate the constructor with "
+                    + "@ConstructorProperties or provide a parameterless constructor\\.")
+        }
+    )
+    public void shouldFailForConstructorWithoutParameterNames() {
+    }
+}
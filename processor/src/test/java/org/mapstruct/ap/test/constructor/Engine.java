@@ -0,0 +1,50 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+import org.mapstruct.Default;
+
+public class Engine {
+
+    private final int horsePower;
+    private final boolean builtViaBuilder;
+
+    @Default
+    public Engine(int horsePower) {
+        this( horsePower, false );
+    }
+
+    private Engine(int horsePower, boolean builtViaBuilder) {
+        this.horsePower = horsePower;
+        this.builtViaBuilder = builtViaBuilder;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getHorsePower() {
+        return horsePower;
+    }
+
+    public boolean isBuiltViaBuilder() {
+        return builtViaBuilder;
+    }
+
+    public static class Builder {
+
+        private int horsePower;
+
+        public Builder horsePower(int horsePower) {
+            this.horsePower = horsePower;
+            return this;
+        }
+
+        public Engine build() {
+            return new Engine( horsePower, true );
+        }
+    }
+}
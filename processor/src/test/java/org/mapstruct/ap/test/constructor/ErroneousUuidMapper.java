@@ -0,0 +1,17 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+import java.util.UUID;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface ErroneousUuidMapper {
+
+    // the parameter names of the UUID constructor are not part of the class file of the JDK
+    UUID toUuid(UuidDto dto);
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface FlatPersonMapper {
+
+    FlatPersonMapper INSTANCE = Mappers.getMapper( FlatPersonMapper.class );
+
+    @Mapping(target = "name", source = "fullName")
+    @Mapping(target = "age", ignore = true)
+    @Mapping(target = "nicknames", ignore = true)
+    @Mapping(target = "address.street", source = "street")
+    @Mapping(target = "address.city", source = "city")
+    Person toPerson(FlatPersonDto dto);
+}
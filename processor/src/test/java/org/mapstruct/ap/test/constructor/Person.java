@@ -0,0 +1,39 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+import java.util.List;
+
+public final class Person {
+
+    private final String name;
+    private final int age;
+    private final Address address;
+    private final List<String> nicknames;
+
+    public Person(String name, int age, Address address, List<String> nicknames) {
+        this.name = name;
+        this.age = age;
+        this.address = address;
+        this.nicknames = nicknames;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public List<String> getNicknames() {
+        return nicknames;
+    }
+}
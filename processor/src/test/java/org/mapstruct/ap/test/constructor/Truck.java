@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+public class Truck {
+
+    private final String make;
+    private final int seats;
+
+    public Truck(String make) {
+        this( make, 2 );
+    }
+
+    public Truck(String make, int seats) {
+        this.make = make;
+        this.seats = seats;
+    }
+
+    public String getMake() {
+        return make;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+}
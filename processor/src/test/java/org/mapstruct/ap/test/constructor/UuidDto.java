@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.constructor;
+
+public class UuidDto {
+
+    private long mostSigBits;
+    private long leastSigBits;
+
+    public long getMostSigBits() {
+        return mostSigBits;
+    }
+
+    public void setMostSigBits(long mostSigBits) {
+        this.mostSigBits = mostSigBits;
+    }
+
+    public long getLeastSigBits() {
+        return leastSigBits;
+    }
+
+    public void setLeastSigBits(long leastSigBits) {
+        this.leastSigBits = leastSigBits;
+    }
+}
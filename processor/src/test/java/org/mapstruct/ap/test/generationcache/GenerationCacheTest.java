@@ -0,0 +1,288 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.generationcache;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.model.CompilationOutcomeDescriptor;
+import org.mapstruct.ap.testutil.compilation.model.DiagnosticDescriptor;
+import org.mapstruct.ap.testutil.runner.Compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the generation cache by compiling the same sources several times with one cache directory, as subsequent
+ * builds would do.
+ */
+public class GenerationCacheTest {
+
+    private static final String TEST_SOURCE_DIR = "src/test/java";
+    private static final String PACKAGE_DIR = "org/mapstruct/ap/test/generationcache/";
+    private static final String RESTORED_NOTE = "MapStruct: restored mapper from generation cache: ";
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File sourceDir;
+    private File cacheDir;
+
+    @Before
+    public void copySources() throws IOException {
+        sourceDir = temporaryFolder.newFolder( "sources" );
+        cacheDir = new File( temporaryFolder.getRoot(), "cache" );
+
+        for ( String type : Arrays.asList( "Source", "Target", "SourceTargetMapper", "UnmappedTargetMapper" ) ) {
+            Path source = sourcePath( type );
+            Files.createDirectories( source.getParent() );
+            Files.copy( Paths.get( TEST_SOURCE_DIR, PACKAGE_DIR, type + ".java" ), source );
+        }
+    }
+
+    @Test
+    public void shouldRestoreUnchangedMapper() throws IOException {
+        File firstOutput = compile( "Source", "Target", "SourceTargetMapper" );
+        assertThat( countEntries() ).isEqualTo( 1 );
+
+        File secondOutput = compileAndExpectRestored( "SourceTargetMapper", "Source", "Target", "SourceTargetMapper" );
+        assertThat( countEntries() ).isEqualTo( 1 );
+        assertThat( readGeneratedMapper( secondOutput, "SourceTargetMapperImpl" ) )
+            .isEqualTo( readGeneratedMapper( firstOutput, "SourceTargetMapperImpl" ) )
+            .contains( "target.setComment( \"cached\" );" );
+    }
+
+    @Test
+    public void shouldProcessMapperAgainIfReferencedTypeChanged() throws IOException {
+        compile( "Source", "Target", "SourceTargetMapper" );
+
+        addMember(
+            sourcePath( "Source" ),
+            "    public String getOrigin() {",
+            "        return null;",
+            "    }"
+        );
+
+        File output = compile( "Source", "Target", "SourceTargetMapper" );
+        assertThat( countEntries() ).isEqualTo( 2 );
+        assertThat( readGeneratedMapper( output, "SourceTargetMapperImpl" ) ).contains( "getValue()" );
+    }
+
+    @Test
+    public void shouldProcessMapperAgainIfBuilderFoundByNameChanged() throws IOException {
+        writeSource(
+            "org/immutables/value/Value.java",
+            "package org.immutables.value;",
+            "",
+            "public @interface Value {",
+            "",
+            "    @interface Immutable {",
+            "    }",
+            "}"
+        );
+        writeSource(
+            PACKAGE_DIR + "Person.java",
+            "package org.mapstruct.ap.test.generationcache;",
+            "",
+            "import org.immutables.value.Value;",
+            "",
+            "@Value.Immutable",
+            "public abstract class Person {",
+            "",
+            "    public abstract String getValue();",
+            "}"
+        );
+        // hand-written stand-in for the type generated by Immutables, which is only found by its name
+        writeSource(
+            PACKAGE_DIR + "ImmutablePerson.java",
+            "package org.mapstruct.ap.test.generationcache;",
+            "",
+            "public final class ImmutablePerson extends Person {",
+            "",
+            "    private final String value;",
+            "",
+            "    private ImmutablePerson(String value) {",
+            "        this.value = value;",
+            "    }",
+            "",
+            "    @Override",
+            "    public String getValue() {",
+            "        return value;",
+            "    }",
+            "",
+            "    public static Builder builder() {",
+            "        return new Builder();",
+            "    }",
+            "",
+            "    public static final class Builder {",
+            "",
+            "        private String value;",
+            "",
+            "        public Builder value(String value) {",
+            "            this.value = value;",
+            "            return this;",
+            "        }",
+            "",
+            "        public ImmutablePerson build() {",
+            "            return new ImmutablePerson( value );",
+            "        }",
+            "    }",
+            "}"
+        );
+        writeSource(
+            PACKAGE_DIR + "PersonMapper.java",
+            "package org.mapstruct.ap.test.generationcache;",
+            "",
+            "import org.mapstruct.Mapper;",
+            "",
+            "@Mapper",
+            "public interface PersonMapper {",
+            "",
+            "    Person sourceToPerson(Source source);",
+            "}"
+        );
+
+        String[] types = { "Source", "Person", "ImmutablePerson", "PersonMapper" };
+        File firstOutput = compile( types );
+        assertThat( readGeneratedMapper( firstOutput, "PersonMapperImpl" ) ).contains( "ImmutablePerson.builder()" );
+
+        compileAndExpectRestored( "PersonMapper", types );
+
+        addMember(
+            sourcePath( "ImmutablePerson" ),
+            "    public static ImmutablePerson copyOf(Person person) {",
+            "        return new ImmutablePerson( person.getValue() );",
+            "    }"
+        );
+
+        compile( types );
+        assertThat( countEntries() ).isEqualTo( 2 );
+    }
+
+    @Test
+    public void shouldNotStoreMapperWithWarnings() throws IOException {
+        CompilationOutcomeDescriptor outcome = Compiler.JDK.compile(
+            getSourceFiles( "Source", "Target", "UnmappedTargetMapper" ),
+            sourceDir.getAbsolutePath(),
+            getOptions(),
+            temporaryFolder.newFolder().getAbsolutePath(),
+            temporaryFolder.newFolder().getAbsolutePath()
+        );
+
+        assertThat( outcome.getCompilationResult() ).isEqualTo( CompilationResult.SUCCEEDED );
+        assertThat( outcome.getDiagnostics() )
+            .extracting( DiagnosticDescriptor::getMessage )
+            .containsExactly( "Unmapped target property: \"comment\"." );
+        assertThat( countEntries() ).isEqualTo( 0 );
+    }
+
+    /**
+     * @return the directory with the generated sources
+     */
+    private File compile(String... types) throws IOException {
+        File generatedSources = temporaryFolder.newFolder();
+        CompilationOutcomeDescriptor outcome = Compiler.JDK.compile(
+            getSourceFiles( types ),
+            sourceDir.getAbsolutePath(),
+            getOptions(),
+            generatedSources.getAbsolutePath(),
+            temporaryFolder.newFolder().getAbsolutePath()
+        );
+
+        assertThat( outcome.getCompilationResult() ).isEqualTo( CompilationResult.SUCCEEDED );
+        assertThat( outcome.getDiagnostics() ).isEmpty();
+        assertThat( outcome.getNotes() ).noneMatch( note -> note.startsWith( RESTORED_NOTE ) );
+
+        return generatedSources;
+    }
+
+    private File compileAndExpectRestored(String mapper, String... types) throws IOException {
+        File generatedSources = temporaryFolder.newFolder();
+        CompilationOutcomeDescriptor outcome = Compiler.JDK.compile(
+            getSourceFiles( types ),
+            sourceDir.getAbsolutePath(),
+            getOptions(),
+            generatedSources.getAbsolutePath(),
+            temporaryFolder.newFolder().getAbsolutePath()
+        );
+
+        assertThat( outcome.getCompilationResult() ).isEqualTo( CompilationResult.SUCCEEDED );
+        assertThat( outcome.getNotes() ).contains( RESTORED_NOTE + "org.mapstruct.ap.test.generationcache." + mapper );
+
+        return generatedSources;
+    }
+
+    private List<String> getOptions() {
+        return Arrays.asList(
+            "-Amapstruct.generationCacheDir=" + cacheDir.getAbsolutePath(),
+            "-Amapstruct.suppressGeneratorTimestamp=true",
+            "-Amapstruct.verbose=true"
+        );
+    }
+
+    private Set<File> getSourceFiles(String... types) {
+        Set<File> sourceFiles = new HashSet<>();
+        for ( String type : types ) {
+            sourceFiles.add( sourcePath( type ).toFile() );
+        }
+        if ( Files.exists( sourceDir.toPath().resolve( "org/immutables/value/Value.java" ) ) ) {
+            sourceFiles.add( sourceDir.toPath().resolve( "org/immutables/value/Value.java" ).toFile() );
+        }
+        return sourceFiles;
+    }
+
+    private Path sourcePath(String type) {
+        return sourceDir.toPath().resolve( PACKAGE_DIR + type + ".java" );
+    }
+
+    private void writeSource(String path, String... lines) throws IOException {
+        Path source = sourceDir.toPath().resolve( path );
+        Files.createDirectories( source.getParent() );
+        Files.write( source, Arrays.asList( lines ), StandardCharsets.UTF_8 );
+    }
+
+    private static void addMember(Path source, String... lines) throws IOException {
+        String content = new String( Files.readAllBytes( source ), StandardCharsets.UTF_8 );
+        int end = content.lastIndexOf( '}' );
+        String member = System.lineSeparator() + String.join( System.lineSeparator(), lines ) + System.lineSeparator();
+        Files.write(
+            source,
+            ( content.substring( 0, end ) + member + content.substring( end ) ).getBytes( StandardCharsets.UTF_8 ),
+            StandardOpenOption.TRUNCATE_EXISTING
+        );
+    }
+
+    private static String readGeneratedMapper(File generatedSources, String name) throws IOException {
+        return new String(
+            Files.readAllBytes( generatedSources.toPath().resolve( PACKAGE_DIR + name + ".java" ) ),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    private long countEntries() throws IOException {
+        if ( !cacheDir.exists() ) {
+            return 0;
+        }
+
+        try ( Stream<Path> entries = Files.list( cacheDir.toPath() ) ) {
+            return entries.count();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.generationcache;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface UnmappedTargetMapper {
+
+    Target sourceToTarget(Source source);
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.naming.spi.cacheable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.spi.AccessorNamingStrategy;
+import org.mapstruct.ap.spi.CacheableResults;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.WithServiceImplementation;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+/**
+ * Tests that the results of an {@link AccessorNamingStrategy} implementing {@link CacheableResults} are cached.
+ */
+@RunWith(AnnotationProcessorTestRunner.class)
+@WithClasses({ Car.class, CarDto.class, Person.class, PersonDto.class, CarMapper.class })
+@WithServiceImplementation(CountingAccessorNamingStrategy.class)
+public class CacheableNamingStrategyTest {
+
+    @Test
+    public void shouldInvokeCacheableNamingStrategyOncePerMethod() {
+        Car car = new Car();
+        car.setMake( "Morris" );
+        car.setSeatCount( 2 );
+        car.setDriver( new Person() );
+        car.getDriver().setName( "Bob" );
+
+        CarDto dto = CarMapper.INSTANCE.carToCarDto( car );
+
+        assertThat( dto.getMake() ).isEqualTo( "Morris" );
+        assertThat( dto.getSeatCount() ).isEqualTo( 2 );
+        assertThat( dto.getDriver().getName() ).isEqualTo( "Bob" );
+
+        Car mappedBack = CarMapper.INSTANCE.carDtoToCar( dto );
+
+        assertThat( mappedBack.getMake() ).isEqualTo( "Morris" );
+        assertThat( mappedBack.getDriver().getName() ).isEqualTo( "Bob" );
+    }
+}
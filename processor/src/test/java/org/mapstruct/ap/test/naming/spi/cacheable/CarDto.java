@@ -0,0 +1,37 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.naming.spi.cacheable;
+
+public class CarDto {
+
+    private String make;
+    private int seatCount;
+    private PersonDto driver;
+
+    public String getMake() {
+        return make;
+    }
+
+    public void setMake(String make) {
+        this.make = make;
+    }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
+
+    public void setSeatCount(int seatCount) {
+        this.seatCount = seatCount;
+    }
+
+    public PersonDto getDriver() {
+        return driver;
+    }
+
+    public void setDriver(PersonDto driver) {
+        this.driver = driver;
+    }
+}
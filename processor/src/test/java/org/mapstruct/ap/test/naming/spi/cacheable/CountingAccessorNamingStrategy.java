@@ -0,0 +1,40 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.naming.spi.cacheable;
+
+import java.util.HashSet;
+import java.util.Set;
+import javax.lang.model.element.ExecutableElement;
+
+import org.mapstruct.ap.spi.CacheableResults;
+import org.mapstruct.ap.spi.DefaultAccessorNamingStrategy;
+import org.mapstruct.ap.spi.MethodType;
+
+/**
+ * An accessor naming strategy opting in to caching, which fails if it is asked twice for the same method.
+ */
+public class CountingAccessorNamingStrategy extends DefaultAccessorNamingStrategy implements CacheableResults {
+
+    private final Set<ExecutableElement> methodTypeRequests = new HashSet<>();
+    private final Set<ExecutableElement> propertyNameRequests = new HashSet<>();
+
+    @Override
+    public MethodType getMethodType(ExecutableElement method) {
+        if ( !methodTypeRequests.add( method ) ) {
+            throw new IllegalStateException( "Method type of " + method + " has been requested before" );
+        }
+        return super.getMethodType( method );
+    }
+
+    @Override
+    public String getPropertyName(ExecutableElement getterOrSetterMethod) {
+        if ( !propertyNameRequests.add( getterOrSetterMethod ) ) {
+            throw new IllegalStateException(
+                "Property name of " + getterOrSetterMethod + " has been requested before" );
+        }
+        return super.getPropertyName( getterOrSetterMethod );
+    }
+}
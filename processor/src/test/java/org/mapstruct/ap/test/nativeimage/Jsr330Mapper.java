@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nativeimage;
+
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "jsr330")
+public interface Jsr330Mapper {
+
+    Target map(Source source);
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.nativeimage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Scanner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the generation of the GraalVM native image configuration for the generated mappers.
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    DefaultNamedMapper.class,
+    CustomNamedMapper.class,
+    Jsr330Mapper.class
+})
+@ProcessorOption(name = "mapstruct.generateNativeImageConfig", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class NativeImageConfigTest {
+
+    private static final String CONFIG_LOCATION = "META-INF/native-image/org.mapstruct.ap.test.nativeimage/mapstruct/";
+
+    @Test
+    public void shouldRegisterMapperImplementationsForReflection() throws IOException {
+        assertThat( readConfigFile( "reflect-config.json" ) ).isEqualTo(
+            "[\n" +
+            "  {\n" +
+            "    \"name\" : \"org.mapstruct.ap.test.nativeimage.CustomNamedMapperCustomImpl\",\n" +
+            "    \"methods\" : [ { \"name\" : \"<init>\", \"parameterTypes\" : [] } ]\n" +
+            "  },\n" +
+            "  {\n" +
+            "    \"name\" : \"org.mapstruct.ap.test.nativeimage.DefaultNamedMapperImpl\",\n" +
+            "    \"methods\" : [ { \"name\" : \"<init>\", \"parameterTypes\" : [] } ]\n" +
+            "  }\n" +
+            "]\n"
+        );
+    }
+
+    @Test
+    public void shouldRegisterServiceFilesAsResources() throws IOException {
+        assertThat( readConfigFile( "resource-config.json" ) ).isEqualTo(
+            "{\n" +
+            "  \"resources\" : {\n" +
+            "    \"includes\" : [\n" +
+            "      { \"pattern\" : " +
+            "\"\\\\QMETA-INF/services/org.mapstruct.ap.test.nativeimage.CustomNamedMapper\\\\E\" }\n" +
+            "    ]\n" +
+            "  }\n" +
+            "}\n"
+        );
+    }
+
+    @Test
+    @ProcessorOption(name = "mapstruct.generateNativeImageConfig", value = "true")
+    @ProcessorOption(name = "mapstruct.generateMapperRegistry", value = "true")
+    public void shouldRegisterMapperRegistry() throws IOException {
+        assertThat( readConfigFile( "reflect-config.json" ) )
+            .contains( "\"name\" : \"org.mapstruct.ap.test.nativeimage.MapStructMapperRegistry_" );
+        assertThat( readConfigFile( "resource-config.json" ) )
+            .contains( "META-INF/services/org.mapstruct.factory.MapperRegistry" );
+    }
+
+    private String readConfigFile(String name) throws IOException {
+        try ( InputStream is = getClass().getClassLoader().getResourceAsStream( CONFIG_LOCATION + name ) ) {
+            assertThat( is ).as( name ).isNotNull();
+            try ( Scanner scanner = new Scanner( is, "UTF-8" ) ) {
+                return scanner.useDelimiter( "\\A" ).next();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.profile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+/**
+ * Tests the profile of the processing phases written with {@code mapstruct.profile}.
+ */
+@WithClasses({ Source.class, Target.class, SourceTargetMapper.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class ProcessingProfileTest {
+
+    private static final String PROFILE_FILE = "mapstruct-processing-profile.txt";
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @ProcessorOption(name = "mapstruct.profile", value = "true")
+    public void shouldWriteProfileOfAllPhases() {
+        generatedSource.forJavaFile( PROFILE_FILE ).content()
+            .startsWith( "MapStruct processing profile" )
+            .contains( SourceTargetMapper.class.getName() )
+            .contains( "  MethodRetrievalProcessor " )
+            .contains( "  MapperCreationProcessor " )
+            .contains( "  MapperRenderingProcessor " )
+            .contains( "  MapperServiceProcessor " )
+            .contains( "Total per phase" );
+    }
+
+    @Test
+    public void shouldNotWriteProfileByDefault() {
+        generatedSource.forJavaFile( PROFILE_FILE ).doesNotExist();
+    }
+}
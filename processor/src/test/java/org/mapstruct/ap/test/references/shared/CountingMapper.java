@@ -0,0 +1,21 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CountingMapper {
+
+    public static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    public CountingMapper() {
+        INSTANCES.incrementAndGet();
+    }
+
+    public long toLong(int number) {
+        return number;
+    }
+}
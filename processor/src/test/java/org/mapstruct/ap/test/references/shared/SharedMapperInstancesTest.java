@@ -0,0 +1,65 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+import org.mapstruct.factory.Mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the retrieval of used mappers via {@link Mappers#getSharedMapper(Class)}.
+ */
+@WithClasses({
+    Source.class,
+    SourceItem.class,
+    Target.class,
+    TargetItem.class,
+    CountingMapper.class,
+    ItemMapper.class,
+    FirstMapper.class,
+    SecondMapper.class
+})
+@ProcessorOption(name = "mapstruct.sharedMapperInstances", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class SharedMapperInstancesTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldRetrieveUsedMappersViaSharedInstances() {
+        generatedSource.forMapper( FirstMapper.class )
+            .content()
+            .contains( "Mappers.getSharedMapper( CountingMapper.class )" )
+            .contains( "Mappers.getSharedMapper( ItemMapper.class )" );
+    }
+
+    @Test
+    public void shouldInstantiateUsedMapperOnlyOnce() {
+        Source source = new Source();
+        source.setNumber( 42 );
+        SourceItem item = new SourceItem();
+        item.setName( "item" );
+        source.setItem( item );
+
+        Target first = Mappers.getMapper( FirstMapper.class ).map( source );
+        Target second = Mappers.getMapper( SecondMapper.class ).map( source );
+        Mappers.getMapper( FirstMapper.class );
+
+        assertThat( first.getNumber() ).isEqualTo( 42L );
+        assertThat( first.getItem().getName() ).isEqualTo( "item" );
+        assertThat( second.getNumber() ).isEqualTo( 42L );
+        assertThat( second.getItem().getName() ).isEqualTo( "item" );
+        assertThat( CountingMapper.INSTANCES.get() ).isEqualTo( 1 );
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared;
+
+public class Source {
+
+    private int number;
+    private SourceItem item;
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    public SourceItem getItem() {
+        return item;
+    }
+
+    public void setItem(SourceItem item) {
+        this.item = item;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.references.shared;
+
+public class Target {
+
+    private long number;
+    private TargetItem item;
+
+    public long getNumber() {
+        return number;
+    }
+
+    public void setNumber(long number) {
+        this.number = number;
+    }
+
+    public TargetItem getItem() {
+        return item;
+    }
+
+    public void setItem(TargetItem item) {
+        this.item = item;
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+public abstract class DecoratedMapperDecorator implements DecoratedMapper {
+
+    private final DecoratedMapper delegate;
+
+    public DecoratedMapperDecorator(DecoratedMapper delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Target map(Source source) {
+        Target target = delegate.map( source );
+        target.setValue( "decorated " + target.getValue() );
+        return target;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+import java.util.ServiceLoader;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.ProcessorOption;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.factory.MapperRegistry;
+import org.mapstruct.factory.Mappers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the generation of a {@link MapperRegistry} and its usage by {@link Mappers}.
+ */
+@WithClasses({
+    Source.class,
+    Target.class,
+    RegisteredMapper.class,
+    CustomNamedMapper.class,
+    DecoratedMapper.class,
+    DecoratedMapperDecorator.class,
+    PackagePrivateMapper.class
+})
+@ProcessorOption(name = "mapstruct.generateMapperRegistry", value = "true")
+@RunWith(AnnotationProcessorTestRunner.class)
+public class MapperRegistryTest {
+
+    @Test
+    public void shouldRegisterPublicMappers() {
+        MapperRegistry registry = getRegistry();
+
+        assertThat( registry.getMapperClass( RegisteredMapper.class ).getSimpleName() )
+            .isEqualTo( "RegisteredMapperImpl" );
+        assertThat( registry.getMapperClass( CustomNamedMapper.class ).getSimpleName() )
+            .isEqualTo( "MyCustomNamedMapperCustomImpl" );
+        assertThat( registry.getMapperClass( DecoratedMapper.class ).getSimpleName() )
+            .isEqualTo( "DecoratedMapperImpl" );
+        assertThat( registry.getMapper( RegisteredMapper.class ).map( createSource() ).getValue() )
+            .isEqualTo( "value" );
+    }
+
+    @Test
+    public void shouldNotRegisterPackagePrivateMappers() {
+        assertThat( getRegistry().getMapperClass( PackagePrivateMapper.class ) ).isNull();
+        assertThat( Mappers.getMapper( PackagePrivateMapper.class ).map( createSource() ).getValue() )
+            .isEqualTo( "value" );
+    }
+
+    @Test
+    public void shouldRetrieveMappersViaRegistry() {
+        assertThat( Mappers.getMapper( CustomNamedMapper.class ) )
+            .isExactlyInstanceOf( getRegistry().getMapperClass( CustomNamedMapper.class ) );
+        assertThat( Mappers.getMapper( DecoratedMapper.class ).map( createSource() ).getValue() )
+            .isEqualTo( "decorated value" );
+        assertThat( Mappers.getMapperClass( RegisteredMapper.class ).getSimpleName() )
+            .isEqualTo( "RegisteredMapperImpl" );
+    }
+
+    private Source createSource() {
+        Source source = new Source();
+        source.setValue( "value" );
+        return source;
+    }
+
+    private MapperRegistry getRegistry() {
+        ServiceLoader<MapperRegistry> registries =
+            ServiceLoader.load( MapperRegistry.class, RegisteredMapper.class.getClassLoader() );
+
+        assertThat( registries ).hasSize( 1 );
+        return registries.iterator().next();
+    }
+}
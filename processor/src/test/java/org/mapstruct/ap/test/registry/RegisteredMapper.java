@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.registry;
+
+import org.mapstruct.Mapper;
+
+@Mapper
+public interface RegisteredMapper {
+
+    Target map(Source source);
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.sharednestedsource;
+
+public class Address {
+
+    private final String city;
+    private final String zip;
+    private final String street;
+
+    public Address(String city, String zip, String street) {
+        this.city = city;
+        this.zip = zip;
+        this.street = street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getZip() {
+        return zip;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.sharednestedsource;
+
+public class Customer {
+
+    private final String name;
+    private final Address address;
+    private int addressInvocations;
+
+    public Customer(String name, Address address) {
+        this.name = name;
+        this.address = address;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Address getAddress() {
+        addressInvocations++;
+        return address;
+    }
+
+    public int getAddressInvocations() {
+        return addressInvocations;
+    }
+}
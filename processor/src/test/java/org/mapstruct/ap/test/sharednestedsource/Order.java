@@ -0,0 +1,25 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.sharednestedsource;
+
+public class Order {
+
+    private final Customer customer;
+    private int customerInvocations;
+
+    public Order(Customer customer) {
+        this.customer = customer;
+    }
+
+    public Customer getCustomer() {
+        customerInvocations++;
+        return customer;
+    }
+
+    public int getCustomerInvocations() {
+        return customerInvocations;
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.sharednestedsource;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface OrderMapper {
+
+    OrderMapper INSTANCE = Mappers.getMapper( OrderMapper.class );
+
+    @Mapping(target = "customerName", source = "customer.name")
+    @Mapping(target = "city", source = "customer.address.city")
+    @Mapping(target = "zip", source = "customer.address.zip")
+    @Mapping(target = "street", source = "customer.address.street")
+    OrderDto map(Order order);
+
+    @Mapping(target = "customerName", source = "customer.name")
+    @Mapping(target = "city", source = "customer.address.city")
+    @Mapping(target = "zip", source = "customer.address.zip")
+    @Mapping(target = "street", source = "customer.address.street")
+    void update(Order order, @MappingTarget OrderDto orderDto);
+}
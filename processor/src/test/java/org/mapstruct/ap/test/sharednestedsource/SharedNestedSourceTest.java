@@ -0,0 +1,81 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.sharednestedsource;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that nested source paths shared by several mappings are evaluated only once.
+ */
+@WithClasses({ Address.class, Customer.class, Order.class, OrderDto.class, OrderMapper.class })
+@RunWith(AnnotationProcessorTestRunner.class)
+public class SharedNestedSourceTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    public void shouldEvaluateSharedPathOnce() {
+        Customer customer = new Customer( "Bob", new Address( "Berlin", "10115", "Unter den Linden" ) );
+        Order order = new Order( customer );
+
+        OrderDto orderDto = OrderMapper.INSTANCE.map( order );
+
+        assertThat( orderDto.getCustomerName() ).isEqualTo( "Bob" );
+        assertThat( orderDto.getCity() ).isEqualTo( "Berlin" );
+        assertThat( orderDto.getZip() ).isEqualTo( "10115" );
+        assertThat( orderDto.getStreet() ).isEqualTo( "Unter den Linden" );
+        assertThat( customer.getAddressInvocations() ).isEqualTo( 1 );
+        // customer.address extends the shared path customer, which is read by customer.name as well
+        assertThat( order.getCustomerInvocations() ).isEqualTo( 1 );
+
+        generatedSource.forMapper( OrderMapper.class )
+            .content()
+            .contains( "Customer customer = orderCustomer( order );" )
+            .contains( "Address customerAddress = customerAddress( customer );" )
+            .contains( "orderDto.setCustomerName( customerName( customer ) );" )
+            .contains( "orderDto.setCity( addressCity( customerAddress ) );" );
+    }
+
+    @Test
+    public void shouldHandleNullInSharedPath() {
+        OrderDto orderDto = OrderMapper.INSTANCE.map( new Order( new Customer( "Bob", null ) ) );
+
+        assertThat( orderDto.getCustomerName() ).isEqualTo( "Bob" );
+        assertThat( orderDto.getCity() ).isNull();
+        assertThat( orderDto.getZip() ).isNull();
+        assertThat( orderDto.getStreet() ).isNull();
+
+        orderDto = OrderMapper.INSTANCE.map( new Order( null ) );
+
+        assertThat( orderDto.getCustomerName() ).isNull();
+        assertThat( orderDto.getCity() ).isNull();
+    }
+
+    @Test
+    public void shouldUpdateWithSharedPath() {
+        Customer customer = new Customer( "Bob", new Address( "Berlin", "10115", "Unter den Linden" ) );
+        OrderDto orderDto = new OrderDto();
+        orderDto.setCity( "Hamburg" );
+
+        OrderMapper.INSTANCE.update( new Order( customer ), orderDto );
+
+        assertThat( orderDto.getCity() ).isEqualTo( "Berlin" );
+        assertThat( customer.getAddressInvocations() ).isEqualTo( 1 );
+
+        OrderMapper.INSTANCE.update( new Order( new Customer( "Alice", null ) ), orderDto );
+
+        assertThat( orderDto.getCustomerName() ).isEqualTo( "Alice" );
+        assertThat( orderDto.getCity() ).isNull();
+    }
+}
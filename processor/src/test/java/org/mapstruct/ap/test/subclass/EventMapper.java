@@ -0,0 +1,23 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.subclass;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.SubclassMapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper
+public interface EventMapper {
+
+    EventMapper INSTANCE = Mappers.getMapper( EventMapper.class );
+
+    @SubclassMapping(source = LoginEvent.class, target = LoginEventDto.class)
+    @SubclassMapping(source = AdminLoginEvent.class, target = AdminLoginEventDto.class)
+    @SubclassMapping(source = LogoutEvent.class, target = LogoutEventDto.class)
+    EventDto toDto(Event event);
+
+    LoginEventDto toDto(LoginEvent event);
+}
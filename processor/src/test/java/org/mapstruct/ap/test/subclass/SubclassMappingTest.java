@@ -0,0 +1,189 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.subclass;
+
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mapstruct.ap.test.subclass.erroneous.Circle;
+import org.mapstruct.ap.test.subclass.erroneous.CircleDto;
+import org.mapstruct.ap.test.subclass.erroneous.ErroneousShapeMapper;
+import org.mapstruct.ap.test.subclass.erroneous.ErroneousSubclassMapper;
+import org.mapstruct.ap.test.subclass.erroneous.Shape;
+import org.mapstruct.ap.test.subclass.erroneous.ShapeDto;
+import org.mapstruct.ap.test.subclass.erroneous.Square;
+import org.mapstruct.ap.test.subclass.other.SystemEvent;
+import org.mapstruct.ap.testutil.WithClasses;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.annotation.Diagnostic;
+import org.mapstruct.ap.testutil.compilation.annotation.ExpectedCompilationOutcome;
+import org.mapstruct.ap.testutil.runner.AnnotationProcessorTestRunner;
+import org.mapstruct.ap.testutil.runner.Compiler;
+import org.mapstruct.ap.testutil.runner.DisabledOnCompiler;
+import org.mapstruct.ap.testutil.runner.GeneratedSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests mapping methods which dispatch a polymorphic source to the mappings of its subclasses.
+ */
+@RunWith(AnnotationProcessorTestRunner.class)
+public class SubclassMappingTest {
+
+    @Rule
+    public final GeneratedSource generatedSource = new GeneratedSource();
+
+    @Test
+    @WithClasses({
+        EventMapper.class,
+        Event.class,
+        LoginEvent.class,
+        AdminLoginEvent.class,
+        LogoutEvent.class,
+        EventDto.class,
+        LoginEventDto.class,
+        AdminLoginEventDto.class,
+        LogoutEventDto.class
+    })
+    public void shouldDispatchToMostSpecificSubclassMapping() {
+        LoginEvent login = new LoginEvent();
+        login.setId( "1" );
+        login.setUser( "bob" );
+
+        AdminLoginEvent adminLogin = new AdminLoginEvent();
+        adminLogin.setId( "2" );
+        adminLogin.setUser( "alice" );
+        adminLogin.setLevel( 3 );
+
+        LogoutEvent logout = new LogoutEvent();
+        logout.setId( "3" );
+        logout.setReason( "timeout" );
+
+        EventDto loginDto = EventMapper.INSTANCE.toDto( (Event) login );
+        assertThat( loginDto ).isExactlyInstanceOf( LoginEventDto.class );
+        assertThat( loginDto.getId() ).isEqualTo( "1" );
+        assertThat( ( (LoginEventDto) loginDto ).getUser() ).isEqualTo( "bob" );
+
+        EventDto adminLoginDto = EventMapper.INSTANCE.toDto( (Event) adminLogin );
+        assertThat( adminLoginDto ).isExactlyInstanceOf( AdminLoginEventDto.class );
+        assertThat( adminLoginDto.getId() ).isEqualTo( "2" );
+        assertThat( ( (AdminLoginEventDto) adminLoginDto ).getUser() ).isEqualTo( "alice" );
+        assertThat( ( (AdminLoginEventDto) adminLoginDto ).getLevel() ).isEqualTo( 3 );
+
+        EventDto logoutDto = EventMapper.INSTANCE.toDto( logout );
+        assertThat( logoutDto ).isExactlyInstanceOf( LogoutEventDto.class );
+        assertThat( logoutDto.getId() ).isEqualTo( "3" );
+        assertThat( ( (LogoutEventDto) logoutDto ).getReason() ).isEqualTo( "timeout" );
+
+        assertThat( EventMapper.INSTANCE.toDto( (Event) null ) ).isNull();
+
+        generatedSource.forMapper( EventMapper.class )
+            .content()
+            .contains( "private static final ClassValue<Integer> toDtoSubclasses = new ClassValue<Integer>()" )
+            .contains( "switch ( toDtoSubclasses.get( event.getClass() ) )" )
+            .contains( "eventDto = toDto( loginEvent );" );
+    }
+
+    @Test
+    @WithClasses({
+        EventMapper.class,
+        Event.class,
+        LoginEvent.class,
+        AdminLoginEvent.class,
+        LogoutEvent.class,
+        EventDto.class,
+        LoginEventDto.class,
+        AdminLoginEventDto.class,
+        LogoutEventDto.class
+    })
+    public void shouldRejectSubclassesUnknownAtCompileTime() {
+        Event unknown = new Event() {
+        };
+
+        try {
+            EventMapper.INSTANCE.toDto( unknown );
+            throw new AssertionError( "IllegalArgumentException expected" );
+        }
+        catch ( IllegalArgumentException e ) {
+            assertThat( e ).hasMessageContaining( "No subclass mapping is defined for" );
+        }
+    }
+
+    @Test
+    @WithClasses({
+        EventMapper.class,
+        Event.class,
+        LoginEvent.class,
+        AdminLoginEvent.class,
+        LogoutEvent.class,
+        SystemEvent.class,
+        EventDto.class,
+        LoginEventDto.class,
+        AdminLoginEventDto.class,
+        LogoutEventDto.class
+    })
+    public void shouldRejectSubclassesOfOtherPackages() {
+        // only the package of the source type is checked for subclasses without mapping at compile time
+        try {
+            EventMapper.INSTANCE.toDto( new SystemEvent() );
+            throw new AssertionError( "IllegalArgumentException expected" );
+        }
+        catch ( IllegalArgumentException e ) {
+            assertThat( e ).hasMessage(
+                "No subclass mapping is defined for org.mapstruct.ap.test.subclass.other.SystemEvent." );
+        }
+
+        generatedSource.forMapper( EventMapper.class )
+            .content()
+            .contains( "LoginEvent loginEvent = (LoginEvent) event;" )
+            .doesNotContain( "SystemEvent" );
+    }
+
+    @Test
+    @WithClasses({ ErroneousShapeMapper.class, Shape.class, Circle.class, Square.class, ShapeDto.class,
+        CircleDto.class })
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousShapeMapper.class,
+                kind = Kind.ERROR,
+                line = 15,
+                messageRegExp = "No subclass mapping is defined for the subclasses .*Square of the source type "
+                    + ".*Shape\\.")
+        }
+    )
+    // the Eclipse compiler doesn't list the types of a package compiled from sources
+    @DisabledOnCompiler(Compiler.ECLIPSE)
+    public void shouldFailForNotExhaustiveSubclassMappings() {
+    }
+
+    @Test
+    @WithClasses({ ErroneousSubclassMapper.class, Shape.class, Circle.class, Square.class, ShapeDto.class,
+        CircleDto.class })
+    @ExpectedCompilationOutcome(
+        value = CompilationResult.FAILED,
+        diagnostics = {
+            @Diagnostic(type = ErroneousSubclassMapper.class,
+                kind = Kind.ERROR,
+                line = 14,
+                messageRegExp = ".*String is not a subclass of the source type .*Shape\\."),
+            @Diagnostic(type = ErroneousSubclassMapper.class,
+                kind = Kind.ERROR,
+                line = 17,
+                messageRegExp = "The target type .*String of the mapping of subclass .*Circle is not assignable to "
+                    + "the result type .*ShapeDto\\."),
+            @Diagnostic(type = ErroneousSubclassMapper.class,
+                kind = Kind.ERROR,
+                line = 21,
+                messageRegExp = "The source type .*Circle of a subclass mapping method must be an abstract class or "
+                    + "an interface\\.")
+        }
+    )
+    public void shouldFailForInvalidSubclassMappings() {
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.subclass.erroneous;
+
+public class Circle implements Shape {
+
+    @Override
+    public double getArea() {
+        return 1;
+    }
+}
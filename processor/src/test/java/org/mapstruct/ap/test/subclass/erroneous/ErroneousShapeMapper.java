@@ -0,0 +1,16 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.subclass.erroneous;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.SubclassMapping;
+
+@Mapper
+public interface ErroneousShapeMapper {
+
+    @SubclassMapping(source = Circle.class, target = CircleDto.class)
+    ShapeDto toDto(Shape shape);
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.test.subclass.erroneous;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.SubclassMapping;
+
+@Mapper
+public interface ErroneousSubclassMapper {
+
+    @SubclassMapping(source = String.class, target = CircleDto.class)
+    ShapeDto toDto(Shape shape);
+
+    @SubclassMapping(source = Circle.class, target = String.class)
+    ShapeDto toOtherDto(Shape shape);
+
+    @SubclassMapping(source = Circle.class, target = CircleDto.class)
+    ShapeDto circleToDto(Circle circle);
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.testutil.assertions;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import com.sun.management.ThreadMXBean;
+import org.assertj.core.api.AbstractAssert;
+import org.junit.Assume;
+
+/**
+ * Allows to assert the number of bytes allocated by an invocation of a generated mapper, e.g.
+ * {@code assertThatInvocation( () -> mapper.map( source ) ).allocatesAtMost( 64 )}.
+ * <p>
+ * The invocation is warmed up first, so the measured allocations are those of the compiled code. The result of each
+ * invocation is published to a field, so the JIT compiler cannot eliminate allocations of the returned objects. If the
+ * JVM doesn't support measuring the memory allocated by a thread, the assertion is skipped.
+ */
+public class AllocationAssert extends AbstractAssert<AllocationAssert, Supplier<?>> {
+
+    private static final int WARMUP_INVOCATIONS = 20_000;
+    private static final int MEASURED_INVOCATIONS = 1_000;
+
+    private static volatile Object sink;
+
+    private AllocationAssert(Supplier<?> invocation) {
+        super( invocation, AllocationAssert.class );
+    }
+
+    /**
+     * @param invocation invokes the mapper, returning the mapping result
+     *
+     * @return an assertion on the allocations of the given invocation
+     */
+    public static AllocationAssert assertThatInvocation(Supplier<?> invocation) {
+        return new AllocationAssert( invocation );
+    }
+
+    /**
+     * Verifies that the invocation allocates at most the given number of bytes on average.
+     *
+     * @param bytes the maximum number of bytes per invocation
+     *
+     * @return this assertion object
+     */
+    public AllocationAssert allocatesAtMost(long bytes) {
+        isNotNull();
+
+        long allocatedBytes = measureAllocatedBytes( actual );
+        if ( allocatedBytes > bytes ) {
+            failWithMessage(
+                "Expected invocation to allocate at most <%s> bytes, but it allocated <%s> bytes",
+                bytes,
+                allocatedBytes
+            );
+        }
+
+        return this;
+    }
+
+    /**
+     * Verifies that the invocation doesn't allocate any memory.
+     *
+     * @return this assertion object
+     */
+    public AllocationAssert allocatesNothing() {
+        return allocatesAtMost( 0 );
+    }
+
+    /**
+     * @param invocation the invocation to measure
+     *
+     * @return the average number of bytes allocated by one invocation, once warmed up
+     */
+    public static long measureAllocatedBytes(Supplier<?> invocation) {
+        ThreadMXBean threadMXBean = getThreadMXBean();
+
+        Supplier<?> noop = () -> null;
+        for ( int i = 0; i < WARMUP_INVOCATIONS; i++ ) {
+            sink = invocation.get();
+            sink = noop.get();
+        }
+
+        // the overhead of the measurement itself, e.g. for determining the allocated bytes
+        long overhead = measureTotalAllocatedBytes( threadMXBean, noop );
+        long total = measureTotalAllocatedBytes( threadMXBean, invocation );
+
+        return Math.max( 0, total - overhead ) / MEASURED_INVOCATIONS;
+    }
+
+    private static long measureTotalAllocatedBytes(ThreadMXBean threadMXBean, Supplier<?> invocation) {
+        long threadId = Thread.currentThread().getId();
+
+        long start = threadMXBean.getThreadAllocatedBytes( threadId );
+        for ( int i = 0; i < MEASURED_INVOCATIONS; i++ ) {
+            sink = invocation.get();
+        }
+        return threadMXBean.getThreadAllocatedBytes( threadId ) - start;
+    }
+
+    private static ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        Assume.assumeTrue(
+            "Measuring the memory allocated by a thread is not supported",
+            threadMXBean instanceof ThreadMXBean
+                && ( (ThreadMXBean) threadMXBean ).isThreadAllocatedMemorySupported()
+                && ( (ThreadMXBean) threadMXBean ).isThreadAllocatedMemoryEnabled()
+        );
+
+        return (ThreadMXBean) threadMXBean;
+    }
+}
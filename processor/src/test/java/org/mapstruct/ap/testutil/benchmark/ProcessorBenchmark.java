@@ -0,0 +1,228 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.testutil.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic.Kind;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mapstruct.ap.testutil.compilation.annotation.CompilationResult;
+import org.mapstruct.ap.testutil.compilation.model.CompilationOutcomeDescriptor;
+import org.mapstruct.ap.testutil.compilation.model.DiagnosticDescriptor;
+import org.mapstruct.ap.testutil.runner.Compiler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the throughput of the processor on a synthetic code base (see {@link SyntheticSources}), using both the
+ * JDK and the Eclipse compiler. The sources are compiled with and without annotation processing, the difference being
+ * the time spent in the processor. In addition, the memory allocated by the compiling thread and the peak heap usage
+ * during compilation with processing are reported.
+ * <p>
+ * Not part of the regular test suite, run it with {@code mvn test -Dtest=ProcessorBenchmark} in the processor
+ * module. The code base and the runs can be configured via the following system properties:
+ * <ul>
+ * <li>{@code benchmark.mappers}: the number of mappers (default 200)</li>
+ * <li>{@code benchmark.properties}: the number of properties of the top-level beans (default 200)</li>
+ * <li>{@code benchmark.nestedProperties}: the number of properties of the nested beans (default 20)</li>
+ * <li>{@code benchmark.nestingDepth}: the depth of the nested beans (default 3)</li>
+ * <li>{@code benchmark.uses}: the number of mappers used by each mapper (default 10)</li>
+ * <li>{@code benchmark.builders}: whether every other target bean is created via a builder (default true)</li>
+ * <li>{@code benchmark.warmups}: the number of runs before the measured runs (default 1)</li>
+ * <li>{@code benchmark.iterations}: the number of measured runs (default 3)</li>
+ * <li>{@code benchmark.processorOptions}: additional processor options, comma separated, e.g.
+ * {@code mapstruct.profile=true}</li>
+ * </ul>
+ * The results are printed and appended to {@code target/benchmark/results.txt}.
+ */
+public class ProcessorBenchmark {
+
+    private static final File BENCHMARK_DIR = new File( "target/benchmark" );
+    private static final File SOURCE_DIR = new File( BENCHMARK_DIR, "sources" );
+    private static final File RESULTS_FILE = new File( BENCHMARK_DIR, "results.txt" );
+
+    private static Set<File> sourceFiles;
+
+    @BeforeClass
+    public static void generateSources() throws IOException {
+        deleteRecursively( SOURCE_DIR );
+
+        SyntheticSources sources = new SyntheticSources(
+            Integer.getInteger( "benchmark.mappers", 200 ),
+            Integer.getInteger( "benchmark.properties", 200 ),
+            Integer.getInteger( "benchmark.nestedProperties", 20 ),
+            Integer.getInteger( "benchmark.nestingDepth", 3 ),
+            Integer.getInteger( "benchmark.uses", 10 ),
+            Boolean.parseBoolean( System.getProperty( "benchmark.builders", "true" ) )
+        );
+        sourceFiles = sources.write( SOURCE_DIR );
+    }
+
+    @Test
+    public void benchmarkJdk() throws IOException {
+        benchmark( Compiler.JDK );
+    }
+
+    @Test
+    public void benchmarkEclipse() throws IOException {
+        benchmark( Compiler.ECLIPSE );
+    }
+
+    private void benchmark(Compiler compiler) throws IOException {
+        int warmups = Integer.getInteger( "benchmark.warmups", 1 );
+        int iterations = Integer.getInteger( "benchmark.iterations", 3 );
+
+        for ( int i = 0; i < warmups; i++ ) {
+            run( compiler, true );
+            run( compiler, false );
+        }
+
+        List<Measurement> withProcessor = new ArrayList<>();
+        List<Measurement> withoutProcessor = new ArrayList<>();
+        for ( int i = 0; i < iterations; i++ ) {
+            withProcessor.add( run( compiler, true ) );
+            withoutProcessor.add( run( compiler, false ) );
+        }
+
+        Measurement processing = median( withProcessor );
+        Measurement compilation = median( withoutProcessor );
+
+        String result = String.format(
+            "%s, %d source files: processor %d ms (compilation with processor %d ms, without %d ms), "
+                + "allocated %d MiB (without processor %d MiB), peak heap %d MiB (without processor %d MiB)%n",
+            compiler,
+            sourceFiles.size(),
+            processing.millis - compilation.millis,
+            processing.millis,
+            compilation.millis,
+            processing.allocatedBytes / ( 1024 * 1024 ),
+            compilation.allocatedBytes / ( 1024 * 1024 ),
+            processing.peakHeapBytes / ( 1024 * 1024 ),
+            compilation.peakHeapBytes / ( 1024 * 1024 )
+        );
+
+        System.out.print( result );
+        Files.write(
+            RESULTS_FILE.toPath(),
+            result.getBytes( StandardCharsets.UTF_8 ),
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND
+        );
+    }
+
+    private Measurement run(Compiler compiler, boolean process) throws IOException {
+        File outputDir = new File( BENCHMARK_DIR, compiler.name().toLowerCase() );
+        deleteRecursively( outputDir );
+        File sourceOutputDir = new File( outputDir, "generated-sources" );
+        File classOutputDir = new File( outputDir, "classes" );
+        Files.createDirectories( sourceOutputDir.toPath() );
+        Files.createDirectories( classOutputDir.toPath() );
+
+        List<String> options = new ArrayList<>();
+        if ( process ) {
+            options.add( "-Amapstruct.suppressGeneratorTimestamp=true" );
+            for ( String option : getAdditionalProcessorOptions() ) {
+                options.add( "-A" + option );
+            }
+        }
+        else {
+            options.add( "-proc:none" );
+        }
+
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter( pool -> pool.getType() == MemoryType.HEAP )
+            .collect( Collectors.toList() );
+        heapPools.forEach( MemoryPoolMXBean::resetPeakUsage );
+
+        long startAllocatedBytes = getAllocatedBytes();
+        long startTime = System.nanoTime();
+
+        CompilationOutcomeDescriptor outcome = compiler.compile(
+            sourceFiles,
+            SOURCE_DIR.getAbsolutePath(),
+            options,
+            sourceOutputDir.getAbsolutePath(),
+            classOutputDir.getAbsolutePath()
+        );
+
+        long millis = ( System.nanoTime() - startTime ) / 1_000_000;
+        long allocatedBytes = getAllocatedBytes() - startAllocatedBytes;
+        long peakHeapBytes = heapPools.stream().mapToLong( pool -> pool.getPeakUsage().getUsed() ).sum();
+
+        assertThat( outcome.getCompilationResult() )
+            .describedAs( "Compilation failed: %s", outcome.getDiagnostics().stream()
+                .filter( d -> d.getKind() == Kind.ERROR )
+                .map( DiagnosticDescriptor::toString )
+                .limit( 10 )
+                .collect( Collectors.joining( ", " ) ) )
+            .isEqualTo( CompilationResult.SUCCEEDED );
+
+        return new Measurement( millis, allocatedBytes, peakHeapBytes );
+    }
+
+    private static List<String> getAdditionalProcessorOptions() {
+        String options = System.getProperty( "benchmark.processorOptions" );
+        return options == null || options.trim().isEmpty() ?
+            Collections.emptyList() :
+            Arrays.asList( options.trim().split( "\\s*,\\s*" ) );
+    }
+
+    /**
+     * The compilers run on the calling thread, apart from some background work of the Eclipse compiler.
+     */
+    private static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if ( threadMXBean instanceof com.sun.management.ThreadMXBean ) {
+            return ( (com.sun.management.ThreadMXBean) threadMXBean )
+                .getThreadAllocatedBytes( Thread.currentThread().getId() );
+        }
+        return 0;
+    }
+
+    private static Measurement median(List<Measurement> measurements) {
+        List<Measurement> sorted = new ArrayList<>( measurements );
+        sorted.sort( ( m1, m2 ) -> Long.compare( m1.millis, m2.millis ) );
+        return sorted.get( sorted.size() / 2 );
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if ( children != null ) {
+            for ( File child : children ) {
+                deleteRecursively( child );
+            }
+        }
+        file.delete();
+    }
+
+    private static class Measurement {
+
+        private final long millis;
+        private final long allocatedBytes;
+        private final long peakHeapBytes;
+
+        Measurement(long millis, long allocatedBytes, long peakHeapBytes) {
+            this.millis = millis;
+            this.allocatedBytes = allocatedBytes;
+            this.peakHeapBytes = peakHeapBytes;
+        }
+    }
+}
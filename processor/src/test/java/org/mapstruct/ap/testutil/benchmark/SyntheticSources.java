@@ -0,0 +1,209 @@
+/*
+ * Copyright MapStruct Authors.
+ *
+ * Licensed under the Apache License version 2.0, available at http://www.apache.org/licenses/LICENSE-2.0
+ */
+package org.mapstruct.ap.testutil.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Generates the sources of a synthetic code base for benchmarking the processor: a number of mappers, each mapping a
+ * large source bean to a large target bean (and back), with a chain of nested beans mapped by forged methods. Each
+ * mapper uses a number of the previously generated mappers, and every other target bean is created via a builder.
+ */
+class SyntheticSources {
+
+    private static final String PACKAGE = "org.mapstruct.benchmark";
+
+    private final int mappers;
+    private final int properties;
+    private final int nestedProperties;
+    private final int nestingDepth;
+    private final int uses;
+    private final boolean builders;
+
+    SyntheticSources(int mappers, int properties, int nestedProperties, int nestingDepth, int uses,
+                     boolean builders) {
+        this.mappers = mappers;
+        this.properties = properties;
+        this.nestedProperties = nestedProperties;
+        this.nestingDepth = nestingDepth;
+        this.uses = uses;
+        this.builders = builders;
+    }
+
+    /**
+     * Writes the sources into the given directory.
+     *
+     * @param sourceDir the root directory of the sources
+     *
+     * @return the written source files
+     *
+     * @throws IOException if writing the sources fails
+     */
+    Set<File> write(File sourceDir) throws IOException {
+        File packageDir = new File( sourceDir, PACKAGE.replace( '.', File.separatorChar ) );
+        Files.createDirectories( packageDir.toPath() );
+
+        Set<File> sourceFiles = new HashSet<>();
+        for ( int i = 0; i < mappers; i++ ) {
+            boolean builder = builders && i % 2 == 1;
+
+            for ( int level = 0; level <= nestingDepth; level++ ) {
+                int beanProperties = level == 0 ? properties : nestedProperties;
+                boolean hasNested = level < nestingDepth;
+
+                sourceFiles.add( writeSource(
+                    packageDir,
+                    beanName( "Source", i, level ),
+                    bean( beanName( "Source", i, level ), "Source", i, level, beanProperties, hasNested, false )
+                ) );
+                sourceFiles.add( writeSource(
+                    packageDir,
+                    beanName( "Target", i, level ),
+                    bean(
+                        beanName( "Target", i, level ),
+                        "Target",
+                        i,
+                        level,
+                        beanProperties,
+                        hasNested,
+                        builder && level == 0
+                    )
+                ) );
+            }
+
+            sourceFiles.add( writeSource( packageDir, "Mapper" + i, mapper( i ) ) );
+        }
+
+        return sourceFiles;
+    }
+
+    private static File writeSource(File packageDir, String name, String content) throws IOException {
+        File file = new File( packageDir, name + ".java" );
+        Files.write( file.toPath(), content.getBytes( StandardCharsets.UTF_8 ) );
+        return file;
+    }
+
+    private static String beanName(String kind, int mapper, int level) {
+        return level == 0 ? kind + mapper : kind + mapper + "Level" + level;
+    }
+
+    private String mapper(int index) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package " ).append( PACKAGE ).append( ";\n\n" );
+        sb.append( "import org.mapstruct.Mapper;\n\n" );
+        sb.append( "@Mapper(uses = {" );
+        for ( int used = Math.max( 0, index - uses ); used < index; used++ ) {
+            sb.append( used > Math.max( 0, index - uses ) ? ", " : " " ).append( "Mapper" ).append( used )
+                .append( ".class" );
+        }
+        sb.append( " })\n" );
+        sb.append( "public interface Mapper" ).append( index ).append( " {\n\n" );
+        sb.append( "    Target" ).append( index ).append( " map(Source" ).append( index ).append( " source);\n\n" );
+        sb.append( "    Source" ).append( index ).append( " reverse(Target" ).append( index )
+            .append( " target);\n" );
+        sb.append( "}\n" );
+        return sb.toString();
+    }
+
+    private String bean(String name, String kind, int mapper, int level, int beanProperties, boolean hasNested,
+                        boolean builder) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( "package " ).append( PACKAGE ).append( ";\n\n" );
+        sb.append( "import java.util.List;\n\n" );
+        sb.append( "public class " ).append( name ).append( " {\n\n" );
+
+        for ( int p = 0; p < beanProperties; p++ ) {
+            sb.append( "    private " ).append( propertyType( kind, p ) ).append( " p" ).append( p ).append( ";\n" );
+        }
+        String nestedType = beanName( kind, mapper, level + 1 );
+        if ( hasNested ) {
+            sb.append( "    private " ).append( nestedType ).append( " nested;\n" );
+        }
+        sb.append( "\n" );
+
+        for ( int p = 0; p < beanProperties; p++ ) {
+            appendAccessors( sb, propertyType( kind, p ), "p" + p, builder );
+        }
+        if ( hasNested ) {
+            appendAccessors( sb, nestedType, "nested", builder );
+        }
+
+        if ( builder ) {
+            appendBuilder( sb, name, kind, beanProperties, hasNested ? nestedType : null );
+        }
+
+        sb.append( "}\n" );
+        return sb.toString();
+    }
+
+    /**
+     * The properties alternate between types which can be assigned directly and types requiring a conversion.
+     */
+    private static String propertyType(String kind, int property) {
+        switch ( property % 5 ) {
+            case 0:
+                return "String";
+            case 1:
+                return "int";
+            case 2:
+                return "Long";
+            case 3:
+                return "List<String>";
+            default:
+                return "Source".equals( kind ) ? "int" : "String";
+        }
+    }
+
+    private static void appendAccessors(StringBuilder sb, String type, String property, boolean builder) {
+        String capitalized = Character.toUpperCase( property.charAt( 0 ) ) + property.substring( 1 );
+
+        sb.append( "    public " ).append( type ).append( " get" ).append( capitalized ).append( "() {\n" );
+        sb.append( "        return " ).append( property ).append( ";\n" );
+        sb.append( "    }\n\n" );
+
+        if ( !builder ) {
+            sb.append( "    public void set" ).append( capitalized ).append( "(" ).append( type ).append( " " )
+                .append( property ).append( ") {\n" );
+            sb.append( "        this." ).append( property ).append( " = " ).append( property ).append( ";\n" );
+            sb.append( "    }\n\n" );
+        }
+    }
+
+    private static void appendBuilder(StringBuilder sb, String bean, String kind, int beanProperties,
+                                      String nestedType) {
+        sb.append( "    public static Builder builder() {\n" );
+        sb.append( "        return new Builder();\n" );
+        sb.append( "    }\n\n" );
+        sb.append( "    public static class Builder {\n\n" );
+        sb.append( "        private final " ).append( bean ).append( " bean = new " ).append( bean )
+            .append( "();\n\n" );
+
+        for ( int p = 0; p < beanProperties; p++ ) {
+            appendBuilderSetter( sb, propertyType( kind, p ), "p" + p );
+        }
+        if ( nestedType != null ) {
+            appendBuilderSetter( sb, nestedType, "nested" );
+        }
+
+        sb.append( "        public " ).append( bean ).append( " build() {\n" );
+        sb.append( "            return bean;\n" );
+        sb.append( "        }\n" );
+        sb.append( "    }\n" );
+    }
+
+    private static void appendBuilderSetter(StringBuilder sb, String type, String property) {
+        sb.append( "        public Builder " ).append( property ).append( "(" ).append( type ).append( " " )
+            .append( property ).append( ") {\n" );
+        sb.append( "            bean." ).append( property ).append( " = " ).append( property ).append( ";\n" );
+        sb.append( "            return this;\n" );
+        sb.append( "        }\n\n" );
+    }
+}
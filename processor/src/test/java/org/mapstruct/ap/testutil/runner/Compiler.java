@@ -5,10 +5,43 @@
  */
 package org.mapstruct.ap.testutil.runner;
 
+import java.io.File;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.ap.testutil.compilation.model.CompilationOutcomeDescriptor;
+
 /**
  * @author Andreas Gudian
  *
  */
 public enum Compiler {
     JDK, JDK11, ECLIPSE;
+
+    /**
+     * Compiles the given source files with this compiler and the processor, using the same class paths as the
+     * processor tests, e.g. for compiling generated sources outside of a test.
+     *
+     * @param sourceFiles the files to compile
+     * @param sourceDir the root directory of the given source files
+     * @param options the compiler options, including processor options
+     * @param sourceOutputDir the directory for the generated source files
+     * @param classOutputDir the directory for the class files
+     *
+     * @return the outcome of the compilation
+     */
+    public CompilationOutcomeDescriptor compile(Set<File> sourceFiles, String sourceDir, List<String> options,
+                                                String sourceOutputDir, String classOutputDir) {
+        if ( this == ECLIPSE ) {
+            return EclipseCompilingStatement.compile(
+                sourceFiles,
+                sourceDir,
+                options,
+                sourceOutputDir,
+                classOutputDir
+            );
+        }
+
+        return JdkCompilingStatement.compile( sourceFiles, sourceDir, options, sourceOutputDir, classOutputDir );
+    }
 }
@@ -492,7 +492,7 @@ private CompilationOutcomeDescriptor compile()
         return resultHolder;
     }
 
-    protected Object loadAndInstantiate(ClassLoader processorClassloader, Class<?> clazz) {
+    protected static Object loadAndInstantiate(ClassLoader processorClassloader, Class<?> clazz) {
         try {
             return processorClassloader.loadClass( clazz.getName() ).newInstance();
         }
@@ -6,6 +6,7 @@
 package org.mapstruct.ap.testutil.runner;
 
 import java.io.File;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
@@ -70,6 +71,32 @@ protected CompilationOutcomeDescriptor compileWithSpecificCompiler(CompilationRe
             classOutputDir );
     }
 
+    /**
+     * Compiles the given source files with the Eclipse compiler, applying the processor loaded from the default
+     * processor class path.
+     *
+     * @param sourceFiles the files to compile
+     * @param sourceDir the root directory of the given source files
+     * @param options the compiler options, including processor options
+     * @param sourceOutputDir the directory for the generated source files
+     * @param classOutputDir the directory for the class files
+     *
+     * @return the outcome of the compilation
+     */
+    static CompilationOutcomeDescriptor compile(Set<File> sourceFiles, String sourceDir, List<String> options,
+                                                String sourceOutputDir, String classOutputDir) {
+        ClassLoaderHelper clHelper =
+            (ClassLoaderHelper) loadAndInstantiate( DEFAULT_ECLIPSE_COMPILER_CLASSLOADER, ClassLoaderExecutor.class );
+
+        return clHelper.compileInOtherClassloader(
+            new CompilationRequest( Collections.emptySet(), Collections.emptyMap(), options ),
+            TEST_COMPILATION_CLASSPATH,
+            sourceFiles,
+            sourceDir,
+            sourceOutputDir,
+            classOutputDir );
+    }
+
     private static FilteringParentClassLoader newFilteringClassLoaderForEclipse() {
         return new FilteringParentClassLoader(
             // reload eclipse compiler classes
@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.processing.Processor;
 import javax.tools.Diagnostic.Kind;
@@ -48,12 +49,54 @@ protected CompilationOutcomeDescriptor compileWithSpecificCompiler(CompilationRe
                                                                        String sourceOutputDir,
                                                                        String classOutputDir,
                                                                        String additionalCompilerClasspath) {
+        ClassLoader processorClassloader;
+        if ( additionalCompilerClasspath == null ) {
+            processorClassloader = DEFAULT_PROCESSOR_CLASSLOADER;
+        }
+        else {
+            processorClassloader = new ModifiableURLClassLoader(
+                new FilteringParentClassLoader( "org.mapstruct." ) )
+                    .withPaths( PROCESSOR_CLASSPATH )
+                    .withPath( additionalCompilerClasspath )
+                    .withOriginsOf( compilationRequest.getServices().values() );
+        }
+
+        return compile(
+            getSourceFiles( compilationRequest.getSourceClasses() ),
+            SOURCE_DIR,
+            compilationRequest.getProcessorOptions(),
+            sourceOutputDir,
+            classOutputDir,
+            processorClassloader
+        );
+    }
+
+    /**
+     * Compiles the given source files with the JDK compiler, applying the processor loaded from the default processor
+     * class path.
+     *
+     * @param sourceFiles the files to compile
+     * @param sourceDir the root directory of the given source files
+     * @param options the compiler options, including processor options
+     * @param sourceOutputDir the directory for the generated source files
+     * @param classOutputDir the directory for the class files
+     *
+     * @return the outcome of the compilation
+     */
+    static CompilationOutcomeDescriptor compile(Set<File> sourceFiles, String sourceDir, List<String> options,
+                                                String sourceOutputDir, String classOutputDir) {
+        return compile( sourceFiles, sourceDir, options, sourceOutputDir, classOutputDir,
+            DEFAULT_PROCESSOR_CLASSLOADER );
+    }
+
+    private static CompilationOutcomeDescriptor compile(Set<File> sourceFiles, String sourceDir, List<String> options,
+                                                        String sourceOutputDir, String classOutputDir,
+                                                        ClassLoader processorClassloader) {
         JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
         DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<JavaFileObject>();
         StandardJavaFileManager fileManager = compiler.getStandardFileManager( null, null, null );
 
-        Iterable<? extends JavaFileObject> compilationUnits =
-            fileManager.getJavaFileObjectsFromFiles( getSourceFiles( compilationRequest.getSourceClasses() ) );
+        Iterable<? extends JavaFileObject> compilationUnits = fileManager.getJavaFileObjectsFromFiles( sourceFiles );
 
         try {
             fileManager.setLocation( StandardLocation.CLASS_PATH, COMPILER_CLASSPATH_FILES );
@@ -64,24 +107,12 @@ protected CompilationOutcomeDescriptor compileWithSpecificCompiler(CompilationRe
             throw new RuntimeException( e );
         }
 
-        ClassLoader processorClassloader;
-        if ( additionalCompilerClasspath == null ) {
-            processorClassloader = DEFAULT_PROCESSOR_CLASSLOADER;
-        }
-        else {
-            processorClassloader = new ModifiableURLClassLoader(
-                new FilteringParentClassLoader( "org.mapstruct." ) )
-                    .withPaths( PROCESSOR_CLASSPATH )
-                    .withPath( additionalCompilerClasspath )
-                    .withOriginsOf( compilationRequest.getServices().values() );
-        }
-
         CompilationTask task =
             compiler.getTask(
                 null,
                 fileManager,
                 diagnostics,
-                compilationRequest.getProcessorOptions(),
+                options,
                 null,
                 compilationUnits );
 
@@ -91,7 +122,7 @@ protected CompilationOutcomeDescriptor compileWithSpecificCompiler(CompilationRe
         boolean compilationSuccessful = task.call();
 
         return CompilationOutcomeDescriptor.forResult(
-            SOURCE_DIR,
+            sourceDir,
             compilationSuccessful,
             diagnostics.getDiagnostics() );
     }
@@ -37,22 +37,24 @@ public void updateUserFromUserDTO(UserDTO userDTO, User user) {
             return;
         }
 
-        user.setEmail( userDTOContactDataDTOEmail( userDTO ) );
-        String phone = userDTOContactDataDTOPhone( userDTO );
+        ContactDataDTO contactDataDTO = userDTOContactDataDTO( userDTO );
+
+        user.setEmail( contactDataDTOEmail( contactDataDTO ) );
+        String phone = contactDataDTOPhone( contactDataDTO );
         if ( phone != null ) {
             user.setPhone( Integer.parseInt( phone ) );
         }
         else {
             user.setPhone( null );
         }
-        user.setAddress( userDTOContactDataDTOAddress( userDTO ) );
-        List<String> preferences = userDTOContactDataDTOPreferences( userDTO );
+        user.setAddress( contactDataDTOAddress( contactDataDTO ) );
+        List<String> preferences = contactDataDTOPreferences( contactDataDTO );
         if ( preferences != null ) {
             for ( String contactDataDTOPreference : preferences ) {
                 user.addPreference( contactDataDTOPreference );
             }
         }
-        String[] settings1 = userDTOContactDataDTOSettings( userDTO );
+        String[] settings1 = contactDataDTOSettings( contactDataDTO );
         if ( settings1 != null ) {
             user.setSettings( Arrays.copyOf( settings1, settings1.length ) );
         }
@@ -68,25 +70,27 @@ public void updateUserFromUserAndIgnoreDTO(UserDTO userDTO, User user) {
             return;
         }
 
-        String email = userDTOContactDataDTOEmail( userDTO );
+        ContactDataDTO contactDataDTO = userDTOContactDataDTO( userDTO );
+
+        String email = contactDataDTOEmail( contactDataDTO );
         if ( email != null ) {
             user.setEmail( email );
         }
-        String phone = userDTOContactDataDTOPhone( userDTO );
+        String phone = contactDataDTOPhone( contactDataDTO );
         if ( phone != null ) {
             user.setPhone( Integer.parseInt( phone ) );
         }
-        String address = userDTOContactDataDTOAddress( userDTO );
+        String address = contactDataDTOAddress( contactDataDTO );
         if ( address != null ) {
             user.setAddress( address );
         }
-        List<String> preferences = userDTOContactDataDTOPreferences( userDTO );
+        List<String> preferences = contactDataDTOPreferences( contactDataDTO );
         if ( preferences != null ) {
             for ( String contactDataDTOPreference : preferences ) {
                 user.addPreference( contactDataDTOPreference );
             }
         }
-        String[] settings1 = userDTOContactDataDTOSettings( userDTO );
+        String[] settings1 = contactDataDTOSettings( contactDataDTO );
         if ( settings1 != null ) {
             user.setSettings( Arrays.copyOf( settings1, settings1.length ) );
         }
@@ -101,34 +105,36 @@ public void updateUserFromUserAndDefaultDTO(UserDTO userDTO, User user) {
             return;
         }
 
-        String email = userDTOContactDataDTOEmail( userDTO );
+        ContactDataDTO contactDataDTO = userDTOContactDataDTO( userDTO );
+
+        String email = contactDataDTOEmail( contactDataDTO );
         if ( email != null ) {
             user.setEmail( email );
         }
         else {
             user.setEmail( "" );
         }
-        String phone = userDTOContactDataDTOPhone( userDTO );
+        String phone = contactDataDTOPhone( contactDataDTO );
         if ( phone != null ) {
             user.setPhone( Integer.parseInt( phone ) );
         }
         else {
             user.setPhone( 0 );
         }
-        String address = userDTOContactDataDTOAddress( userDTO );
+        String address = contactDataDTOAddress( contactDataDTO );
         if ( address != null ) {
             user.setAddress( address );
         }
         else {
             user.setAddress( "" );
         }
-        List<String> preferences = userDTOContactDataDTOPreferences( userDTO );
+        List<String> preferences = contactDataDTOPreferences( contactDataDTO );
         if ( preferences != null ) {
             for ( String contactDataDTOPreference : preferences ) {
                 user.addPreference( contactDataDTOPreference );
             }
         }
-        String[] settings1 = userDTOContactDataDTOSettings( userDTO );
+        String[] settings1 = contactDataDTOSettings( contactDataDTO );
         if ( settings1 != null ) {
             user.setSettings( Arrays.copyOf( settings1, settings1.length ) );
         }
@@ -167,11 +173,18 @@ protected ContactDataDTO userToContactDataDTO(User user) {
         return contactDataDTO;
     }
 
-    private String userDTOContactDataDTOEmail(UserDTO userDTO) {
+    private ContactDataDTO userDTOContactDataDTO(UserDTO userDTO) {
         if ( userDTO == null ) {
             return null;
         }
         ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+        if ( contactDataDTO == null ) {
+            return null;
+        }
+        return contactDataDTO;
+    }
+
+    private String contactDataDTOEmail(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
@@ -182,11 +195,7 @@ private String userDTOContactDataDTOEmail(UserDTO userDTO) {
         return email;
     }
 
-    private String userDTOContactDataDTOPhone(UserDTO userDTO) {
-        if ( userDTO == null ) {
-            return null;
-        }
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private String contactDataDTOPhone(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
@@ -197,11 +206,7 @@ private String userDTOContactDataDTOPhone(UserDTO userDTO) {
         return phone;
     }
 
-    private String userDTOContactDataDTOAddress(UserDTO userDTO) {
-        if ( userDTO == null ) {
-            return null;
-        }
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private String contactDataDTOAddress(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
@@ -212,11 +217,7 @@ private String userDTOContactDataDTOAddress(UserDTO userDTO) {
         return address;
     }
 
-    private List<String> userDTOContactDataDTOPreferences(UserDTO userDTO) {
-        if ( userDTO == null ) {
-            return null;
-        }
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private List<String> contactDataDTOPreferences(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
@@ -227,11 +228,7 @@ private List<String> userDTOContactDataDTOPreferences(UserDTO userDTO) {
         return preferences;
     }
 
-    private String[] userDTOContactDataDTOSettings(UserDTO userDTO) {
-        if ( userDTO == null ) {
-            return null;
-        }
-        ContactDataDTO contactDataDTO = userDTO.getContactDataDTO();
+    private String[] contactDataDTOSettings(ContactDataDTO contactDataDTO) {
         if ( contactDataDTO == null ) {
             return null;
         }
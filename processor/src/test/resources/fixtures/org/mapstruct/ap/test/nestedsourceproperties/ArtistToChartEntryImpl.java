@@ -28,14 +28,16 @@ public ChartEntry map(Chart chart, Song song, Integer position) {
 
         ChartEntry chartEntry = new ChartEntry();
 
+        Artist artist = songArtist( song );
+        Studio artistLabelStudio = artistLabelStudio( artist );
         if ( chart != null ) {
             chartEntry.setChartName( chart.getName() );
         }
         if ( song != null ) {
             chartEntry.setSongTitle( song.getTitle() );
-            chartEntry.setArtistName( songArtistName( song ) );
-            chartEntry.setRecordedAt( songArtistLabelStudioName( song ) );
-            chartEntry.setCity( songArtistLabelStudioCity( song ) );
+            chartEntry.setArtistName( artistName( artist ) );
+            chartEntry.setRecordedAt( studioName( artistLabelStudio ) );
+            chartEntry.setCity( studioCity( artistLabelStudio ) );
         }
         if ( position != null ) {
             chartEntry.setPosition( position );
@@ -52,10 +54,13 @@ public ChartEntry map(Song song) {
 
         ChartEntry chartEntry = new ChartEntry();
 
+        Artist artist = songArtist( song );
+        Studio artistLabelStudio = artistLabelStudio( artist );
+
         chartEntry.setSongTitle( song.getTitle() );
-        chartEntry.setArtistName( songArtistName( song ) );
-        chartEntry.setRecordedAt( songArtistLabelStudioName( song ) );
-        chartEntry.setCity( songArtistLabelStudioCity( song ) );
+        chartEntry.setArtistName( artistName( artist ) );
+        chartEntry.setRecordedAt( studioName( artistLabelStudio ) );
+        chartEntry.setCity( studioCity( artistLabelStudio ) );
 
         return chartEntry;
     }
@@ -73,7 +78,7 @@ public ChartEntry map(Chart name) {
         return chartEntry;
     }
 
-    private String songArtistName(Song song) {
+    private Artist songArtist(Song song) {
         if ( song == null ) {
             return null;
         }
@@ -81,18 +86,10 @@ private String songArtistName(Song song) {
         if ( artist == null ) {
             return null;
         }
-        String name = artist.getName();
-        if ( name == null ) {
-            return null;
-        }
-        return name;
+        return artist;
     }
 
-    private String songArtistLabelStudioName(Song song) {
-        if ( song == null ) {
-            return null;
-        }
-        Artist artist = song.getArtist();
+    private Studio artistLabelStudio(Artist artist) {
         if ( artist == null ) {
             return null;
         }
@@ -104,26 +101,32 @@ private String songArtistLabelStudioName(Song song) {
         if ( studio == null ) {
             return null;
         }
-        String name = studio.getName();
+        return studio;
+    }
+
+    private String artistName(Artist artist) {
+        if ( artist == null ) {
+            return null;
+        }
+        String name = artist.getName();
         if ( name == null ) {
             return null;
         }
         return name;
     }
 
-    private String songArtistLabelStudioCity(Song song) {
-        if ( song == null ) {
-            return null;
-        }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
+    private String studioName(Studio studio) {
+        if ( studio == null ) {
             return null;
         }
-        Label label = artist.getLabel();
-        if ( label == null ) {
+        String name = studio.getName();
+        if ( name == null ) {
             return null;
         }
-        Studio studio = label.getStudio();
+        return name;
+    }
+
+    private String studioCity(Studio studio) {
         if ( studio == null ) {
             return null;
         }
@@ -68,12 +68,16 @@ public ChartEntry map(Chart chart) {
 
         ChartEntry chartEntry = new ChartEntry();
 
+        Song song = chartSong( chart );
+        Artist songArtist = songArtist( song );
+        Studio songArtistLabelStudio = artistLabelStudio( songArtist );
+
         chartEntry.setChartName( chart.getName() );
-        chartEntry.setSongTitle( chartSongTitle( chart ) );
-        chartEntry.setArtistName( chartSongArtistName( chart ) );
-        chartEntry.setRecordedAt( chartSongArtistLabelStudioName( chart ) );
-        chartEntry.setCity( chartSongArtistLabelStudioCity( chart ) );
-        chartEntry.setPosition( mapPosition( chartSongPositions( chart ) ) );
+        chartEntry.setSongTitle( songTitle( song ) );
+        chartEntry.setArtistName( artistName( songArtist ) );
+        chartEntry.setRecordedAt( studioName( songArtistLabelStudio ) );
+        chartEntry.setCity( studioCity( songArtistLabelStudio ) );
+        chartEntry.setPosition( mapPosition( songPositions( song ) ) );
 
         return chartEntry;
     }
@@ -197,7 +201,7 @@ protected void chartEntryToSong2(ChartEntry chartEntry, Song mappingTarget) {
         }
     }
 
-    private String chartSongTitle(Chart chart) {
+    private Song chartSong(Chart chart) {
         if ( chart == null ) {
             return null;
         }
@@ -205,18 +209,10 @@ private String chartSongTitle(Chart chart) {
         if ( song == null ) {
             return null;
         }
-        String title = song.getTitle();
-        if ( title == null ) {
-            return null;
-        }
-        return title;
+        return song;
     }
 
-    private String chartSongArtistName(Chart chart) {
-        if ( chart == null ) {
-            return null;
-        }
-        Song song = chart.getSong();
+    private Artist songArtist(Song song) {
         if ( song == null ) {
             return null;
         }
@@ -224,22 +220,10 @@ private String chartSongArtistName(Chart chart) {
         if ( artist == null ) {
             return null;
         }
-        String name = artist.getName();
-        if ( name == null ) {
-            return null;
-        }
-        return name;
+        return artist;
     }
 
-    private String chartSongArtistLabelStudioName(Chart chart) {
-        if ( chart == null ) {
-            return null;
-        }
-        Song song = chart.getSong();
-        if ( song == null ) {
-            return null;
-        }
-        Artist artist = song.getArtist();
+    private Studio artistLabelStudio(Artist artist) {
         if ( artist == null ) {
             return null;
         }
@@ -251,30 +235,43 @@ private String chartSongArtistLabelStudioName(Chart chart) {
         if ( studio == null ) {
             return null;
         }
-        String name = studio.getName();
-        if ( name == null ) {
+        return studio;
+    }
+
+    private String songTitle(Song song) {
+        if ( song == null ) {
             return null;
         }
-        return name;
+        String title = song.getTitle();
+        if ( title == null ) {
+            return null;
+        }
+        return title;
     }
 
-    private String chartSongArtistLabelStudioCity(Chart chart) {
-        if ( chart == null ) {
+    private String artistName(Artist artist) {
+        if ( artist == null ) {
             return null;
         }
-        Song song = chart.getSong();
-        if ( song == null ) {
+        String name = artist.getName();
+        if ( name == null ) {
             return null;
         }
-        Artist artist = song.getArtist();
-        if ( artist == null ) {
+        return name;
+    }
+
+    private String studioName(Studio studio) {
+        if ( studio == null ) {
             return null;
         }
-        Label label = artist.getLabel();
-        if ( label == null ) {
+        String name = studio.getName();
+        if ( name == null ) {
             return null;
         }
-        Studio studio = label.getStudio();
+        return name;
+    }
+
+    private String studioCity(Studio studio) {
         if ( studio == null ) {
             return null;
         }
@@ -285,11 +282,7 @@ private String chartSongArtistLabelStudioCity(Chart chart) {
         return city;
     }
 
-    private List<Integer> chartSongPositions(Chart chart) {
-        if ( chart == null ) {
-            return null;
-        }
-        Song song = chart.getSong();
+    private List<Integer> songPositions(Song song) {
         if ( song == null ) {
             return null;
         }